@@ -48,9 +48,7 @@ import org.slf4j.Logger;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -86,12 +84,10 @@ public class AppViewExportGridDS
 		Logger appLogger = anAppCtx.getLogger(this, "writeJSON");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		List<DataDoc> dataDocList = new ArrayList<>();
-		int rowCount = aDataGrid.rowCount();
-		for (int row = 0; row < rowCount; row++)
-			dataDocList.add(aDataGrid.getRowAsDoc(row));
 		DataDocJSON dataDocJSON = new DataDocJSON();
-		dataDocJSON.save(anOS, dataDocList);
+		dataDocJSON.saveOpen(anOS);
+		dataDocJSON.saveRows(aDataGrid);
+		dataDocJSON.saveClose();
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
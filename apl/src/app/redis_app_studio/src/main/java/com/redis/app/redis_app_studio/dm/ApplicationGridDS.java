@@ -94,7 +94,7 @@ public class ApplicationGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_APPLICATIONS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_FILES).enableFeature(Data.FEATURE_IS_HIDDEN);
 
 		Long scReqestStartRow = aRequest.getStartRow();
@@ -175,7 +175,7 @@ public class ApplicationGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_APPLICATIONS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_FILES).enableFeature(Data.FEATURE_IS_HIDDEN);
 		DataGrid dataGrid = gridDS.getDataGrid();
 		ContentType contentType = sessionContext.getContentType();
@@ -265,7 +265,7 @@ public class ApplicationGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_APPLICATIONS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_FILES).enableFeature(Data.FEATURE_IS_HIDDEN);
 
 // The SmartClient grid widget will only send us a subset of changed items,
@@ -378,7 +378,7 @@ public class ApplicationGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_APPLICATIONS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_FILES).enableFeature(Data.FEATURE_IS_HIDDEN);
 
 		DataDoc dataDoc = scDSRequest.convertDocument(scDocument, gridDS.getSchema());
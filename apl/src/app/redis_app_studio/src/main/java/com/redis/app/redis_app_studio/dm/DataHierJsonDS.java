@@ -93,7 +93,7 @@ public class DataHierJsonDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DATA_HIERARCHY_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 		Long scReqestStartRow = aRequest.getStartRow();
 		Long scReqestEndRow = aRequest.getEndRow();
@@ -173,7 +173,7 @@ public class DataHierJsonDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DATA_HIERARCHY_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		DataGrid dataGrid = gridDS.getDataGrid();
 		ContentType contentType = sessionContext.getContentType();
 
@@ -260,7 +260,7 @@ public class DataHierJsonDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DATA_HIERARCHY_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 // The SmartClient grid widget will only send us a subset of changed items,
 // so we need to load the current version of the document and apply the
@@ -365,7 +365,7 @@ public class DataHierJsonDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DATA_HIERARCHY_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 		DataDoc dataDoc = scDSRequest.convertDocument(scDocument, gridDS.getSchema());
 		String documentName = dataDoc.getValueByName(Constants.DS_STORAGE_DOCUMENT_NAME);
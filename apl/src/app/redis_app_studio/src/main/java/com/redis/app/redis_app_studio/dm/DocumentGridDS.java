@@ -28,7 +28,6 @@ import com.redis.app.redis_app_studio.shared.*;
 import com.redis.ds.ds_content.ContentType;
 import com.redis.ds.ds_grid.GridDS;
 import com.redis.foundation.app.AppCtx;
-import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
 import com.redis.foundation.data.DataGrid;
 import com.redis.foundation.ds.DS;
@@ -91,7 +90,7 @@ public class DocumentGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DOCUMENTS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 		Long scReqestStartRow = aRequest.getStartRow();
 		Long scReqestEndRow = aRequest.getEndRow();
@@ -170,7 +169,7 @@ public class DocumentGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DOCUMENTS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		DataGrid dataGrid = gridDS.getDataGrid();
 		ContentType contentType = sessionContext.getContentType();
 
@@ -253,7 +252,7 @@ public class DocumentGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DOCUMENTS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 // The SmartClient grid widget will only send us a subset of changed items,
 // so we need to load the current version of the document and apply the
@@ -314,7 +313,7 @@ public class DocumentGridDS extends BasicDataSource
 		String storageCSVPathFileName = dataLoader.deriveStoragePathFileName(Constants.DS_DOCUMENTS_PATH_NAME, Constants.DS_STORAGE_DETAILS_NAME);
 		GridDS gridDS = new GridDS(appCtx);
 		gridDS.loadData(storageCSVPathFileName, true);
-		gridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		gridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 
 		DataDoc dataDoc = scDSRequest.convertDocument(scDocument, gridDS.getSchema());
 		String fileName = dataDoc.getValueByName(Constants.DS_STORAGE_DOCUMENT_NAME);
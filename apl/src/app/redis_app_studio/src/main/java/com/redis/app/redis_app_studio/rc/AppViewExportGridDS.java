@@ -25,6 +25,7 @@ import com.isomorphic.datasource.DataSource;
 import com.isomorphic.rpc.RPCManager;
 import com.redis.app.redis_app_studio.shared.AppResource;
 import com.redis.app.redis_app_studio.shared.AppSession;
+import com.redis.app.redis_app_studio.shared.GridExportPager;
 import com.redis.app.redis_app_studio.shared.SCDSRequest;
 import com.redis.app.redis_app_studio.shared.SessionContext;
 import com.redis.ds.ds_grid.GridDS;
@@ -56,9 +57,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -73,33 +72,59 @@ public class AppViewExportGridDS
 	private final String CLASS_NAME = "AppViewExportGridDS";
 	private final String APPLICATION_PROPERTIES_PREFIX = "rc";
 
-	private int writeCSV(AppCtx anAppCtx, DataGrid aDataGrid, String aFormat, ServletOutputStream anOS)
-		throws IOException
+	private int writeCSV(AppCtx anAppCtx, RedisGrid aRedisGrid, DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish,
+						 String aFormat, ServletOutputStream anOS)
+		throws IOException, RedisDSException
 	{
+		long rowCount = 0;
 		Logger appLogger = anAppCtx.getLogger(this, "writeCSV");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(anOS);
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start();
+		GridExportPager gridExportPager = new GridExportPager(aDataGrid, aRedisGrid.getRowCount(aDataGrid), aRowNumberStart, aRowNumberFinish);
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(anOS, StandardCharsets.UTF_8);
 		DataGridCSV dataGridCSV = new DataGridCSV();
-		dataGridCSV.save(aDataGrid, outputStreamWriter, true, aFormat.toLowerCase().equals("title"));
+		dataGridCSV.saveOpen(aDataGrid.getColumns(), outputStreamWriter, true, aFormat.toLowerCase().equals("title"));
+		try
+		{
+			rowCount = gridExportPager.export(aRedisGrid::loadGridPipeline, dataGridCSV::saveRows);
+		}
+		finally
+		{
+			dataGridCSV.saveClose();
+		}
+		stopWatch.stop();
+		appLogger.debug(String.format("'%s': %d rows exported in %d milliseconds.", aDataGrid.getName(), rowCount, stopWatch.getTime()));
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
 		return DSResponse.STATUS_SUCCESS;
 	}
 
-	private int writeJSON(AppCtx anAppCtx, DataGrid aDataGrid, ServletOutputStream anOS)
-		throws IOException
+	private int writeJSON(AppCtx anAppCtx, RedisGrid aRedisGrid, DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish,
+						  ServletOutputStream anOS)
+		throws IOException, RedisDSException
 	{
+		long rowCount = 0;
 		Logger appLogger = anAppCtx.getLogger(this, "writeJSON");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		List<DataDoc> dataDocList = new ArrayList<>();
-		int rowCount = aDataGrid.rowCount();
-		for (int row = 0; row < rowCount; row++)
-			dataDocList.add(aDataGrid.getRowAsDoc(row));
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start();
+		GridExportPager gridExportPager = new GridExportPager(aDataGrid, aRedisGrid.getRowCount(aDataGrid), aRowNumberStart, aRowNumberFinish);
 		DataDocJSON dataDocJSON = new DataDocJSON();
-		dataDocJSON.save(anOS, dataDocList);
+		dataDocJSON.saveOpen(anOS);
+		try
+		{
+			rowCount = gridExportPager.export(aRedisGrid::loadGridPipeline, dataDocJSON::saveRows);
+		}
+		finally
+		{
+			dataDocJSON.saveClose();
+		}
+		stopWatch.stop();
+		appLogger.debug(String.format("'%s': %d rows exported in %d milliseconds.", aDataGrid.getName(), rowCount, stopWatch.getTime()));
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -130,11 +155,9 @@ public class AppViewExportGridDS
 		Logger appLogger = anAppCtx.getLogger(this, "writeRedisCommands");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		StringWriter stringWriter = new StringWriter();
-		PrintWriter printWriter = new PrintWriter(stringWriter);
+		PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(anOS, StandardCharsets.UTF_8));
 		aRedisDS.saveStreamAsWriter(aKeyName, printWriter);
-
-		anOS.write(stringWriter.toString().getBytes(StandardCharsets.UTF_8));
+		printWriter.flush();
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -257,14 +280,6 @@ public class AppViewExportGridDS
 		dsCriteria.setName(criteriaName + " - Redis App Studio");
 		dsCriteriaLogger.writeFull(dsCriteria);
 
-		StopWatch stopWatch = new StopWatch();
-		stopWatch.start();
-		redisGrid.loadGridPipeline(dataGrid, fetchRowStart, fetchRowFinish);
-		stopWatch.stop();
-
-		int rowCount = dataGrid.rowCount();
-		appLogger.debug(String.format("'%s': %d rows fetched in %d milliseconds.", dsCriteria.getName(),
-									  rowCount, stopWatch.getTime()));
 		try
 		{
 			aRPCManager.doCustomResponse();
@@ -277,13 +292,13 @@ public class AppViewExportGridDS
 				response.setHeader("content-disposition", "attachment; filename=Grid.csv");
 				response.setContentType("text/csv");
 				String csvFormat = DS.formatFromCriteria(dsCriteria);
-				statusCode = writeCSV(appCtx, dataGrid, csvFormat, servletOutputStream);
+				statusCode = writeCSV(appCtx, redisGrid, dataGrid, fetchRowStart, fetchRowFinish, csvFormat, servletOutputStream);
 			}
 			else if (StringUtils.equals(exportAction, "grid_export_by_criteria_json"))
 			{
 				response.setHeader("content-disposition", "attachment; filename=Grid.json");
 				response.setContentType("application/json");
-				statusCode = writeJSON(appCtx, dataGrid, servletOutputStream);
+				statusCode = writeJSON(appCtx, redisGrid, dataGrid, fetchRowStart, fetchRowFinish, servletOutputStream);
 			}
 			else if (StringUtils.equals(exportAction, "schema_export_xml"))
 			{
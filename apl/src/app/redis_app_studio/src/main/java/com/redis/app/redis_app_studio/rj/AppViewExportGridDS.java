@@ -25,9 +25,11 @@ import com.isomorphic.datasource.DataSource;
 import com.isomorphic.rpc.RPCManager;
 import com.redis.app.redis_app_studio.shared.AppResource;
 import com.redis.app.redis_app_studio.shared.AppSession;
+import com.redis.app.redis_app_studio.shared.GridExportPager;
 import com.redis.app.redis_app_studio.shared.SCDSRequest;
 import com.redis.app.redis_app_studio.shared.SessionContext;
 import com.redis.ds.ds_json.JsonDS;
+import com.redis.ds.ds_redis.Redis;
 import com.redis.ds.ds_redis.RedisDS;
 import com.redis.ds.ds_redis.RedisDSException;
 import com.redis.ds.ds_redis.json.RedisJson;
@@ -56,9 +58,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -73,33 +73,59 @@ public class AppViewExportGridDS
 	private final String CLASS_NAME = "AppViewExportGridDS";
 	private final String APPLICATION_PROPERTIES_PREFIX = "rj";
 
-	private int writeCSV(AppCtx anAppCtx, DataGrid aDataGrid, String aFormat, ServletOutputStream anOS)
-		throws IOException
+	private int writeCSV(AppCtx anAppCtx, RedisJson aRedisJson, DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish,
+						 String aFormat, ServletOutputStream anOS)
+		throws IOException, RedisDSException
 	{
+		long rowCount = 0;
 		Logger appLogger = anAppCtx.getLogger(this, "writeCSV");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(anOS);
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start();
+		GridExportPager gridExportPager = new GridExportPager(aDataGrid, aRedisJson.getRowCount(aDataGrid), aRowNumberStart, aRowNumberFinish);
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(anOS, StandardCharsets.UTF_8);
 		DataGridCSV dataGridCSV = new DataGridCSV();
-		dataGridCSV.save(aDataGrid, outputStreamWriter, true, aFormat.toLowerCase().equals("title"));
+		dataGridCSV.saveOpen(aDataGrid.getColumns(), outputStreamWriter, true, aFormat.toLowerCase().equals("title"));
+		try
+		{
+			rowCount = gridExportPager.export((pageGrid, rowStart, rowFinish) -> aRedisJson.loadGridBulk(pageGrid, rowStart, rowFinish, true), dataGridCSV::saveRows);
+		}
+		finally
+		{
+			dataGridCSV.saveClose();
+		}
+		stopWatch.stop();
+		appLogger.debug(String.format("'%s': %d rows exported in %d milliseconds.", aDataGrid.getName(), rowCount, stopWatch.getTime()));
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
 		return DSResponse.STATUS_SUCCESS;
 	}
 
-	private int writeJSON(AppCtx anAppCtx, DataGrid aDataGrid, ServletOutputStream anOS)
-		throws IOException
+	private int writeJSON(AppCtx anAppCtx, RedisJson aRedisJson, DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish,
+						  ServletOutputStream anOS)
+		throws IOException, RedisDSException
 	{
+		long rowCount = 0;
 		Logger appLogger = anAppCtx.getLogger(this, "writeJSON");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		List<DataDoc> dataDocList = new ArrayList<>();
-		int rowCount = aDataGrid.rowCount();
-		for (int row = 0; row < rowCount; row++)
-			dataDocList.add(aDataGrid.getRowAsDoc(row));
+		StopWatch stopWatch = new StopWatch();
+		stopWatch.start();
+		GridExportPager gridExportPager = new GridExportPager(aDataGrid, aRedisJson.getRowCount(aDataGrid), aRowNumberStart, aRowNumberFinish);
 		DataDocJSON dataDocJSON = new DataDocJSON();
-		dataDocJSON.save(anOS, dataDocList);
+		dataDocJSON.saveOpen(anOS);
+		try
+		{
+			rowCount = gridExportPager.export((pageGrid, rowStart, rowFinish) -> aRedisJson.loadGridBulk(pageGrid, rowStart, rowFinish, true), dataDocJSON::saveRows);
+		}
+		finally
+		{
+			dataDocJSON.saveClose();
+		}
+		stopWatch.stop();
+		appLogger.debug(String.format("'%s': %d rows exported in %d milliseconds.", aDataGrid.getName(), rowCount, stopWatch.getTime()));
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -130,11 +156,9 @@ public class AppViewExportGridDS
 		Logger appLogger = anAppCtx.getLogger(this, "writeRedisCommands");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		StringWriter stringWriter = new StringWriter();
-		PrintWriter printWriter = new PrintWriter(stringWriter);
+		PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(anOS, StandardCharsets.UTF_8));
 		aRedisDS.saveStreamAsWriter(aKeyName, printWriter);
-
-		anOS.write(stringWriter.toString().getBytes(StandardCharsets.UTF_8));
+		printWriter.flush();
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -262,14 +286,7 @@ public class AppViewExportGridDS
 		Optional<DataGrid> optDataGrid = redisJson.getGridSchema(gridKeyName);
 		if (optDataGrid.isPresent())
 		{
-			StopWatch stopWatch = new StopWatch();
-			stopWatch.start();
 			DataGrid dataGrid = optDataGrid.get();
-			redisJson.loadGridPipeline(dataGrid, fetchRowStart, fetchRowFinish);
-			stopWatch.stop();
-
-			int rowCount = dataGrid.rowCount();
-			appLogger.debug(String.format("'%s': %d rows fetched in %d milliseconds.", dsCriteria.getName(), rowCount, stopWatch.getTime()));
 			try
 			{
 				aRPCManager.doCustomResponse();
@@ -282,13 +299,13 @@ public class AppViewExportGridDS
 					response.setHeader("content-disposition", "attachment; filename=Grid.csv");
 					response.setContentType("text/csv");
 					String csvFormat = DS.formatFromCriteria(dsCriteria);
-					statusCode = writeCSV(appCtx, dataGrid, csvFormat, servletOutputStream);
+					statusCode = writeCSV(appCtx, redisJson, dataGrid, fetchRowStart, fetchRowFinish, csvFormat, servletOutputStream);
 				}
 				else if (StringUtils.equals(exportAction, "grid_export_by_criteria_json"))
 				{
 					response.setHeader("content-disposition", "attachment; filename=Grid.json");
 					response.setContentType("application/json");
-					statusCode = writeJSON(appCtx, dataGrid, servletOutputStream);
+					statusCode = writeJSON(appCtx, redisJson, dataGrid, fetchRowStart, fetchRowFinish, servletOutputStream);
 				}
 				else if (StringUtils.equals(exportAction, "schema_export_xml"))
 				{
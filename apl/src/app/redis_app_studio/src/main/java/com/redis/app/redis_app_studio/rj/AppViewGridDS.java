@@ -184,7 +184,7 @@ public class AppViewGridDS extends BasicDataSource
 			StopWatch stopWatch = new StopWatch();
 			stopWatch.start();
 			DataGrid dataGrid = optDataGrid.get();
-			redisJson.loadGridPipeline(dataGrid, fetchRowStart, fetchRowFinish);
+			redisJson.loadGridBulk(dataGrid, fetchRowStart, fetchRowFinish, true);
 			stopWatch.stop();
 
 			int rowCount = dataGrid.rowCount();
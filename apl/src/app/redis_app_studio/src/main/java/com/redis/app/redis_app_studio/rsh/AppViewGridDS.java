@@ -331,6 +331,7 @@ public class AppViewGridDS extends BasicDataSource
 		stopWatch.start();
 		redisGrid.add(dataGrid, dataDoc);
 		redisSearch.addSuggestion(dataDoc);
+		redisSearch.invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		stopWatch.stop();
 		appLogger.debug(String.format("'%s': %d items added in %d milliseconds.", scDS.getName(), dataDoc.count(), stopWatch.getTime()));
@@ -445,6 +446,7 @@ public class AppViewGridDS extends BasicDataSource
 		stopWatch.start();
 		redisGrid.update(dataGrid, docRowNumber, scDataDoc);
 		redisSearch.addSuggestion(scDataDoc);
+		redisSearch.invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		boolean isOK = true;
 		stopWatch.stop();
@@ -552,6 +554,7 @@ public class AppViewGridDS extends BasicDataSource
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
 		redisGrid.delete(dataGrid, docRowNumber);
+		appResource.getRedisSearch().invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		stopWatch.stop();
 		boolean isOK = true;
@@ -60,7 +60,6 @@ import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -96,12 +95,10 @@ public class AppViewExportGridDS
 		Logger appLogger = anAppCtx.getLogger(this, "writeJSON");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		List<DataDoc> dataDocList = new ArrayList<>();
-		int rowCount = aDataGrid.rowCount();
-		for (int row = 0; row < rowCount; row++)
-			dataDocList.add(aDataGrid.getRowAsDoc(row));
 		DataDocJSON dataDocJSON = new DataDocJSON();
-		dataDocJSON.save(anOS, dataDocList);
+		dataDocJSON.saveOpen(anOS);
+		dataDocJSON.saveRows(aDataGrid);
+		dataDocJSON.saveClose();
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -132,11 +129,9 @@ public class AppViewExportGridDS
 		Logger appLogger = anAppCtx.getLogger(this, "writeRedisCommands");
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_ENTER);
 
-		StringWriter stringWriter = new StringWriter();
-		PrintWriter printWriter = new PrintWriter(stringWriter);
+		PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(anOS, StandardCharsets.UTF_8));
 		aRedisDS.saveStreamAsWriter(aKeyName, printWriter);
-
-		anOS.write(stringWriter.toString().getBytes(StandardCharsets.UTF_8));
+		printWriter.flush();
 
 		appLogger.trace(anAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -330,6 +330,7 @@ public class AppViewGridDS extends BasicDataSource
 		stopWatch.start();
 		redisJson.add(dataGrid, dataDoc);
 		redisSearch.addSuggestion(dataDoc);
+		redisSearch.invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		stopWatch.stop();
 		appLogger.debug(String.format("'%s': %d items added in %d milliseconds.", scDS.getName(), dataDoc.count(), stopWatch.getTime()));
@@ -458,6 +459,7 @@ public class AppViewGridDS extends BasicDataSource
 		stopWatch.start();
 		redisJson.update(scDataDoc);
 		redisSearch.addSuggestion(scDataDoc);
+		redisSearch.invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		boolean isOK = true;
 		stopWatch.stop();
@@ -564,6 +566,7 @@ public class AppViewGridDS extends BasicDataSource
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
 		redisJson.delete(dataGrid, docRowNumber);
+		appResource.getRedisSearch().invalidateResultCache();
 		refreshResultDS(appCtx, appResource, dataGrid);
 		stopWatch.stop();
 		boolean isOK = true;
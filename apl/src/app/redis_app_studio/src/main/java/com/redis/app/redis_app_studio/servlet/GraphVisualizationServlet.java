@@ -21,6 +21,7 @@ package com.redis.app.redis_app_studio.servlet;
 
 import com.redis.app.redis_app_studio.shared.*;
 import com.redis.ds.ds_graph.GraphDS;
+import com.redis.ds.ds_graph.GraphVisualizationCache;
 import com.redis.ds.ds_redis.graph.RedisGraphs;
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.*;
@@ -36,6 +37,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
@@ -54,6 +56,8 @@ public class GraphVisualizationServlet extends HttpServlet
 	private final String APPLICATION_PROPERTIES_PREFIX = "dm";
 	private final String CLASS_NAME = "GraphVisualizationServlet";
 
+	private static final GraphVisualizationCache mVisualizationCache = new GraphVisualizationCache();
+
 	/**
 	 * Write an HTML error message to the user's web browser.
 	 *
@@ -80,11 +84,24 @@ public class GraphVisualizationServlet extends HttpServlet
 		pwOut.flush();
 	}
 
+	private void setResponseHeaders(HttpServletResponse aResponse, boolean anIsDownload)
+	{
+		aResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		if (anIsDownload)
+		{
+			aResponse.setContentType(FILE_CONTENT_TYPE);
+			String headerKey = "Content-Disposition";
+			String headerValue = String.format("attachment; filename=\"%s\"", FILE_DOWNLOAD_NAME);
+			aResponse.setHeader(headerKey, headerValue);
+		}
+		else
+			aResponse.setContentType(HTML_CONTENT_TYPE);
+	}
+
 	@Override
 	public void doGet(HttpServletRequest aRequest, HttpServletResponse aResponse)
 		throws ServletException, IOException
 	{
-		String htmlGraph;
 		DataGraph dataGraph;
 		boolean isDataModeler;
 		DataGraph dataGraphSR;
@@ -138,8 +155,37 @@ public class GraphVisualizationServlet extends HttpServlet
 			graphOptionsDoc.setValueByName("ui_height", "1000px");
 		}
 
+		String cacheKey = null;
+		boolean isCacheable = (! isDataModeler) && (! isGraphMatched);
 		try
 		{
+			StopWatch stopWatch = new StopWatch();
+			stopWatch.start();
+
+// Rendered graphs are cached by graph version, so an unchanged graph is served without querying it again.
+
+			if (isCacheable)
+			{
+				RedisGraphs redisGraph = appResource.getRedisGraph();
+				long graphVersion = redisGraph.getVersion(appResource.getTitle());
+				cacheKey = GraphVisualizationCache.createKey(appResource.getTitle(), graphVersion, graphOptionsDoc);
+				Optional<byte[]> optPayload = mVisualizationCache.get(cacheKey);
+				if (optPayload.isPresent())
+				{
+					byte[] htmlPayload = optPayload.get();
+					setResponseHeaders(aResponse, isDownloadOperation);
+					aResponse.setContentLength(htmlPayload.length);
+					OutputStream outStream = aResponse.getOutputStream();
+					outStream.write(htmlPayload, 0, htmlPayload.length);
+					outStream.close();
+					stopWatch.stop();
+					appLogger.debug(String.format("'%s': version %d visualization (%d bytes) served from cache in %d milliseconds.",
+												  appResource.getTitle(), graphVersion, htmlPayload.length, stopWatch.getTime()));
+					appLogger.trace(appCtx.LOGMSG_TRACE_DEPART);
+					return;
+				}
+			}
+
 			if (isDataModeler)
 				dataGraph = graphDS.createDataGraph(graphDS.getName());
 			else
@@ -148,50 +194,44 @@ public class GraphVisualizationServlet extends HttpServlet
 				dataGraph = redisGraph.queryAll(appResource.getTitle());
 				appLogger.debug(String.format("%s: RedisGraph data graph has %d vertexes and %d edges.", dataGraph.getName(), dataGraph.getVertexDocSet().size(), dataGraph.getEdgeSet().size()));
 			}
-			StopWatch stopWatch = new StopWatch();
-			stopWatch.start();
+			dataGraph = graphDS.levelOfDetail(dataGraph, graphOptionsDoc);
+
+// Stream the page to the response (and the cache) while the vertexes and edges are generated.
+
+			setResponseHeaders(aResponse, isDownloadOperation);
+			OutputStream outStream = aResponse.getOutputStream();
+			if (cacheKey != null)
+				outStream = mVisualizationCache.capture(cacheKey, outStream);
+			PrintWriter pwOut = new PrintWriter(new OutputStreamWriter(outStream, StandardCharsets.UTF_8));
 			if ((isGraphMatched) && (dataGraphSR != null))
 			{
-				htmlGraph = graphDS.visualizeToString(dataGraph, dataGraphSR, graphOptionsDoc);
 				appLogger.debug(String.format("%s: Visualizing data graph (%d v, %d e) with matches against (%d v %d e).", dataGraph.getName(),
 											  dataGraph.getVertexDocSet().size(), dataGraph.getEdgeSet().size(),
 											  dataGraphSR.getVertexDocSet().size(), dataGraphSR.getEdgeSet().size()));
+				graphDS.visualize(pwOut, dataGraph, dataGraphSR, graphOptionsDoc);
 			}
 			else
 			{
-				htmlGraph = graphDS.visualizeToString(dataGraph, graphOptionsDoc);
 				appLogger.debug(String.format("%s: Visualizing data graph (%d v, %d e) without matches.", dataGraph.getName(),
 											  dataGraph.getVertexDocSet().size(), dataGraph.getEdgeSet().size()));
+				graphDS.visualize(pwOut, dataGraph, graphOptionsDoc);
 			}
-			if (isDownloadOperation)
-			{
-				aResponse.setContentType(FILE_CONTENT_TYPE);
-				aResponse.setContentLength(htmlGraph.length());
-				String headerKey = "Content-Disposition";
-				String headerValue = String.format("attachment; filename=\"%s\"", FILE_DOWNLOAD_NAME);
-				aResponse.setHeader(headerKey, headerValue);
-				OutputStream outStream = aResponse.getOutputStream();
-				byte[] byteArrray = htmlGraph.getBytes(StandardCharsets.UTF_8);
-				outStream.write(byteArrray, 0, byteArrray.length);
-				outStream.close();
-			}
+			if (pwOut.checkError())
+				appLogger.warn(String.format("'%s': The client disconnected before the visualization was completed.", dataGraph.getName()));
 			else
-			{
-				PrintWriter pwOut = aResponse.getWriter();
-				aResponse.setContentType(HTML_CONTENT_TYPE);
-				pwOut.printf("%s%n", htmlGraph);
-				pwOut.flush();
-				stopWatch.stop();
-			}
-			int edgeCount = graphDS.getEdgeGridDS().getDataGrid().rowCount();
-			int vertexCount = graphDS.getVertexGridDS().getDataGrid().rowCount();
+				pwOut.close();
+			stopWatch.stop();
 			appLogger.debug(String.format("'%s': %d vertexes and %d edges visualized in %d milliseconds.", dataGraph.getName(),
-										  vertexCount, edgeCount, stopWatch.getTime()));
+										  dataGraph.getVertexDocSet().size(), dataGraph.getEdgeSet().size(), stopWatch.getTime()));
 		}
 		catch (FCException e)
 		{
 			appLogger.error(e.getMessage());
-			errorMessage(aResponse, e.getMessage());
+			if (! aResponse.isCommitted())
+			{
+				aResponse.reset();
+				errorMessage(aResponse, e.getMessage());
+			}
 		}
 
 		appLogger.trace(appCtx.LOGMSG_TRACE_DEPART);
@@ -193,8 +193,7 @@ public class AppResource
 	public void setGridDS(DataGrid aDataGrid)
 	{
 		mGridDS = new GridDS(mAppCtx, aDataGrid);
-		mGridDS.getDataGrid().setName(mTitle);
-		mGridDS.getDataGrid().getColumns().setName(mTitle);
+		mGridDS.setName(mTitle);
 	}
 
 	/**
@@ -544,7 +543,7 @@ public class AppResource
 				stopWatch.start();
 				mRedisDocGridDS = new GridDS(mAppCtx);
 				mRedisDocGridDS.loadData(dcPathFileName, true);
-				mRedisDocGridDS.getSchema().getItemByName("command_name").enableFeature(Data.FEATURE_IS_PRIMARY);
+				mRedisDocGridDS.setPrimaryKey("command_name");
 				stopWatch.stop();
 				DataGrid dataGrid = mRedisDocGridDS.getDataGrid();
 				appLogger.debug(String.format("'%s': %d columns and %d rows in %d milliseconds.", dcPathFileName,
@@ -574,9 +573,8 @@ public class AppResource
 		CfgMgr cfgMgr = mRedisDS.getCfgMgr();
 		if (cfgMgr.isStringTrue("data_load_at_startup"))
 		{
+			mGridDS.setName(mTitle);
 			DataGrid dataGrid = mGridDS.getDataGrid();
-			dataGrid.setName(mTitle);
-			dataGrid.getColumns().setName(mTitle);
 			RedisKey redisKey = mRedisDS.getRedisKey();
 			RedisGrid redisGrid = mRedisDS.createGrid();
 			RedisCore redisCore = mRedisDS.createCore();
@@ -627,9 +625,8 @@ public class AppResource
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
+		mGridDS.setName(mTitle);
 		DataGrid dataGrid = mGridDS.getDataGrid();
-		dataGrid.setName(mTitle);
-		dataGrid.getColumns().setName(mTitle);
 		String indexName = Data.titleToName(mTitle);
 		if (mRedisSearch == null)
 		{
@@ -694,11 +691,12 @@ public class AppResource
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
+		mJsonDS.setName(mTitle);
 		if (mRedisJson == null)
 			setRedisJsonDS(mRedisDS.createJson(mJsonDS.getSchema()));
-		DataGrid dataGrid = mJsonDS.getDataGrid();;
-		dataGrid.setName(mTitle);
-		dataGrid.getColumns().setName(mTitle);
+		else
+			mRedisJson.setDataSchema(mJsonDS.getSchema());
+		DataGrid dataGrid = mJsonDS.getDataGrid();
 		String indexName = Data.titleToName(mTitle);
 		if (mRedisSearch == null)
 		{
@@ -782,9 +780,9 @@ public class AppResource
 		CfgMgr cfgMgr = mRedisDS.getCfgMgr();
 		if (cfgMgr.isStringTrue("data_load_at_startup"))
 		{
-			DataGrid dataGrid = mJsonDS.getDataGrid();;
-			dataGrid.setName(mTitle);
-			dataGrid.getColumns().setName(mTitle);
+			mJsonDS.setName(mTitle);
+			redisJson.setDataSchema(mJsonDS.getSchema());
+			DataGrid dataGrid = mJsonDS.getDataGrid();
 			RedisKey redisKey = mRedisDS.getRedisKey();
 			RedisCore redisCore = mRedisDS.createCore();
 			String dataGridKeyName = redisKey.moduleJson().redisJsonDocument().dataObject(dataGrid).name();
@@ -275,7 +275,7 @@ public class DataLoader
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
 		storageGridDS.loadData(storageCSVPathFileName, true);
-		storageGridDS.getSchema().getItemByName(Constants.DS_STORAGE_DOCUMENT_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		storageGridDS.setPrimaryKey(Constants.DS_STORAGE_DOCUMENT_NAME);
 		stopWatch.stop();
 		DataGrid dataGrid = storageGridDS.getDataGrid();
 		appLogger.debug(String.format("'%s': %d columns and %d rows in %d milliseconds.", storageCSVPathFileName,
@@ -339,7 +339,7 @@ public class DataLoader
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
 		releaseGridDS.loadData(storageCSVPathFileName, true);
-		releaseGridDS.getSchema().getItemByName(Constants.DS_RELEASE_NUMBER_NAME).enableFeature(Data.FEATURE_IS_PRIMARY);
+		releaseGridDS.setPrimaryKey(Constants.DS_RELEASE_NUMBER_NAME);
 		stopWatch.stop();
 		DataGrid dataGrid = releaseGridDS.getDataGrid();
 		appLogger.debug(String.format("'%s': %d columns and %d rows in %d milliseconds.", storageCSVPathFileName,
@@ -520,7 +520,7 @@ public class DataLoader
 		StopWatch stopWatch = new StopWatch();
 		stopWatch.start();
 		jsonDS.loadSchema(jsonSchemaPathFileName);
-		if (jsonDS.loadDataEvaluatePath(jsonDataPathFileName))
+		if (jsonDS.loadDataStreamEvaluatePath(jsonDataPathFileName))
 		{
 			appLogger.debug(String.format("'%s': Loaded %d JSON documents in %d milliseconds.", aDSTitle,
 										  jsonDS.getDataGrid().rowCount(), stopWatch.getTime()));
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.app.redis_app_studio.shared;
+
+import com.redis.ds.ds_redis.Redis;
+import com.redis.ds.ds_redis.RedisDSException;
+import com.redis.foundation.data.DataGrid;
+
+import java.io.IOException;
+
+/**
+ * The GridExportPager class walks the rows of a Redis backed data grid
+ * one page at a time during an export.  The row range is bounded once by
+ * the row count captured when the pager is created, and a single page
+ * grid is reused for every page, so only one page of rows is held in
+ * memory regardless of the size of the export.
+ */
+public class GridExportPager
+{
+	private final DataGrid mPageGrid;
+	private final long mRowNumberStart;
+	private final long mRowNumberFinish;
+
+	/**
+	 * Loads a page of rows into the page grid.
+	 */
+	@FunctionalInterface
+	public interface PageLoader
+	{
+		/**
+		 * Loads the rows identified by the row number range into the page grid.
+		 *
+		 * @param aPageGrid Page grid instance
+		 * @param aRowNumberStart Row number start (1 - N)
+		 * @param aRowNumberFinish Row number finish (1 - N)
+		 *
+		 * @throws RedisDSException Redis operation failure
+		 */
+		void load(DataGrid aPageGrid, long aRowNumberStart, long aRowNumberFinish)
+			throws RedisDSException;
+	}
+
+	/**
+	 * Writes a page of rows to the export stream.
+	 */
+	@FunctionalInterface
+	public interface PageWriter
+	{
+		/**
+		 * Writes the rows of the page grid to the export stream.
+		 *
+		 * @param aPageGrid Page grid instance
+		 *
+		 * @return Count of rows written
+		 *
+		 * @throws IOException I/O related exception
+		 */
+		int write(DataGrid aPageGrid)
+			throws IOException;
+	}
+
+	/**
+	 * Constructor accepts the data grid being exported, its row count and
+	 * the requested row number range.
+	 *
+	 * @param aDataGrid Data grid instance (columns and features)
+	 * @param aRowCount Count of rows stored in the database
+	 * @param aRowNumberStart Row number start (1 - N)
+	 * @param aRowNumberFinish Row number finish (1 - N) or Redis.GRID_RANGE_FINISH
+	 */
+	public GridExportPager(DataGrid aDataGrid, long aRowCount, long aRowNumberStart, long aRowNumberFinish)
+	{
+		mPageGrid = new DataGrid(aDataGrid.getName(), aDataGrid.getColumns());
+		mPageGrid.setFeatures(aDataGrid.getFeatures());
+		mRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
+		if ((aRowNumberFinish == Redis.GRID_RANGE_FINISH) || (aRowNumberFinish > aRowCount))
+			mRowNumberFinish = aRowCount;
+		else
+			mRowNumberFinish = aRowNumberFinish;
+	}
+
+	/**
+	 * Loads each page of the row range and hands it to the writer.
+	 *
+	 * @param aPageLoader Page loader
+	 * @param aPageWriter Page writer
+	 *
+	 * @return Count of rows written
+	 *
+	 * @throws IOException I/O related exception
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public long export(PageLoader aPageLoader, PageWriter aPageWriter)
+		throws IOException, RedisDSException
+	{
+		long rowCount = 0;
+		for (long rowNumber = mRowNumberStart; rowNumber <= mRowNumberFinish; rowNumber += Redis.GRID_EXPORT_BATCH_COUNT)
+		{
+			aPageLoader.load(mPageGrid, rowNumber, Math.min(rowNumber + Redis.GRID_EXPORT_BATCH_COUNT - 1, mRowNumberFinish));
+			rowCount += aPageWriter.write(mPageGrid);
+		}
+
+		return rowCount;
+	}
+}
@@ -517,26 +517,42 @@ public class SCDSRequest
 
 	public ArrayList gridToArrayList(DataGrid aDataGrid)
 	{
-		HashMap rowMap;
-		DataDoc dataDoc;
-		ArrayList replyList = new ArrayList();
 		String methodName = "gridToArrayList";
 		mLogger.trace(methodName, Constants.LOG_MSG_ENTER);
 
-		int rowCount = aDataGrid.rowCount();
-		int colCount = aDataGrid.colCount();
-		if ((rowCount > 0) && (colCount > 0))
+// The row maps produced by SCGridRows are read-only, so each one is copied into a map
+// the caller may edit.
+
+		ArrayList replyList = new ArrayList();
+		for (Map rowMap : gridToRowList(aDataGrid))
+			replyList.add(new HashMap(rowMap));
+
+		mLogger.trace(methodName, Constants.LOG_MSG_DEPART);
+
+		return replyList;
+	}
+
+	/**
+	 * Returns the rows of the data grid as a read-only list of maps that
+	 * are produced as the list is visited, rather than all up front.
+	 *
+	 * @param aDataGrid Data grid instance
+	 *
+	 * @return List of unmodifiable row maps
+	 */
+	public List<Map> gridToRowList(DataGrid aDataGrid)
+	{
+		String methodName = "gridToRowList";
+		mLogger.trace(methodName, Constants.LOG_MSG_ENTER);
+
+		List<Map> replyList;
+		if ((aDataGrid.rowCount() > 0) && (aDataGrid.colCount() > 0))
 		{
-			for (int row = 0; row < rowCount; row++)
-			{
-				rowMap = new HashMap();
-				dataDoc = aDataGrid.getRowAsDoc(row);
-				for (DataItem dataItem : dataDoc.getItems())
-					rowMap.put(dataItem.getName(), dataItem.getValueAsObject(StrUtl.CHAR_PIPE));
-				replyList.add(rowMap);
-				mLogger.debug(String.format("[%d] %s", row, dataDoc.toString()));
-			}
+			replyList = new SCGridRows(aDataGrid, StrUtl.CHAR_PIPE);
+			mLogger.debug(String.format("%s: %d rows", aDataGrid.getName(), replyList.size()));
 		}
+		else
+			replyList = Collections.emptyList();
 
 		mLogger.trace(methodName, Constants.LOG_MSG_DEPART);
 
@@ -764,39 +780,45 @@ public class SCDSRequest
 
 	public ArrayList gridToArrayList(DataDoc anOptionsDoc, DataGrid aDataGrid)
 	{
-		HashMap rowMap;
-		DataItem dataItem;
-		char delimiterChar;
 		String methodName = "gridToArrayList";
 		mLogger.trace(methodName, Constants.LOG_MSG_ENTER);
 
 		ArrayList replyList = new ArrayList();
+		for (Map rowMap : gridToRowList(anOptionsDoc, aDataGrid))
+			replyList.add(new HashMap(rowMap));
+
+		mLogger.trace(methodName, Constants.LOG_MSG_DEPART);
+
+		return replyList;
+	}
+
+	/**
+	 * Returns the rows of the data grid as a read-only list of maps that
+	 * are produced as the list is visited, rather than all up front.
+	 * Multi-value cells are collapsed with the options delimiter.
+	 *
+	 * @param anOptionsDoc Options data document instance
+	 * @param aDataGrid Data grid instance
+	 *
+	 * @return List of unmodifiable row maps
+	 */
+	public List<Map> gridToRowList(DataDoc anOptionsDoc, DataGrid aDataGrid)
+	{
+		char delimiterChar;
+		String methodName = "gridToRowList";
+		mLogger.trace(methodName, Constants.LOG_MSG_ENTER);
+
 		String delimiterString = anOptionsDoc.getValueByName("delimiter_string");
 		if (StringUtils.isEmpty(delimiterString))
 			delimiterChar = StrUtl.CHAR_PIPE;
 		else
 			delimiterChar = delimiterString.charAt(0);
 
-		int rowCount = aDataGrid.rowCount();
-		int colCount = aDataGrid.colCount();
-
-		if ((rowCount > 0) && (colCount > 0))
-		{
-			for (int row = 0; row < rowCount; row++)
-			{
-				rowMap = new HashMap();
-				for (int col = 0; col < colCount; col++)
-				{
-					Optional<DataItem> optDataItem = aDataGrid.getItemByRowColOptional(row, col);
-					if (optDataItem.isPresent())
-					{
-						dataItem = optDataItem.get();
-						rowMap.put(dataItem.getName(), dataItem.getValueAsObject(delimiterChar));
-					}
-				}
-				replyList.add(rowMap);
-			}
-		}
+		List<Map> replyList;
+		if ((aDataGrid.rowCount() > 0) && (aDataGrid.colCount() > 0))
+			replyList = new SCGridRows(aDataGrid, delimiterChar);
+		else
+			replyList = Collections.emptyList();
 
 		mLogger.trace(methodName, Constants.LOG_MSG_DEPART);
 
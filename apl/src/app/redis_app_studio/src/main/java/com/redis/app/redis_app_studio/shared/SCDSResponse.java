@@ -408,8 +408,6 @@ public class SCDSResponse
 	public DSResponse create(DataGrid aDataGrid, AppResource anAppResource,
 							 int aStartRow, int anEndRow, int aTotalRows)
 	{
-		HashMap rowMap;
-		DataDoc dataDoc;
 		String rasContext;
 		Logger appLogger = mAppCtx.getLogger(this, "create(DataGrid,AppResource)");
 
@@ -423,7 +421,7 @@ public class SCDSResponse
 
 		int rowCount = aDataGrid.rowCount();
 		int colCount = aDataGrid.colCount();
-		ArrayList replyList = new ArrayList();
+		List replyList;
 		if (mIsDebug)
 		{
 			appLogger.debug(String.format("[%s] %d columns and %d rows", aDataGrid.getName(), colCount, rowCount));
@@ -436,21 +434,10 @@ public class SCDSResponse
 			rasContext = String.format("%s|%s|%s", anAppResource.getPrefix(), anAppResource.getStructure(), anAppResource.getTitle());
 		if ((rowCount > 0) && (colCount > 0))
 		{
-			for (int row = 0; row < rowCount; row++)
-			{
-				rowMap = new HashMap();
-				dataDoc = aDataGrid.getRowAsDoc(row);
-				for (DataItem dataItem : dataDoc.getItems())
-				{
-					if (dataItem.isValueAssigned())
-						rowMap.put(dataItem.getName(), dataItem.getValueAsObject(StrUtl.CHAR_PIPE));
-					else
-						rowMap.put(dataItem.getName(), StringUtils.EMPTY);
-				}
-				if ((StringUtils.isNotEmpty(rasContext)) && (rowMap.size() > 0))
-					rowMap.put(Constants.RAS_CONTEXT_FIELD_NAME, rasContext);
-				replyList.add(rowMap);
-			}
+
+// The row maps are produced from the grid storage as the response is serialized rather than all up front.
+
+			replyList = new SCGridRows(aDataGrid, StrUtl.CHAR_PIPE, true, Constants.RAS_CONTEXT_FIELD_NAME, rasContext);
 			if (mIsDebug)
 			{
 				DataGridLogger dataGridLogger = new DataGridLogger(appLogger);
@@ -458,6 +445,8 @@ public class SCDSResponse
 				dataGridLogger.writeSimple(aDataGrid);
 			}
 		}
+		else
+			replyList = new ArrayList();
 		dsResponse.setData(replyList);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -562,11 +551,6 @@ public class SCDSResponse
 		return dsResponse;
 	}
 
-	private boolean isAlphaNumeric(char aCh)
-	{
-		return ((aCh >= 'A' && aCh <= 'Z') || (aCh >= 'a' && aCh <= 'z') || (aCh >= '0' && aCh <= '9'));
-	}
-
 	/**
 	 * Generate a SmartClient response instance that enables cell highlighting
 	 * when RedisSearch highlighting tokens are recognized.
@@ -585,8 +569,6 @@ public class SCDSResponse
 	{
 		HashMap rowMap;
 		DataDoc dataDoc;
-		String[] termArray;
-		DataItem schemaItem;
 		Logger appLogger = mAppCtx.getLogger(this, "createWithHighlights(DataGrid with Highlights - Search Terms)");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
@@ -607,11 +589,20 @@ public class SCDSResponse
 										  aStartRow, anEndRow, aTotalRows));
 		}
 
-		termArray = aSearchTerms.split(" ");
 		if ((rowCount > 0) && (colCount > 0))
 		{
-			String dataValue;
-			int termOffset, termLength, termEndOffset, dataValueLength;
+
+// The search terms are compiled and the highlighted fields resolved once per response rather than per cell.
+
+			TermHighlighter termHighlighter = new TermHighlighter(aSearchTerms);
+			HashSet<String> highlightedNames = new HashSet<>();
+			for (DataItem schemaItem : aSchemaDoc.getItems())
+			{
+				if (schemaItem.isFeatureTrue(Redis.FEATURE_IS_HIGHLIGHTED))
+					highlightedNames.add(schemaItem.getName());
+			}
+			if (termHighlighter.isEmpty())
+				highlightedNames.clear();
 
 			int highlightCount = 0;
 			for (int row = 0; row < rowCount; row++)
@@ -621,38 +612,10 @@ public class SCDSResponse
 				dataDoc = aDataGrid.getRowAsDoc(row);
 				for (DataItem dataItem : dataDoc.getItems())
 				{
-					schemaItem = aSchemaDoc.getItemByName(dataItem.getName());
-					if ((schemaItem != null) && (schemaItem.isFeatureTrue(Redis.FEATURE_IS_HIGHLIGHTED)))
+					if ((highlightedNames.contains(dataItem.getName())) && (termHighlighter.isHighlighted(dataItem.getValue())))
 					{
-						dataValue = dataItem.getValue();
-						if (StringUtils.isNotEmpty(dataValue))
-						{
-							dataValueLength = dataValue.length();
-							for (String searchTerm : termArray)
-							{
-								termOffset = dataValue.toLowerCase().indexOf(searchTerm);
-								if (termOffset >= 0)
-								{
-									termLength = searchTerm.length();
-									if (dataValueLength > termLength)
-									{
-										termEndOffset = Math.min(dataValueLength-1, termOffset+termLength);
-										if ((termEndOffset == dataValueLength-1) || (! isAlphaNumeric(dataValue.charAt(termEndOffset))))
-										{
-											highlightCount++;
-											rowMap.put("_hilite", colOffset);
-											break;
-										}
-									}
-									else
-									{
-										highlightCount++;
-										rowMap.put("_hilite", colOffset);
-										break;
-									}
-								}
-							}
-						}
+						highlightCount++;
+						rowMap.put("_hilite", colOffset);
 					}
 					rowMap.put(dataItem.getName(), dataItem.getValueAsObject(StrUtl.CHAR_PIPE));
 					colOffset++;
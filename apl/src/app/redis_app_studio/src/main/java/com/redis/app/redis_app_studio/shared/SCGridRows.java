@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.app.redis_app_studio.shared;
+
+import com.redis.foundation.data.DataGrid;
+import com.redis.foundation.data.DataItem;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * The SCGridRows class presents the rows of a data grid as the list of
+ * maps that a SmartClient response expects.  Rather than building the
+ * whole page up front, each row map is produced from the grid's internal
+ * row storage when the response serializer visits it, so no intermediate
+ * data documents, per-cell data item copies or <i>Optional</i> instances are
+ * created and each row map can be collected as soon as it is written.
+ * <p>
+ * The row and column references are captured when the instance is created,
+ * so rows added to or removed from the grid afterwards are not reflected.
+ * Cell values are converted by <i>DataItem.getValueAsObject()</i> using a
+ * cell item that is built for each visit and never shared, so an instance
+ * may be read by several threads.
+ * </p>
+ * <p>
+ * The list is read-only.  Every call to <i>get()</i> builds a new row map,
+ * so each returned map is unmodifiable rather than silently losing changes.
+ * Callers that need to edit the rows should copy them into their own maps.
+ * </p>
+ */
+@SuppressWarnings({"rawtypes"})
+public class SCGridRows extends AbstractList<Map>
+{
+	private final char mDelimiterChar;
+	private final String mContextName;
+	private final String mContextValue;
+	private final boolean mIsEmptyUnassigned;
+	private final ArrayList<DataItem> mColumnList;
+	private final ArrayList<HashMap<String, ArrayList<String>>> mRows;
+
+	/**
+	 * Constructor accepts a data grid and the delimiter character used to
+	 * collapse multi-value cells.
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param aDelimiterChar Delimiter character
+	 */
+	public SCGridRows(DataGrid aDataGrid, char aDelimiterChar)
+	{
+		this(aDataGrid, aDelimiterChar, false, null, null);
+	}
+
+	/**
+	 * Constructor accepts a data grid, the delimiter character used to
+	 * collapse multi-value cells and an optional context column that is
+	 * assigned to every non-empty row.
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param aDelimiterChar Delimiter character
+	 * @param anIsEmptyUnassigned If <i>true</i>, then cells without a value are returned as empty strings
+	 * @param aContextName Context column name (can be null)
+	 * @param aContextValue Context column value (can be null)
+	 */
+	public SCGridRows(DataGrid aDataGrid, char aDelimiterChar, boolean anIsEmptyUnassigned,
+					  String aContextName, String aContextValue)
+	{
+		mDelimiterChar = aDelimiterChar;
+		mContextName = aContextName;
+		mContextValue = aContextValue;
+		mIsEmptyUnassigned = anIsEmptyUnassigned;
+		mRows = new ArrayList<>(aDataGrid.getRows());
+		mColumnList = new ArrayList<>(aDataGrid.getColumns().getItems());
+	}
+
+	@Override
+	public Map get(int anIndex)
+	{
+		Object cellObject;
+		DataItem columnItem, cellItem;
+		ArrayList<String> cellValues;
+
+// Cells that are absent from the row storage take on a copy of the column item, matching
+// the data documents produced by DataGrid.getRowAsDoc().  The column items themselves are
+// never converted, since that would cache a typed value on items shared with the grid.
+
+		HashMap<String, ArrayList<String>> gridRow = mRows.get(anIndex);
+		HashMap<String, Object> rowMap = new HashMap<>((mColumnList.size() + 1) * 4 / 3 + 1);
+		int colCount = mColumnList.size();
+		for (int col = 0; col < colCount; col++)
+		{
+			columnItem = mColumnList.get(col);
+			cellValues = gridRow.get(columnItem.getName());
+			if (cellValues == null)
+			{
+				if ((mIsEmptyUnassigned) && (! columnItem.isValueAssigned()))
+					cellObject = StringUtils.EMPTY;
+				else
+					cellObject = new DataItem(columnItem).getValueAsObject(mDelimiterChar);
+			}
+			else if ((mIsEmptyUnassigned) && (cellValues.isEmpty()))
+				cellObject = StringUtils.EMPTY;
+			else
+			{
+				cellItem = new DataItem(columnItem.getType(), columnItem.getName());
+				cellItem.setDataFormat(columnItem.getDataFormat());
+				cellItem.setValues(cellValues);
+				cellObject = cellItem.getValueAsObject(mDelimiterChar);
+			}
+			rowMap.put(columnItem.getName(), cellObject);
+		}
+		if ((StringUtils.isNotEmpty(mContextValue)) && (rowMap.size() > 0))
+			rowMap.put(mContextName, mContextValue);
+
+		return Collections.unmodifiableMap(rowMap);
+	}
+
+	@Override
+	public int size()
+	{
+		return mRows.size();
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.app.redis_app_studio.shared;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+/**
+ * The TermHighlighter class determines whether a cell value contains
+ * any of the search terms of a request.  The terms are compiled once
+ * into an Aho-Corasick automaton, so each value is scanned a single
+ * time (case folded as it is read) regardless of the number of terms.
+ * <p>
+ * A term is considered present when its first occurrence in the value
+ * ends at a word boundary, which matches the rules previously applied
+ * via <i>toLowerCase().indexOf()</i> for each term.  An instance is
+ * intended to be used by a single request thread.
+ * </p>
+ */
+public class TermHighlighter
+{
+	private final Node mRoot = new Node();
+	private final int[] mTermLengths;
+	private final int[] mTermStamps;
+	private final boolean mIsEmptyTermPresent;
+	private int mStamp;
+
+	private static final class Node
+	{
+		private Node mFail;
+		private int[] mOutputs = new int[0];
+		private final HashMap<Character, Node> mNext = new HashMap<>();
+	}
+
+	/**
+	 * Constructor accepts the search terms (space separated) of the request.
+	 *
+	 * @param aSearchTerms Search terms
+	 */
+	public TermHighlighter(String aSearchTerms)
+	{
+		LinkedHashMap<String, Integer> termMap = new LinkedHashMap<>();
+		boolean isEmptyTermPresent = false;
+		for (String searchTerm : StringUtils.defaultString(aSearchTerms).split(" "))
+		{
+			if (searchTerm.isEmpty())
+				isEmptyTermPresent = true;
+			else
+				termMap.putIfAbsent(searchTerm, termMap.size());
+		}
+		mIsEmptyTermPresent = isEmptyTermPresent;
+		mTermLengths = new int[termMap.size()];
+		mTermStamps = new int[termMap.size()];
+		termMap.forEach((t, i) -> {
+			mTermLengths[i] = t.length();
+			addTerm(t, i);
+		});
+		linkFailures();
+	}
+
+	private void addTerm(String aTerm, int aTermIndex)
+	{
+		Node curNode = mRoot;
+		for (int offset = 0; offset < aTerm.length(); offset++)
+			curNode = curNode.mNext.computeIfAbsent(aTerm.charAt(offset), k -> new Node());
+		curNode.mOutputs = appendOutputs(curNode.mOutputs, new int[] {aTermIndex});
+	}
+
+	private int[] appendOutputs(int[] anOutputs, int[] anAdditions)
+	{
+		int[] outputs = Arrays.copyOf(anOutputs, anOutputs.length + anAdditions.length);
+		System.arraycopy(anAdditions, 0, outputs, anOutputs.length, anAdditions.length);
+
+		return outputs;
+	}
+
+// Breadth-first pass that assigns the failure links and merges the outputs of each
+// failure node, so a single node visit reports every term ending at that position.
+
+	private void linkFailures()
+	{
+		ArrayDeque<Node> nodeQueue = new ArrayDeque<>();
+		mRoot.mFail = mRoot;
+		for (Node childNode : mRoot.mNext.values())
+		{
+			childNode.mFail = mRoot;
+			nodeQueue.add(childNode);
+		}
+		while (! nodeQueue.isEmpty())
+		{
+			Node curNode = nodeQueue.poll();
+			for (var nodeEntry : curNode.mNext.entrySet())
+			{
+				char ch = nodeEntry.getKey();
+				Node childNode = nodeEntry.getValue();
+				Node failNode = curNode.mFail;
+				while ((failNode != mRoot) && (! failNode.mNext.containsKey(ch)))
+					failNode = failNode.mFail;
+				Node nextNode = failNode.mNext.get(ch);
+				childNode.mFail = ((nextNode != null) && (nextNode != childNode)) ? nextNode : mRoot;
+				if (childNode.mFail.mOutputs.length > 0)
+					childNode.mOutputs = appendOutputs(childNode.mOutputs, childNode.mFail.mOutputs);
+				nodeQueue.add(childNode);
+			}
+		}
+	}
+
+	private static boolean isAlphaNumeric(char aCh)
+	{
+		return ((aCh >= 'A' && aCh <= 'Z') || (aCh >= 'a' && aCh <= 'z') || (aCh >= '0' && aCh <= '9'));
+	}
+
+	private static boolean isTermBoundary(String aValue, int aTermOffset, int aTermLength)
+	{
+		int valueLength = aValue.length();
+		if (valueLength > aTermLength)
+		{
+			int termEndOffset = Math.min(valueLength-1, aTermOffset+aTermLength);
+			return (termEndOffset == valueLength-1) || (! isAlphaNumeric(aValue.charAt(termEndOffset)));
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns <i>true</i> if the request has no search terms.
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isEmpty()
+	{
+		return (mTermLengths.length == 0) && (! mIsEmptyTermPresent);
+	}
+
+	/**
+	 * Returns <i>true</i> if the value contains one of the search terms.
+	 *
+	 * @param aValue Cell value
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isHighlighted(String aValue)
+	{
+		if (StringUtils.isEmpty(aValue))
+			return false;
+		if ((mIsEmptyTermPresent) && (isTermBoundary(aValue, 0, 0)))
+			return true;
+
+// Only the first occurrence of each term is considered, which is the first one reported
+// since all occurrences of a term share its length.
+
+		if (++mStamp == 0)
+		{
+			Arrays.fill(mTermStamps, 0);
+			mStamp = 1;
+		}
+		Node curNode = mRoot;
+		int valueLength = aValue.length();
+		for (int offset = 0; offset < valueLength; offset++)
+		{
+			char ch = Character.toLowerCase(aValue.charAt(offset));
+			Node nextNode = curNode.mNext.get(ch);
+			while ((nextNode == null) && (curNode != mRoot))
+			{
+				curNode = curNode.mFail;
+				nextNode = curNode.mNext.get(ch);
+			}
+			curNode = (nextNode == null) ? mRoot : nextNode;
+			for (int termIndex : curNode.mOutputs)
+			{
+				if (mTermStamps[termIndex] != mStamp)
+				{
+					mTermStamps[termIndex] = mStamp;
+					int termLength = mTermLengths[termIndex];
+					if (isTermBoundary(aValue, offset - termLength + 1, termLength))
+						return true;
+				}
+			}
+		}
+
+		return false;
+	}
+}
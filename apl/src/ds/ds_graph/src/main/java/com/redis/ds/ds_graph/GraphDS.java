@@ -79,6 +79,7 @@ public class GraphDS
 	private final String ROW_TYPE_EDGE = "E";
 	private final String ROW_TYPE_VERTEX = "V";
 	private final int QUERY_LIMIT_DEFAULT = 10000;			// Unlikely to impact result set size
+	private final int LOD_NODE_BUDGET_DEFAULT = 1000;		// Beyond this, browsers struggle to lay out the network
 
 	private String mName;
 	private GridDS mEdgeGridDS;
@@ -506,9 +507,9 @@ public class GraphDS
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		mEdgeGridDS = new GridDS(mAppCtx);
-		mEdgeGridDS.getDataGrid().emptyRows();
+		mEdgeGridDS.emptyRows();
 		mVertexGridDS = new GridDS(mAppCtx);
-		mVertexGridDS.getDataGrid().emptyRows();
+		mVertexGridDS.emptyRows();
 		if (mEdgeSchemaDoc == null)
 			dataGrid = aDataGraph.getEdgesDataGrid();
 		else
@@ -2155,9 +2156,9 @@ public class GraphDS
 		loadFromCSV(aCSVPathFileName);
 
 		if (mVertexSchemaDoc != null)
-			mVertexGridDS.getDataGrid().setColumns(mVertexSchemaDoc);
+			mVertexGridDS.setColumns(mVertexSchemaDoc);
 		if (mEdgeSchemaDoc != null)
-			mEdgeGridDS.getDataGrid().setColumns(mEdgeSchemaDoc);
+			mEdgeGridDS.setColumns(mEdgeSchemaDoc);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -2189,6 +2190,9 @@ public class GraphDS
 		DataRange arrowRange = new DataRange("to", "from", "to;from", "middle");
 		optionsDoc.add(new DataItem.Builder().name("edge_arrow").title("Edge Arrow").range(arrowRange).value("to").build());
 		optionsDoc.add(new DataItem.Builder().name("match_color").title("Match Color").value("#FAA0A0").build());
+		optionsDoc.add(new DataItem.Builder().type(Data.Type.Integer).name("lod_node_budget").title("LOD Node Budget").value(LOD_NODE_BUDGET_DEFAULT).build());
+		DataRange lodRange = new DataRange("degree", "community");
+		optionsDoc.add(new DataItem.Builder().name("lod_strategy").title("LOD Strategy").range(lodRange).value("degree").build());
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -2283,65 +2287,122 @@ public class GraphDS
 	}
 
 	/**
-	 * Generates an HTML document (as a string) containing the graph visualization
-	 * logic. This HTML document can be rendered in any modern browser.
+	 * Reduces the data graph to the level of detail defined by the
+	 * <i>lod_node_budget</i> and <i>lod_strategy</i> visualization
+	 * options.  If the graph is within the node budget (or the budget
+	 * is zero), then the data graph is returned as is.
 	 *
 	 * @param aDataGraph Data graph instance
 	 * @param anOptionsDoc Graph configuration options data document
 	 *
-	 * @return HTML document string
+	 * @return Data graph instance within the node budget
 	 *
 	 * @throws FCException Redis Labs exception
 	 */
-	public String visualizeToString(DataGraph aDataGraph, DataDoc anOptionsDoc)
+	public DataGraph levelOfDetail(DataGraph aDataGraph, DataDoc anOptionsDoc)
 		throws FCException
 	{
-		Logger appLogger = mAppCtx.getLogger(this, "visualizeToString");
+		Logger appLogger = mAppCtx.getLogger(this, "levelOfDetail");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-// Generate our HTML web page that will visualize the graph
+		int nodeBudget = NumberUtils.toInt(anOptionsDoc.getValueByName("lod_node_budget"), LOD_NODE_BUDGET_DEFAULT);
+		GraphSampler graphSampler = new GraphSampler(mAppCtx);
+		DataGraph dataGraph = graphSampler.sample(aDataGraph, nodeBudget, GraphSampler.toStrategy(anOptionsDoc.getValueByName("lod_strategy")));
 
-		StringWriter stringWriter = new StringWriter();
-		PrintWriter pw = new PrintWriter(stringWriter);
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
-		pw.printf("<!DOCTYPE html>%n");
-		pw.printf("<html lang=\"en\">%n");
-		pw.printf(" <head>%n");
-		pw.printf(String.format("  <title>%s</title>%n", anOptionsDoc.getValueByName("graph_title")));
-		pw.printf(String.format("  <script type=\"text/javascript\" src=\"%s\"></script>%n", anOptionsDoc.getValueByName("ui_js_url")));
-		pw.printf("  <style type=\"text/css\">%n");
-		pw.printf("   #rwgraph {%n");
-		pw.printf(String.format("    width: %s;%n", anOptionsDoc.getValueByName("ui_width")));
-		pw.printf(String.format("    height: %s;%n", anOptionsDoc.getValueByName("ui_height")));
-		pw.printf(String.format("    border: %s;%n", anOptionsDoc.getValueByName("ui_border")));
-		pw.printf("   }%n");
-		pw.printf("  </style>%n");
-		pw.printf(" </head>%n");
-		pw.printf(" <body>%n");
-		pw.printf("  <div id=\"rwgraph\"></div>%n");
-		pw.printf("  <script type=\"text/javascript\">%n");
-		pw.printf("   const width  = window.innerWidth || document.documentElement.clientWidth || document.body.clientWidth;%n");
-		pw.printf("   const height = window.innerHeight|| document.documentElement.clientHeight|| document.body.clientHeight;%n");
-		pw.printf("   console.log(\"Window width, height (pixels): \" + width + \", \" + height);%n");
-		pw.printf("   var rwNodes = new vis.DataSet([%n");
-		generateVertexes(aDataGraph, pw, anOptionsDoc);
-		pw.printf("     ]);%n");
-		pw.printf("   var rwEdges = new vis.DataSet([%n");
-		generateEdges(aDataGraph, pw, anOptionsDoc);
-		pw.printf("     ]);%n");
-		pw.printf("  var rwContainer = document.getElementById(\"rwgraph\");%n");
-		pw.printf("  var rwData = { nodes: rwNodes, edges: rwEdges};%n");
+		return dataGraph;
+	}
+
+	private void visualizeHeader(PrintWriter aPW, DataDoc anOptionsDoc)
+	{
+		aPW.printf("<!DOCTYPE html>%n");
+		aPW.printf("<html lang=\"en\">%n");
+		aPW.printf(" <head>%n");
+		aPW.printf(String.format("  <title>%s</title>%n", anOptionsDoc.getValueByName("graph_title")));
+		aPW.printf(String.format("  <script type=\"text/javascript\" src=\"%s\"></script>%n", anOptionsDoc.getValueByName("ui_js_url")));
+		aPW.printf("  <style type=\"text/css\">%n");
+		aPW.printf("   #rwgraph {%n");
+		aPW.printf(String.format("    width: %s;%n", anOptionsDoc.getValueByName("ui_width")));
+		aPW.printf(String.format("    height: %s;%n", anOptionsDoc.getValueByName("ui_height")));
+		aPW.printf(String.format("    border: %s;%n", anOptionsDoc.getValueByName("ui_border")));
+		aPW.printf("   }%n");
+		aPW.printf("  </style>%n");
+		aPW.printf(" </head>%n");
+		aPW.printf(" <body>%n");
+		aPW.printf("  <div id=\"rwgraph\"></div>%n");
+		aPW.printf("  <script type=\"text/javascript\">%n");
+		aPW.printf("   const width  = window.innerWidth || document.documentElement.clientWidth || document.body.clientWidth;%n");
+		aPW.printf("   const height = window.innerHeight|| document.documentElement.clientHeight|| document.body.clientHeight;%n");
+		aPW.printf("   console.log(\"Window width, height (pixels): \" + width + \", \" + height);%n");
+	}
+
+	private void visualizeFooter(PrintWriter aPW, DataDoc anOptionsDoc)
+	{
+		aPW.printf("  var rwContainer = document.getElementById(\"rwgraph\");%n");
+		aPW.printf("  var rwData = { nodes: rwNodes, edges: rwEdges};%n");
 		if (Data.isValueTrue(anOptionsDoc.getValueByName("is_hierarchical")))
-			pw.printf("  var rwOptions = {layout:{ hierarchical: true }};%n");
+			aPW.printf("  var rwOptions = {layout:{ hierarchical: true }};%n");
 		else
-			pw.printf("  var rwOptions = {};%n");
-		pw.printf("  var rwNetwork = new vis.Network(rwContainer, rwData, rwOptions);%n");
-		pw.printf("  </script>%n");
-		pw.printf(" </body>%n");
-		pw.printf("</html>%n");
+			aPW.printf("  var rwOptions = {};%n");
+		aPW.printf("  var rwNetwork = new vis.Network(rwContainer, rwData, rwOptions);%n");
+		aPW.printf("  </script>%n");
+		aPW.printf(" </body>%n");
+		aPW.printf("</html>%n");
+		aPW.flush();
+	}
+
+	/**
+	 * Writes an HTML document containing the graph visualization logic to
+	 * the print writer stream.  The vertexes and edges are written as they
+	 * are generated, so the document is never materialized in memory.  This
+	 * HTML document can be rendered in any modern browser.
+	 *
+	 * @param aPW Print writer stream
+	 * @param aDataGraph Data graph instance
+	 * @param anOptionsDoc Graph configuration options data document
+	 *
+	 * @throws FCException Redis Labs exception
+	 */
+	public void visualize(PrintWriter aPW, DataGraph aDataGraph, DataDoc anOptionsDoc)
+		throws FCException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "visualize");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+// Generate our HTML web page that will visualize the graph
+
+		visualizeHeader(aPW, anOptionsDoc);
+		aPW.printf("   var rwNodes = new vis.DataSet([%n");
+		generateVertexes(aDataGraph, aPW, anOptionsDoc);
+		aPW.printf("     ]);%n");
+		aPW.printf("   var rwEdges = new vis.DataSet([%n");
+		generateEdges(aDataGraph, aPW, anOptionsDoc);
+		aPW.printf("     ]);%n");
+		visualizeFooter(aPW, anOptionsDoc);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
+	/**
+	 * Generates an HTML document (as a string) containing the graph visualization
+	 * logic. This HTML document can be rendered in any modern browser.
+	 *
+	 * @param aDataGraph Data graph instance
+	 * @param anOptionsDoc Graph configuration options data document
+	 *
+	 * @return HTML document string
+	 *
+	 * @throws FCException Redis Labs exception
+	 */
+	public String visualizeToString(DataGraph aDataGraph, DataDoc anOptionsDoc)
+		throws FCException
+	{
+		StringWriter stringWriter = new StringWriter();
+		PrintWriter pw = new PrintWriter(stringWriter);
+		visualize(pw, aDataGraph, anOptionsDoc);
 
 		return stringWriter.toString();
 	}
@@ -2594,6 +2655,41 @@ public class GraphDS
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
+	/**
+	 * Writes an HTML document containing the graph visualization logic to
+	 * the print writer stream. This method will highlight any portion of the
+	 * graph that matches the data graph instance provided as a parameter.
+	 * This HTML document can be rendered in any modern browser.
+	 *
+	 * @param aPW Print writer stream
+	 * @param aCompleteDataGraph Data graph instance of complete graph
+	 * @param aMatchedDataGraph Data graph instance that should be matched
+	 * @param anOptionsDoc Graph configuration options data document
+	 *
+	 * @throws FCException Redis Labs exception
+	 */
+	public void visualize(PrintWriter aPW, DataGraph aCompleteDataGraph, DataGraph aMatchedDataGraph, DataDoc anOptionsDoc)
+		throws FCException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "visualize");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+// Generate our HTML web page that will visualize the graph
+
+		anOptionsDoc.setValueByName("is_matched", true);
+		visualizeHeader(aPW, anOptionsDoc);
+		aPW.printf("   var rwNodes = new vis.DataSet([%n");
+		generateVertexes(aPW, aCompleteDataGraph, aMatchedDataGraph, anOptionsDoc);
+		aPW.printf("     ]);%n");
+		aPW.printf("   var rwEdges = new vis.DataSet([%n");
+		generateEdges(aPW, aCompleteDataGraph, aMatchedDataGraph, anOptionsDoc);
+		aPW.printf("     ]);%n");
+		visualizeFooter(aPW, anOptionsDoc);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
 	/**
 	 * Generates an HTML document (as a string) containing the graph visualization
 	 * logic. This method will highlight any portion of the graph that matches
@@ -2611,53 +2707,9 @@ public class GraphDS
 	public String visualizeToString(DataGraph aCompleteDataGraph, DataGraph aMatchedDataGraph, DataDoc anOptionsDoc)
 		throws FCException
 	{
-		Logger appLogger = mAppCtx.getLogger(this, "visualizeToString");
-
-		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
-
-// Generate our HTML web page that will visualize the graph
-
-		anOptionsDoc.setValueByName("is_matched", true);
 		StringWriter stringWriter = new StringWriter();
 		PrintWriter pw = new PrintWriter(stringWriter);
-
-		pw.printf("<!DOCTYPE html>%n");
-		pw.printf("<html lang=\"en\">%n");
-		pw.printf(" <head>%n");
-		pw.printf(String.format("  <title>%s</title>%n", anOptionsDoc.getValueByName("graph_title")));
-		pw.printf(String.format("  <script type=\"text/javascript\" src=\"%s\"></script>%n", anOptionsDoc.getValueByName("ui_js_url")));
-		pw.printf("  <style type=\"text/css\">%n");
-		pw.printf("   #rwgraph {%n");
-		pw.printf(String.format("    width: %s;%n", anOptionsDoc.getValueByName("ui_width")));
-		pw.printf(String.format("    height: %s;%n", anOptionsDoc.getValueByName("ui_height")));
-		pw.printf(String.format("    border: %s;%n", anOptionsDoc.getValueByName("ui_border")));
-		pw.printf("   }%n");
-		pw.printf("  </style>%n");
-		pw.printf(" </head>%n");
-		pw.printf(" <body>%n");
-		pw.printf("  <div id=\"rwgraph\"></div>%n");
-		pw.printf("  <script type=\"text/javascript\">%n");
-		pw.printf("   const width  = window.innerWidth || document.documentElement.clientWidth || document.body.clientWidth;%n");
-		pw.printf("   const height = window.innerHeight|| document.documentElement.clientHeight|| document.body.clientHeight;%n");
-		pw.printf("   console.log(\"Window width, height (pixels): \" + width + \", \" + height);%n");
-		pw.printf("   var rwNodes = new vis.DataSet([%n");
-		generateVertexes(pw, aCompleteDataGraph, aMatchedDataGraph, anOptionsDoc);
-		pw.printf("     ]);%n");
-		pw.printf("   var rwEdges = new vis.DataSet([%n");
-		generateEdges(pw, aCompleteDataGraph, aMatchedDataGraph, anOptionsDoc);
-		pw.printf("     ]);%n");
-		pw.printf("  var rwContainer = document.getElementById(\"rwgraph\");%n");
-		pw.printf("  var rwData = { nodes: rwNodes, edges: rwEdges};%n");
-		if (Data.isValueTrue(anOptionsDoc.getValueByName("is_hierarchical")))
-			pw.printf("  var rwOptions = {layout:{ hierarchical: true }};%n");
-		else
-			pw.printf("  var rwOptions = {};%n");
-		pw.printf("  var rwNetwork = new vis.Network(rwContainer, rwData, rwOptions);%n");
-		pw.printf("  </script>%n");
-		pw.printf(" </body>%n");
-		pw.printf("</html>%n");
-
-		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+		visualize(pw, aCompleteDataGraph, aMatchedDataGraph, anOptionsDoc);
 
 		return stringWriter.toString();
 	}
@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.ds.ds_graph;
+
+import com.redis.foundation.app.AppCtx;
+import com.redis.foundation.data.DataDoc;
+import com.redis.foundation.data.DataGraph;
+import com.redis.foundation.data.DataGraphEdge;
+import com.redis.foundation.std.FCException;
+import org.slf4j.Logger;
+
+import java.util.*;
+
+/**
+ * The GraphSampler class reduces a data graph to a level of detail
+ * that a browser based visualization can render.  Vertexes are
+ * retained up to a node budget and only the edges connecting the
+ * retained vertexes are carried over to the sampled graph.
+ * <p>
+ * The <i>Degree</i> strategy retains the most connected vertexes.
+ * The <i>Community</i> strategy first detects communities via label
+ * propagation and then distributes the node budget across them in
+ * proportion to their size, so smaller clusters remain visible.
+ * </p>
+ * <p>
+ * Vertexes are tracked by identity since data document equality is
+ * based on a content hash that is expensive to compute for large graphs.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class GraphSampler
+{
+	public enum Strategy
+	{
+		Degree, Community
+	}
+
+	private final int LABEL_PROPAGATION_PASSES = 10;
+
+	private final AppCtx mAppCtx;
+
+	/**
+	 * Constructor accepts an application context.
+	 *
+	 * @param anAppCtx Application context
+	 */
+	public GraphSampler(AppCtx anAppCtx)
+	{
+		mAppCtx = anAppCtx;
+	}
+
+	/**
+	 * Converts a strategy name (e.g. from a visualization options document)
+	 * into its enumerated value.  Unknown names default to <i>Degree</i>.
+	 *
+	 * @param aName Strategy name
+	 *
+	 * @return Strategy enumerated value
+	 */
+	public static Strategy toStrategy(String aName)
+	{
+		if ("community".equalsIgnoreCase(aName))
+			return Strategy.Community;
+		else
+			return Strategy.Degree;
+	}
+
+	private List<DataDoc> retainByDegree(List<DataDoc> aVertexList, int[] aDegrees, int aNodeBudget)
+	{
+		Integer[] vertexOrder = new Integer[aVertexList.size()];
+		for (int offset = 0; offset < vertexOrder.length; offset++)
+			vertexOrder[offset] = offset;
+		Arrays.sort(vertexOrder, (v1, v2) -> Integer.compare(aDegrees[v2], aDegrees[v1]));
+
+		ArrayList<DataDoc> retainedList = new ArrayList<>(aNodeBudget);
+		for (int offset = 0; offset < aNodeBudget; offset++)
+			retainedList.add(aVertexList.get(vertexOrder[offset]));
+
+		return retainedList;
+	}
+
+	private int[] detectCommunities(int[][] anAdjacency, int[] aDegrees)
+	{
+		int vertexCount = anAdjacency.length;
+		int[] communityLabels = new int[vertexCount];
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			communityLabels[vertex] = vertex;
+
+// Visit the vertexes from most to least connected so the labels of hub vertexes spread first.
+
+		Integer[] visitOrder = new Integer[vertexCount];
+		for (int offset = 0; offset < vertexCount; offset++)
+			visitOrder[offset] = offset;
+		Arrays.sort(visitOrder, (v1, v2) -> Integer.compare(aDegrees[v2], aDegrees[v1]));
+
+		HashMap<Integer, Integer> labelCounts = new HashMap<>();
+		for (int pass = 0; pass < LABEL_PROPAGATION_PASSES; pass++)
+		{
+			boolean isChanged = false;
+			for (int vertex : visitOrder)
+			{
+				if (anAdjacency[vertex].length == 0)
+					continue;
+				labelCounts.clear();
+				int bestLabel = communityLabels[vertex];
+				int bestCount = 0;
+				for (int neighbor : anAdjacency[vertex])
+				{
+					int label = communityLabels[neighbor];
+					int labelCount = labelCounts.merge(label, 1, Integer::sum);
+					if ((labelCount > bestCount) || ((labelCount == bestCount) && (label < bestLabel)))
+					{
+						bestLabel = label;
+						bestCount = labelCount;
+					}
+				}
+				if (bestLabel != communityLabels[vertex])
+				{
+					communityLabels[vertex] = bestLabel;
+					isChanged = true;
+				}
+			}
+			if (! isChanged)
+				break;
+		}
+
+		return communityLabels;
+	}
+
+	private List<DataDoc> retainByCommunity(List<DataDoc> aVertexList, int[][] anAdjacency, int[] aDegrees, int aNodeBudget)
+	{
+		int[] communityLabels = detectCommunities(anAdjacency, aDegrees);
+
+		HashMap<Integer, ArrayList<Integer>> communityMap = new HashMap<>();
+		for (int vertex = 0; vertex < communityLabels.length; vertex++)
+			communityMap.computeIfAbsent(communityLabels[vertex], k -> new ArrayList<>()).add(vertex);
+		ArrayList<ArrayList<Integer>> communityList = new ArrayList<>(communityMap.values());
+		communityList.sort((c1, c2) -> Integer.compare(c2.size(), c1.size()));
+
+// Every community gets a share of the budget proportional to its size (at least one vertex
+// while the budget lasts) and contributes its most connected vertexes.
+
+		int vertexCount = aVertexList.size();
+		ArrayList<DataDoc> retainedList = new ArrayList<>(aNodeBudget);
+		for (ArrayList<Integer> community : communityList)
+		{
+			int remainingBudget = aNodeBudget - retainedList.size();
+			if (remainingBudget <= 0)
+				break;
+			int communityBudget = (int) Math.max(1L, ((long) community.size() * aNodeBudget) / vertexCount);
+			communityBudget = Math.min(Math.min(communityBudget, community.size()), remainingBudget);
+			community.sort((v1, v2) -> Integer.compare(aDegrees[v2], aDegrees[v1]));
+			for (int offset = 0; offset < communityBudget; offset++)
+				retainedList.add(aVertexList.get(community.get(offset)));
+		}
+
+		return retainedList;
+	}
+
+	/**
+	 * Samples the data graph down to the node budget using the strategy
+	 * specified.  If the graph is already within the node budget, then
+	 * it is returned as is.
+	 *
+	 * @param aDataGraph Data graph instance
+	 * @param aNodeBudget Maximum number of vertexes to retain
+	 * @param aStrategy Sampling strategy
+	 *
+	 * @return Data graph instance within the node budget
+	 *
+	 * @throws FCException Redis Labs exception
+	 */
+	public DataGraph sample(DataGraph aDataGraph, int aNodeBudget, Strategy aStrategy)
+		throws FCException
+	{
+		DataDoc srcVertexDoc, dstVertexDoc;
+		Integer srcVertex, dstVertex;
+		List<DataDoc> retainedList;
+		Logger appLogger = mAppCtx.getLogger(this, "sample");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		Set<DataDoc> vertexDocSet = aDataGraph.getVertexDocSet();
+		int vertexCount = vertexDocSet.size();
+		if ((aNodeBudget <= 0) || (vertexCount <= aNodeBudget))
+		{
+			appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+			return aDataGraph;
+		}
+
+// Index the vertexes and build an undirected adjacency list in a single pass over the edges.
+
+		ArrayList<DataDoc> vertexList = new ArrayList<>(vertexDocSet);
+		IdentityHashMap<DataDoc, Integer> vertexIndexMap = new IdentityHashMap<>(vertexCount);
+		for (int vertex = 0; vertex < vertexCount; vertex++)
+			vertexIndexMap.put(vertexList.get(vertex), vertex);
+		int[] degrees = new int[vertexCount];
+		Set<DataGraphEdge> edgeSet = aDataGraph.getEdgeSet();
+		ArrayList<int[]> edgeEndpoints = new ArrayList<>(edgeSet.size());
+		for (DataGraphEdge dge : edgeSet)
+		{
+			srcVertex = vertexIndexMap.get(aDataGraph.getEdgeDocSource(dge));
+			dstVertex = vertexIndexMap.get(aDataGraph.getEdgeDocDestination(dge));
+			if ((srcVertex != null) && (dstVertex != null))
+			{
+				degrees[srcVertex]++;
+				degrees[dstVertex]++;
+				edgeEndpoints.add(new int[] {srcVertex, dstVertex});
+			}
+		}
+
+		if (aStrategy == Strategy.Community)
+		{
+			int[][] adjacency = new int[vertexCount][];
+			int[] adjacencyOffsets = new int[vertexCount];
+			for (int vertex = 0; vertex < vertexCount; vertex++)
+				adjacency[vertex] = new int[degrees[vertex]];
+			for (int[] endpoints : edgeEndpoints)
+			{
+				adjacency[endpoints[0]][adjacencyOffsets[endpoints[0]]++] = endpoints[1];
+				adjacency[endpoints[1]][adjacencyOffsets[endpoints[1]]++] = endpoints[0];
+			}
+			retainedList = retainByCommunity(vertexList, adjacency, degrees, aNodeBudget);
+		}
+		else
+			retainedList = retainByDegree(vertexList, degrees, aNodeBudget);
+
+// Assemble the sampled graph from the retained vertexes and the edges between them.
+
+		DataGraph sampledGraph = new DataGraph(aDataGraph.getName(), aDataGraph.getStructure(), aDataGraph.getDataModel());
+		sampledGraph.setFeatures(aDataGraph.getFeatures());
+		Set<DataDoc> retainedSet = Collections.newSetFromMap(new IdentityHashMap<>(retainedList.size()));
+		for (DataDoc dataDoc : retainedList)
+		{
+			sampledGraph.addVertex(dataDoc);
+			retainedSet.add(dataDoc);
+		}
+		int edgeCount = 0;
+		for (DataGraphEdge dge : edgeSet)
+		{
+			srcVertexDoc = aDataGraph.getEdgeDocSource(dge);
+			dstVertexDoc = aDataGraph.getEdgeDocDestination(dge);
+			if ((retainedSet.contains(srcVertexDoc)) && (retainedSet.contains(dstVertexDoc)))
+			{
+				sampledGraph.addEdge(srcVertexDoc, dstVertexDoc, dge.getDoc());
+				edgeCount++;
+			}
+		}
+		appLogger.debug(String.format("%s: Sampled %d of %d vertexes and %d of %d edges (%s).", aDataGraph.getName(),
+									  retainedList.size(), vertexCount, edgeCount, edgeSet.size(), aStrategy.name()));
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return sampledGraph;
+	}
+}
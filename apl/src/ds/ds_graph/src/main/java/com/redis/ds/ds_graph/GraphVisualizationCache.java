@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.ds.ds_graph;
+
+import com.redis.foundation.data.DataDoc;
+import com.redis.foundation.data.DataItem;
+import com.redis.foundation.std.StrUtl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+
+/**
+ * The GraphVisualizationCache class retains rendered graph visualization
+ * payloads so repeated requests for an unchanged graph can be served
+ * without querying and rendering the graph again.
+ * <p>
+ * Payloads are keyed by the graph name, a graph version that changes
+ * whenever the graph is updated and the visualization options.  The
+ * cache is bounded by entry count (least recently used entries are
+ * evicted first) and by payload size.  All methods are thread-safe,
+ * so a single instance can be shared across servlet requests.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class GraphVisualizationCache
+{
+	public static final int CACHE_ENTRIES_DEFAULT = 16;
+	public static final int PAYLOAD_LIMIT_DEFAULT = 8 * 1024 * 1024;
+
+	private final int mMaxPayloadBytes;
+	private final LinkedHashMap<String, byte[]> mPayloadMap;
+
+	/**
+	 * Default constructor that uses the default entry and payload limits.
+	 */
+	public GraphVisualizationCache()
+	{
+		this(CACHE_ENTRIES_DEFAULT, PAYLOAD_LIMIT_DEFAULT);
+	}
+
+	/**
+	 * Constructor accepts entry and payload limits.
+	 *
+	 * @param aMaxEntries Maximum number of payloads retained
+	 * @param aMaxPayloadBytes Maximum size of a single payload in bytes
+	 */
+	public GraphVisualizationCache(int aMaxEntries, int aMaxPayloadBytes)
+	{
+		mMaxPayloadBytes = aMaxPayloadBytes;
+		mPayloadMap = new LinkedHashMap<>(aMaxEntries + 1, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, byte[]> anEldest)
+			{
+				return size() > aMaxEntries;
+			}
+		};
+	}
+
+	/**
+	 * Creates a cache key from the graph name, graph version and the
+	 * visualization options.  The options are ordered by name, so the
+	 * key does not depend on the order they were assigned in.
+	 *
+	 * @param aGraphName Name of the graph
+	 * @param aVersion Graph version
+	 * @param anOptionsDoc Graph configuration options data document
+	 *
+	 * @return Cache key string
+	 */
+	public static String createKey(String aGraphName, long aVersion, DataDoc anOptionsDoc)
+	{
+		TreeMap<String, String> optionsMap = new TreeMap<>();
+		for (DataItem dataItem : anOptionsDoc.getItems())
+			optionsMap.put(dataItem.getName(), dataItem.getValue());
+
+		StringBuilder stringBuilder = new StringBuilder(String.format("%s%c%d", aGraphName, StrUtl.CHAR_PIPE, aVersion));
+		optionsMap.forEach((k, v) -> stringBuilder.append(StrUtl.CHAR_PIPE).append(k).append('=').append(v));
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Returns the payload assigned to the cache key.
+	 *
+	 * @param aKey Cache key
+	 *
+	 * @return Optional payload
+	 */
+	public synchronized Optional<byte[]> get(String aKey)
+	{
+		return Optional.ofNullable(mPayloadMap.get(aKey));
+	}
+
+	/**
+	 * Assigns the payload to the cache key.  Payloads that exceed the
+	 * payload limit are not retained.
+	 *
+	 * @param aKey Cache key
+	 * @param aPayload Rendered payload
+	 */
+	public synchronized void put(String aKey, byte[] aPayload)
+	{
+		if ((aPayload != null) && (aPayload.length <= mMaxPayloadBytes))
+			mPayloadMap.put(aKey, aPayload);
+	}
+
+	/**
+	 * Removes all payloads rendered for the graph name.
+	 *
+	 * @param aGraphName Name of the graph
+	 */
+	public synchronized void invalidate(String aGraphName)
+	{
+		String keyPrefix = aGraphName + StrUtl.CHAR_PIPE;
+		mPayloadMap.keySet().removeIf(k -> k.startsWith(keyPrefix));
+	}
+
+	/**
+	 * Removes all payloads from the cache.
+	 */
+	public synchronized void clear()
+	{
+		mPayloadMap.clear();
+	}
+
+	/**
+	 * Returns the count of payloads in the cache.
+	 *
+	 * @return Count of payloads
+	 */
+	public synchronized int count()
+	{
+		return mPayloadMap.size();
+	}
+
+	/**
+	 * Wraps the output stream so that the bytes written to it are also
+	 * captured.  When the returned stream is closed, the captured payload
+	 * is assigned to the cache key, provided it stayed within the payload
+	 * limit.  If the stream is never closed (e.g. rendering failed), then
+	 * nothing is cached.
+	 *
+	 * @param aKey Cache key
+	 * @param anOS Output stream the payload is written to
+	 *
+	 * @return Output stream instance
+	 */
+	public OutputStream capture(String aKey, OutputStream anOS)
+	{
+		return new CaptureOutputStream(aKey, anOS);
+	}
+
+	private class CaptureOutputStream extends FilterOutputStream
+	{
+		private final String mKey;
+		private boolean mIsClosed;
+		private ByteArrayOutputStream mPayloadOS = new ByteArrayOutputStream();
+
+		CaptureOutputStream(String aKey, OutputStream anOS)
+		{
+			super(anOS);
+			mKey = aKey;
+		}
+
+		private void capture(byte[] aBuffer, int anOffset, int aLength)
+		{
+			if (mPayloadOS != null)
+			{
+				if (mPayloadOS.size() + aLength > mMaxPayloadBytes)
+					mPayloadOS = null;
+				else
+					mPayloadOS.write(aBuffer, anOffset, aLength);
+			}
+		}
+
+		@Override
+		public void write(int aByte)
+			throws IOException
+		{
+			write(new byte[] {(byte) aByte}, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] aBuffer, int anOffset, int aLength)
+			throws IOException
+		{
+			try
+			{
+				out.write(aBuffer, anOffset, aLength);
+			}
+			catch (IOException e)
+			{
+				mPayloadOS = null;
+				throw e;
+			}
+			capture(aBuffer, anOffset, aLength);
+		}
+
+		@Override
+		public void close()
+			throws IOException
+		{
+			if (! mIsClosed)
+			{
+				mIsClosed = true;
+				super.close();
+				if (mPayloadOS != null)
+					put(mKey, mPayloadOS.toByteArray());
+			}
+		}
+	}
+}
@@ -31,8 +31,11 @@ import org.junit.Test;
 import org.xml.sax.SAXException;
 
 import javax.xml.parsers.ParserConfigurationException;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Optional;
 
@@ -295,6 +298,50 @@ public class GraphDSTest
         dataGridConsole.write(edgeDataGrid, printWriter, "Analyze Edges Data Grid", 40, 1);
     }
 
+    public void exerciseLevelOfDetail()
+        throws FCException, IOException, ParserConfigurationException, SAXException
+    {
+        String graphPathFileName = "data/graph_movies_data.csv";
+        String edgeSchemaPathFileName = "data/graph_movies_edge_schema.xml";
+        String vertexSchemaPathFileName = "data/graph_movies_vertex_schema.xml";
+
+        GraphDS graphDS = new GraphDS(mAppCtx, "Movie Graph");
+        graphDS.loadFromCSV(vertexSchemaPathFileName, edgeSchemaPathFileName, graphPathFileName);
+        DataGraph dataGraph = graphDS.createDataGraph(GRAPH_DB_NAME);
+        int vertexCount = dataGraph.getVertexDocSet().size();
+        int nodeBudget = vertexCount / 2;
+
+        DataDoc graphOptionsDoc = graphDS.createOptionsDefault();
+        Assert.assertSame(dataGraph, graphDS.levelOfDetail(dataGraph, graphOptionsDoc));
+        graphOptionsDoc.setValueByName("lod_node_budget", nodeBudget);
+        DataGraph degreeGraph = graphDS.levelOfDetail(dataGraph, graphOptionsDoc);
+        Assert.assertEquals(nodeBudget, degreeGraph.getVertexDocSet().size());
+        Assert.assertTrue(degreeGraph.getEdgeSet().size() <= dataGraph.getEdgeSet().size());
+        graphOptionsDoc.setValueByName("lod_strategy", "community");
+        DataGraph communityGraph = graphDS.levelOfDetail(dataGraph, graphOptionsDoc);
+        Assert.assertTrue(communityGraph.getVertexDocSet().size() <= nodeBudget);
+        Assert.assertFalse(communityGraph.getVertexDocSet().isEmpty());
+
+        GraphVisualizationCache graphVisualizationCache = new GraphVisualizationCache(2, 1024 * 1024);
+        String cacheKey = GraphVisualizationCache.createKey(GRAPH_DB_NAME, 1L, graphOptionsDoc);
+        Assert.assertFalse(graphVisualizationCache.get(cacheKey).isPresent());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        PrintWriter printWriter = new PrintWriter(new OutputStreamWriter(graphVisualizationCache.capture(cacheKey, byteArrayOutputStream), StandardCharsets.UTF_8));
+        graphDS.visualize(printWriter, communityGraph, graphOptionsDoc);
+        printWriter.close();
+        Optional<byte[]> optPayload = graphVisualizationCache.get(cacheKey);
+        Assert.assertTrue(optPayload.isPresent());
+        Assert.assertArrayEquals(byteArrayOutputStream.toByteArray(), optPayload.get());
+        Assert.assertEquals(graphDS.visualizeToString(communityGraph, graphOptionsDoc), new String(optPayload.get(), StandardCharsets.UTF_8));
+
+        graphVisualizationCache.put(GraphVisualizationCache.createKey(GRAPH_DB_NAME, 2L, graphOptionsDoc), optPayload.get());
+        graphVisualizationCache.put(GraphVisualizationCache.createKey("Other Graph", 1L, graphOptionsDoc), optPayload.get());
+        Assert.assertEquals(2, graphVisualizationCache.count());
+        Assert.assertFalse(graphVisualizationCache.get(cacheKey).isPresent());
+        graphVisualizationCache.invalidate(GRAPH_DB_NAME);
+        Assert.assertEquals(1, graphVisualizationCache.count());
+    }
+
     @Test
     public void exercise()
         throws FCException, IOException, ParserConfigurationException, SAXException
@@ -305,6 +352,7 @@ public class GraphDSTest
         exerciseSimpleVisualization();
         exerciseMatchedUpdatedDeletedVisualization();
         exerciseAnalysis();
+        exerciseLevelOfDetail();
     }
 
     @After
@@ -20,6 +20,7 @@
 package com.redis.ds.ds_grid;
 
 import com.redis.foundation.app.AppCtx;
+import com.redis.foundation.app.TraceSpan;
 import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
 import com.redis.foundation.data.DataGrid;
@@ -33,10 +34,10 @@ import org.slf4j.Logger;
 
 import java.util.*;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toList;
 
 /**
  * This is a helper class for the Grid data source and should not
@@ -911,10 +912,22 @@ public class GridCriteria
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
-	protected DataGrid execute(DataGrid aDataGrid)
+	/**
+	 * Executes the prepared criteria and returns the offsets of the matching
+	 * grid rows rather than a grid of copied rows.  Offset and limit values
+	 * are not applied and the offsets are returned in the order the criteria
+	 * produced them.
+	 *
+	 * @param aDataGrid Data grid instance
+	 *
+	 * @return Array of matching row offsets
+	 *
+	 * @throws DSException Data source related exception
+	 */
+	protected int[] executeRowOffsets(DataGrid aDataGrid)
 		throws DSException
 	{
-		Logger appLogger = mAppCtx.getLogger(this, "execute");
+		Logger appLogger = mAppCtx.getLogger(this, "executeRowOffsets");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 		if (aDataGrid == null)
@@ -922,24 +935,60 @@ public class GridCriteria
 		if (mCriteria == null)
 			throw new DSException("Cannot execute - criteria was not prepared.");
 
-		DataGrid dataGrid = new DataGrid(aDataGrid.getColumns());
-		List<DataDoc> completeDocList = mCriteria.apply(aDataGrid.stream()).collect(toList());
-		int totalRowCount = completeDocList.size();
-		List<DataDoc> trimmedDocList = completeDocList.stream().skip(mOffset).limit(mLimit).collect(toList());
-		trimmedDocList.forEach(dataGrid::addRow);
+// Each row document is tagged with its row offset, so it can be discarded once evaluated.
 
-// Assign result set summary features
-
-		if (totalRowCount == 0)
-			dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, 0);
-		else
-			dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, Math.min(totalRowCount-1, mOffset + mLimit));
-		dataGrid.addFeature(DS.FEATURE_CUR_LIMIT, mLimit);
-		dataGrid.addFeature(DS.FEATURE_CUR_OFFSET, mOffset);
-		dataGrid.addFeature(DS.FEATURE_TOTAL_DOCUMENTS, totalRowCount);
+		Stream<DataDoc> ddStream = IntStream.range(0, aDataGrid.rowCount()).mapToObj(row -> {
+			DataDoc dataDoc = aDataGrid.getRowAsDoc(row);
+			dataDoc.addFeature(DS.FEATURE_ROW_NUMBER, row);
+			return dataDoc;
+		});
+		int[] rowOffsets = mCriteria.apply(ddStream).mapToInt(dd -> dd.getFeatureAsInt(DS.FEATURE_ROW_NUMBER)).toArray();
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
+		return rowOffsets;
+	}
+
+	protected DataGrid execute(DataGrid aDataGrid)
+		throws DSException
+	{
+		DataGrid dataGrid;
+		Logger appLogger = mAppCtx.getLogger(this, "execute");
+
+		try (TraceSpan traceSpan = TraceSpan.enter(appLogger))
+		{
+			if (aDataGrid == null)
+				throw new DSException("Cannot execute - data grid is null.");
+			if (mCriteria == null)
+				throw new DSException("Cannot execute - criteria was not prepared.");
+
+// The matching rows are counted as they stream by and only those within the offset/limit
+// window are retained, so a large grid is never materialized as a list of documents.
+
+			DataDoc dataDoc;
+			int totalRowCount = 0;
+			dataGrid = new DataGrid(aDataGrid.getColumns());
+			long windowEnd = (long) mOffset + mLimit;
+			Iterator<DataDoc> ddIterator = mCriteria.apply(aDataGrid.stream()).iterator();
+			while (ddIterator.hasNext())
+			{
+				dataDoc = ddIterator.next();
+				if ((totalRowCount >= mOffset) && (totalRowCount < windowEnd))
+					dataGrid.addRow(dataDoc);
+				totalRowCount++;
+			}
+
+// Assign result set summary features
+
+			if (totalRowCount == 0)
+				dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, 0);
+			else
+				dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, Math.min(totalRowCount-1, mOffset + mLimit));
+			dataGrid.addFeature(DS.FEATURE_CUR_LIMIT, mLimit);
+			dataGrid.addFeature(DS.FEATURE_CUR_OFFSET, mOffset);
+			dataGrid.addFeature(DS.FEATURE_TOTAL_DOCUMENTS, totalRowCount);
+		}
+
 		return dataGrid;
 	}
 }
@@ -27,7 +27,7 @@ import com.redis.foundation.io.DataGridCSV;
 import com.redis.foundation.io.DataGridConsole;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang.StringUtils;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
 
@@ -36,7 +36,12 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
 
 /**
  * The grid data source manages a row x column grid of
@@ -46,6 +51,17 @@ import java.util.Optional;
  * data values.  This can be a useful data source if your grid
  * size is small in nature and there is sufficient heap space
  * available.
+ * <p>
+ * Concurrent access is snapshot isolated.  Each read operation works
+ * against the version of the grid that was published when it started,
+ * without taking a lock, while write operations are serialized and
+ * publish a new version of the grid that shares the unchanged rows of
+ * the previous one.  Consecutive row writes are applied to a single
+ * working copy of the grid, which is published when it is next read,
+ * so bulk loads do not copy the grid for each row.  A grid that has
+ * been published is never modified by the data source, so readers
+ * never observe a partial write.
+ * </p>
  *
  * @since 1.0
  * @author Al Cole
@@ -56,7 +72,34 @@ public class GridDS
 	protected final int SUGGEST_LIMIT_DEFAULT = 5;
 
 	protected AppCtx mAppCtx;
-	protected DataGrid mDataGrid;
+	private volatile DataGrid mDataGrid;
+	private DataGrid mWorkingGrid;
+	private volatile boolean mIsPending;
+	private volatile long mGeneration;
+	private volatile KeySequence mKeySequence;
+	private final AtomicLong mVersion = new AtomicLong();
+
+// The primary key sequence is bound to the grid generation and key item it was seeded from,
+// so replacing the grid (e.g. loading data) causes it to be seeded again on first use.
+
+	private static final class KeySequence
+	{
+		private final String mItemName;
+		private final long mGeneration;
+		private final AtomicLong mLastKey;
+
+		KeySequence(long aGeneration, String anItemName, long aLastKey)
+		{
+			mGeneration = aGeneration;
+			mItemName = anItemName;
+			mLastKey = new AtomicLong(aLastKey);
+		}
+
+		boolean isBoundTo(long aGeneration, String anItemName)
+		{
+			return (mGeneration == aGeneration) && (mItemName.equals(anItemName));
+		}
+	}
 
 	/**
 	 * Constructs the Grid data source using default application properties.
@@ -103,7 +146,98 @@ public class GridDS
 	@Override
 	public String toString()
 	{
-		return mDataGrid.toString();
+		return snapshot().toString();
+	}
+
+// Writers hold the instance lock while they derive and publish a new version of the grid,
+// so the volatile assignment in publish() is the only point where readers see a change.
+
+	private void publish(DataGrid aDataGrid)
+	{
+		mWorkingGrid = null;
+		mDataGrid = aDataGrid;
+		mIsPending = false;
+		mVersion.incrementAndGet();
+	}
+
+	private void replace(DataGrid aDataGrid)
+	{
+		mGeneration++;
+		publish(aDataGrid);
+	}
+
+// Row writes (add, update and delete) are applied in place to a private working copy of the
+// grid that is only created by the first write after a read, so a run of writes shares one
+// copy of the row list instead of copying it per write.  The working copy is marked pending
+// and handed to readers by snapshot() the next time the grid is read.
+
+	private DataGrid workingGrid()
+	{
+		if (mWorkingGrid == null)
+			mWorkingGrid = mDataGrid.shallowCopy();
+
+		return mWorkingGrid;
+	}
+
+	private DataGrid currentGrid()
+	{
+		DataGrid dataGrid = mWorkingGrid;
+		if (dataGrid == null)
+			dataGrid = mDataGrid;
+
+		return dataGrid;
+	}
+
+	private void publishPending()
+	{
+		mIsPending = true;
+		mVersion.incrementAndGet();
+	}
+
+	/**
+	 * Returns the currently published version of the internally managed
+	 * data grid, first publishing any row writes that are pending.  The
+	 * grid is a consistent snapshot that later writes will not change.
+	 *
+	 * @return Data grid instance
+	 */
+	protected DataGrid snapshot()
+	{
+		if (mIsPending)
+		{
+			synchronized (this)
+			{
+				if (mIsPending)
+				{
+					mDataGrid = mWorkingGrid;
+					mWorkingGrid = null;
+					mIsPending = false;
+				}
+			}
+		}
+
+		return mDataGrid;
+	}
+
+	private DataGrid copyWithSchema(DataGrid aDataGrid)
+	{
+		DataGrid dataGrid = aDataGrid.shallowCopy();
+		dataGrid.setColumns(new DataDoc(aDataGrid.getColumns()));
+		dataGrid.setName(aDataGrid.getName());
+
+		return dataGrid;
+	}
+
+	/**
+	 * Returns the version of the data grid.  The version is incremented
+	 * each time a write operation publishes a new version of the grid,
+	 * so an unchanged value means that no write has happened since.
+	 *
+	 * @return Data grid version
+	 */
+	public long getVersion()
+	{
+		return mVersion.get();
 	}
 
 	/**
@@ -113,7 +247,7 @@ public class GridDS
 	 */
 	public String createSchemaFileName()
 	{
-		String fileName = StrUtl.removeAllChar(mDataGrid.getName().toLowerCase(), StrUtl.CHAR_SPACE);
+		String fileName = StrUtl.removeAllChar(snapshot().getName().toLowerCase(), StrUtl.CHAR_SPACE);
 		return String.format("ds_schema_%s.xml", fileName);
 	}
 
@@ -140,7 +274,7 @@ public class GridDS
 	 */
 	public String createSmartClientPathFileName(String aPathName)
 	{
-		String dsName = StrUtl.removeAllChar(mDataGrid.getName().toLowerCase(), StrUtl.CHAR_SPACE);
+		String dsName = StrUtl.removeAllChar(snapshot().getName().toLowerCase(), StrUtl.CHAR_SPACE);
 		return String.format("%s%c%s.ds.xml", aPathName, File.separatorChar, dsName);
 	}
 
@@ -159,7 +293,7 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		DataDocXML dataDocXML = new DataDocXML(mDataGrid.getColumns());
+		DataDocXML dataDocXML = new DataDocXML(snapshot().getColumns());
 		dataDocXML.save(aPathFileName);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -188,10 +322,15 @@ public class GridDS
 		DataDocXML dataDocXML = new DataDocXML();
 		dataDocXML.load(aPathFileName);
 		DataDoc schemaDoc = dataDocXML.getDataDoc();
-		mDataGrid.emptyAll();
-		if (StringUtils.isEmpty(schemaDoc.getName()))
-			schemaDoc.setName(mDataGrid.getName());
-		mDataGrid.setColumns(dataDocXML.getDataDoc());
+		synchronized (this)
+		{
+			DataGrid dataGrid = currentGrid().shallowCopy();
+			dataGrid.emptyAll();
+			if (StringUtils.isEmpty(schemaDoc.getName()))
+				schemaDoc.setName(dataGrid.getName());
+			dataGrid.setColumns(schemaDoc);
+			replace(dataGrid);
+		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -217,49 +356,53 @@ public class GridDS
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		boolean isOK = false;
-		DataDoc schemaDoc = mDataGrid.getColumns();
-		Optional<DataItem> optDataItem = schemaDoc.getItemByNameOptional(aSchemaDoc.getValueByName("item_name"));
-		if (optDataItem.isPresent())
+		synchronized (this)
 		{
-			DataItem schemaItem = optDataItem.get();
-			schemaItem.clearFeatures();
-			for (DataItem dataItem : aSchemaDoc.getItems())
+			DataGrid dataGrid = copyWithSchema(currentGrid());
+			Optional<DataItem> optDataItem = dataGrid.getColumns().getItemByNameOptional(aSchemaDoc.getValueByName("item_name"));
+			if (optDataItem.isPresent())
 			{
-				itemName = dataItem.getName();
-				if (itemName.equals("item_title"))
-				{
-					schemaItem.setTitle(dataItem.getValue());
-					if (! isOK) isOK = true;
-				}
-				else if (! itemName.startsWith("item_"))
+				DataItem schemaItem = optDataItem.get();
+				schemaItem.clearFeatures();
+				for (DataItem dataItem : aSchemaDoc.getItems())
 				{
-					featureName = dataItem.getName();
-					featureValue = dataItem.getValue();
-					if (featureName.startsWith("is"))
+					itemName = dataItem.getName();
+					if (itemName.equals("item_title"))
+					{
+						schemaItem.setTitle(dataItem.getValue());
+						if (! isOK) isOK = true;
+					}
+					else if (! itemName.startsWith("item_"))
 					{
-						if (Data.isValueTrue(featureValue))
+						featureName = dataItem.getName();
+						featureValue = dataItem.getValue();
+						if (featureName.startsWith("is"))
 						{
-							if ((featureName.equals(Data.FEATURE_IS_SEARCH)) || (featureName.equals(Data.FEATURE_IS_SUGGEST)))
+							if (Data.isValueTrue(featureValue))
 							{
-								if (Data.isText(schemaItem.getType()))
+								if ((featureName.equals(Data.FEATURE_IS_SEARCH)) || (featureName.equals(Data.FEATURE_IS_SUGGEST)))
+								{
+									if (Data.isText(schemaItem.getType()))
+									{
+										schemaItem.addFeature(featureName, featureValue);
+										if (! isOK) isOK = true;
+									}
+								}
+								else
 								{
 									schemaItem.addFeature(featureName, featureValue);
 									if (! isOK) isOK = true;
 								}
 							}
-							else
-							{
-								schemaItem.addFeature(featureName, featureValue);
-								if (! isOK) isOK = true;
-							}
 						}
-					}
-					else
-					{
-						schemaItem.addFeature(featureName, featureValue);
-						if (! isOK) isOK = true;
+						else
+						{
+							schemaItem.addFeature(featureName, featureValue);
+							if (! isOK) isOK = true;
+						}
 					}
 				}
+				publish(dataGrid);
 			}
 		}
 
@@ -290,14 +433,15 @@ public class GridDS
 
 		String pathFileName = createSmartClientPathFileName(aPathName);
 		SmartClientXML smartClientXML = new SmartClientXML();
-		smartClientXML.save(pathFileName, mDataGrid.getColumns());
+		smartClientXML.save(pathFileName, snapshot().getColumns());
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
 	/**
 	 * Loads the data (formatted as a CSV file) into the internal
-	 * data grid.
+	 * data grid.  The loaded rows replace the current ones once the
+	 * file has been fully parsed.
 	 *
 	 * @param aPathFileName CSV path file name
 	 * @param aIsHeaderSchema If <i>true</i>, then the header will parsed as the schema
@@ -316,14 +460,10 @@ public class GridDS
 		if (StringUtils.isNotEmpty(aPathFileName))
 		{
 			if (aIsHeaderSchema)
-			{
-				mDataGrid.emptyAll();
 				dataGridCSV = new DataGridCSV();
-			}
 			else
 			{
-				mDataGrid.emptyRows();
-				DataDoc schemaDoc = mDataGrid.getColumns();
+				DataDoc schemaDoc = snapshot().getColumns();
 				dataGridCSV = new DataGridCSV(schemaDoc);
 				Optional<DataItem> optDataItem = schemaDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
 				if (optDataItem.isEmpty())
@@ -333,8 +473,11 @@ public class GridDS
 			if (optDataGrid.isPresent())
 			{
 				DataGrid dataGrid = optDataGrid.get();
-				dataGrid.setName(mDataGrid.getName());
-				mDataGrid = dataGrid;
+				synchronized (this)
+				{
+					dataGrid.setName(currentGrid().getName());
+					replace(dataGrid);
+				}
 			}
 			else
 				throw new DSException("Unable to load CSV file: " + aPathFileName);
@@ -362,7 +505,7 @@ public class GridDS
 		if (StringUtils.isNotEmpty(aPathFileName))
 		{
 			DataGridCSV dataGridCSV = new DataGridCSV();
-			dataGridCSV.save(mDataGrid, aPathFileName, aIsHeaderSchema);
+			dataGridCSV.save(snapshot(), aPathFileName, aIsHeaderSchema);
 		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -375,7 +518,12 @@ public class GridDS
 	 */
 	public void setName(String aName)
 	{
-		mDataGrid.setName(aName);
+		synchronized (this)
+		{
+			DataGrid dataGrid = copyWithSchema(currentGrid());
+			dataGrid.setName(aName);
+			publish(dataGrid);
+		}
 	}
 
 	/**
@@ -385,7 +533,7 @@ public class GridDS
 	 */
 	public String getName()
 	{
-		return mDataGrid.getName();
+		return snapshot().getName();
 	}
 
 	/**
@@ -395,12 +543,16 @@ public class GridDS
 	 */
 	public void setPrimaryKey(String aName)
 	{
-		DataDoc schemaDoc = mDataGrid.getColumns();
-		Optional<DataItem> optDataItem = schemaDoc.getItemByNameOptional(aName);
-		if (optDataItem.isPresent())
+		synchronized (this)
 		{
-			DataItem dataItem = optDataItem.get();
-			dataItem.enableFeature(Data.FEATURE_IS_PRIMARY);
+			DataGrid dataGrid = copyWithSchema(currentGrid());
+			Optional<DataItem> optDataItem = dataGrid.getColumns().getItemByNameOptional(aName);
+			if (optDataItem.isPresent())
+			{
+				DataItem dataItem = optDataItem.get();
+				dataItem.enableFeature(Data.FEATURE_IS_PRIMARY);
+				publish(dataGrid);
+			}
 		}
 	}
 
@@ -411,7 +563,7 @@ public class GridDS
 	 */
 	public DataDoc getSchema()
 	{
-		return mDataGrid.getColumns();
+		return snapshot().getColumns();
 	}
 
 	/**
@@ -422,17 +574,86 @@ public class GridDS
 	 */
 	public void setDatGrid(DataGrid aDatGrid)
 	{
-		mDataGrid = aDatGrid;
+		synchronized (this)
+		{
+			replace(aDatGrid);
+		}
+	}
+
+	/**
+	 * Removes all rows from the data source while retaining its
+	 * schema and name.
+	 */
+	public void emptyRows()
+	{
+		synchronized (this)
+		{
+			DataGrid dataGrid = currentGrid().shallowCopy();
+			dataGrid.emptyRows();
+			publish(dataGrid);
+		}
+	}
+
+	/**
+	 * Assigns the data document instance as the schema of the
+	 * data source, retaining its rows.  The data source name is
+	 * assigned from the schema name.
+	 *
+	 * @param aSchemaDoc Data document instance
+	 */
+	public void setColumns(DataDoc aSchemaDoc)
+	{
+		synchronized (this)
+		{
+			DataGrid dataGrid = currentGrid().shallowCopy();
+			dataGrid.setColumns(aSchemaDoc);
+			publish(dataGrid);
+		}
+	}
+
+	/**
+	 * Appends the rows of the data grid to the data source as a
+	 * single write operation.  The rows must be derived from the
+	 * schema definition.  If the data source does not have a
+	 * schema yet, then the columns of the data grid are assigned
+	 * as its schema.
+	 *
+	 * @param aDataGrid Data grid instance
+	 */
+	protected void appendRows(DataGrid aDataGrid)
+	{
+		if (aDataGrid.rowCount() > 0)
+		{
+			synchronized (this)
+			{
+				if (currentGrid().getColumns().count() == 0)
+				{
+					DataGrid dataGrid = currentGrid().shallowCopy();
+					dataGrid.setColumns(aDataGrid.getColumns());
+					dataGrid.getRows().addAll(aDataGrid.getRows());
+					publish(dataGrid);
+				}
+				else
+				{
+					workingGrid().getRows().addAll(aDataGrid.getRows());
+					publishPending();
+				}
+			}
+		}
 	}
 
 	/**
-	 * Returns the internally managed data grid instance
+	 * Returns the currently published version of the internally
+	 * managed data grid instance.  The grid is a consistent snapshot
+	 * that later writes will not change, so it must be treated as
+	 * read only - changes to the data source are made via its own
+	 * methods (e.g. setName(), setColumns() or emptyRows()).
 	 *
 	 * @return Data grid instance
 	 */
 	public DataGrid getDataGrid()
 	{
-		return mDataGrid;
+		return snapshot();
 	}
 
 	/**
@@ -450,7 +671,7 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		int rowCount = mDataGrid.rowCount();
+		int rowCount = snapshot().rowCount();
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -472,7 +693,7 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		DataGrid dataGrid = mDataGrid;
+		DataGrid dataGrid = snapshot();
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -501,9 +722,10 @@ public class GridDS
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		DSCriteria dsCriteria = new DSCriteria(String.format("%s Criteria", getName()));
-		GridCriteria gridCriteria = new GridCriteria(mAppCtx, mDataGrid.getColumns());
+		DataGrid gridSnapshot = snapshot();
+		GridCriteria gridCriteria = new GridCriteria(mAppCtx, gridSnapshot.getColumns());
 		gridCriteria.prepare(dsCriteria, anOffset, aLimit);
-		DataGrid dataGrid = gridCriteria.execute(mDataGrid);
+		DataGrid dataGrid = gridCriteria.execute(gridSnapshot);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -528,9 +750,10 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		GridCriteria gridCriteria = new GridCriteria(mAppCtx, mDataGrid.getColumns());
+		DataGrid gridSnapshot = snapshot();
+		GridCriteria gridCriteria = new GridCriteria(mAppCtx, gridSnapshot.getColumns());
 		gridCriteria.prepare(aDSCriteria);
-		DataGrid dataGrid = gridCriteria.execute(mDataGrid);
+		DataGrid dataGrid = gridCriteria.execute(gridSnapshot);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -561,9 +784,10 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		GridCriteria gridCriteria = new GridCriteria(mAppCtx, mDataGrid.getColumns());
+		DataGrid gridSnapshot = snapshot();
+		GridCriteria gridCriteria = new GridCriteria(mAppCtx, gridSnapshot.getColumns());
 		gridCriteria.prepare(aDSCriteria, anOffset, aLimit);
-		DataGrid dataGrid = gridCriteria.execute(mDataGrid);
+		DataGrid dataGrid = gridCriteria.execute(gridSnapshot);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -592,7 +816,8 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		DataDoc schemaDoc = mDataGrid.getColumns();
+		DataGrid gridSnapshot = snapshot();
+		DataDoc schemaDoc = gridSnapshot.getColumns();
 		Optional<DataItem> optDataItem = schemaDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_SUGGEST);
 		if (optDataItem.isEmpty())
 			throw new DSException(String.format("Data Grid is missing data item '%s' feature.", Data.FEATURE_IS_SUGGEST));
@@ -602,7 +827,7 @@ public class GridDS
 		GridCriteria gridCriteria = new GridCriteria(mAppCtx, schemaDoc);
 		dsCriteria.add(new DSCriterion(dataItem.getName(), anOperator, aFragment));
 		gridCriteria.prepare(dsCriteria, 0, aLimit);
-		DataGrid dataGrid = gridCriteria.execute(mDataGrid);
+		DataGrid dataGrid = gridCriteria.execute(gridSnapshot);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -674,7 +899,8 @@ public class GridDS
 		if (StringUtils.isEmpty(aTerms))
 			return fetch(anOffset, aLimit);
 
-		DataDoc schemaDoc = mDataGrid.getColumns();
+		DataGrid gridSnapshot = snapshot();
+		DataDoc schemaDoc = gridSnapshot.getColumns();
 		ArrayList<DataItem> dataItemList = schemaDoc.getItemByFeatureName(Data.FEATURE_IS_SEARCH);
 		if (dataItemList.isEmpty())
 			throw new DSException(String.format("Data Grid is missing data item '%s' feature.", Data.FEATURE_IS_SEARCH));
@@ -687,7 +913,7 @@ public class GridDS
 			dsCriteria.setCaseSensitive(false);
 			dsCriteria.add(new DSCriterion(searchItem.getName(), anOperator, aTerms));
 			gridCriteria.prepare(dsCriteria, 0, aLimit);
-			dataGrid = gridCriteria.execute(mDataGrid);
+			dataGrid = gridCriteria.execute(gridSnapshot);
 			if (dataGrid.rowCount() > 0)
 				resultGrid.addRows(dataGrid);
 		}
@@ -777,7 +1003,7 @@ public class GridDS
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		DataDoc dataDoc = null;
-		Optional<DataItem> optDataItem = mDataGrid.getColumns().getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
+		Optional<DataItem> optDataItem = snapshot().getColumns().getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
 		if (optDataItem.isPresent())
 		{
 			DataItem diPrimaryKey = optDataItem.get();
@@ -838,6 +1064,69 @@ public class GridDS
 		return optDataDoc;
 	}
 
+	private static long primaryKeyValue(String aValue)
+	{
+		if (NumberUtils.isParsable(aValue))
+		{
+			if (aValue.indexOf(StrUtl.CHAR_DOT) == -1)
+			{
+				try
+				{
+					return Long.parseLong(aValue);
+				}
+				catch (NumberFormatException ignored)
+				{
+				}
+			}
+			return Math.round(Double.parseDouble(aValue));
+		}
+
+		return 0L;
+	}
+
+	private KeySequence keySequence(String anItemName)
+	{
+		KeySequence keySequence = mKeySequence;
+		if ((keySequence == null) || (! keySequence.isBoundTo(mGeneration, anItemName)))
+		{
+			synchronized (this)
+			{
+				keySequence = mKeySequence;
+				if ((keySequence == null) || (! keySequence.isBoundTo(mGeneration, anItemName)))
+				{
+					long lastKey = 0L;
+					ArrayList<String> cellValues;
+					for (HashMap<String, ArrayList<String>> gridRow : currentGrid().getRows())
+					{
+						cellValues = gridRow.get(anItemName);
+						if ((cellValues != null) && (! cellValues.isEmpty()))
+							lastKey = Math.max(lastKey, primaryKeyValue(cellValues.get(0)));
+					}
+					keySequence = new KeySequence(mGeneration, anItemName, lastKey);
+					mKeySequence = keySequence;
+				}
+			}
+		}
+
+		return keySequence;
+	}
+
+	/**
+	 * Allocates the next numeric primary key value for the item.  The
+	 * sequence is seeded once from the largest value in the grid and then
+	 * allocates values in constant time.  Values assigned explicitly via
+	 * the add method advance the sequence and values of deleted rows are
+	 * not reused.  Allocation is safe across concurrent threads.
+	 *
+	 * @param anItemName Name of the primary key item
+	 *
+	 * @return Primary key value
+	 */
+	public long nextPrimaryKey(String anItemName)
+	{
+		return keySequence(anItemName).mLastKey.incrementAndGet();
+	}
+
 	/**
 	 * Adds the data items  captured in the <i>DataDoc</i> to
 	 * the data source.  The data items must be derived from the
@@ -873,16 +1162,20 @@ public class GridDS
 		if (StringUtils.isEmpty(primaryKey))
 		{
 			if (Data.isNumber(diPrimaryKey.getType()))
-			{
-				DescriptiveStatistics descriptiveStatistics = mDataGrid.getDescriptiveStatistics(diPrimaryKey.getName());
-				double piMax = descriptiveStatistics.getMax();
-				aDataDoc.setValueByName(diPrimaryKey.getName(), Math.round(piMax));
-			}
+				aDataDoc.setValueByName(diPrimaryKey.getName(), nextPrimaryKey(diPrimaryKey.getName()));
 			else
 				aDataDoc.setValueByName(diPrimaryKey.getName(), aDataDoc.generateUniqueHash(false));
 		}
+		else if (Data.isNumber(diPrimaryKey.getType()))
+			keySequence(diPrimaryKey.getName()).mLastKey.accumulateAndGet(primaryKeyValue(primaryKey), Math::max);
 
-		boolean isOK = mDataGrid.addRow(aDataDoc);
+		boolean isOK;
+		synchronized (this)
+		{
+			isOK = workingGrid().addRow(aDataDoc);
+			if (isOK)
+				publishPending();
+		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -911,7 +1204,13 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		boolean isOK = mDataGrid.update(aDataDoc);
+		boolean isOK;
+		synchronized (this)
+		{
+			isOK = workingGrid().update(aDataDoc);
+			if (isOK)
+				publishPending();
+		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -984,35 +1283,253 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		boolean isOK = mDataGrid.delete(aDataDoc);
+		boolean isOK;
+		synchronized (this)
+		{
+			isOK = workingGrid().delete(aDataDoc);
+			if (isOK)
+				publishPending();
+		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
 		return isOK;
 	}
 
-	private String locateMedian(String anItemName)
+	private double selectionKey(DataItem aColumnItem, ArrayList<String> aCellValues)
+	{
+		String cellValue;
+
+		if (aCellValues == null)
+			cellValue = aColumnItem.getValue();
+		else if (aCellValues.isEmpty())
+			cellValue = StringUtils.EMPTY;
+		else
+			cellValue = aCellValues.get(0);
+
+		if (StringUtils.isNotEmpty(cellValue))
+		{
+			if (Data.isDateOrTime(aColumnItem.getType()))
+			{
+				Date cellDate = Data.createDate(cellValue, aColumnItem.getDataFormat());
+				if (cellDate != null)
+					return cellDate.getTime();
+			}
+			else if (NumberUtils.isParsable(cellValue))
+				return Double.parseDouble(cellValue);
+		}
+
+		return Double.NaN;
+	}
+
+	private static boolean isKeyBefore(double[] aKeys, int[] aRows, int anOffset1, int anOffset2)
+	{
+		int compareResult = Double.compare(aKeys[anOffset1], aKeys[anOffset2]);
+		return (compareResult < 0) || ((compareResult == 0) && (aRows[anOffset1] < aRows[anOffset2]));
+	}
+
+	private static void swapKeys(double[] aKeys, int[] aRows, int anOffset1, int anOffset2)
+	{
+		double keyValue = aKeys[anOffset1];
+		aKeys[anOffset1] = aKeys[anOffset2];
+		aKeys[anOffset2] = keyValue;
+		int rowOffset = aRows[anOffset1];
+		aRows[anOffset1] = aRows[anOffset2];
+		aRows[anOffset2] = rowOffset;
+	}
+
+// Quickselect with a median of three pivot.  Ties are ordered by row offset, so the entry
+// placed at the rank is the same one an ascending stable sort would place there.
+
+	private static void selectRank(double[] aKeys, int[] aRows, int aLow, int aHigh, int aRank)
+	{
+		int low = aLow;
+		int high = aHigh;
+		while (high > low)
+		{
+			int mid = (low + high) >>> 1;
+			if (isKeyBefore(aKeys, aRows, mid, low))
+				swapKeys(aKeys, aRows, mid, low);
+			if (isKeyBefore(aKeys, aRows, high, low))
+				swapKeys(aKeys, aRows, high, low);
+			if (isKeyBefore(aKeys, aRows, mid, high))
+				swapKeys(aKeys, aRows, mid, high);
+			int storeOffset = low;
+			for (int offset = low; offset < high; offset++)
+			{
+				if (isKeyBefore(aKeys, aRows, offset, high))
+					swapKeys(aKeys, aRows, offset, storeOffset++);
+			}
+			swapKeys(aKeys, aRows, storeOffset, high);
+			if (storeOffset == aRank)
+				return;
+			else if (aRank < storeOffset)
+				high = storeOffset - 1;
+			else
+				low = storeOffset + 1;
+		}
+	}
+
+	/**
+	 * Returns a <i>DataGrid</i> holding the rows located at the percentiles
+	 * of the item values, in the order the percentiles were specified.  The
+	 * nearest-rank method is used, so the percentile value is the item value
+	 * of the located row.  Rows are located via selection, which means the
+	 * rows of the data source are neither sorted nor copied.  Only rows with
+	 * a numeric or date value are ranked and their count is assigned to the
+	 * <i>DS.FEATURE_TOTAL_DOCUMENTS</i> feature of the returned grid.
+	 *
+	 * @param aDSCriteria Data source criteria to filter the rows with (can be null)
+	 * @param anItemName Name of a numeric or date item
+	 * @param aPercentiles Percentiles ranging from 0 to 100
+	 *
+	 * @return Data grid of located rows
+	 *
+	 * @throws DSException Data source related exception
+	 */
+	public DataGrid selectPercentiles(DSCriteria aDSCriteria, String anItemName, double... aPercentiles)
 		throws DSException
 	{
-		Logger appLogger = mAppCtx.getLogger(this, "locateMedian");
+		return selectPercentiles(snapshot(), aDSCriteria, anItemName, aPercentiles);
+	}
+
+	private DataGrid selectPercentiles(DataGrid aDataGrid, DSCriteria aDSCriteria, String anItemName, double... aPercentiles)
+		throws DSException
+	{
+		int[] rowOffsets;
+		Logger appLogger = mAppCtx.getLogger(this, "selectPercentiles");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		String medianValue = StringUtils.EMPTY;
-		int medianOffset = (int) Math.ceil((double)mDataGrid.rowCount() / 2);
+		Optional<DataItem> optColumnItem = aDataGrid.getColumns().getItemByNameOptional(anItemName);
+		if (optColumnItem.isEmpty())
+			throw new DSException(String.format("Unable to locate item by name: %s", anItemName));
+		DataItem columnItem = optColumnItem.get();
+		if ((! Data.isNumber(columnItem.getType())) && (! Data.isDateOrTime(columnItem.getType())))
+			throw new DSException(String.format("Item '%s' must be a number or date type to select percentiles.", anItemName));
+		for (double percentile : aPercentiles)
+		{
+			if ((Double.isNaN(percentile)) || (percentile < 0.0) || (percentile > 100.0))
+				throw new DSException(String.format("Percentile %.2f is out of range.", percentile));
+		}
 
-		DSCriteria dsCriteria = new DSCriteria("Sort Criteria");
-		dsCriteria.addFeature(Data.FEATURE_DS_OFFSET, 0);
-		dsCriteria.addFeature(Data.FEATURE_DS_LIMIT, medianOffset);
-		dsCriteria.add(anItemName, Data.Operator.SORT, Data.Order.ASCENDING.name());
+		if (aDSCriteria == null)
+			rowOffsets = IntStream.range(0, aDataGrid.rowCount()).toArray();
+		else
+		{
+			GridCriteria gridCriteria = new GridCriteria(mAppCtx, aDataGrid.getColumns());
+			gridCriteria.prepare(aDSCriteria);
+			rowOffsets = gridCriteria.executeRowOffsets(aDataGrid);
+		}
 
-		DataGrid dataGrid = fetch(dsCriteria);
-		int rowCount = dataGrid.rowCount();
-		if (rowCount > 1)
+// Extract the selection keys straight from the row storage - rows without a value are skipped.
+
+		int keyCount = 0;
+		double[] selectionKeys = new double[rowOffsets.length];
+		int[] selectionRows = new int[rowOffsets.length];
+		ArrayList<HashMap<String, ArrayList<String>>> gridRows = aDataGrid.getRows();
+		for (int rowOffset : rowOffsets)
+		{
+			double selectionKey = selectionKey(columnItem, gridRows.get(rowOffset).get(anItemName));
+			if (! Double.isNaN(selectionKey))
+			{
+				selectionKeys[keyCount] = selectionKey;
+				selectionRows[keyCount++] = rowOffset;
+			}
+		}
+
+		DataGrid dataGrid = new DataGrid(aDataGrid.getColumns());
+		if (keyCount > 0)
 		{
-			DataDoc medianDoc = dataGrid.getRowAsDoc(rowCount-1);
-			medianValue = medianDoc.getValueByName(anItemName);
+			int[] percentileRanks = new int[aPercentiles.length];
+			for (int offset = 0; offset < aPercentiles.length; offset++)
+				percentileRanks[offset] = Math.max(1, (int) Math.ceil(aPercentiles[offset] / 100.0 * keyCount)) - 1;
+
+// Selecting the ranks in ascending order allows each selection to start past the previous rank.
+
+			int lowOffset = 0;
+			int[] orderedRanks = Arrays.stream(percentileRanks).distinct().sorted().toArray();
+			for (int rank : orderedRanks)
+			{
+				selectRank(selectionKeys, selectionRows, lowOffset, keyCount-1, rank);
+				lowOffset = rank + 1;
+			}
+			for (int rank : percentileRanks)
+				dataGrid.addRow(aDataGrid.getRowAsDoc(selectionRows[rank]));
 		}
+		dataGrid.addFeature(DS.FEATURE_TOTAL_DOCUMENTS, keyCount);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return dataGrid;
+	}
+
+	/**
+	 * Returns a <i>DataGrid</i> holding the rows located at the percentiles
+	 * of the item values across all rows of the data source.
+	 *
+	 * @param anItemName Name of a numeric or date item
+	 * @param aPercentiles Percentiles ranging from 0 to 100
+	 *
+	 * @return Data grid of located rows
+	 *
+	 * @throws DSException Data source related exception
+	 */
+	public DataGrid selectPercentiles(String anItemName, double... aPercentiles)
+		throws DSException
+	{
+		return selectPercentiles(null, anItemName, aPercentiles);
+	}
+
+	/**
+	 * Returns the row located at the median of the item values (the lower
+	 * median when the count of values is even) for the rows matching the
+	 * criteria.  The median value is the item value of the located row.
+	 *
+	 * @param aDSCriteria Data source criteria to filter the rows with (can be null)
+	 * @param anItemName Name of a numeric or date item
+	 *
+	 * @return Optional data document instance
+	 *
+	 * @throws DSException Data source related exception
+	 */
+	public Optional<DataDoc> selectMedian(DSCriteria aDSCriteria, String anItemName)
+		throws DSException
+	{
+		DataGrid dataGrid = selectPercentiles(aDSCriteria, anItemName, 50.0);
+		if (dataGrid.rowCount() > 0)
+			return Optional.of(dataGrid.getRowAsDoc(0));
+		else
+			return Optional.empty();
+	}
+
+	/**
+	 * Returns the row located at the median of the item values across all
+	 * rows of the data source.
+	 *
+	 * @param anItemName Name of a numeric or date item
+	 *
+	 * @return Optional data document instance
+	 *
+	 * @throws DSException Data source related exception
+	 */
+	public Optional<DataDoc> selectMedian(String anItemName)
+		throws DSException
+	{
+		return selectMedian(null, anItemName);
+	}
+
+	private String locateMedian(DataGrid aDataGrid, String anItemName)
+		throws DSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "locateMedian");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		String medianValue = StringUtils.EMPTY;
+		DataGrid dataGrid = selectPercentiles(aDataGrid, null, anItemName, 50.0);
+		if (dataGrid.rowCount() > 0)
+			medianValue = dataGrid.getRowAsDoc(0).getValueByName(anItemName);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -1039,16 +1556,17 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		int dataRowCount = mDataGrid.rowCount();
+		DataGrid gridSnapshot = snapshot();
+		int dataRowCount = gridSnapshot.rowCount();
 		if (dataRowCount < 2)
 			throw new DSException("The grid must have 2 or more rows to perform an analysis operation.");
 
 // We will leverage the foundation data analyzer class for everything except the median selection.
 
-		DataAnalyzer dataAnalyzer = new DataAnalyzer(mDataGrid.getColumns());
-		dataAnalyzer.scan(mDataGrid);
+		DataAnalyzer dataAnalyzer = new DataAnalyzer(gridSnapshot.getColumns());
+		dataAnalyzer.scanParallel(gridSnapshot);
 
-// Identify the median selection using the GridDS criteria query features.
+// Identify the median via selection over the grid rows rather than a full sort.
 
 		DataGrid detailsGrid = dataAnalyzer.getDetails();
 		int detailsRowsCount = detailsGrid.rowCount();
@@ -1058,7 +1576,7 @@ public class GridDS
 			dataType = Data.stringToType(detailDoc.getValueByName("type"));
 			if (Data.isNumber(dataType))
 			{
-				medianValue = locateMedian(detailDoc.getValueByName("name"));
+				medianValue = locateMedian(gridSnapshot, detailDoc.getValueByName("name"));
 				if (StringUtils.isNotEmpty(medianValue))
 					detailsGrid.setValueByRowName(row, "median", medianValue);
 			}
@@ -1082,15 +1600,16 @@ public class GridDS
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
+		DataGrid gridSnapshot = snapshot();
 		if (StringUtils.isNotEmpty(aTitle))
 			gridTitle = aTitle;
 		else
-			gridTitle = mDataGrid.getName();
+			gridTitle = gridSnapshot.getName();
 
 		DataGridConsole dataGridConsole = new DataGridConsole();
 		dataGridConsole.setFormattedFlag(true);
 		PrintWriter printWriter = new PrintWriter(System.out, true);
-		dataGridConsole.write(mDataGrid, printWriter, gridTitle, 40, 1);
+		dataGridConsole.write(gridSnapshot, printWriter, gridTitle, 40, 1);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -39,8 +39,11 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.HashMap;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This Junit class will exercise the Grid data source features.
@@ -508,6 +511,25 @@ public class GridDSTest
             double standardDeviation = descriptiveStatistics.getStandardDeviation();
             System.out.println("--- Descriptive Statistics ---");
             System.out.printf("min = %.2f, max = %.2f, mean = %.2f, median = %.2f, std = %.2f%n", min, max, mean, median, standardDeviation);
+
+            double[] sortedValues = descriptiveStatistics.getSortedValues();
+            String firstEmployeeId = dataGrid.getRowAsDoc(0).getValueByName("employee_id");
+            Optional<DataDoc> optMedianDoc = gridDS.selectMedian("salary");
+            Assert.assertTrue(optMedianDoc.isPresent());
+            Assert.assertEquals(sortedValues[(int) Math.ceil(sortedValues.length / 2.0) - 1], optMedianDoc.get().getValueAsDouble("salary"), 0.0);
+            DataGrid percentileGrid = gridDS.selectPercentiles("salary", 90.0, 10.0, 100.0);
+            Assert.assertEquals(3, percentileGrid.rowCount());
+            Assert.assertEquals(sortedValues[(int) Math.ceil(sortedValues.length * 0.9) - 1], percentileGrid.getRowAsDoc(0).getValueAsDouble("salary"), 0.0);
+            Assert.assertEquals(max, percentileGrid.getRowAsDoc(2).getValueAsDouble("salary"), 0.0);
+            Assert.assertEquals(firstEmployeeId, gridDS.fetch().getRowAsDoc(0).getValueByName("employee_id"));
+
+            DSCriteria dsCriteria = new DSCriteria("Region Criteria");
+            dsCriteria.add("region", Data.Operator.EQUAL, "Northeast");
+            optMedianDoc = gridDS.selectMedian(dsCriteria, "salary");
+            Assert.assertTrue(optMedianDoc.isPresent());
+            Assert.assertEquals("Northeast", optMedianDoc.get().getValueByName("region"));
+            System.out.printf("median = %s, northeast median = %s%n", gridDS.selectMedian("salary").get().getValueByName("salary"),
+                              optMedianDoc.get().getValueByName("salary"));
         }
         catch (DSException | IOException e)
         {
@@ -515,6 +537,145 @@ public class GridDSTest
         }
     }
 
+    public void exercisePrimaryKeySequence()
+    {
+        DataDoc schemaDoc = new DataDoc("Key Sequence Schema");
+        schemaDoc.add(new DataItem.Builder().type(Data.Type.Integer).name("id").title("Id").isPrimary(true).build());
+        schemaDoc.add(new DataItem.Builder().type(Data.Type.Text).name("name").title("Name").build());
+        GridDS gridDS = new GridDS(mAppCtx, schemaDoc);
+        try
+        {
+            for (int id : new int[] {3, 10, 7})
+            {
+                DataDoc dataDoc = new DataDoc(schemaDoc);
+                dataDoc.setValueByName("id", id);
+                dataDoc.setValueByName("name", "Explicit " + id);
+                Assert.assertTrue(gridDS.add(dataDoc));
+            }
+
+            int threadCount = 4;
+            int addCount = 250;
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+            List<Future<Boolean>> futureList = new ArrayList<>();
+            for (int thread = 0; thread < threadCount; thread++)
+            {
+                futureList.add(executorService.submit(() -> {
+                    for (int add = 0; add < addCount; add++)
+                    {
+                        DataDoc dataDoc = new DataDoc(schemaDoc);
+                        dataDoc.setValueByName("name", "Generated");
+                        if (! gridDS.add(dataDoc))
+                            return false;
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> future : futureList)
+                Assert.assertTrue(future.get());
+            executorService.shutdown();
+
+            DataGrid dataGrid = gridDS.getDataGrid();
+            Assert.assertEquals(3 + threadCount * addCount, dataGrid.rowCount());
+            HashSet<Integer> idSet = new HashSet<>();
+            for (int row = 0; row < dataGrid.rowCount(); row++)
+                Assert.assertTrue(idSet.add(dataGrid.getRowAsDoc(row).getValueAsInteger("id")));
+            Assert.assertEquals(Integer.valueOf(10 + threadCount * addCount), Collections.max(idSet));
+            Assert.assertEquals(10 + threadCount * addCount + 1, gridDS.nextPrimaryKey("id"));
+        }
+        catch (DSException | InterruptedException | ExecutionException e)
+        {
+            Assert.fail(e.getMessage());
+        }
+    }
+
+    public void exerciseSnapshotIsolation()
+    {
+        DataDoc schemaDoc = new DataDoc("Snapshot Schema");
+        schemaDoc.add(new DataItem.Builder().type(Data.Type.Integer).name("id").title("Id").isPrimary(true).build());
+        schemaDoc.add(new DataItem.Builder().type(Data.Type.Text).name("name").title("Name").build());
+        GridDS gridDS = new GridDS(mAppCtx, schemaDoc);
+        try
+        {
+            for (int id = 1; id <= 100; id++)
+            {
+                DataDoc dataDoc = new DataDoc(schemaDoc);
+                dataDoc.setValueByName("id", id);
+                dataDoc.setValueByName("name", "Original");
+                Assert.assertTrue(gridDS.add(dataDoc));
+            }
+            long version = gridDS.getVersion();
+            DataGrid snapshotGrid = gridDS.getDataGrid();
+
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+            Future<Boolean> readerFuture = executorService.submit(() -> {
+                for (int pass = 0; pass < 50; pass++)
+                {
+                    DataGrid dataGrid = gridDS.fetch();
+                    long updatedCount = dataGrid.stream().filter(dd -> dd.getValueByName("name").equals("Updated")).count();
+                    long addedCount = dataGrid.stream().filter(dd -> dd.getValueByName("name").equals("Added")).count();
+                    if ((dataGrid.rowCount() != 100 + addedCount) || (addedCount > updatedCount) || (updatedCount > addedCount + 1))
+                        return false;
+                }
+                return true;
+            });
+            Future<Boolean> writerFuture = executorService.submit(() -> {
+                for (int id = 1; id <= 50; id++)
+                {
+                    DataDoc dataDoc = new DataDoc(schemaDoc);
+                    dataDoc.setValueByName("id", id);
+                    dataDoc.setValueByName("name", "Updated");
+                    if (! gridDS.update(dataDoc))
+                        return false;
+                    dataDoc = new DataDoc(schemaDoc);
+                    dataDoc.setValueByName("name", "Added");
+                    if (! gridDS.add(dataDoc))
+                        return false;
+                }
+                return true;
+            });
+            Assert.assertTrue(readerFuture.get());
+            Assert.assertTrue(writerFuture.get());
+            executorService.shutdown();
+
+            Assert.assertEquals(100, snapshotGrid.rowCount());
+            Assert.assertEquals(100, snapshotGrid.stream().filter(dd -> dd.getValueByName("name").equals("Original")).count());
+            Assert.assertEquals(150, gridDS.count());
+            Assert.assertEquals(version + 100, gridDS.getVersion());
+            Assert.assertEquals("Updated", gridDS.findDataDocByPrimaryId("1").get().getValueByName("name"));
+            Assert.assertEquals(150, gridDS.nextPrimaryKey("id") - 1);
+
+            DataDoc dataDoc = new DataDoc(schemaDoc);
+            dataDoc.setValueByName("id", 1);
+            DataGrid beforeDelete = gridDS.getDataGrid();
+            Assert.assertTrue(gridDS.delete(dataDoc));
+            Assert.assertEquals(150, beforeDelete.rowCount());
+            Assert.assertEquals(149, gridDS.count());
+
+            DataGrid beforeEmpty = gridDS.getDataGrid();
+            gridDS.emptyRows();
+            DataGrid emptyGrid = gridDS.getDataGrid();
+            Assert.assertEquals(149, beforeEmpty.rowCount());
+            Assert.assertEquals(0, emptyGrid.rowCount());
+            Assert.assertEquals("Snapshot Schema", gridDS.getName());
+
+            version = gridDS.getVersion();
+            for (int row = 0; row < 10; row++)
+            {
+                dataDoc = new DataDoc(schemaDoc);
+                dataDoc.setValueByName("name", "Batched");
+                Assert.assertTrue(gridDS.add(dataDoc));
+            }
+            Assert.assertEquals(0, emptyGrid.rowCount());
+            Assert.assertEquals(version + 10, gridDS.getVersion());
+            Assert.assertEquals(10, gridDS.count());
+            Assert.assertEquals(161, gridDS.nextPrimaryKey("id") - 1);
+        }
+        catch (DSException | InterruptedException | ExecutionException e)
+        {
+            Assert.fail(e.getMessage());
+        }
+    }
+
     public void exerciseConsole()
     {
         GridDS gridDS = new GridDS(mAppCtx);
@@ -695,6 +856,8 @@ public class GridDSTest
         exerciseSuggest();
         exerciseCRUD();
         exerciseStatistics();
+        exercisePrimaryKeySequence();
+        exerciseSnapshotIsolation();
         exerciseConsole();
         exerciseDataGridFromProperties();
         exerciseDataGridSchema();
@@ -19,8 +19,15 @@
 
 package com.redis.ds.ds_json;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.GsonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.GsonMappingProvider;
 import com.redis.ds.ds_grid.GridDS;
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.Data;
@@ -31,8 +38,9 @@ import com.redis.foundation.io.DataDocJSON;
 import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -179,6 +187,7 @@ public class JsonDS extends GridDS
 		int docId = 0;
 		clearMessages();
 		DataDoc jsonSchemaDoc = getSchema();
+		DataGrid loadGrid = new DataGrid(jsonSchemaDoc);
 		DataDocJSON dataDocJSON = new DataDocJSON();
 		for (DataDoc dataDoc : aDataDocListDocList)
 		{
@@ -249,8 +258,9 @@ public class JsonDS extends GridDS
 				else
 					dataItem.setValue(jsonString);
 			}
-			mDataGrid.addRow(dataDoc);
+			loadGrid.addRow(dataDoc);
 		}
+		appendRows(loadGrid);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -294,6 +304,209 @@ public class JsonDS extends GridDS
 		return isOK;
 	}
 
+	private void addMessage(int aDocId, String aMessage, String aJsonPath, JsonElement aJsonElement)
+	{
+		DataDoc msgDoc = messageSchemaDoc();
+		msgDoc.setValueByName("document_id", aDocId);
+		msgDoc.setValueByName("message_type", "ERROR");
+		msgDoc.setValueByName("message_info", aMessage);
+		msgDoc.setValueByName("json_path", aJsonPath);
+		if (aJsonElement != null)
+			msgDoc.setValueByName("json_document", aJsonElement.toString());
+		mMessagesGrid.addRow(msgDoc);
+	}
+
+	private void assignRowValue(DataGrid aLoadGrid, int aDocId, DataItem aDataItem, String aJsonPath,
+								Object aJsonObject, JsonElement aJsonElement)
+	{
+		String itemName = aDataItem.getName();
+		if (aJsonObject instanceof JsonArray)
+		{
+			JsonArray jsonArray = (JsonArray) aJsonObject;
+			ArrayList<String> itemValues = new ArrayList<>(jsonArray.size());
+			for (JsonElement jsonElement : jsonArray)
+			{
+				if (jsonElement.isJsonPrimitive())
+					itemValues.add(jsonElement.getAsString());
+				else if (! jsonElement.isJsonNull())
+				{
+					if (mCaptureErrors)
+						addMessage(aDocId, String.format("'%s' is an array of objects - cannot add to a grid row.", jsonArray), aJsonPath, aJsonElement);
+					return;
+				}
+			}
+			aLoadGrid.setValuesByName(itemName, itemValues);
+		}
+		else if ((aJsonObject instanceof Integer) && (aDataItem.getType() == Data.Type.Integer))
+			aLoadGrid.setValueByName(itemName, (Integer) aJsonObject);
+		else if ((aJsonObject instanceof Double) && (aDataItem.getType() == Data.Type.Double))
+			aLoadGrid.setValueByName(itemName, (Double) aJsonObject);
+		else if (aJsonObject != null)
+			aLoadGrid.setValueByName(itemName, aJsonObject.toString());
+	}
+
+	private JsonToken peekFirstToken(JsonReader aJsonReader)
+		throws IOException
+	{
+		JsonToken jsonToken;
+
+// An empty input holds zero documents rather than being a truncated one.
+
+		try
+		{
+			jsonToken = aJsonReader.peek();
+		}
+		catch (EOFException e)
+		{
+			jsonToken = JsonToken.END_DOCUMENT;
+		}
+
+		return jsonToken;
+	}
+
+	/**
+	 * Streams the JSON documents from the reader while evaluating any JSON
+	 * path expressions assigned as item features in the schema document.
+	 * The path expressions are compiled once and each document is parsed
+	 * into a single tree that all the expressions are evaluated against.
+	 * Only one JSON document is held in memory at a time and each one is
+	 * added to the grid data source as a row.
+	 *
+	 * If any parsing or JSON path expression errors/warnings are
+	 * detected, they will be added to the message grid.  Array elements
+	 * that are not JSON objects are skipped and an empty input loads
+	 * zero documents.
+	 *
+	 * @param aReader Reader stream of a JSON array of objects or a single object
+	 *
+	 * @return <i>true</i> if no JSON path issues were discovered and <i>false</i> otherwise.
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public boolean loadDataStreamEvaluatePath(Reader aReader)
+		throws IOException
+	{
+		Object jsonObject;
+		String jsonPathExpression;
+		JsonElement jsonElement;
+		Logger appLogger = mAppCtx.getLogger(this, "loadDataStreamEvaluatePath");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		clearMessages();
+		DataDoc jsonSchemaDoc = getSchema();
+		ArrayList<DataItem> schemaItemList = new ArrayList<>();
+		ArrayList<JsonPath> jsonPathList = new ArrayList<>();
+		for (DataItem dataItem : jsonSchemaDoc.getItems())
+		{
+			if (dataItem.isFeatureAssigned(Data.FEATURE_JSON_PATH))
+				jsonPathExpression = dataItem.getFeature(Data.FEATURE_JSON_PATH);
+			else
+			{
+				jsonPathExpression = String.format("$.%s", dataItem.getName());
+				dataItem.addFeature(Data.FEATURE_JSON_PATH, jsonPathExpression);
+			}
+			try
+			{
+				jsonPathList.add(JsonPath.compile(jsonPathExpression));
+				schemaItemList.add(dataItem);
+			}
+			catch (Exception e)
+			{
+				if (mCaptureErrors)
+					addMessage(0, e.getMessage(), jsonPathExpression, null);
+			}
+		}
+
+		int docId = 0;
+		int itemCount = schemaItemList.size();
+		Configuration jsonConfiguration = Configuration.builder().jsonProvider(new GsonJsonProvider())
+																 .mappingProvider(new GsonMappingProvider()).build();
+		JsonReader jsonReader = new JsonReader(aReader);
+		JsonToken jsonToken = peekFirstToken(jsonReader);
+		boolean isArray = (jsonToken == JsonToken.BEGIN_ARRAY);
+		if (isArray)
+		{
+			jsonReader.beginArray();
+			jsonToken = jsonReader.peek();
+		}
+
+// Elements that are not JSON objects cannot become rows - they are skipped and reported
+// as messages so the documents that follow them are still loaded.
+
+		int rowCount = 0;
+		DataGrid loadGrid = new DataGrid(jsonSchemaDoc);
+		while ((jsonToken != JsonToken.END_ARRAY) && (jsonToken != JsonToken.END_DOCUMENT))
+		{
+			docId++;
+			if (jsonToken == JsonToken.BEGIN_OBJECT)
+			{
+				jsonElement = JsonParser.parseReader(jsonReader);
+				loadGrid.newRow();
+				for (int offset = 0; offset < itemCount; offset++)
+				{
+					try
+					{
+						jsonObject = jsonPathList.get(offset).read(jsonElement, jsonConfiguration);
+					}
+					catch (Exception e)
+					{
+						if (mCaptureErrors)
+							addMessage(docId, e.getMessage(), jsonPathList.get(offset).getPath(), jsonElement);
+						continue;
+					}
+					assignRowValue(loadGrid, docId, schemaItemList.get(offset), jsonPathList.get(offset).getPath(), jsonObject, jsonElement);
+				}
+				loadGrid.addRow();
+				rowCount++;
+			}
+			else
+			{
+				jsonReader.skipValue();
+				if (mCaptureErrors)
+					addMessage(docId, String.format("Skipped JSON %s element since it is not an object.", jsonToken), StringUtils.EMPTY, null);
+			}
+			if (! isArray)
+				break;
+			jsonToken = jsonReader.peek();
+		}
+		appendRows(loadGrid);
+		appLogger.debug(String.format("Streamed %d JSON documents into the data grid.", rowCount));
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return !isMessagesAssigned();
+	}
+
+	/**
+	 * Streams the JSON file while evaluating any JSON path expressions
+	 * assigned as item features in the schema document.  Unlike the
+	 * list-based loading method, the file is never fully materialized
+	 * and each JSON document is parsed exactly once.
+	 *
+	 * @param aPathFileName JSON path/file name
+	 *
+	 * @return <i>true</i> if no JSON path issues were discovered and <i>false</i> otherwise.
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public boolean loadDataStreamEvaluatePath(String aPathFileName)
+		throws IOException
+	{
+		boolean isOK;
+
+		File jsonFile = new File(aPathFileName);
+		if (! jsonFile.exists())
+			throw new IOException(aPathFileName + ": Does not exist.");
+
+		try (Reader fileReader = new BufferedReader(new InputStreamReader(new FileInputStream(jsonFile), StandardCharsets.UTF_8)))
+		{
+			isOK = loadDataStreamEvaluatePath(fileReader);
+		}
+
+		return isOK;
+	}
+
 	/**
 	 * Uses the Data Document JSON parsing interfaces to load the document
 	 * and item information into the grid data source.
@@ -316,6 +529,7 @@ public class JsonDS extends GridDS
 			throw new IOException(aPathFileName + ": Does not exist.");
 
 		DataDoc jsonSchemaDoc = getSchema();
+		DataGrid loadGrid = new DataGrid(jsonSchemaDoc);
 		DataDocJSON dataDocJSON = new DataDocJSON();
 		List<DataDoc> dataDocList = dataDocJSON.loadList(aPathFileName);
 		for (DataDoc jsonDataDoc : dataDocList)
@@ -323,8 +537,9 @@ public class JsonDS extends GridDS
 			rowDataDoc = new DataDoc(jsonSchemaDoc);
 			for (DataItem jsonDataItem : jsonDataDoc.getItems())
 				rowDataDoc.setValuesByName(jsonDataItem.getName(), jsonDataItem.getValues());
-			mDataGrid.addRow(rowDataDoc);
+			loadGrid.addRow(rowDataDoc);
 		}
+		appendRows(loadGrid);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
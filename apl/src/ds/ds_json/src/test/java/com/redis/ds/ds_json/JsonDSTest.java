@@ -21,6 +21,8 @@ package com.redis.ds.ds_json;
 
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.DataDoc;
+import com.redis.foundation.data.DataGrid;
+import com.redis.foundation.data.DataItem;
 import com.redis.foundation.io.DataDocJSON;
 import com.redis.foundation.io.DataDocXML;
 import com.redis.foundation.io.DataGridConsole;
@@ -31,6 +33,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringReader;
 import java.util.HashMap;
 import java.util.List;
 
@@ -98,6 +101,50 @@ public class JsonDSTest
         }
     }
 
+    private void exerciseLoadDataStreamEvaluatePath()
+    {
+        JsonDS jsonDS = new JsonDS(mAppCtx, true);
+        DataGridConsole dataGridConsole = new DataGridConsole();
+        dataGridConsole.setFormattedFlag(true);
+        PrintWriter printWriter = new PrintWriter(System.out, true);
+        try
+        {
+            jsonDS.loadSchema("data/store_data.xml");
+            if (jsonDS.loadDataStreamEvaluatePath("data/store_data.json"))
+            {
+                jsonDS.setName("JSON Streamed Store Data");
+                dataGridConsole.write(jsonDS.getDataGrid(), printWriter, jsonDS.getName());
+                Assert.assertTrue(jsonDS.getDataGrid().rowCount() > 0);
+                Assert.assertTrue(jsonDS.getDataGrid().getRowAsDoc(0).getItemByName("book_titles").isMultiValue());
+            }
+            else
+                dataGridConsole.write(jsonDS.getMessagesGrid(), printWriter, jsonDS.getMessagesGrid().getName());
+        }
+        catch (Exception e)
+        {
+            System.err.printf("Exception: %s", e.getMessage());
+        }
+    }
+
+    private void exerciseStreamSkipsNonObjects()
+        throws IOException
+    {
+        DataDoc schemaDoc = new DataDoc("Stream Schema");
+        schemaDoc.add(new DataItem.Builder().name("name").title("Name").build());
+
+        JsonDS jsonDS = new JsonDS(mAppCtx, true);
+        jsonDS.setDatGrid(new DataGrid(schemaDoc));
+        Assert.assertFalse(jsonDS.loadDataStreamEvaluatePath(new StringReader("[{\"name\": \"first\"}, 42, \"text\", {\"name\": \"last\"}]")));
+        Assert.assertEquals(2, jsonDS.getDataGrid().rowCount());
+        Assert.assertEquals("last", jsonDS.getDataGrid().getRowAsDoc(1).getValueByName("name"));
+        Assert.assertEquals(2, jsonDS.getMessagesGrid().rowCount());
+
+        jsonDS = new JsonDS(mAppCtx, true);
+        jsonDS.setDatGrid(new DataGrid(schemaDoc));
+        Assert.assertTrue(jsonDS.loadDataStreamEvaluatePath(new StringReader("  ")));
+        Assert.assertEquals(0, jsonDS.getDataGrid().rowCount());
+    }
+
     private void exerciseJSONLoadSaveSchema()
         throws IOException
     {
@@ -120,6 +167,8 @@ public class JsonDSTest
             exerciseJSONLoadSaveSchema();
             exerciseLoadData();
             exerciseLoadDataEvaluatePath();
+            exerciseLoadDataStreamEvaluatePath();
+            exerciseStreamSkipsNonObjects();
 
         }
         catch (Exception e)
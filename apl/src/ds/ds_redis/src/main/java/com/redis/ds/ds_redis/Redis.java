@@ -46,6 +46,7 @@ public class Redis
 
 	public static final String RESPONSE_OK = "OK";
 	public static final int PIPELINE_BATCH_COUNT = 25;
+	public static final int FIELD_DECODE_CACHE_LIMIT = 4096;				// decoded hash field name templates
 	public static final String APPLICATION_PREFIX_DEFAULT = "ASRC";
 	public static final String SHADOW_FIELD_MARKER_NAME = "_shadow";
 	public static final String ENCRYPTION_SECRET_DEFAULT = "1c518a1e-redis-4ff0-8478-f319b887dca0";
@@ -78,6 +79,7 @@ public class Redis
 	public static final long GRID_RANGE_SCHEMA = 0L;
 	public static final long GRID_RANGE_START = 1L;
 	public static final long GRID_RANGE_FINISH = -1L;
+	public static final int GRID_EXPORT_BATCH_COUNT = 500;
 
 // Redis stream related constants
 
@@ -91,6 +93,8 @@ public class Redis
 
 	public static final long LOCK_RELEASE_TIMEOUT_DEFAULT = 2000;			// 2 seconds
 	public static final long LOCK_WAITFOR_TIMEOUT_DEFAULT = 3000;			// 3 seconds - always should be greater than release
+	public static final long LOCK_BACKOFF_MINIMUM = 1;						// milliseconds - first retry is nearly immediate
+	public static final long LOCK_BACKOFF_MAXIMUM = 50;						// milliseconds - caps the exponential backoff
 
 // Redis core feature related constants
 
@@ -157,6 +161,15 @@ public class Redis
 	public static final double SEARCH_SCORE_DEFAULT = 1.0;
 	public static final int SUGGESTION_LIMIT_DEFAULT = 5;
 	public static final int SUGGESTION_MIN_TOKEN_SIZE = 5;
+	public static final int SUGGESTION_BATCH_COUNT = 500;
+	public static final int CURSOR_BATCH_COUNT = 1000;
+	public static final long CURSOR_MAX_IDLE = 300000L;					// milliseconds before an unread cursor expires
+	public static final int RESULT_CACHE_LIMIT = 256;						// cached query results per search index
+	public static final int RESULT_CACHE_ROW_LIMIT = 1000;					// larger results are not cached
+	public static final long RESULT_CACHE_TTL = 5000L;						// milliseconds a cached query result remains valid
+	public static final long INDEX_POLL_MINIMUM = 5;						// milliseconds between FT.INFO polls (initial)
+	public static final long INDEX_POLL_MAXIMUM = 250;						// milliseconds between FT.INFO polls (cap)
+	public static final long INDEX_WAITFOR_TIMEOUT_DEFAULT = 60000;			// 1 minute
 	public static final int SCHEMA_MAXIMUM_ALL_FIELDS = 1024;
 	public static final int SCHEMA_MAXIMUM_TEXT_FIELDS = 128;
 
@@ -198,6 +211,10 @@ public class Redis
 // RedisJSON general and feature related constants
 
 	public static final String JSON_PATH_ROOT = "$";
+	public static final int JSON_MGET_CHUNK_INITIAL = 100;
+	public static final int JSON_MGET_CHUNK_MINIMUM = PIPELINE_BATCH_COUNT;
+	public static final int JSON_MGET_CHUNK_MAXIMUM = 5000;
+	public static final int JSON_MGET_REPLY_TARGET = 1048576;				// reply characters per chunk
 
 // RedisGraph general and feature related constants
 
@@ -250,6 +267,13 @@ public class Redis
 	 */
 	public enum Document { Hash, JSON }
 
+	/**
+	 * RedisSearch bulk ingest options - create the index before the
+	 * documents are written (indexed as they arrive) or after them
+	 * (indexed via a backfill scan of the keyspace)
+	 */
+	public enum IngestMode { IndexFirst, Deferred }
+
 	/**
 	 * RedisTimeSeries functions
 	 */
@@ -34,6 +34,7 @@ import com.redis.foundation.crypt.Secret;
 import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
 import com.redis.foundation.data.DataItem;
+import com.redis.foundation.std.DateDetector;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.time.StopWatch;
@@ -48,9 +49,11 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
 import java.text.DecimalFormat;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The Redis Data Source class manages connections with one or more
@@ -83,6 +86,7 @@ public class RedisDS
 	private final StopWatch mStopWatch;
 	private boolean mIsCommandStreamActive;
 	private Redis.Encryption mEncryptionOption;
+	private final Map<String, DateDetector> mDateDetectorMap = new ConcurrentHashMap<>();
 	private String aMarkerName = StringUtils.EMPTY;
 	private String mStreamKeyName = StringUtils.EMPTY;
 	private String mApplicationPrefix = StringUtils.EMPTY;
@@ -157,6 +161,17 @@ public class RedisDS
 		mIsCommandStreamActive = anIsCommandStreamActive;
 	}
 
+	/**
+	 * Returns <i>true</i> if commands are being captured in the
+	 * file/stream storage or <i>false</i> otherwise.
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isCommandStreamActive()
+	{
+		return mIsCommandStreamActive;
+	}
+
 	/**
 	 * Assigns an encryption option for the data values stored in Redis.
 	 *
@@ -674,6 +689,22 @@ public class RedisDS
 		}
 	}
 
+	/**
+	 * Returns the date/time value of the data item for the RediSearch
+	 * shadow items.  The data item format mask is tried first and the
+	 * format that matched is remembered per item name, so subsequent
+	 * values of the same item are parsed in a single attempt.
+	 *
+	 * @param aDataItem Data item instance
+	 *
+	 * @return Date instance or <i>null</i> if the value is not recognized
+	 */
+	public Date dataItemToDate(DataItem aDataItem)
+	{
+		DateDetector dateDetector = mDateDetectorMap.computeIfAbsent(aDataItem.getName(), n -> new DateDetector(aDataItem.getDataFormat()));
+		return dateDetector.detect(aDataItem.getValue());
+	}
+
 	/**
 	 * Encrypt an array of string values.
 	 *
@@ -22,6 +22,7 @@ package com.redis.ds.ds_redis.core;
 import com.redis.ds.ds_redis.Redis;
 import com.redis.ds.ds_redis.RedisDS;
 import com.redis.ds.ds_redis.RedisDSException;
+import com.redis.ds.ds_redis.search.RedisSearch;
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
@@ -32,11 +33,17 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+import redis.clients.jedis.params.SetParams;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -57,6 +64,11 @@ import java.util.concurrent.TimeUnit;
  */
 public class RedisCore
 {
+	private static final String LOCK_RELEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end";
+	private static final String LOCK_RENEW_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end";
+	private static final Map<String, String> LOCK_SCRIPT_SHA = Map.of(LOCK_RELEASE_SCRIPT, scriptSHA(LOCK_RELEASE_SCRIPT),
+																	  LOCK_RENEW_SCRIPT, scriptSHA(LOCK_RENEW_SCRIPT));
+
 	private final AppCtx mAppCtx;
 	private final RedisDS mRedisDS;
 	private final Jedis mCmdConnection;
@@ -399,6 +411,12 @@ public class RedisCore
 	/**
 	 * Acquires a temporary lock for a key-based operation.  You must call
 	 * createLock() with the lock properties prior to invoking this method.
+	 * The lock value and its expiration are assigned atomically via
+	 * <i>SET NX PX</i>.  While the lock is held elsewhere, the method
+	 * retries with a jittered exponential backoff (capped at 10% of the
+	 * lock release time) until the wait for time elapses, so contending
+	 * callers do not retry in lock step and a released lock is picked up
+	 * within a few milliseconds.
 	 *
 	 *  @see <a href="https://redis.io/topics/distlock">Redis Resource Locking</a>
 	 *
@@ -421,33 +439,36 @@ public class RedisCore
 		long currentTimeInMilliseconds = System.currentTimeMillis();
 		long lockReleaseMilliseconds = aLockItem.getFeatureAsLong(Redis.FEATURE_LOCK_RELEASE);
 		long finishTimeInMilliseconds = currentTimeInMilliseconds + aLockItem.getFeatureAsLong(Redis.FEATURE_LOCK_WAITFOR);
-		long sleepAmountInMilliseconds = Math.max(10, lockReleaseMilliseconds / 10); // sleep for 10% of the lock release time
+		long backoffLimitInMilliseconds = Math.max(Redis.LOCK_BACKOFF_MINIMUM, Math.min(Redis.LOCK_BACKOFF_MAXIMUM, lockReleaseMilliseconds / 10));
+		long backoffInMilliseconds = Redis.LOCK_BACKOFF_MINIMUM;
+		SetParams setParams = SetParams.setParams().nx().px(lockReleaseMilliseconds);
 
 		mRedisDS.ensurePreconditions();
-		while ((! isLockAcquired) && (currentTimeInMilliseconds < finishTimeInMilliseconds))
+		while (true)
 		{
-			long lockStatus = mCmdConnection.setnx(keyName, keyValue);
-			isLockAcquired = lockStatus > 0;
-			if (! isLockAcquired)
+			isLockAcquired = Redis.isResponseOK(mCmdConnection.set(keyName, keyValue, setParams));
+			currentTimeInMilliseconds = System.currentTimeMillis();
+			if ((isLockAcquired) || (currentTimeInMilliseconds >= finishTimeInMilliseconds))
+				break;
+			long sleepAmountInMilliseconds = ThreadLocalRandom.current().nextLong(backoffInMilliseconds + 1);
+			sleepAmountInMilliseconds = Math.max(1, Math.min(sleepAmountInMilliseconds, finishTimeInMilliseconds - currentTimeInMilliseconds));
+			try
 			{
-				try
-				{
-					TimeUnit.MILLISECONDS.sleep(sleepAmountInMilliseconds);
-				}
-				catch (InterruptedException e)
-				{
-					appLogger.error(String.format("Sleep interruption: %s", e.getMessage()));
-				}
-				currentTimeInMilliseconds = System.currentTimeMillis();
+				TimeUnit.MILLISECONDS.sleep(sleepAmountInMilliseconds);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				appLogger.error(String.format("Sleep interruption: %s", e.getMessage()));
+				break;
 			}
+			backoffInMilliseconds = Math.min(backoffInMilliseconds * 2, backoffLimitInMilliseconds);
 		}
 
 		if (isLockAcquired)
 		{
-			String cmdString = String.format("SETNX %s %s", mRedisDS.escapeKey(keyName), mRedisDS.escapeValue(keyValue));
+			String cmdString = String.format("SET %s %s NX PX %d", mRedisDS.escapeKey(keyName), mRedisDS.escapeValue(keyValue), lockReleaseMilliseconds);
 			mRedisDS.saveCommand(appLogger, cmdString);
-			mCmdConnection.pexpire(keyName, lockReleaseMilliseconds);
-			mRedisDS.saveCommand(appLogger, String.format("PEXPIRE %s, %d", mRedisDS.escapeKey(keyName), lockReleaseMilliseconds));
 		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -455,6 +476,81 @@ public class RedisCore
 		return isLockAcquired;
 	}
 
+	/**
+	 * Extends the lease of a previously acquired lock by the lock release
+	 * time, provided the lock is still held by the lock item (i.e. it did
+	 * not expire and get acquired elsewhere).  Long-running operations
+	 * should renew their lock before the release time elapses.
+	 *
+	 * @param aLockItem Lock item instance
+	 *
+	 * @return <i>true</i> if the lease was extended and <i>false</i> otherwise
+	 *
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public boolean renewLock(DataItem aLockItem)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "renewLock");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		String keyName = aLockItem.getName();
+		String lockValue = aLockItem.getValue();
+		String lockReleaseMilliseconds = Long.toString(aLockItem.getFeatureAsLong(Redis.FEATURE_LOCK_RELEASE));
+
+		mRedisDS.ensurePreconditions();
+		Object scriptResult = evalLockScript(appLogger, LOCK_RENEW_SCRIPT, keyName, lockValue, lockReleaseMilliseconds);
+		boolean isLockRenewed = (scriptResult instanceof Long) && ((Long) scriptResult > 0);
+		if (! isLockRenewed)
+			appLogger.warn(String.format("Unable to renew lock: '%s' is no longer held by '%s'.", keyName, lockValue));
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return isLockRenewed;
+	}
+
+	private static String scriptSHA(String aScript)
+	{
+		try
+		{
+			MessageDigest messageDigest = MessageDigest.getInstance("SHA-1");
+			byte[] digestBytes = messageDigest.digest(aScript.getBytes(StandardCharsets.UTF_8));
+			StringBuilder stringBuilder = new StringBuilder(digestBytes.length * 2);
+			for (byte digestByte : digestBytes)
+				stringBuilder.append(String.format("%02x", digestByte));
+			return stringBuilder.toString();
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+// The script is invoked by its digest, so a single round trip is needed once Redis has cached it.
+// If Redis no longer has it, then the script body is sent instead and that command is saved.
+
+	private Object evalLockScript(Logger anAppLogger, String aScript, String aKeyName, String... anArgs)
+	{
+		List<String> keyList = List.of(aKeyName);
+		List<String> argList = List.of(anArgs);
+		String scriptSHA = LOCK_SCRIPT_SHA.get(aScript);
+		String argString = StringUtils.join(anArgs, StrUtl.CHAR_SPACE);
+		Object scriptResult;
+		try
+		{
+			scriptResult = mCmdConnection.evalsha(scriptSHA, keyList, argList);
+			mRedisDS.saveCommand(anAppLogger, String.format("EVALSHA %s 1 %s %s", scriptSHA, mRedisDS.escapeKey(aKeyName), argString));
+		}
+		catch (JedisNoScriptException e)
+		{
+			scriptResult = mCmdConnection.eval(aScript, keyList, argList);
+			mRedisDS.saveCommand(anAppLogger, String.format("EVAL \"%s\" 1 %s %s", aScript, mRedisDS.escapeKey(aKeyName), argString));
+		}
+
+		return scriptResult;
+	}
+
 	/**
 	 * Deletes the key and associated value synchronously from the
 	 * Redis database.
@@ -555,7 +651,8 @@ public class RedisCore
 	}
 
 	/**
-	 * Flushes the data from the Redis database.
+	 * Flushes the data from the Redis database and discards the search
+	 * results cached in the process.
 	 *
 	 * @throws RedisDSException Command operation failed
 	 */
@@ -569,12 +666,15 @@ public class RedisCore
 		mRedisDS.ensurePreconditions();
 		mCmdConnection.flushDB();
 		mRedisDS.saveCommand(appLogger, "FLUSHDB");
+		RedisSearch.invalidateResultCaches();
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
 	/**
-	 * Releases a previoulsy acquired lock.
+	 * Releases a previoulsy acquired lock.  The lock value is compared
+	 * and the key deleted in a single server-side script, so a lock that
+	 * expired and was acquired elsewhere is never released by mistake.
 	 *
 	 * @param aLockItem Lock item instance
 	 *
@@ -589,11 +689,11 @@ public class RedisCore
 
 		String keyName = aLockItem.getName();
 		String lockValue = aLockItem.getValue();
-		String keyValue = get(keyName);
-		if (StringUtils.equals(keyValue, lockValue))
-			delete(keyName);
-		else
-			appLogger.warn(String.format("Unable to release lock: '%s' and '%s' mismatch.", lockValue, keyValue));
+
+		mRedisDS.ensurePreconditions();
+		Object scriptResult = evalLockScript(appLogger, LOCK_RELEASE_SCRIPT, keyName, lockValue);
+		if (! ((scriptResult instanceof Long) && ((Long) scriptResult > 0)))
+			appLogger.warn(String.format("Unable to release lock: '%s' is no longer held by '%s'.", keyName, lockValue));
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -156,26 +156,20 @@ public class RedisDoc
 		return dataItem;
 	}
 
-	private void storeDataDocItems(Pipeline aPipeline, String aKeyName,
-								   DataDoc aDataDoc, StringBuilder aStringBuilder)
-		throws RedisDSException
+	private void collectDataDocItems(LinkedHashMap<String,String> aFieldValues,
+									 DataDoc aDataDoc, StringBuilder aStringBuilder)
 	{
 		Date itemDate;
 		DataItem shadowDataItem;
 		String fieldName, fieldValue;
-		Logger appLogger = mAppCtx.getLogger(this, "storeDataDocItems");
+		Logger appLogger = mAppCtx.getLogger(this, "collectDataDocItems");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		mRedisDS.ensurePreconditions();
-		aStringBuilder.append(String.format("HSET %s", mRedisDS.escapeKey(aKeyName)));
 		for (DataItem dataItem : aDataDoc.getItems())
 		{
 			fieldName =  dataItemToFieldName(dataItem);
-			if (aPipeline == null)
-				mCmdConnection.hset(aKeyName, fieldName, mRedisDS.collapseEncryptValue(dataItem));
-			else
-				aPipeline.hset(aKeyName, fieldName, mRedisDS.collapseEncryptValue(dataItem));
+			aFieldValues.put(fieldName, mRedisDS.collapseEncryptValue(dataItem));
 			aStringBuilder.append(StrUtl.CHAR_SPACE);
 			aStringBuilder.append(mRedisDS.escapeKey(fieldName));
 			aStringBuilder.append(StrUtl.CHAR_SPACE);
@@ -189,17 +183,14 @@ public class RedisDoc
 
 			if ((fieldValue.length() > 0) && (Data.isDateOrTime(dataItem.getType())))
 			{
-				itemDate = dataItem.getValueAsDate();
+				itemDate = mRedisDS.dataItemToDate(dataItem);
 				if (itemDate == null)
 					appLogger.error(String.format("%s: Unable to parse '%s' format of '%s'", dataItem.getName(),
 												  dataItem.getValue(), dataItem.getDataFormat()));
 				else
 				{
 					shadowDataItem = shadowDataItem(dataItem, itemDate);
-					if (aPipeline == null)
-						mCmdConnection.hset(aKeyName, dataItemToFieldName(shadowDataItem), mRedisDS.collapseEncryptValue(shadowDataItem));
-					else
-						aPipeline.hset(aKeyName, dataItemToFieldName(shadowDataItem), mRedisDS.collapseEncryptValue(shadowDataItem));
+					aFieldValues.put(dataItemToFieldName(shadowDataItem), mRedisDS.collapseEncryptValue(shadowDataItem));
 					aStringBuilder.append(StrUtl.CHAR_SPACE);
 					aStringBuilder.append(mRedisDS.escapeKey(shadowDataItem.getName()));
 					aStringBuilder.append(StrUtl.CHAR_SPACE);
@@ -211,13 +202,62 @@ public class RedisDoc
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
+// The fields, their shadow fields and the child document links are written with a single
+// multi-field HSET command per hash.
+
+	private void storeDataDocItems(Pipeline aPipeline, String aKeyName, DataDoc aDataDoc,
+								   Optional<DataDoc> anOptChildDocs, StringBuilder aStringBuilder)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "storeDataDocItems");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		mRedisDS.ensurePreconditions();
+		LinkedHashMap<String,String> fieldValues = new LinkedHashMap<>();
+		aStringBuilder.append(String.format("HSET %s", mRedisDS.escapeKey(aKeyName)));
+		collectDataDocItems(fieldValues, aDataDoc, aStringBuilder);
+		if (anOptChildDocs.isPresent())
+			collectDataDocItems(fieldValues, anOptChildDocs.get(), aStringBuilder);
+		if (fieldValues.size() > 0)
+		{
+			if (aPipeline == null)
+				mCmdConnection.hset(aKeyName, fieldValues);
+			else
+				aPipeline.hset(aKeyName, fieldValues);
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
+	private void expireKey(Pipeline aPipeline, String aKeyName)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "expireKey");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		long keyExpirationInSeconds = mRedisDS.getKeyExpiration();
+		if (aPipeline == null)
+			mRedisDS.createCore().expire(aKeyName);
+		else if (keyExpirationInSeconds > 0)
+		{
+			aPipeline.expire(aKeyName, keyExpirationInSeconds);
+			mRedisDS.saveCommand(appLogger, String.format("EXPIRE %s %d", mRedisDS.escapeKey(aKeyName), keyExpirationInSeconds));
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
 	/**
 	 * Adds a data document as a hash to the Redis database.  The logic
 	 * automatically handles data items with multiple values and performs
 	 * encryption on the values if the Data.FEATURE_IS_SECRET is enabled.
 	 * In addition, if the data document represents a hierarchy, then all
 	 * child documents will automatically be stored as hashes and linked
-	 * back to the parent data document.
+	 * back to the parent data document.  Each hash is written with a
+	 * single multi-field HSET command and the commands for the entire
+	 * document hierarchy are sent in one pipeline.
 	 *
 	 * @see <a href="https://redis.io/commands/hset">Redis Command</a>
 	 * @see <a href="https://github.com/lettuce-io/lettuce-core/wiki/Pipelining-and-command-flushing">Pipelining and Flushing</a>
@@ -229,40 +269,16 @@ public class RedisDoc
 	public void add(DataDoc aDataDoc)
 		throws RedisDSException
 	{
-		String keyName;
 		Logger appLogger = mAppCtx.getLogger(this, "add");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		mRedisDS.ensurePreconditions();
-		Pipeline commandPipeline = null;
-		Optional<DataDoc> optChildDocs = saveChildDocuments(commandPipeline, aDataDoc);
-		Optional<DataItem> optDataItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
-		if (optDataItem.isPresent())
-		{
-			DataItem dataItem = optDataItem.get();
-			if (dataItem.isValueAssigned())
-				keyName = mRedisKey.moduleCore().redisHash().dataObject(aDataDoc).primaryId(dataItem.getValue()).name();
-			else
-				keyName = mRedisKey.moduleCore().redisHash().dataObject(aDataDoc).name();
-		}
-		else
-			keyName = mRedisKey.moduleCore().redisHash().dataObject(aDataDoc).name();
-		int fieldCount = aDataDoc.count();
-		if ((fieldCount > 0) || (optChildDocs.isPresent()))
-		{
-			StringBuilder stringBuilder = new StringBuilder();
-			storeDataDocItems(commandPipeline, keyName, aDataDoc, stringBuilder);
-			if (optChildDocs.isPresent())
-			{
-				stringBuilder.append(String.format("%n"));
-				DataDoc childDocs = optChildDocs.get();
-				storeDataDocItems(commandPipeline, keyName, childDocs, stringBuilder);
-			}
-			mRedisDS.saveCommand(appLogger, stringBuilder.toString());
-			mRedisDS.createCore().expire(keyName);
-		}
-		aDataDoc.addFeature(Redis.FEATURE_KEY_NAME, keyName);
+		Pipeline commandPipeline = new Pipeline(mRedisDS.getCmdConnection());
+		mRedisDS.saveCommand(appLogger, "PIPELINE");
+		add(commandPipeline, aDataDoc);
+		commandPipeline.sync();
+		mRedisDS.saveCommand(appLogger, "SYNC");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -308,15 +324,9 @@ public class RedisDoc
 		if ((fieldCount > 0) || (optChildDocs.isPresent()))
 		{
 			StringBuilder stringBuilder = new StringBuilder();
-			storeDataDocItems(aPipeline, keyName, aDataDoc, stringBuilder);
-			if (optChildDocs.isPresent())
-			{
-				stringBuilder.append(String.format("%n"));
-				DataDoc childDocs = optChildDocs.get();
-				storeDataDocItems(aPipeline, keyName, childDocs, stringBuilder);
-			}
+			storeDataDocItems(aPipeline, keyName, aDataDoc, optChildDocs, stringBuilder);
 			mRedisDS.saveCommand(appLogger, stringBuilder.toString());
-			mRedisDS.createCore().expire(keyName);
+			expireKey(aPipeline, keyName);
 		}
 		aDataDoc.addFeature(Redis.FEATURE_KEY_NAME, keyName);
 
@@ -353,9 +363,97 @@ public class RedisDoc
 		return optDataDoc;
 	}
 
+	private static final class ChildLink
+	{
+		private final String mName;
+		private final String mKeyName;
+		private final DataDoc mParentDoc;
+
+		ChildLink(DataDoc aParentDoc, String aName, String aKeyName)
+		{
+			mName = aName;
+			mKeyName = aKeyName;
+			mParentDoc = aParentDoc;
+		}
+	}
+
+	private void populateDoc(DataDoc aDataDoc, Map<String,String> aFieldValues, List<ChildLink> aChildLinks)
+	{
+		DataItem dataItem;
+		Optional<DataItem> optDataItem;
+
+		for (Map.Entry<String,String> entry : aFieldValues.entrySet())
+		{
+			optDataItem = mRedisField.toDataItem(entry.getKey());
+			if (optDataItem.isPresent())
+			{
+				dataItem = optDataItem.get();
+				mRedisDS.decryptExpandValue(dataItem, entry.getValue());
+				if (dataItem.isFeatureAssigned(Redis.FEATURE_IS_KEY))
+				{
+					for (String keyName : dataItem.getValues())
+					{
+						if (StringUtils.isNotEmpty(keyName))
+							aChildLinks.add(new ChildLink(aDataDoc, dataItem.getName(), keyName));
+					}
+				}
+				else
+					aDataDoc.add(dataItem);
+			}
+		}
+	}
+
+// Child documents are loaded one hierarchy level at a time, with a single pipelined batch of
+// HGETALL commands per level rather than a round trip per child document.
+
+	@SuppressWarnings("unchecked")
+	private void loadChildDocuments(Logger anAppLogger, List<ChildLink> aChildLinks)
+	{
+		Map<String,String> fieldValues;
+		Optional<DataDoc> optKeyDataDoc;
+
+		List<ChildLink> childLinks = aChildLinks;
+		while (childLinks.size() > 0)
+		{
+			Pipeline commandPipeline = new Pipeline(mRedisDS.getCmdConnection());
+			mRedisDS.saveCommand(anAppLogger, "PIPELINE");
+			for (ChildLink childLink : childLinks)
+			{
+				commandPipeline.hgetAll(childLink.mKeyName);
+				mRedisDS.saveCommand(anAppLogger, String.format("HGETALL %s", mRedisDS.escapeKey(childLink.mKeyName)));
+			}
+			List<Object> pipelineResponseList = commandPipeline.syncAndReturnAll();
+			mRedisDS.saveCommand(anAppLogger, "SYNC");
+
+			ArrayList<ChildLink> nextChildLinks = new ArrayList<>();
+			int linkCount = Math.min(childLinks.size(), pipelineResponseList.size());
+			for (int offset = 0; offset < linkCount; offset++)
+			{
+				Object responseObject = pipelineResponseList.get(offset);
+				if (responseObject instanceof Map)
+				{
+					fieldValues = (Map<String,String>) responseObject;
+					if (fieldValues.size() > 0)
+					{
+						ChildLink childLink = childLinks.get(offset);
+						optKeyDataDoc = mRedisKey.toDataDoc(childLink.mKeyName);
+						if (optKeyDataDoc.isPresent())
+						{
+							DataDoc childDoc = optKeyDataDoc.get();
+							populateDoc(childDoc, fieldValues, nextChildLinks);
+							childLink.mParentDoc.addChild(childLink.mName, childDoc);
+						}
+					}
+				}
+			}
+			childLinks = nextChildLinks;
+		}
+	}
+
 	/**
 	 * Returns an optional data document from the Redis database based on
-	 * the key name.
+	 * the key name.  Child data documents are fetched in pipelined batches
+	 * (one per level of the document hierarchy).
 	 *
 	 * @param aKeyName Key name
 	 *
@@ -366,8 +464,6 @@ public class RedisDoc
 	public Optional<DataDoc> getDoc(String aKeyName)
 		throws RedisDSException
 	{
-		DataItem dataItem;
-		Optional<DataItem> optDataItem;
 		Logger appLogger = mAppCtx.getLogger(this, "getDoc");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
@@ -385,23 +481,9 @@ public class RedisDoc
 				if (optKeyDataDoc.isPresent())
 				{
 					DataDoc dataDoc = optKeyDataDoc.get();
-					for (Map.Entry<String,String> entry : fieldValues.entrySet())
-					{
-						optDataItem = mRedisField.toDataItem(entry.getKey());
-						if (optDataItem.isPresent())
-						{
-							dataItem = optDataItem.get();
-							mRedisDS.decryptExpandValue(dataItem, entry.getValue());
-							if (dataItem.isFeatureAssigned(Redis.FEATURE_IS_KEY))
-							{
-								Optional<DataDoc> optChildDoc = getDoc(dataItem.getValue());
-								if (optChildDoc.isPresent())
-									dataDoc.addChild(dataItem.getName(), optChildDoc.get());
-							}
-							else
-								dataDoc.add(dataItem);
-						}
-					}
+					ArrayList<ChildLink> childLinks = new ArrayList<>();
+					populateDoc(dataDoc, fieldValues, childLinks);
+					loadChildDocuments(appLogger, childLinks);
 					optDataDoc = Optional.of(dataDoc);
 				}
 			}
@@ -421,6 +503,8 @@ public class RedisDoc
 	/**
 	 * Loads the data document with fields/values of a Redis database
 	 * hash.  The key name is obtained from Redis.REDIS_FEATURE_KEY_NAME.
+	 * Child data documents are fetched in pipelined batches (one per
+	 * level of the document hierarchy).
 	 *
 	 * @param aDataDoc Data document instance
 	 *
@@ -429,8 +513,6 @@ public class RedisDoc
 	public void loadDoc(DataDoc aDataDoc)
 		throws RedisDSException
 	{
-		DataItem dataItem;
-		Optional<DataItem> optDataItem;
 		Logger appLogger = mAppCtx.getLogger(this, "loadDoc");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
@@ -444,23 +526,9 @@ public class RedisDoc
 			mRedisDS.saveCommand(appLogger, cmdString);
 			if ((fieldValues != null) && (fieldValues.size() > 0))
 			{
-				for (Map.Entry<String,String> entry : fieldValues.entrySet())
-				{
-					optDataItem = mRedisField.toDataItem(entry.getKey());
-					if (optDataItem.isPresent())
-					{
-						dataItem = optDataItem.get();
-						mRedisDS.decryptExpandValue(dataItem, entry.getValue());
-						if (dataItem.isFeatureAssigned(Redis.FEATURE_IS_KEY))
-						{
-							Optional<DataDoc> optChildDoc = getDoc(dataItem.getValue());
-							if (optChildDoc.isPresent())
-								aDataDoc.addChild(dataItem.getName(), optChildDoc.get());
-						}
-						else
-							aDataDoc.add(dataItem);
-					}
-				}
+				ArrayList<ChildLink> childLinks = new ArrayList<>();
+				populateDoc(aDataDoc, fieldValues, childLinks);
+				loadChildDocuments(appLogger, childLinks);
 			}
 		}
 
@@ -567,7 +635,8 @@ public class RedisDoc
 	 * hash data structures.  The updates are selective and based on
 	 * whether the data item has the feature Data.FEATURE_IS_UPDATED
 	 * enabled.  However, child data documents are ignored during
-	 * this operation.
+	 * this operation.  The changed fields are written with a single
+	 * multi-field HSET command.
 	 *
 	 * @see <a href="https://redis.io/commands/hmset">Redis Command</a>
 	 *
@@ -591,12 +660,13 @@ public class RedisDoc
 			if (fieldCount > 0)
 			{
 				StringBuilder stringBuilder = new StringBuilder();
+				LinkedHashMap<String,String> fieldValues = new LinkedHashMap<>();
 				stringBuilder.append(String.format("HSET %s", mRedisDS.escapeKey(keyName)));
 				for (DataItem dataItem : aDataDoc.getItems())
 				{
 					if (dataItem.isFeatureTrue(Data.FEATURE_IS_UPDATED))
 					{
-						mCmdConnection.hset(keyName, dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
+						fieldValues.put(dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
 						if (dataItem.isMultiValue())
 							fieldValue = dataItem.getValuesCollapsed();
 						else
@@ -607,6 +677,8 @@ public class RedisDoc
 						stringBuilder.append(mRedisDS.escapeValue(fieldValue));
 					}
 				}
+				if (fieldValues.size() > 0)
+					mCmdConnection.hset(keyName, fieldValues);
 				String cmdString = String.format("%s", stringBuilder.toString());
 				mRedisDS.saveCommand(appLogger, cmdString);
 			}
@@ -655,9 +727,10 @@ public class RedisDoc
 				{
 					changeDataDoc = optDataDoc.get();
 					StringBuilder stringBuilder = new StringBuilder(String.format("HSET %s", mRedisDS.escapeKey(keyName)));
+					LinkedHashMap<String,String> fieldValues = new LinkedHashMap<>();
 					for (DataItem dataItem : changeDataDoc.getItems())
 					{
-						mCmdConnection.hset(keyName, dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
+						fieldValues.put(dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
 						if (dataItem.isMultiValue())
 							fieldValue = dataItem.getValuesCollapsed();
 						else
@@ -667,6 +740,8 @@ public class RedisDoc
 						stringBuilder.append(StrUtl.CHAR_SPACE);
 						stringBuilder.append(mRedisDS.escapeValue(fieldValue));
 					}
+					if (fieldValues.size() > 0)
+						mCmdConnection.hset(keyName, fieldValues);
 					mRedisDS.saveCommand(appLogger, stringBuilder.toString());
 				}
 				optDataDoc = dataDocDiff.changedItems(Data.DIFF_STATUS_UPDATED);
@@ -674,9 +749,10 @@ public class RedisDoc
 				{
 					changeDataDoc = optDataDoc.get();
 					StringBuilder stringBuilder = new StringBuilder(String.format("HSET %s", mRedisDS.escapeKey(keyName)));
+					LinkedHashMap<String,String> fieldValues = new LinkedHashMap<>();
 					for (DataItem dataItem : changeDataDoc.getItems())
 					{
-						mCmdConnection.hset(keyName, dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
+						fieldValues.put(dataItemToFieldName(dataItem), mRedisDS.collapseEncryptValue(dataItem));
 						if (dataItem.isMultiValue())
 							fieldValue = dataItem.getValuesCollapsed();
 						else
@@ -686,27 +762,31 @@ public class RedisDoc
 						stringBuilder.append(StrUtl.CHAR_SPACE);
 						stringBuilder.append(mRedisDS.escapeValue(fieldValue));
 					}
+					if (fieldValues.size() > 0)
+						mCmdConnection.hset(keyName, fieldValues);
 					mRedisDS.saveCommand(appLogger, stringBuilder.toString());
 				}
 				optDataDoc = dataDocDiff.changedItems(Data.DIFF_STATUS_DELETED);
 				if (optDataDoc.isPresent())
 				{
-					int delCount = 0;
 					changeDataDoc = optDataDoc.get();
+					ArrayList<String> fieldNames = new ArrayList<>();
 					StringBuilder stringBuilder = new StringBuilder(String.format("HDEL %s", mRedisDS.escapeKey(keyName)));
 					for (DataItem dataItem : changeDataDoc.getItems())
 					{
 						fieldName = dataItem.getName();
 						if (! StringUtils.endsWith(fieldName, Redis.SHADOW_FIELD_MARKER_NAME))
 						{
-							mCmdConnection.hdel(keyName, fieldName);
+							fieldNames.add(fieldName);
 							stringBuilder.append(StrUtl.CHAR_SPACE);
 							stringBuilder.append(mRedisDS.escapeKey(fieldName));
-							delCount++;
 						}
 					}
-					if (delCount > 0)
+					if (fieldNames.size() > 0)
+					{
+						mCmdConnection.hdel(keyName, fieldNames.toArray(new String[0]));
 						mRedisDS.saveCommand(appLogger, stringBuilder.toString());
+					}
 				}
 			}
 		}
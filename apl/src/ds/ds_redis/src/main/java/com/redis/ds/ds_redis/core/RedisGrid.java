@@ -36,6 +36,7 @@ import com.redis.foundation.io.DataDocXML;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
 import redis.clients.jedis.Jedis;
@@ -66,6 +67,11 @@ import java.util.*;
  */
 public class RedisGrid
 {
+	private static final String SEQUENCE_SEED_SCRIPT = "local v = redis.call('get', KEYS[1]) if not v then v = ARGV[1] redis.call('set', KEYS[1], v) " +
+													   "if tonumber(ARGV[2]) > 0 then redis.call('expire', KEYS[1], ARGV[2]) end end ";
+	private static final String SEQUENCE_NEXT_SCRIPT = SEQUENCE_SEED_SCRIPT + "return redis.call('incr', KEYS[1])";
+	private static final String SEQUENCE_ADVANCE_SCRIPT = SEQUENCE_SEED_SCRIPT + "if tonumber(ARGV[3]) > tonumber(v) then redis.call('set', KEYS[1], ARGV[3], 'KEEPTTL') return 1 end return 0";
+
 	private final AppCtx mAppCtx;
 	private final RedisDS mRedisDS;
 	private final RedisKey mRedisKey;
@@ -389,9 +395,144 @@ public class RedisGrid
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
+	private String sequenceKeyName(DataGrid aDataGrid)
+	{
+		return mRedisKey.moduleCore().redisString().dataObject(aDataGrid).name();
+	}
+
+	private static long primaryKeyValue(String aValue)
+	{
+		if (NumberUtils.isParsable(aValue))
+			return Math.round(Double.parseDouble(aValue));
+		else
+			return 0L;
+	}
+
+// The largest primary key stored in the grid is computed here (decrypting the values as needed)
+// only while the sequence does not exist yet.  The sequence scripts touch just the sequence key,
+// assigning the seed when the key is still missing, so concurrent seeders cannot move it backwards.
+
+	private List<String> sequenceSeedArgs(Logger anAppLogger, String aGridKeyName, String aSequenceKeyName, String anItemName)
+		throws RedisDSException
+	{
+		long lastKey = 0L;
+		boolean isSeeded = mCmdConnection.exists(aSequenceKeyName);
+		mRedisDS.saveCommand(anAppLogger, String.format("EXISTS %s", mRedisDS.escapeKey(aSequenceKeyName)));
+		if (! isSeeded)
+		{
+			Optional<DataGrid> optDataGrid = getGridSchema(aGridKeyName);
+			if (optDataGrid.isPresent())
+			{
+				DataGrid dataGrid = optDataGrid.get();
+				boolean isCommandStreamActive = mRedisDS.isCommandStreamActive();
+				mRedisDS.setCommandStreamActiveFlag(false);
+				try
+				{
+					loadGridPipeline(dataGrid, Redis.GRID_RANGE_START, Redis.GRID_RANGE_FINISH);
+				}
+				finally
+				{
+					mRedisDS.setCommandStreamActiveFlag(isCommandStreamActive);
+				}
+				int rowCount = dataGrid.rowCount();
+				for (int row = 0; row < rowCount; row++)
+					lastKey = Math.max(lastKey, primaryKeyValue(dataGrid.getRowAsDoc(row).getValueByName(anItemName)));
+			}
+		}
+
+		return new ArrayList<>(List.of(Long.toString(lastKey), Integer.toString(mRedisDS.getKeyExpiration())));
+	}
+
+	private Object evalSequenceScript(Logger anAppLogger, String aScript, String aSequenceKeyName, List<String> anArgs)
+	{
+		Object scriptResult = mCmdConnection.eval(aScript, List.of(aSequenceKeyName), anArgs);
+		mRedisDS.saveCommand(anAppLogger, String.format("EVAL \"%s\" 1 %s %s", aScript, mRedisDS.escapeKey(aSequenceKeyName),
+														StringUtils.join(anArgs, StrUtl.CHAR_SPACE)));
+
+		return scriptResult;
+	}
+
+	/**
+	 * Allocates the next numeric primary key value for the data grid
+	 * identified by the key name.  The sequence is held in a Redis string
+	 * that is seeded from the largest value stored in the grid and then
+	 * incremented within the same server-side script, so concurrent
+	 * sessions are handed unique values.  Values of deleted rows are not
+	 * reused.
+	 *
+	 * @param aKeyName Key name of data grid
+	 * @param anItemName Name of the primary key item
+	 *
+	 * @return Primary key value
+	 *
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public long nextPrimaryKey(String aKeyName, String anItemName)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "nextPrimaryKey");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		mRedisDS.ensurePreconditions();
+		Optional<DataGrid> optDataGrid = mRedisKey.toDataGrid(aKeyName);
+		if (optDataGrid.isEmpty())
+			throw new RedisDSException(String.format("Unable to identify a data grid from key '%s'.", aKeyName));
+		String sequenceKeyName = sequenceKeyName(optDataGrid.get());
+		List<String> argList = sequenceSeedArgs(appLogger, aKeyName, sequenceKeyName, anItemName);
+		Object scriptResult = evalSequenceScript(appLogger, SEQUENCE_NEXT_SCRIPT, sequenceKeyName, argList);
+		long primaryKey = (scriptResult instanceof Long) ? (Long) scriptResult : 0L;
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return primaryKey;
+	}
+
+	/**
+	 * Allocates the next numeric primary key value for the data grid.
+	 * The key name is obtained from the feature Redis.REDIS_FEATURE_KEY_NAME.
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param anItemName Name of the primary key item
+	 *
+	 * @return Primary key value
+	 *
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public long nextPrimaryKey(DataGrid aDataGrid, String anItemName)
+		throws RedisDSException
+	{
+		return nextPrimaryKey(aDataGrid.getFeature(Redis.FEATURE_KEY_NAME), anItemName);
+	}
+
+// Primary keys assigned by the caller advance the sequence (seeding it first if needed), so they are
+// never handed out again.
+
+	private void assignPrimaryKey(Logger anAppLogger, String aKeyName, DataGrid aDataGrid, DataDoc aDataDoc)
+		throws RedisDSException
+	{
+		Optional<DataItem> optDataItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
+		if ((optDataItem.isPresent()) && (Data.isNumber(optDataItem.get().getType())))
+		{
+			DataItem diPrimaryKey = optDataItem.get();
+			String primaryKey = aDataDoc.getValueByName(diPrimaryKey.getName());
+			if (StringUtils.isEmpty(primaryKey))
+				aDataDoc.setValueByName(diPrimaryKey.getName(), nextPrimaryKey(aKeyName, diPrimaryKey.getName()));
+			else
+			{
+				String sequenceKeyName = sequenceKeyName(aDataGrid);
+				List<String> argList = sequenceSeedArgs(anAppLogger, aKeyName, sequenceKeyName, diPrimaryKey.getName());
+				argList.add(Long.toString(primaryKeyValue(primaryKey)));
+				evalSequenceScript(anAppLogger, SEQUENCE_ADVANCE_SCRIPT, sequenceKeyName, argList);
+			}
+		}
+	}
+
 	/**
 	 * Adds the data document as a row to the end of the data grid
-	 * identified by the key name in the Redis database.
+	 * identified by the key name in the Redis database.  A numeric
+	 * primary key that is not assigned is allocated from the grid's
+	 * primary key sequence.
 	 *
 	 * @param aKeyName Key name of data grid
 	 * @param aDataDoc Data document instance
@@ -412,6 +553,7 @@ public class RedisGrid
 			if (optDataGrid.isPresent())
 			{
 				DataGrid dataGrid = optDataGrid.get();
+				assignPrimaryKey(appLogger, aKeyName, dataGrid, aDataDoc);
 				long rowCount = mRedisDS.createCore().sortedSetCount(aKeyName);
 				aDataDoc.setName(String.format("%s - Row %d", dataGrid.getName(), rowCount+1));
 				writeRow(dataGrid, aDataDoc, Redis.GRID_RANGE_FINISH);
@@ -630,13 +772,6 @@ public class RedisGrid
 		{
 			aRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
 			aDataGrid.emptyRows();
-			if (aRowNumberFinish != Redis.GRID_RANGE_FINISH)
-			{
-				long listSize = mCmdConnection.zcard(keyName);
-				mRedisDS.saveCommand(appLogger, String.format("ZCARD %s", mRedisDS.escapeKey(keyName)));
-				if (aRowNumberFinish > listSize)
-					aRowNumberFinish = Redis.GRID_RANGE_FINISH;
-			}
 			listValues = mCmdConnection.zrange(keyName, aRowNumberStart, aRowNumberFinish);
 			mRedisDS.saveCommand(appLogger, String.format("ZRANGE %s %d %d", mRedisDS.escapeKey(keyName), aRowNumberStart, aRowNumberFinish));
 			int valueCount = listValues.size();
@@ -694,13 +829,6 @@ public class RedisGrid
 		{
 			aDataGrid.emptyRows();
 			aRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
-			if (aRowNumberFinish != Redis.GRID_RANGE_FINISH)
-			{
-				long listSize = mCmdConnection.zcard(keyName);
-				mRedisDS.saveCommand(appLogger, String.format("ZCARD %s", mRedisDS.escapeKey(keyName)));
-				if (aRowNumberFinish > listSize)
-					aRowNumberFinish = Redis.GRID_RANGE_FINISH;
-			}
 			listValues = mCmdConnection.zrange(keyName, aRowNumberStart, aRowNumberFinish);
 			mRedisDS.saveCommand(appLogger, String.format("ZRANGE %s %d %d", mRedisDS.escapeKey(keyName), aRowNumberStart, aRowNumberFinish));
 			int multiCount = 0;
@@ -1336,6 +1464,7 @@ public class RedisGrid
 			deleteCount = redisCore.delete(keyName);
 			if (deleteCount != 1)
 				appLogger.warn(String.format("Key '%s': Delete count is %d.", keyName, deleteCount));
+			redisCore.delete(sequenceKeyName(optDataGrid.get()));
 			aDataGrid.emptyRows();
 			aDataGrid.disableFeature(Redis.FEATURE_KEY_NAME);
 		}
@@ -174,6 +174,63 @@ public class RedisGraphs
 		return mRedisKey.moduleGraph().redisGraph().dataName(aName).name();
 	}
 
+	/**
+	 * Create a key name (using the Redis App Studio standard format) for the
+	 * version counter of the graph.  The counter is incremented each time the
+	 * graph is modified via this class, so it can be used to identify stale
+	 * renderings of the graph (e.g. cached visualizations).
+	 *
+	 * @param aName Name of the graph
+	 *
+	 * @return String representing the Redis database key name
+	 */
+	public String graphVersionKeyName(String aName)
+	{
+		return mRedisKey.moduleGraph().redisString().dataName(aName).name();
+	}
+
+	/**
+	 * Returns the current version of the graph.  A graph that has never
+	 * been modified via this class is version zero.
+	 *
+	 * @param aName Name of the graph
+	 *
+	 * @return Graph version
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public long getVersion(String aName)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "getVersion");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		ensurePreconditions();
+		String versionKeyName = graphVersionKeyName(aName);
+		String versionValue = mCmdConnection.get(versionKeyName);
+		mRedisDS.saveCommand(appLogger, String.format("GET %s", mRedisDS.escapeKey(versionKeyName)));
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return NumberUtils.toLong(versionValue, 0L);
+	}
+
+	private void incrementVersion(Logger anAppLogger, String aName)
+	{
+		String versionKeyName = graphVersionKeyName(aName);
+		mCmdConnection.incr(versionKeyName);
+		mRedisDS.saveCommand(anAppLogger, String.format("INCR %s", mRedisDS.escapeKey(versionKeyName)));
+	}
+
+	private void updateVersion(Logger anAppLogger, String aName, Statistics aStatistics)
+	{
+		if ((aStatistics.nodesCreated() > 0) || (aStatistics.nodesDeleted() > 0) ||
+			(aStatistics.relationshipsCreated() > 0) || (aStatistics.relationshipsDeleted() > 0) ||
+			(aStatistics.propertiesSet() > 0))
+			incrementVersion(anAppLogger, aName);
+	}
+
 	/**
 	 * Identifies if the feature name is standard to the search
 	 * data source package.
@@ -569,6 +626,7 @@ public class RedisGraphs
 		ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 		Statistics rgStatistics = resultSet.getStatistics();
 		mRedisDS.saveCommand(appLogger, redisCommand);
+		updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -610,6 +668,7 @@ public class RedisGraphs
 		ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 		Statistics rgStatistics = resultSet.getStatistics();
 		mRedisDS.saveCommand(appLogger, redisCommand);
+		updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -717,6 +776,7 @@ public class RedisGraphs
 					throw new RedisDSException(String.format("%s: Redis relationships created (%d) does not match graph relationship count (%d).",
 														  aDataGraph.getName(), relationshipsCreated, dataGraphEdgeSet.size()));
 			}
+			incrementVersion(appLogger, aDataGraph.getName());
 		}
 
 // Finally, if schema documents were provided, then we will persist them and create property and full text indexes.
@@ -1230,6 +1290,7 @@ public class RedisGraphs
 		ResultSet resultSet = mCmdConnection.graphQuery(graphName, aCypherStatement);
 		graphResultToDataGraph(dataGraph, resultSet);
 		mRedisDS.saveCommand(appLogger, redisCommand);
+		updateVersion(appLogger, aGraphDBName, resultSet.getStatistics());
 		dataGraph.addFeature(Redis.FEATURE_CYPHER_QUERY, aCypherStatement);
 		dataGraph.addFeature(Redis.FEATURE_REDISGRAPH_QUERY, redisCommand);
 
@@ -1417,6 +1478,7 @@ public class RedisGraphs
 					ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 					Statistics rgStatistics = resultSet.getStatistics();
 					mRedisDS.saveCommand(appLogger, redisCommand);
+					updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 					propertiesSet = rgStatistics.propertiesSet();
 				}
 			}
@@ -1464,6 +1526,7 @@ public class RedisGraphs
 				ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 				Statistics rgStatistics = resultSet.getStatistics();
 				mRedisDS.saveCommand(appLogger, redisCommand);
+				updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 				propertiesSet = rgStatistics.propertiesSet();
 			}
 		}
@@ -1506,6 +1569,7 @@ public class RedisGraphs
 			ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 			Statistics rgStatistics = resultSet.getStatistics();
 			mRedisDS.saveCommand(appLogger, redisCommand);
+			updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 			nodesDeleted = rgStatistics.nodesDeleted();
 		}
 
@@ -1549,6 +1613,7 @@ public class RedisGraphs
 			ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 			Statistics rgStatistics = resultSet.getStatistics();
 			mRedisDS.saveCommand(appLogger, redisCommand);
+			updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 			relationshipsDeleted = rgStatistics.relationshipsDeleted();
 		}
 
@@ -1590,6 +1655,7 @@ public class RedisGraphs
 			ResultSet resultSet = mCmdConnection.graphQuery(graphName, cypherCommand);
 			Statistics rgStatistics = resultSet.getStatistics();
 			mRedisDS.saveCommand(appLogger, redisCommand);
+			updateVersion(appLogger, aDataGraph.getName(), rgStatistics);
 			relationshipsDeleted = rgStatistics.relationshipsDeleted();
 		}
 
@@ -1621,6 +1687,7 @@ public class RedisGraphs
 			mRedisDS.saveCommand(appLogger, redisCommand);
 		else
 			throw new RedisDSException(String.format("[%s] Graph deletion failed: %s", graphName, resultMessage));
+		incrementVersion(appLogger, aDataGraph.getName());
 		RedisCore redisCore = mRedisDS.createCore();
 		if (schemaExists(true))
 		{
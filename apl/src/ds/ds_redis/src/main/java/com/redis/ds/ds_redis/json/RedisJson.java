@@ -37,6 +37,7 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.json.JsonSetParams;
 import redis.clients.jedis.json.Path2;
@@ -535,7 +536,7 @@ public class RedisJson
 			{
 				if (Data.isDateOrTime(dataItem.getType()))
 				{
-					itemDate = dataItem.getValueAsDate();
+					itemDate = mRedisDS.dataItemToDate(dataItem);
 					if (itemDate == null)
 						appLogger.error(String.format("%s: Unable to parse '%s' format of '%s'", dataItem.getName(),
 													  dataItem.getValue(), dataItem.getDataFormat()));
@@ -1066,13 +1067,6 @@ public class RedisJson
 		{
 			aRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
 			aDataGrid.emptyRows();
-			if (aRowNumberFinish != Redis.GRID_RANGE_FINISH)
-			{
-				long listSize = mCmdConnection.zcard(keyName);
-				mRedisDS.saveCommand(appLogger, String.format("ZCARD %s", mRedisDS.escapeKey(keyName)));
-				if (aRowNumberFinish > listSize)
-					aRowNumberFinish = Redis.GRID_RANGE_FINISH;
-			}
 			listValues = mCmdConnection.zrange(keyName, aRowNumberStart, aRowNumberFinish);
 			mRedisDS.saveCommand(appLogger, String.format("ZRANGE %s %d %d", mRedisDS.escapeKey(keyName), aRowNumberStart, aRowNumberFinish));
 			int valueCount = listValues.size();
@@ -1128,13 +1122,6 @@ public class RedisJson
 		{
 			aDataGrid.emptyRows();
 			aRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
-			if (aRowNumberFinish != Redis.GRID_RANGE_FINISH)
-			{
-				long listSize = mCmdConnection.zcard(keyName);
-				mRedisDS.saveCommand(appLogger, String.format("ZCARD %s", mRedisDS.escapeKey(keyName)));
-				if (aRowNumberFinish > listSize)
-					aRowNumberFinish = Redis.GRID_RANGE_FINISH;
-			}
 			listValues = mCmdConnection.zrange(keyName, aRowNumberStart, aRowNumberFinish);
 			mRedisDS.saveCommand(appLogger, String.format("ZRANGE %s %d %d", mRedisDS.escapeKey(keyName), aRowNumberStart, aRowNumberFinish));
 			int multiCount = 0;
@@ -1202,6 +1189,204 @@ public class RedisJson
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
+// Returns the serialized length of the document, which the callers use to size their chunks.
+
+	private int addJSONRow(DataGrid aDataGrid, JSONObject aJSONObject)
+	{
+		Optional<DataDoc> optDataDoc = jsonObjectToDataDoc(aJSONObject);
+		optDataDoc.ifPresent(aDataGrid::addRow);
+
+		return aJSONObject.toString().length();
+	}
+
+	private List<String> projectionNames(DataGrid aDataGrid)
+	{
+		LinkedHashSet<String> nameSet = new LinkedHashSet<>();
+		nameSet.add("document_name");
+		for (DataItem dataItem : aDataGrid.getColumns().getItems())
+			nameSet.add(dataItem.getName());
+
+		return new ArrayList<>(nameSet);
+	}
+
+	private Path2 projectionPath(String aName)
+	{
+		return Path2.of(String.format("$[\"%s\"]", StringUtils.replace(aName, "\"", "\\\"")));
+	}
+
+	private String mgetCommand(String[] aKeyNames, String aPath)
+	{
+		StringBuilder stringBuilder = new StringBuilder("JSON.MGET");
+		for (String keyName : aKeyNames)
+			stringBuilder.append(StrUtl.CHAR_SPACE).append(mRedisDS.escapeKey(keyName));
+		stringBuilder.append(StrUtl.CHAR_SPACE).append(aPath);
+
+		return stringBuilder.toString();
+	}
+
+	private long mgetRows(DataGrid aDataGrid, String[] aKeyNames)
+	{
+		JSONArray jsonArray;
+		long replyLength = 0L;
+		Logger appLogger = mAppCtx.getLogger(this, "mgetRows");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		List<JSONArray> jsonArrayList = mCmdConnection.jsonMGet(Path2.ROOT_PATH, aKeyNames);
+		mRedisDS.saveCommand(appLogger, mgetCommand(aKeyNames, Redis.JSON_PATH_ROOT));
+		for (int offset = 0; offset < jsonArrayList.size(); offset++)
+		{
+			jsonArray = jsonArrayList.get(offset);
+			if ((jsonArray != null) && (! jsonArray.isEmpty()))
+				replyLength += addJSONRow(aDataGrid, jsonArray.getJSONObject(0));
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return replyLength;
+	}
+
+// JSON.MGET accepts a single path, so a projected chunk is fetched as one pipelined
+// JSON.MGET per schema field and each document is reassembled from the field replies.
+
+	private long mgetProjectedRows(DataGrid aDataGrid, String[] aKeyNames, List<String> aNames)
+	{
+		Path2 jsonPath;
+		JSONArray jsonArray;
+		JSONObject jsonObject;
+		long replyLength = 0L;
+		Logger appLogger = mAppCtx.getLogger(this, "mgetProjectedRows");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		Pipeline commandPipeline = new Pipeline(mRedisDS.getCmdConnection());
+		mRedisDS.saveCommand(appLogger, "PIPELINE");
+		ArrayList<Response<List<JSONArray>>> responseList = new ArrayList<>(aNames.size());
+		for (String itemName : aNames)
+		{
+			jsonPath = projectionPath(itemName);
+			responseList.add(commandPipeline.jsonMGet(jsonPath, aKeyNames));
+			mRedisDS.saveCommand(appLogger, mgetCommand(aKeyNames, jsonPath.toString()));
+		}
+		commandPipeline.sync();
+		mRedisDS.saveCommand(appLogger, "SYNC");
+
+		ArrayList<List<JSONArray>> fieldReplyList = new ArrayList<>(responseList.size());
+		for (Response<List<JSONArray>> pipelineResponse : responseList)
+			fieldReplyList.add(pipelineResponse.get());
+		for (int row = 0; row < aKeyNames.length; row++)
+		{
+			jsonObject = null;
+			for (int offset = 0; offset < aNames.size(); offset++)
+			{
+				jsonArray = fieldReplyList.get(offset).get(row);
+				if ((jsonArray != null) && (! jsonArray.isEmpty()))
+				{
+					if (jsonObject == null)
+						jsonObject = new JSONObject();
+					jsonObject.put(aNames.get(offset), jsonArray.get(0));
+				}
+			}
+			if (jsonObject != null)
+				replyLength += addJSONRow(aDataGrid, jsonObject);
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return replyLength;
+	}
+
+	/**
+	 * Loads the data grid rows and columns from the Redis database based on
+	 * the row start/finish parameters.  The key name is obtained from the
+	 * feature Redis.REDIS_FEATURE_KEY_NAME.  As a network optimization,
+	 * the documents are fetched with JSON.MGET in chunks that are sized
+	 * from the reply length of the previous chunk, so a large range is
+	 * loaded in a handful of round trips.
+	 *
+	 * <b>Note:</b> Any existing rows in the grid will be emptied prior
+	 * to the load operation.  When projection is requested, only the
+	 * fields named by the grid columns are returned by the database.
+	 *
+	 * @see <a href="https://redis.io/commands/json.mget/">JSON.MGET</a>
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param aRowNumberStart Row number start (1 - N)
+	 * @param aRowNumberFinish Row number finish (1 - N)
+	 * @param anIsProjected If <i>true</i>, then only the grid column fields are fetched
+	 *
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public void loadGridBulk(DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish, boolean anIsProjected)
+		throws RedisDSException
+	{
+		String keyName;
+		long replyLength;
+		List<String> listValues;
+		Logger appLogger = mAppCtx.getLogger(this, "loadGridBulk");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		mRedisDS.ensurePreconditions();
+		keyName = aDataGrid.getFeature(Redis.FEATURE_KEY_NAME);
+		if ((StringUtils.isNotEmpty(keyName)) && (aDataGrid.getColumns().count() > 0))
+		{
+			aDataGrid.emptyRows();
+			aRowNumberStart = Math.max(aRowNumberStart, Redis.GRID_RANGE_START);
+			listValues = mCmdConnection.zrange(keyName, aRowNumberStart, aRowNumberFinish);
+			mRedisDS.saveCommand(appLogger, String.format("ZRANGE %s %d %d", mRedisDS.escapeKey(keyName), aRowNumberStart, aRowNumberFinish));
+			List<String> projectionNames = anIsProjected ? projectionNames(aDataGrid) : null;
+
+// The next chunk holds as many documents as the average length of the previous reply
+// suggests will fit the reply target, bounded so a single outlier cannot swing it far.
+
+			int chunkSize = Redis.JSON_MGET_CHUNK_INITIAL;
+			int valueCount = listValues.size();
+			int keyOffset = 0;
+			while (keyOffset < valueCount)
+			{
+				int keyCount = Math.min(chunkSize, valueCount - keyOffset);
+				String[] keyNames = listValues.subList(keyOffset, keyOffset + keyCount).toArray(new String[0]);
+				if (projectionNames == null)
+					replyLength = mgetRows(aDataGrid, keyNames);
+				else
+					replyLength = mgetProjectedRows(aDataGrid, keyNames, projectionNames);
+				keyOffset += keyCount;
+				long targetCount = (replyLength == 0L) ? chunkSize * 2L : Redis.JSON_MGET_REPLY_TARGET * (long) keyCount / replyLength;
+				targetCount = Math.max(chunkSize / 2, Math.min(chunkSize * 4L, targetCount));
+				chunkSize = (int) Math.max(Redis.JSON_MGET_CHUNK_MINIMUM, Math.min(Redis.JSON_MGET_CHUNK_MAXIMUM, targetCount));
+			}
+		}
+		getRowCount(aDataGrid);
+		long curLimit = aRowNumberFinish - aRowNumberStart;
+		aDataGrid.addFeature(DS.FEATURE_CUR_LIMIT, curLimit);
+		aDataGrid.addFeature(DS.FEATURE_CUR_OFFSET, aRowNumberStart);
+		aDataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, aRowNumberFinish+1);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
+	/**
+	 * Loads the data grid rows and columns from the Redis database based on
+	 * the row start/finish parameters.  The key name is obtained from the
+	 * feature Redis.REDIS_FEATURE_KEY_NAME.  The documents are fetched in
+	 * adaptively sized JSON.MGET chunks.
+	 *
+	 * <b>Note:</b> Any existing rows in the grid will be emptied prior
+	 * to the load operation.
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param aRowNumberStart Row number start (1 - N)
+	 * @param aRowNumberFinish Row number finish (1 - N)
+	 *
+	 * @throws RedisDSException Redis operation failure
+	 */
+	public void loadGridBulk(DataGrid aDataGrid, long aRowNumberStart, long aRowNumberFinish)
+		throws RedisDSException
+	{
+		loadGridBulk(aDataGrid, aRowNumberStart, aRowNumberFinish, false);
+	}
+
 	/**
 	 * Updates the data document stored as a Redis JSON document in the Redis database.
 	 *
@@ -41,11 +41,15 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.slf4j.Logger;
 import org.xml.sax.SAXException;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.UnifiedJedis;
 import redis.clients.jedis.search.FieldName;
 import redis.clients.jedis.search.IndexDefinition;
 import redis.clients.jedis.search.IndexOptions;
 import redis.clients.jedis.search.Schema;
+import redis.clients.jedis.search.SearchProtocol;
+import redis.clients.jedis.util.SafeEncoder;
 
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.IOException;
@@ -53,6 +57,8 @@ import java.io.InputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * The RedisSearch class is responsible for accessing the RediSearch
@@ -85,7 +91,21 @@ import java.util.*;
  */
 public class RedisSearch
 {
+	private static final String SUGGEST_MAX = "MAX";
+	private static final String SUGGEST_FUZZY = "FUZZY";
+	private static final String SUGGEST_PAYLOAD = "PAYLOAD";
+	private static final String SUGGEST_WITHSCORES = "WITHSCORES";
+	private static final String SUGGEST_WITHPAYLOADS = "WITHPAYLOADS";
+	private static final String SUGGEST_DELIMITER_CHARS = " ,.<>{}[]\"':;!@#$%^&*()-+=~";	// https://oss.redislabs.com/redisearch/Escaping/
+	private static final String SUGGEST_MEMBER_SEPARATOR = "\u001F";
+	private static final String SUGGEST_REFERENCE_SCRIPT = "if redis.call('sadd', KEYS[1], ARGV[2]) == 1 then return redis.call('hincrby', KEYS[2], ARGV[1], 1) end return 0";
+	private static final String SUGGEST_RELEASE_SCRIPT = "if redis.call('srem', KEYS[3], ARGV[2]) == 0 then return 0 end if redis.call('hincrby', KEYS[2], ARGV[1], -1) > 0 then return 0 end " +
+														 "redis.call('hdel', KEYS[2], ARGV[1]) return redis.call('FT.SUGDEL', KEYS[1], ARGV[1])";
+	private static final String SUGGEST_REMOVE_SCRIPT = "redis.call('hdel', KEYS[2], ARGV[1]) return redis.call('FT.SUGDEL', KEYS[1], ARGV[1])";
+
 	protected String mIndexName;
+	protected long mIngestMilliseconds;
+	protected long mIndexMilliseconds;
 	protected DataDoc mDataSchema;
 	protected final AppCtx mAppCtx;
 	protected final CfgMgr mCfgMgr;
@@ -240,6 +260,65 @@ public class RedisSearch
 		return indexName;
 	}
 
+	private SearchResultCache scopedResultCache()
+	{
+		int cacheLimit = mCfgMgr.getInteger("result_cache_limit", Redis.RESULT_CACHE_LIMIT);
+		long cacheTTL = mCfgMgr.getLong("result_cache_ttl", Redis.RESULT_CACHE_TTL);
+		if ((cacheLimit <= 0) || (cacheTTL <= 0L))
+			return null;
+		String indexKeyName = mRedisKey.moduleSearch().redisSearchIndex().dataName(getIndexName()).name();
+		String scopeName = String.format("%s:%d/%s", mRedisDS.getHostName(), mRedisDS.getPortNumber(), indexKeyName);
+
+		return SearchResultCache.forScope(scopeName, cacheLimit, cacheTTL);
+	}
+
+// While a newly created index is backfilling, its results change without any write, so
+// nothing is cached until FT.INFO reports the backfill as complete.
+
+	SearchResultCache resultCache()
+	{
+		SearchResultCache resultCache = scopedResultCache();
+		if ((resultCache != null) && (resultCache.isBackfilling()))
+		{
+			if (isIndexingComplete())
+				resultCache.settle();
+			else
+				return null;
+		}
+
+		return resultCache;
+	}
+
+	private void invalidateResultCache(boolean anIsBackfilling)
+	{
+		SearchResultCache resultCache = scopedResultCache();
+		if (resultCache != null)
+			resultCache.invalidate(anIsBackfilling);
+	}
+
+	/**
+	 * Discards the query results cached for the search index.  The add,
+	 * update and delete methods of this class do this automatically, but
+	 * applications that write indexed documents through other classes
+	 * (e.g. <i>RedisGrid</i> or <i>RedisJson</i>) must call it after each
+	 * write so the next query reflects it.
+	 */
+	public void invalidateResultCache()
+	{
+		invalidateResultCache(false);
+	}
+
+	/**
+	 * Discards the query results cached for every search index in the
+	 * process.  <i>RedisCore.flushDatabase()</i> calls this, and
+	 * applications that remove indexed documents in bulk through other
+	 * means should call it too.
+	 */
+	public static void invalidateResultCaches()
+	{
+		SearchResultCache.invalidateAll();
+	}
+
 	/**
 	 * Creates a data document with items suitable for a default search schema.
 	 * The logic assumes that all of the data schema fields should be included
@@ -795,6 +874,7 @@ public class RedisSearch
 			setSearchSchema(aSearchSchemaDoc);
 			setIndexName(getIndexName());
 			saveSchemaDefinition(aSearchSchemaDoc);
+			invalidateResultCache(true);
 		}
 		else
 			isOK = false;
@@ -839,6 +919,7 @@ public class RedisSearch
 			isOK = true;
 			setSearchSchema(aSearchSchemaDoc);
 			saveSchemaDefinition(aSearchSchemaDoc);
+			invalidateResultCache(true);
 		}
 		else
 			isOK = false;
@@ -1099,7 +1180,7 @@ public class RedisSearch
 			{
 				if (Data.isDateOrTime(dataItem.getType()))
 				{
-					itemDate = dataItem.getValueAsDate();
+					itemDate = mRedisDS.dataItemToDate(dataItem);
 					if (itemDate == null)
 						appLogger.error(String.format("%s: Unable to parse '%s' format of '%s'", dataItem.getName(),
 													  dataItem.getValue(), dataItem.getDataFormat()));
@@ -1129,13 +1210,186 @@ public class RedisSearch
 			aDataDoc.add(new DataItem.Builder().name(Redis.RS_DOCUMENT_ID).title("RS Document Id").isHidden(true).build());
 	}
 
+	private String suggestKeyName()
+	{
+		return mRedisKey.moduleSearch().redisSearchSuggest().dataName(getIndexName()).name();
+	}
+
+// Suggestions (and term shingles) can be shared by many documents, so each one carries a reference
+// count in a companion hash and is only removed from the dictionary once its count drops to zero.
+// A companion set records which document (payload) holds each reference, so adding a document
+// again does not count it twice.  The companion key names wrap the dictionary key name in a hash
+// tag, which places them in the same cluster slot as the dictionary key the scripts also write.
+
+	private String suggestReferenceKeyName(String aSuggestKeyName)
+	{
+		return String.format("{%s}:References", aSuggestKeyName);
+	}
+
+	private String suggestMemberKeyName(String aSuggestKeyName)
+	{
+		return String.format("{%s}:Members", aSuggestKeyName);
+	}
+
+	private String suggestMember(String aPayload, String aSuggestion)
+	{
+		return aPayload + SUGGEST_MEMBER_SEPARATOR + aSuggestion;
+	}
+
+	private void saveSuggestReferenceCommand(Logger anAppLogger, String aMemberKeyName, String aReferenceKeyName, String aSuggestion, String aMember)
+	{
+		mRedisDS.saveCommand(anAppLogger, String.format("EVAL \"%s\" 2 %s %s %s %s", SUGGEST_REFERENCE_SCRIPT, mRedisDS.escapeKey(aMemberKeyName),
+														mRedisDS.escapeKey(aReferenceKeyName), mRedisDS.escapeValue(aSuggestion), mRedisDS.escapeValue(aMember)));
+	}
+
+	private void saveSuggestReleaseCommand(Logger anAppLogger, String aSuggestKeyName, String aReferenceKeyName, String aMemberKeyName,
+										   String aSuggestion, String aMember)
+	{
+		mRedisDS.saveCommand(anAppLogger, String.format("EVAL \"%s\" 3 %s %s %s %s %s", SUGGEST_RELEASE_SCRIPT, mRedisDS.escapeKey(aSuggestKeyName),
+														mRedisDS.escapeKey(aReferenceKeyName), mRedisDS.escapeKey(aMemberKeyName),
+														mRedisDS.escapeValue(aSuggestion), mRedisDS.escapeValue(aMember)));
+	}
+
+	private String[] suggestAddArgs(String aKeyName, String aSuggestion, double aScore, String aPayload)
+	{
+		return new String[] {aKeyName, aSuggestion, Double.toString(aScore), SUGGEST_PAYLOAD, aPayload};
+	}
+
+	private void saveSuggestAddCommand(Logger anAppLogger, String aKeyName, String aSuggestion, double aScore, String aPayload)
+	{
+		mRedisDS.saveCommand(anAppLogger, String.format("FT.SUGADD %s %s %.1f PAYLOAD %s", mRedisDS.escapeKey(aKeyName),
+														mRedisDS.escapeValue(aSuggestion), aScore, mRedisDS.escapeValue(aPayload)));
+	}
+
+// Returns the suggestion value followed by its trailing term shingles (e.g. "Sony Bravia TV"
+// yields "Bravia TV"), skipping shingles that start with a token shorter than the minimum size.
+
+	private Set<String> suggestionShingles(String aSuggestionValue)
+	{
+		int tokenOffset, tokenLength;
+		LinkedHashSet<String> shingleSet = new LinkedHashSet<>();
+
+		if (StringUtils.isEmpty(aSuggestionValue))
+			return shingleSet;
+		shingleSet.add(aSuggestionValue);
+		if ((aSuggestionValue.length() > Redis.SUGGESTION_MIN_TOKEN_SIZE) &&
+			(StringUtils.containsAny(aSuggestionValue, SUGGEST_DELIMITER_CHARS)))
+		{
+			StringTokenizer stringTokenizer = new StringTokenizer(aSuggestionValue, SUGGEST_DELIMITER_CHARS);
+			if (stringTokenizer.hasMoreTokens())
+			{
+				String curToken = stringTokenizer.nextToken();
+				int curOffset = aSuggestionValue.indexOf(curToken) + curToken.length();
+				while ((stringTokenizer.hasMoreTokens()) && curOffset < aSuggestionValue.length())
+				{
+					curToken = stringTokenizer.nextToken();
+					tokenLength = curToken.length();
+					tokenOffset = aSuggestionValue.indexOf(curToken, curOffset);
+					curOffset = tokenOffset + tokenLength;
+					if (tokenLength >= Redis.SUGGESTION_MIN_TOKEN_SIZE)
+						shingleSet.add(aSuggestionValue.substring(tokenOffset));
+				}
+			}
+		}
+
+		return shingleSet;
+	}
+
+	private long toSuggestCount(Object aReply)
+	{
+		if (aReply instanceof Long)
+			return (Long) aReply;
+		else
+			return 0L;
+	}
+
+// Suggestions are deduplicated ahead of time (the last payload and score assigned to a suggestion
+// win, which matches the outcome of issuing the commands one at a time) and written via pipelines.
+// The reference map holds the payloads of the documents that contributed each suggestion (it
+// defaults to the suggestion's payload).
+
+	private long addSuggestionsPipeline(Map<String, DataItem> aSuggestionMap, Map<String, String> aPayloadMap, Map<String, Set<String>> aReferenceMap)
+	{
+		Response<Object> suggestResponse = null;
+		Logger appLogger = mAppCtx.getLogger(this, "addSuggestionsPipeline");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		long totalSuggestions = 0;
+		int multiCount = 0;
+		Pipeline commandPipeline = null;
+		String suggestKeyName = suggestKeyName();
+		String referenceKeyName = suggestReferenceKeyName(suggestKeyName);
+		String memberKeyName = suggestMemberKeyName(suggestKeyName);
+		List<String> referenceKeyList = List.of(memberKeyName, referenceKeyName);
+		for (Map.Entry<String, DataItem> suggestEntry : aSuggestionMap.entrySet())
+		{
+			if (multiCount == 0)
+			{
+				commandPipeline = new Pipeline(mRedisDS.getCmdConnection());
+				mRedisDS.saveCommand(appLogger, "PIPELINE");
+			}
+			String suggestionString = suggestEntry.getKey();
+			String payloadString = aPayloadMap.get(suggestionString);
+			double searchScore = Redis.getScore(suggestEntry.getValue());
+			suggestResponse = commandPipeline.sendCommand(SearchProtocol.SearchCommand.SUGADD, suggestAddArgs(suggestKeyName, suggestionString, searchScore, payloadString));
+			saveSuggestAddCommand(appLogger, suggestKeyName, suggestionString, searchScore, payloadString);
+			for (String referencePayload : aReferenceMap.getOrDefault(suggestionString, Set.of(payloadString)))
+			{
+				String memberString = suggestMember(referencePayload, suggestionString);
+				commandPipeline.eval(SUGGEST_REFERENCE_SCRIPT, referenceKeyList, List.of(suggestionString, memberString));
+				saveSuggestReferenceCommand(appLogger, memberKeyName, referenceKeyName, suggestionString, memberString);
+			}
+			multiCount++;
+			if (multiCount >= Redis.SUGGESTION_BATCH_COUNT)
+			{
+				commandPipeline.sync();
+				commandPipeline = null;
+				mRedisDS.saveCommand(appLogger, "SYNC");
+				multiCount = 0;
+			}
+		}
+		if (multiCount > 0)
+		{
+			commandPipeline.sync();
+			mRedisDS.saveCommand(appLogger, "SYNC");
+		}
+		if (suggestResponse != null)
+			totalSuggestions = toSuggestCount(suggestResponse.get());
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return totalSuggestions;
+	}
+
+	private void collectSuggestion(DataDoc aDataDoc, Map<String, DataItem> aSuggestionMap, Map<String, String> aPayloadMap, Map<String, Set<String>> aReferenceMap)
+	{
+		Optional<DataItem> optSuggestItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_SUGGEST);
+		Optional<DataItem> optPrimaryItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
+		if ((optSuggestItem.isPresent()) && (optPrimaryItem.isPresent()))
+		{
+			String suggestionString = optSuggestItem.get().getValue();
+			String payloadString = optPrimaryItem.get().getValue();
+			if ((StringUtils.isNotEmpty(suggestionString)) && (StringUtils.isNotEmpty(payloadString)))
+			{
+				aSuggestionMap.put(suggestionString, optSuggestItem.get());
+				aPayloadMap.put(suggestionString, payloadString);
+				aReferenceMap.computeIfAbsent(suggestionString, k -> new LinkedHashSet<>()).add(payloadString);
+			}
+		}
+	}
+
 	/**
 	 * Add the suggestion item value and its payload item value to the search index.
+	 * The document identified by the payload holds one reference on the suggestion,
+	 * so adding the same document again does not add another reference.
+	 *
+	 * @see <a href="https://redis.io/commands/ft.sugadd/">FT.SUGADD</a>
 	 *
 	 * @param aSuggestionItem Suggestion item instance
 	 * @param aPayloadItem Payload item instance
 	 *
-	 * @return Entry id of the suggestion
+	 * @return Current size of the suggestion dictionary or -1 if the items lack values
 	 */
 	public long addSuggestion(DataItem aSuggestionItem, DataItem aPayloadItem)
 	{
@@ -1149,12 +1403,14 @@ public class RedisSearch
 		if ((StringUtils.isNotEmpty(suggestionString)) && (StringUtils.isNotEmpty(payloadString)))
 		{
 			double searchScore = Redis.getScore(aSuggestionItem);
-			// ToDo: Enable when Jedis supports this feature
-//			Suggestion rsSuggestion = new Suggestion.Builder().str(suggestionString).score(searchScore).payload(payloadString).build();
-//			totalSuggestions = mCmdConnection.addSuggestion(rsSuggestion, false);
-			totalSuggestions = 0;
-			String suggestKeyName = mRedisKey.moduleSearch().redisSearchSuggest().dataName(getIndexName()).name();
-			mRedisDS.saveCommand(appLogger, String.format("FT.SUGADD %s %s %.1f PAYLOAD %s", mRedisDS.escapeKey(suggestKeyName), mRedisDS.escapeValue(suggestionString), searchScore, mRedisDS.escapeValue(payloadString)));
+			String suggestKeyName = suggestKeyName();
+			totalSuggestions = toSuggestCount(mCmdConnection.sendCommand(SearchProtocol.SearchCommand.SUGADD, suggestAddArgs(suggestKeyName, suggestionString, searchScore, payloadString)));
+			saveSuggestAddCommand(appLogger, suggestKeyName, suggestionString, searchScore, payloadString);
+			String referenceKeyName = suggestReferenceKeyName(suggestKeyName);
+			String memberKeyName = suggestMemberKeyName(suggestKeyName);
+			String memberString = suggestMember(payloadString, suggestionString);
+			mCmdConnection.eval(SUGGEST_REFERENCE_SCRIPT, List.of(memberKeyName, referenceKeyName), List.of(suggestionString, memberString));
+			saveSuggestReferenceCommand(appLogger, memberKeyName, referenceKeyName, suggestionString, memberString);
 		}
 		else
 			totalSuggestions = -1;
@@ -1192,30 +1448,33 @@ public class RedisSearch
 
 	/**
 	 * Add the suggestion item value and its payload item value to the search index
-	 * for each data document row in the data grid.
+	 * for each data document row in the data grid.  Duplicate suggestions are
+	 * written once and the commands are pipelined.
 	 *
 	 * @param aDataGrid Data grid instance
 	 */
 	public void addSuggestions(DataGrid aDataGrid)
 	{
-		DataDoc dataDoc;
 		Logger appLogger = mAppCtx.getLogger(this, "addSuggestions");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
 		int rowCount = aDataGrid.rowCount();
+		LinkedHashMap<String, DataItem> suggestionMap = new LinkedHashMap<>();
+		HashMap<String, String> payloadMap = new HashMap<>();
+		HashMap<String, Set<String>> referenceMap = new HashMap<>();
 		for (int row = 0; row < rowCount; row++)
-		{
-			dataDoc = aDataGrid.getRowAsDoc(row);
-			addSuggestion(dataDoc);
-		}
+			collectSuggestion(aDataGrid.getRowAsDoc(row), suggestionMap, payloadMap, referenceMap);
+		if (suggestionMap.size() > 0)
+			addSuggestionsPipeline(suggestionMap, payloadMap, referenceMap);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
 
 	/**
 	 * Add the suggestion item value and its payload item value to the search index
-	 * for each data document row in the data grid.
+	 * for each data document row in the data grid.  Duplicate suggestions are
+	 * written once and the commands are pipelined.
 	 *
 	 * @param aDataDocList List of data document instances
 	 */
@@ -1225,8 +1484,13 @@ public class RedisSearch
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
+		LinkedHashMap<String, DataItem> suggestionMap = new LinkedHashMap<>();
+		HashMap<String, String> payloadMap = new HashMap<>();
+		HashMap<String, Set<String>> referenceMap = new HashMap<>();
 		for (DataDoc dataDoc : aDataDocList)
-			addSuggestion(dataDoc);
+			collectSuggestion(dataDoc, suggestionMap, payloadMap, referenceMap);
+		if (suggestionMap.size() > 0)
+			addSuggestionsPipeline(suggestionMap, payloadMap, referenceMap);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 	}
@@ -1234,56 +1498,131 @@ public class RedisSearch
 	/**
 	 * Add the suggestion item value as a collection of term shingles and
 	 * assign each suggestion the payload item value in the search index.
+	 * The shingles are written in a single pipeline.
 	 *
 	 * @param aSuggestionItem Suggestion item instance
 	 * @param aPayloadItem Payload item instance
 	 *
-	 * @return Entry id of the suggestion
+	 * @return Current size of the suggestion dictionary or -1 if the items lack values
 	 */
 	public long addSuggestionWithShingles(DataItem aSuggestionItem, DataItem aPayloadItem)
 	{
 		long entryId;
-		String suggestionString;
-		int tokenOffset, tokenLength;
 		Logger appLogger = mAppCtx.getLogger(this, "addSuggestionWithShingles");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		DataItem suggestionItem = new DataItem(aSuggestionItem);
-		suggestionItem.clearValues();
-
-		String delimiterChars = " ,.<>{}[]\"':;!@#$%^&*()-+=~";		// https://oss.redislabs.com/redisearch/Escaping/
-		String suggestionValue = aSuggestionItem.getValue();
-		if ((suggestionValue.length() > Redis.SUGGESTION_MIN_TOKEN_SIZE) &&
-			(StringUtils.containsAny(suggestionValue, delimiterChars)))
-		{
+		String payloadString = aPayloadItem.getValue();
+		Set<String> shingleSet = suggestionShingles(aSuggestionItem.getValue());
+		if ((shingleSet.isEmpty()) || (StringUtils.isEmpty(payloadString)))
+			entryId = -1;
+		else if (shingleSet.size() == 1)
 			entryId = addSuggestion(aSuggestionItem, aPayloadItem);
-			StringTokenizer stringTokenizer = new StringTokenizer(suggestionValue, delimiterChars);
-			String curToken = stringTokenizer.nextToken();
-			int curOffset = curToken.length();
-			while ((stringTokenizer.hasMoreTokens()) && curOffset < suggestionValue.length())
+		else
+		{
+			LinkedHashMap<String, DataItem> suggestionMap = new LinkedHashMap<>();
+			HashMap<String, String> payloadMap = new HashMap<>();
+			for (String shingle : shingleSet)
 			{
-				curToken = stringTokenizer.nextToken();
-				tokenLength = curToken.length();
-				tokenOffset = suggestionValue.indexOf(curToken, curOffset);
-				suggestionString = suggestionValue.substring(tokenOffset);
-				curOffset = tokenOffset + tokenLength;
-				suggestionItem.setValue(suggestionString);
-				if (tokenLength >= Redis.SUGGESTION_MIN_TOKEN_SIZE)
-					entryId = addSuggestion(suggestionItem, aPayloadItem);
+				suggestionMap.put(shingle, aSuggestionItem);
+				payloadMap.put(shingle, payloadString);
 			}
+			entryId = addSuggestionsPipeline(suggestionMap, payloadMap, Collections.emptyMap());
 		}
-		else
-			entryId = addSuggestion(aSuggestionItem, aPayloadItem);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
 		return entryId;
 	}
 
+	/**
+	 * Updates the term shingles of a suggestion whose value has changed.
+	 * The old and new shingles are compared, so only the shingles that
+	 * are no longer present are released and only the new shingles are
+	 * added.  A released shingle stays in the dictionary while other
+	 * suggestions still share it.  If the value is unchanged, then nothing
+	 * is written.
+	 *
+	 * @param anOldSuggestionItem Suggestion item instance with the prior value
+	 * @param aNewSuggestionItem Suggestion item instance with the updated value
+	 * @param aPayloadItem Payload item instance
+	 *
+	 * @return Count of shingles that were deleted from or added to the dictionary
+	 */
+	public int updateSuggestionWithShingles(DataItem anOldSuggestionItem, DataItem aNewSuggestionItem, DataItem aPayloadItem)
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "updateSuggestionWithShingles");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		int changeCount = 0;
+		String payloadString = aPayloadItem.getValue();
+		if ((StringUtils.isNotEmpty(payloadString)) &&
+			(! StringUtils.equals(anOldSuggestionItem.getValue(), aNewSuggestionItem.getValue())))
+		{
+			Set<String> oldShingleSet = suggestionShingles(anOldSuggestionItem.getValue());
+			Set<String> newShingleSet = suggestionShingles(aNewSuggestionItem.getValue());
+			LinkedHashSet<String> deleteSet = new LinkedHashSet<>(oldShingleSet);
+			deleteSet.removeAll(newShingleSet);
+			LinkedHashMap<String, DataItem> suggestionMap = new LinkedHashMap<>();
+			HashMap<String, String> payloadMap = new HashMap<>();
+			for (String shingle : newShingleSet)
+			{
+				if (! oldShingleSet.contains(shingle))
+				{
+					suggestionMap.put(shingle, aNewSuggestionItem);
+					payloadMap.put(shingle, payloadString);
+				}
+			}
+			changeCount = deleteSuggestions(deleteSet, payloadString) + suggestionMap.size();
+			if (suggestionMap.size() > 0)
+				addSuggestionsPipeline(suggestionMap, payloadMap, Collections.emptyMap());
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return changeCount;
+	}
+
+	/**
+	 * Updates the suggestion of a data document whose suggestion item
+	 * value has changed.  The prior suggestion is released (and deleted
+	 * once no other document references it) and the new one added.  If
+	 * the suggestion item value is unchanged, then nothing is written.
+	 *
+	 * @param anOldDataDoc Data document instance with the prior values
+	 * @param aNewDataDoc Data document instance with the updated values
+	 */
+	public void updateSuggestion(DataDoc anOldDataDoc, DataDoc aNewDataDoc)
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "updateSuggestion");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		Optional<DataItem> optNewItem = aNewDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_SUGGEST);
+		if (optNewItem.isPresent())
+		{
+			DataItem newSuggestItem = optNewItem.get();
+			Optional<DataItem> optOldItem = anOldDataDoc.getItemByNameOptional(newSuggestItem.getName());
+			if (optOldItem.isEmpty())
+				addSuggestion(aNewDataDoc);
+			else if (! StringUtils.equals(optOldItem.get().getValue(), newSuggestItem.getValue()))
+			{
+				Optional<DataItem> optPrimaryItem = aNewDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
+				if ((optOldItem.get().isValueNotEmpty()) && (optPrimaryItem.isPresent()))
+					deleteSuggestion(optOldItem.get(), optPrimaryItem.get());
+				addSuggestion(aNewDataDoc);
+			}
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
 	/**
 	 * Retrieves a data grid of matching suggestions with related payloads and scores.
 	 *
+	 * @see <a href="https://redis.io/commands/ft.sugget/">FT.SUGGET</a>
+	 *
 	 * @param aPrefix Prefix suggestion string
 	 * @param aLimit Limit of suggestions
 	 * @param aIsFuzzy If <i>true</i> then include fuzzy matches
@@ -1301,50 +1640,134 @@ public class RedisSearch
 		dataGrid.addCol(new DataItem.Builder().name("payload").title("Payload").build());
 		dataGrid.addCol(new DataItem.Builder().type(Data.Type.Double).name("score").title("Score").build());
 
-		// ToDo: Enable when Jedis supports this feature
-		/*
-		SuggestionOptions suggestionOptions;
-		int suggestionLimit = Math.max(aLimit, Redis.SUGGESTION_LIMIT_DEFAULT);
-		if (aIsFuzzy)
-			suggestionOptions = new SuggestionOptions.Builder().with(SuggestionOptions.With.PAYLOAD_AND_SCORES).fuzzy().max(suggestionLimit).build();
-		else
-			suggestionOptions = new SuggestionOptions.Builder().with(SuggestionOptions.With.PAYLOAD_AND_SCORES).max(suggestionLimit).build();
-		List<Suggestion> suggestionList = mCmdConnection.getSuggestion(aPrefix, suggestionOptions);
-		String suggestKeyName = mRedisKey.moduleSearch().redisSearchSuggest().dataName(getIndexName()).name();
-		mRedisDS.saveCommand(appLogger, String.format("FT.SUGGET %s %s MAX %d WITHSCORES WITHPAYLOADS", mRedisDS.escapeKey(suggestKeyName), mRedisDS.escapeValue(aPrefix), suggestionLimit));
-		for (Suggestion searchSuggestion : suggestionList)
+		if (StringUtils.isNotEmpty(aPrefix))
 		{
-			dataGrid.newRow();
-			dataGrid.setValueByName("_suggest", searchSuggestion.getString());
-			dataGrid.setValueByName("payload", searchSuggestion.getPayload());
-			dataGrid.setValueByName("score", searchSuggestion.getScore());
-			dataGrid.addRow();
+			int suggestionLimit = Math.max(aLimit, Redis.SUGGESTION_LIMIT_DEFAULT);
+			String suggestKeyName = suggestKeyName();
+			ArrayList<String> argList = new ArrayList<>(List.of(suggestKeyName, aPrefix));
+			if (aIsFuzzy)
+				argList.add(SUGGEST_FUZZY);
+			argList.addAll(List.of(SUGGEST_MAX, Integer.toString(suggestionLimit), SUGGEST_WITHSCORES, SUGGEST_WITHPAYLOADS));
+			Object suggestReply = mCmdConnection.sendCommand(SearchProtocol.SearchCommand.SUGGET, argList.toArray(new String[0]));
+			mRedisDS.saveCommand(appLogger, String.format("FT.SUGGET %s %s%s MAX %d WITHSCORES WITHPAYLOADS", mRedisDS.escapeKey(suggestKeyName),
+														  mRedisDS.escapeValue(aPrefix), aIsFuzzy ? " FUZZY" : StringUtils.EMPTY, suggestionLimit));
+
+// The reply is a flat list of suggestion, score and payload triplets (payloads may be null).
+
+			if (suggestReply instanceof List)
+			{
+				List<?> replyList = (List<?>) suggestReply;
+				for (int offset = 0; offset + 2 < replyList.size(); offset += 3)
+				{
+					dataGrid.newRow();
+					dataGrid.setValueByName("_suggest", replyToString(replyList.get(offset)));
+					dataGrid.setValueByName("score", NumberUtils.toDouble(replyToString(replyList.get(offset+1))));
+					dataGrid.setValueByName("payload", replyToString(replyList.get(offset+2)));
+					dataGrid.addRow();
+				}
+			}
 		}
-		*/
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
 		return dataGrid;
 	}
 
+	private String replyToString(Object aReply)
+	{
+		if (aReply instanceof byte[])
+			return SafeEncoder.encode((byte[]) aReply);
+		else if (aReply == null)
+			return StringUtils.EMPTY;
+		else
+			return aReply.toString();
+	}
+
+	private int deleteSuggestions(Set<String> aSuggestionSet, String aPayload)
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "deleteSuggestions");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		long deleteCount = 0;
+		if (aSuggestionSet.size() > 0)
+		{
+			String suggestKeyName = suggestKeyName();
+			String referenceKeyName = suggestReferenceKeyName(suggestKeyName);
+			String memberKeyName = suggestMemberKeyName(suggestKeyName);
+			List<String> keyList = List.of(suggestKeyName, referenceKeyName, memberKeyName);
+			ArrayList<Response<Object>> releaseResponseList = new ArrayList<>(aSuggestionSet.size());
+			Pipeline commandPipeline = new Pipeline(mRedisDS.getCmdConnection());
+			mRedisDS.saveCommand(appLogger, "PIPELINE");
+			for (String suggestionString : aSuggestionSet)
+			{
+				String memberString = suggestMember(aPayload, suggestionString);
+				releaseResponseList.add(commandPipeline.eval(SUGGEST_RELEASE_SCRIPT, keyList, List.of(suggestionString, memberString)));
+				saveSuggestReleaseCommand(appLogger, suggestKeyName, referenceKeyName, memberKeyName, suggestionString, memberString);
+			}
+			commandPipeline.sync();
+			mRedisDS.saveCommand(appLogger, "SYNC");
+			for (Response<Object> releaseResponse : releaseResponseList)
+				deleteCount += toSuggestCount(releaseResponse.get());
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return (int) deleteCount;
+	}
+
+	/**
+	 * Releases the reference that the document identified by the payload
+	 * item holds on the suggestion associated with the data item instance.
+	 * The suggestion is deleted from the dictionary once no other document
+	 * references it.
+	 *
+	 * @see <a href="https://redis.io/commands/ft.sugdel/">FT.SUGDEL</a>
+	 *
+	 * @param aSuggestionItem Suggestion data item instance
+	 * @param aPayloadItem Payload item instance
+	 *
+	 * @return <i>true</i> if the suggestion was deleted and <i>false</i> otherwise
+	 */
+	public boolean deleteSuggestion(DataItem aSuggestionItem, DataItem aPayloadItem)
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "deleteSuggestion");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		int deleteCount = deleteSuggestions(Set.of(aSuggestionItem.getValue()), aPayloadItem.getValue());
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return deleteCount > 0;
+	}
+
 	/**
-	 * Deletes the suggestion associated with the data item instance.
+	 * Deletes the suggestion associated with the data item instance from
+	 * the dictionary, regardless of how many documents reference it.
+	 *
+	 * @see <a href="https://redis.io/commands/ft.sugdel/">FT.SUGDEL</a>
 	 *
 	 * @param aSuggestionItem Suggestion data item instance
+	 *
+	 * @return <i>true</i> if the suggestion was deleted and <i>false</i> otherwise
 	 */
-	public void deleteSuggestion(DataItem aSuggestionItem)
+	public boolean deleteSuggestion(DataItem aSuggestionItem)
 	{
-		Logger appLogger = mAppCtx.getLogger(this, "getSuggestion");
+		Logger appLogger = mAppCtx.getLogger(this, "deleteSuggestion");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
-		// ToDo: Enable when Jedis supports this feature
 		String suggestionString = aSuggestionItem.getValue();
-//		mCmdConnection.deleteSuggestion(suggestionString);
-		String suggestKeyName = mRedisKey.moduleSearch().redisSearchSuggest().dataName(getIndexName()).name();
-		mRedisDS.saveCommand(appLogger, String.format("FT.SUGDEL %s %s", mRedisDS.escapeKey(suggestKeyName), mRedisDS.escapeValue(suggestionString)));
+		String suggestKeyName = suggestKeyName();
+		String referenceKeyName = suggestReferenceKeyName(suggestKeyName);
+		long deleteCount = toSuggestCount(mCmdConnection.eval(SUGGEST_REMOVE_SCRIPT, List.of(suggestKeyName, referenceKeyName), List.of(suggestionString)));
+		mRedisDS.saveCommand(appLogger, String.format("EVAL \"%s\" 2 %s %s %s", SUGGEST_REMOVE_SCRIPT, mRedisDS.escapeKey(suggestKeyName),
+													  mRedisDS.escapeKey(referenceKeyName), mRedisDS.escapeValue(suggestionString)));
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return deleteCount > 0;
 	}
 
 	/**
@@ -1376,6 +1799,7 @@ public class RedisSearch
 			if (Redis.isResponseOK(msgResponse))
 			{
 				isOK = true;
+				invalidateResultCache();
 				aSynonymItem.addFeature(Redis.FEATURE_GROUP_ID, groupId);
 				StringBuilder stringBuilder = new StringBuilder(String.format("FT.SYNUPDATE %s %d", mRedisDS.escapeKey(synonymKeyName), groupId));
 				for (String termValue : termValues)
@@ -1414,6 +1838,7 @@ public class RedisSearch
 			isOK = Redis.isResponseOK(msgResponse);
 			if (isOK)
 			{
+				invalidateResultCache();
 				StringBuilder stringBuilder = new StringBuilder(String.format("FT.SYNUPDATE %s %s", mRedisDS.escapeKey(synonymKeyName), groupId));
 				for (String termValue : termValues)
 					stringBuilder.append(String.format(" %s", mRedisDS.escapeValue(termValue)));
@@ -1490,6 +1915,7 @@ public class RedisSearch
 			RedisJson redisJson = mRedisDS.createJson(mDataSchema);
 			redisJson.add(enrichDataDoc(aDataDoc));
 		}
+		invalidateResultCache();
 		addSuggestion(aDataDoc);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -1505,11 +1931,43 @@ public class RedisSearch
 	 */
 	public void add(DataGrid aDataGrid)
 		throws RedisDSException
+	{
+		add(aDataGrid, Redis.IngestMode.Deferred, 0L);
+	}
+
+	/**
+	 * Adds the data grid to the search index using the ingest mode specified.
+	 * With <i>IndexFirst</i>, a missing search index is created before the
+	 * documents are written, so RediSearch indexes them as they arrive.  With
+	 * <i>Deferred</i>, the index is created after the documents are written
+	 * and RediSearch backfills it by scanning the keyspace.  The documents are
+	 * written in pipelined batches.
+	 * <p>
+	 * If the wait for time is positive, then the method polls the indexing
+	 * progress of the search index (via <i>FT.INFO</i>) until the documents
+	 * are queryable or the wait for time elapses.  The ingest and indexing
+	 * times are recorded and can be retrieved via getIngestMilliseconds()
+	 * and getIndexMilliseconds() to compare the two strategies.
+	 * </p>
+	 *
+	 * @param aDataGrid Data grid instance
+	 * @param anIngestMode Ingest mode
+	 * @param aWaitForMilliseconds Amount of time to wait for indexing to complete (in milliseconds)
+	 *
+	 * @return <i>true</i> if indexing completed (or was not waited for) and <i>false</i> otherwise
+	 *
+	 * @throws RedisDSException Redis data source failure
+	 */
+	public boolean add(DataGrid aDataGrid, Redis.IngestMode anIngestMode, long aWaitForMilliseconds)
+		throws RedisDSException
 	{
 		Logger appLogger = mAppCtx.getLogger(this, "add");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
 
+		boolean isIndexed = true;
+		mIngestMilliseconds = 0L;
+		mIndexMilliseconds = 0L;
 		int rowCount = aDataGrid.rowCount();
 		if (rowCount > 0)
 		{
@@ -1519,6 +1977,10 @@ public class RedisSearch
 				setSearchSchema(searchSchemaDoc);
 			}
 			aDataGrid.setColumns(mSearchSchema);
+
+			long startTime = System.currentTimeMillis();
+			if ((anIngestMode == Redis.IngestMode.IndexFirst) && (! schemaExists()))
+				createIndexSaveSchema(mSearchSchema);
 			addSuggestions(aDataGrid);
 			if (mDocument == Redis.Document.Hash)
 			{
@@ -1530,15 +1992,130 @@ public class RedisSearch
 				RedisJson redisJson = mRedisDS.createJson(mDataSchema);
 				redisJson.add(aDataGrid);
 			}
+			long ingestTime = System.currentTimeMillis();
+			mIngestMilliseconds = ingestTime - startTime;
+			invalidateResultCache();
 
 			if (! schemaExists())
 			{
 				saveSchemaDefinition();
 				createIndexSaveSchema(mSearchSchema);
 			}
+			if (aWaitForMilliseconds > 0L)
+			{
+				isIndexed = waitForIndexing(aWaitForMilliseconds);
+				mIndexMilliseconds = System.currentTimeMillis() - ingestTime;
+			}
+			appLogger.debug(String.format("%s: %d documents ingested (%s) in %d milliseconds, indexing completed %d milliseconds later (%s).",
+										  getIndexName(), rowCount, anIngestMode.name(), mIngestMilliseconds, mIndexMilliseconds,
+										  isIndexed ? "ready" : "pending"));
 		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return isIndexed;
+	}
+
+	/**
+	 * Returns the amount of time (in milliseconds) the most recent bulk
+	 * ingest spent writing documents (including index creation for the
+	 * <i>IndexFirst</i> mode).
+	 *
+	 * @return Ingest time in milliseconds
+	 */
+	public long getIngestMilliseconds()
+	{
+		return mIngestMilliseconds;
+	}
+
+	/**
+	 * Returns the amount of time (in milliseconds) the most recent bulk
+	 * ingest waited for the search index to catch up after the documents
+	 * were written.  This is zero if the ingest did not wait.
+	 *
+	 * @return Index backfill time in milliseconds
+	 */
+	public long getIndexMilliseconds()
+	{
+		return mIndexMilliseconds;
+	}
+
+	/**
+	 * Returns <i>true</i> if the search index exists and has finished
+	 * indexing (or backfilling) the documents assigned to it.
+	 *
+	 * @see <a href="https://redis.io/commands/ft.info/">FT.INFO</a>
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isIndexingComplete()
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "isIndexingComplete");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		boolean isComplete = false;
+		String indexKeyName = mRedisKey.moduleSearch().redisSearchIndex().dataName(getIndexName()).name();
+		try
+		{
+			Map<String, Object> infoMap = mCmdConnection.ftInfo(indexKeyName);
+			mRedisDS.saveCommand(appLogger, String.format("FT.INFO %s", mRedisDS.escapeKey(indexKeyName)));
+			if ((infoMap != null) && (infoMap.size() > 0))
+			{
+				long indexingFlag = NumberUtils.toLong(String.valueOf(infoMap.get("indexing")), 0L);
+				double percentIndexed = NumberUtils.toDouble(String.valueOf(infoMap.get("percent_indexed")), 1.0);
+				isComplete = (indexingFlag == 0L) && (percentIndexed >= 1.0);
+			}
+		}
+		catch (Exception e)
+		{
+			appLogger.info(String.format("[%s] %s", indexKeyName, e.getMessage()));
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return isComplete;
+	}
+
+	/**
+	 * Blocks until the search index has finished indexing (or backfilling)
+	 * its documents or the wait for time elapses.  The indexing progress is
+	 * polled with an increasing interval, so a quickly indexed grid is
+	 * detected within a few milliseconds without flooding Redis with
+	 * <i>FT.INFO</i> requests for a large one.
+	 *
+	 * @param aWaitForMilliseconds Amount of time to wait for indexing to complete (in milliseconds)
+	 *
+	 * @return <i>true</i> if indexing completed and <i>false</i> otherwise
+	 */
+	public boolean waitForIndexing(long aWaitForMilliseconds)
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "waitForIndexing");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		long pollInMilliseconds = Redis.INDEX_POLL_MINIMUM;
+		long finishTimeInMilliseconds = System.currentTimeMillis() + aWaitForMilliseconds;
+		boolean isComplete = isIndexingComplete();
+		while ((! isComplete) && (System.currentTimeMillis() < finishTimeInMilliseconds))
+		{
+			try
+			{
+				TimeUnit.MILLISECONDS.sleep(Math.min(pollInMilliseconds, Math.max(1L, finishTimeInMilliseconds - System.currentTimeMillis())));
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				appLogger.error(String.format("Sleep interruption: %s", e.getMessage()));
+				break;
+			}
+			pollInMilliseconds = Math.min(pollInMilliseconds * 2, Redis.INDEX_POLL_MAXIMUM);
+			isComplete = isIndexingComplete();
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return isComplete;
 	}
 
 	/**
@@ -1573,6 +2150,7 @@ public class RedisSearch
 			RedisJson redisJson = mRedisDS.createJson(mDataSchema);
 			redisJson.add(aDataGrid, aDataDoc);
 		}
+		invalidateResultCache();
 		addSuggestion(aDataDoc);
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -1603,6 +2181,7 @@ public class RedisSearch
 
 			RedisJson redisJson = mRedisDS.createJson(mSearchSchema);
 			redisJson.add(aDataDocList);
+			invalidateResultCache();
 
 			if (! schemaExists())
 			{
@@ -1634,10 +2213,11 @@ public class RedisSearch
 		String keyName = aDataDoc.getFeature(Redis.FEATURE_KEY_NAME);
 		if (StringUtils.isNotEmpty(keyName))
 		{
+			Optional<DataDoc> optDataDoc;
 			if (mDocument == Redis.Document.Hash)
 			{
 				RedisDoc redisDoc = mRedisDS.createDoc();
-				Optional<DataDoc> optDataDoc = redisDoc.getDoc(keyName);
+				optDataDoc = redisDoc.getDoc(keyName);
 				if (optDataDoc.isPresent())
 				{
 					DataDoc dbDataDoc = optDataDoc.get();
@@ -1647,9 +2227,59 @@ public class RedisSearch
 			else
 			{
 				RedisJson redisJson = mRedisDS.createJson(mDataSchema);
+				optDataDoc = redisJson.getDoc(keyName);
 				redisJson.update(enrichDataDoc(aDataDoc));
 			}
-			addSuggestion(aDataDoc);
+			invalidateResultCache();
+			if (optDataDoc.isPresent())
+				updateSuggestion(optDataDoc.get(), aDataDoc);
+			else
+				addSuggestion(aDataDoc);
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+
+	/**
+	 * Deletes the data document from the search index.  The key name is
+	 * obtained from the feature Redis.REDIS_FEATURE_KEY_NAME.
+	 *
+	 * @param aDataDoc Data document instance
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public void delete(DataDoc aDataDoc)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "delete");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		ensurePreconditions(true);
+		String keyName = aDataDoc.getFeature(Redis.FEATURE_KEY_NAME);
+		if (StringUtils.isNotEmpty(keyName))
+		{
+			if (mDocument == Redis.Document.Hash)
+			{
+				RedisDoc redisDoc = mRedisDS.createDoc();
+				redisDoc.delete(aDataDoc);
+			}
+			else
+			{
+				RedisJson redisJson = mRedisDS.createJson(mDataSchema);
+				redisJson.delete(aDataDoc);
+			}
+			invalidateResultCache();
+			Optional<DataItem> optSuggestItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_SUGGEST);
+			Optional<DataItem> optPrimaryItem = aDataDoc.getFirstItemByFeatureNameOptional(Data.FEATURE_IS_PRIMARY);
+			if ((optSuggestItem.isPresent()) && (optSuggestItem.get().isValueNotEmpty()) && (optPrimaryItem.isPresent()))
+				deleteSuggestion(optSuggestItem.get(), optPrimaryItem.get());
+		}
+		else
+		{
+			String msgStr = "Data document lacks a feature key name.";
+			appLogger.error(msgStr);
+			throw new RedisDSException(msgStr);
 		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -1715,6 +2345,67 @@ public class RedisSearch
 		return dataGrid;
 	}
 
+	/**
+	 * Returns a cursor over the documents that match the <i>DSCriteria</i>
+	 * in the search index.  Each iteration yields a <i>DataGrid</i> of up
+	 * to <i>aBatchCount</i> rows read from a server side cursor, so deep
+	 * pages and full exports remain memory bounded.
+	 *
+	 * <b>Note:</b> The caller is responsible for closing the cursor.
+	 *
+	 * @param aDSCriteria Data source criteria.
+	 * @param anOffset    Starting offset into the matching content rows.
+	 * @param aLimit      Limit on the total number of rows (zero for all of them).
+	 * @param aBatchCount Count of rows read per batch.
+	 *
+	 * @return Search cursor instance
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public SearchCursor queryCursor(DSCriteria aDSCriteria, int anOffset, int aLimit, int aBatchCount)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "queryCursor");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		ensurePreconditions(true);
+		SearchCriteria searchCriteria = new SearchCriteria(mRedisDS,this);
+		SearchCursor searchCursor = searchCriteria.cursor(aDSCriteria, anOffset, aLimit, aBatchCount);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return searchCursor;
+	}
+
+	/**
+	 * Streams the documents that match the <i>DSCriteria</i> in the
+	 * search index to the consumer in <i>DataGrid</i> batches of
+	 * <i>Redis.CURSOR_BATCH_COUNT</i> rows.
+	 *
+	 * @param aDSCriteria Data source criteria.
+	 * @param aConsumer   Consumer of each batch data grid.
+	 *
+	 * @return Count of rows streamed
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public long queryStream(DSCriteria aDSCriteria, Consumer<DataGrid> aConsumer)
+		throws RedisDSException
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "queryStream");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		ensurePreconditions(true);
+		SearchCriteria searchCriteria = new SearchCriteria(mRedisDS,this);
+		long rowCount = searchCriteria.stream(aDSCriteria, 0, 0, Redis.CURSOR_BATCH_COUNT, aConsumer);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return rowCount;
+	}
+
 	/**
 	 * Returns a <i>DataGrid</i> representation of the field facets that
 	 * match the <i>DSCriteria</i> in the search index.
@@ -1879,12 +2570,16 @@ public class RedisSearch
 			if (Redis.isResponseOK(msgResponse))
 				redisCore.delete(indexKeyName);
 		}
+		invalidateResultCache();
 
-// If we created suggestions, then delete them now.
+// If we created suggestions, then delete them (along with their reference keys) now.
 
 		String suggestKeyName = mRedisKey.moduleSearch().redisSearchSuggest().dataName(indexName).name();
-		if (redisCore.exists(suggestKeyName))
-			redisCore.delete(suggestKeyName);
+		for (String keyName : List.of(suggestKeyName, suggestReferenceKeyName(suggestKeyName), suggestMemberKeyName(suggestKeyName)))
+		{
+			if (redisCore.exists(keyName))
+				redisCore.delete(keyName);
+		}
 
 // If we created synonyms, then delete them now.
 
@@ -43,7 +43,9 @@ import redis.clients.jedis.search.Query;
 import redis.clients.jedis.search.SearchResult;
 import redis.clients.jedis.search.aggr.*;
 
+import java.util.ArrayList;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * This is a helper class for the RediSearch data source and should not
@@ -755,6 +757,7 @@ public class SearchCriteria
 	public DataGrid execute(DSCriteria aDSCriteria, int anOffset, int aLimit)
 		throws RedisDSException
 	{
+		DataGrid dataGrid;
 		Logger appLogger = mAppCtx.getLogger(this, "execute");
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
@@ -767,20 +770,38 @@ public class SearchCriteria
 		String indexKeyName = mRedisDS.createKey().moduleSearch().redisSearchIndex().dataName(mRedisSearch.getIndexName()).name();
 		StringBuilder stringBuilder = new StringBuilder(String.format("FT.SEARCH %s", mRedisDS.escapeKey(indexKeyName)));
 
-// Prepare, execute query and transform document results
+// Prepare the query and answer it from the result cache if no write has happened since
+// it was last issued - the command string fully describes the query and its page.
 
 		Query searchQuery = prepare(aDSCriteria, anOffset, aLimit, stringBuilder);
-		SearchResult searchResult = mCmdConnection.ftSearch(indexKeyName, searchQuery);
-		DataGrid dataGrid = searchResultToDataGrid(searchResult);
-		mRedisDS.saveCommand(appLogger, stringBuilder.toString());
+		String queryKey = StringUtils.normalizeSpace(stringBuilder.toString());
+		SearchResultCache resultCache = mRedisSearch.resultCache();
+		long cacheVersion = (resultCache == null) ? 0L : resultCache.version();
+		Optional<DataGrid> optDataGrid = (resultCache == null) ? Optional.empty() : resultCache.get(queryKey);
+		if (optDataGrid.isPresent())
+		{
+			dataGrid = optDataGrid.get();
+			appLogger.debug(String.format("Result cache hit: %s", queryKey));
+		}
+		else
+		{
+
+// Execute query and transform document results
+
+			SearchResult searchResult = mCmdConnection.ftSearch(indexKeyName, searchQuery);
+			dataGrid = searchResultToDataGrid(searchResult);
+			mRedisDS.saveCommand(appLogger, stringBuilder.toString());
 
 // Assign result set summary features
 
-		dataGrid.addFeature(DS.FEATURE_CUR_LIMIT, aLimit);
-		dataGrid.addFeature(DS.FEATURE_CUR_OFFSET, anOffset);
-		long nextOffset = anOffset + aLimit;
-		dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, Math.min(searchResult.getTotalResults(), nextOffset));
-		dataGrid.addFeature(DS.FEATURE_TOTAL_DOCUMENTS, searchResult.getTotalResults());
+			dataGrid.addFeature(DS.FEATURE_CUR_LIMIT, aLimit);
+			dataGrid.addFeature(DS.FEATURE_CUR_OFFSET, anOffset);
+			long nextOffset = anOffset + aLimit;
+			dataGrid.addFeature(DS.FEATURE_NEXT_OFFSET, Math.min(searchResult.getTotalResults(), nextOffset));
+			dataGrid.addFeature(DS.FEATURE_TOTAL_DOCUMENTS, searchResult.getTotalResults());
+			if (resultCache != null)
+				resultCache.put(queryKey, cacheVersion, dataGrid);
+		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
 
@@ -817,6 +838,246 @@ public class SearchCriteria
 		return dataGrid;
 	}
 
+	/**
+	 * Converts the rows of a RediSearch aggregation result that loaded the
+	 * schema fields (or the JSON document root) into a data grid instance.
+	 *
+	 * @param aResult RediSearch aggregation result instance
+	 *
+	 * @return Data grid instance
+	 */
+	DataGrid aggregationResultToDataGrid(AggregationResult aResult)
+	{
+		Row aggRow;
+		String itemName;
+		JSONObject jsonObject;
+		Optional<DataDoc> optDataDoc;
+		Logger appLogger = mAppCtx.getLogger(this, "aggregationResultToDataGrid");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		DataGrid dataGrid = new DataGrid(mSearchSchema);
+		RedisJson redisJson = (mRedisSearch.mDocument == Redis.Document.JSON) ? mRedisDS.createJson() : null;
+		int resultCount = aResult.getResults().size();
+		for (int row = 0; row < resultCount; row++)
+		{
+			aggRow = aResult.getRow(row);
+			if (aggRow == null)
+				continue;
+			if (redisJson != null)
+			{
+				if (aggRow.containsKey(Redis.JSON_PATH_ROOT))
+				{
+					jsonObject = new JSONObject(aggRow.getString(Redis.JSON_PATH_ROOT));
+					optDataDoc = redisJson.jsonObjectToDataDoc(jsonObject);
+					if (optDataDoc.isPresent())
+						dataGrid.addRow(optDataDoc.get());
+					else
+						appLogger.error(String.format("[%d Offset]: Unable to convert JSON aggregate result to data document instance.", row));
+				}
+			}
+			else
+			{
+				dataGrid.newRow();
+				for (DataItem dataItem : mSearchSchema.getItems())
+				{
+					itemName = dataItem.getName();
+					if (aggRow.containsKey(itemName))
+						dataGrid.setValueByName(itemName, aggRow.getString(itemName));
+				}
+				dataGrid.addRow();
+			}
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return dataGrid;
+	}
+
+	/**
+	 * Opens a cursor over the documents matching the data source criteria
+	 * instance.  The query is issued as <i>FT.AGGREGATE ... WITHCURSOR</i>
+	 * loading the schema fields (or the JSON document root), and batches
+	 * are read from the server as the cursor is iterated.  A positive
+	 * offset or limit is applied on the server, so a deep page is not
+	 * transferred to reach its starting row.
+	 *
+	 * <b>Note:</b> The caller is responsible for closing the cursor.
+	 * Unless the criteria specify a sort order, documents are returned in
+	 * index order rather than by score.
+	 *
+	 * @see <a href="https://redis.io/docs/stack/search/reference/aggregations/#cursor-api">Cursor API</a>
+	 *
+	 * @param aDSCriteria Data source criteria instance
+	 * @param anOffset Starting offset into the matching documents
+	 * @param aLimit Maximum count of documents (zero for all of them)
+	 * @param aBatchCount Count of documents read per batch
+	 *
+	 * @return Search cursor instance
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public SearchCursor cursor(DSCriteria aDSCriteria, int anOffset, int aLimit, int aBatchCount)
+		throws RedisDSException
+	{
+		String itemName;
+		DataItem ceDataItem;
+		Logger appLogger = mAppCtx.getLogger(this, "cursor");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		if (aDSCriteria == null)
+			throw new RedisDSException("Cannot open cursor - criteria is null.");
+		if (aBatchCount <= 0)
+			throw new RedisDSException("Cannot open cursor - batch count must be positive.");
+
+// Create our RediSearch command string.
+
+		String indexKeyName = mRedisDS.createKey().moduleSearch().redisSearchIndex().dataName(mRedisSearch.getIndexName()).name();
+		StringBuilder stringBuilder = new StringBuilder(String.format("FT.AGGREGATE %s ", mRedisDS.escapeKey(indexKeyName)));
+		String queryString = criteriaToQueryString(aDSCriteria, null, null);
+		if (StringUtils.isNotEmpty(queryString))
+		{
+			String patternString = String.format("%s ", Redis.QUERY_ALL_DOCUMENTS);
+			if ((StringUtils.startsWith(queryString, patternString)) || (StringUtils.endsWith(queryString, " ")))
+				queryString = StringUtils.trim(queryString);
+		}
+		stringBuilder.append(mRedisDS.escapeValue(queryString));
+		AggregationBuilder aggregationBuilder = new AggregationBuilder(queryString);
+
+// Load the schema fields - JSON documents are loaded whole via their root path.
+
+		if (mRedisSearch.mDocument == Redis.Document.JSON)
+		{
+			aggregationBuilder.load(Redis.JSON_PATH_ROOT);
+			stringBuilder.append(String.format(" LOAD 1 %s", Redis.JSON_PATH_ROOT));
+		}
+		else
+		{
+			ArrayList<String> loadFields = new ArrayList<>();
+			for (DataItem dataItem : mSearchSchema.getItems())
+				loadFields.add(String.format("@%s", dataItem.getName()));
+			aggregationBuilder.load(loadFields.toArray(new String[0]));
+			stringBuilder.append(String.format(" LOAD %d", loadFields.size()));
+			for (String loadField : loadFields)
+				stringBuilder.append(String.format(" %s", mRedisDS.escapeKey(loadField)));
+		}
+
+// Apply sorting if it was specified in the criteria.
+
+		ArrayList<SortedField> sortedFields = new ArrayList<>();
+		for (DSCriterionEntry ce : aDSCriteria.getCriterionEntries())
+		{
+			if (ce.getLogicalOperator() == Data.Operator.SORT)
+			{
+				ceDataItem = ce.getItem();
+				Data.Order sortOrder = Data.Order.valueOf(ceDataItem.getValue());
+				if (Data.isDateOrTime(ceDataItem.getType()))
+					itemName = Redis.numericFieldName(ceDataItem.getName());
+				else if (Data.isNumber(ceDataItem.getType()))
+					itemName = Redis.numericFieldName(ceDataItem.getName());
+				else if (Data.isText(ceDataItem.getType()))
+					itemName = Redis.tagFieldName(ceDataItem.getName());
+				else
+					itemName = ceDataItem.getName();
+				if (sortOrder == Data.Order.ASCENDING)
+					sortedFields.add(SortedField.asc(String.format("@%s", itemName)));
+				else
+					sortedFields.add(SortedField.desc(String.format("@%s", itemName)));
+			}
+		}
+		if (sortedFields.size() > 0)
+		{
+			aggregationBuilder.sortBy(sortedFields.toArray(new SortedField[0]));
+			stringBuilder.append(String.format(" SORTBY %d", sortedFields.size() * 2));
+			for (SortedField sortedField : sortedFields)
+				stringBuilder.append(String.format(" %s %s", mRedisDS.escapeKey(sortedField.getField()), sortedField.getOrder()));
+		}
+
+// Apply our offset and limit, then open the cursor.  An offset without a limit is bounded
+// by the match count, since the server sizes its sort heap from offset plus limit.
+
+		if ((anOffset > 0) || (aLimit > 0))
+		{
+			int queryLimit = aLimit;
+			if (queryLimit <= 0)
+			{
+				SearchResult searchResult = mCmdConnection.ftSearch(indexKeyName, new Query(queryString).limit(0, 0));
+				mRedisDS.saveCommand(appLogger, String.format("FT.SEARCH %s %s LIMIT 0 0", mRedisDS.escapeKey(indexKeyName), mRedisDS.escapeValue(queryString)));
+				queryLimit = (int) Math.max(1L, Math.min(Integer.MAX_VALUE, searchResult.getTotalResults() - anOffset));
+			}
+			aggregationBuilder.limit(Math.max(0, anOffset), queryLimit);
+			stringBuilder.append(String.format(" LIMIT %d %d", Math.max(0, anOffset), queryLimit));
+		}
+		aggregationBuilder.cursor(aBatchCount, Redis.CURSOR_MAX_IDLE);
+		stringBuilder.append(String.format(" WITHCURSOR COUNT %d MAXIDLE %d", aBatchCount, Redis.CURSOR_MAX_IDLE));
+		AggregationResult aggregationResult = mCmdConnection.ftAggregate(indexKeyName, aggregationBuilder);
+		mRedisDS.saveCommand(appLogger, stringBuilder.toString());
+		SearchCursor searchCursor = new SearchCursor(this, mRedisDS, mCmdConnection, indexKeyName, aBatchCount, aggregationResult);
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return searchCursor;
+	}
+
+	/**
+	 * Opens a cursor over all the documents matching the data source
+	 * criteria instance.
+	 *
+	 * <b>Note:</b> The caller is responsible for closing the cursor.
+	 *
+	 * @param aDSCriteria Data source criteria instance
+	 * @param aBatchCount Count of documents read per batch
+	 *
+	 * @return Search cursor instance
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public SearchCursor cursor(DSCriteria aDSCriteria, int aBatchCount)
+		throws RedisDSException
+	{
+		return cursor(aDSCriteria, 0, 0, aBatchCount);
+	}
+
+	/**
+	 * Streams the documents matching the data source criteria instance to
+	 * the consumer in batches of up to <i>aBatchCount</i> rows.  The server
+	 * cursor is released once the stream completes or the consumer throws.
+	 *
+	 * @param aDSCriteria Data source criteria instance
+	 * @param anOffset Starting offset into the matching documents
+	 * @param aLimit Maximum count of documents (zero for all of them)
+	 * @param aBatchCount Count of documents read per batch
+	 * @param aConsumer Consumer of each batch data grid
+	 *
+	 * @return Count of documents streamed
+	 *
+	 * @throws RedisDSException Redis data source exception
+	 */
+	public long stream(DSCriteria aDSCriteria, int anOffset, int aLimit, int aBatchCount, Consumer<DataGrid> aConsumer)
+		throws RedisDSException
+	{
+		DataGrid dataGrid;
+		long rowCount = 0L;
+		Logger appLogger = mAppCtx.getLogger(this, "stream");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		try (SearchCursor searchCursor = cursor(aDSCriteria, anOffset, aLimit, aBatchCount))
+		{
+			while (searchCursor.hasNext())
+			{
+				dataGrid = searchCursor.next();
+				rowCount += dataGrid.rowCount();
+				aConsumer.accept(dataGrid);
+			}
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return rowCount;
+	}
+
 	/**
 	 * Convenience mthod that creates a facet aggregation data grid.
 	 *
@@ -1050,38 +1311,66 @@ public class SearchCriteria
 			if (StringUtils.startsWith(queryString, patternString))
 				queryString = StringUtils.trim(queryString);
 		}
+
+// The facet grid is answered from the result cache if no write has happened since the
+// same query, page and facet fields were last aggregated.
+
+		StringBuilder keyBuilder = new StringBuilder(aggregateCommand);
+		keyBuilder.append(aFormatForUIPresentation ? "UI " : "GRID ");
+		keyBuilder.append(String.format("%s LIMIT %d %d FACETS", StringUtils.normalizeSpace(queryString), queryOffset, queryLimit));
 		for (DSCriterionEntry ce : aDSCriteria.getCriterionEntries())
 		{
 			ceDataItem = ce.getItem();
-			itemName = ceDataItem.getName();
-			if (StringUtils.startsWith(itemName, Redis.RS_PREFIX))
-				continue;
-
-			if ((ce.getLogicalOperator() == Data.Operator.FACET) && (Data.isText(ceDataItem.getType())))
+			if ((ce.getLogicalOperator() == Data.Operator.FACET) && (Data.isText(ceDataItem.getType())) &&
+				(ceDataItem.isValueTrue()) && (! StringUtils.startsWith(ceDataItem.getName(), Redis.RS_PREFIX)))
+				keyBuilder.append(String.format(" %s", ceDataItem.getName()));
+		}
+		String queryKey = keyBuilder.toString();
+		SearchResultCache resultCache = mRedisSearch.resultCache();
+		long cacheVersion = (resultCache == null) ? 0L : resultCache.version();
+		Optional<DataGrid> optDataGrid = (resultCache == null) ? Optional.empty() : resultCache.get(queryKey);
+		if (optDataGrid.isPresent())
+		{
+			facetGrid = optDataGrid.get();
+			appLogger.debug(String.format("Result cache hit: %s", queryKey));
+		}
+		else
+		{
+			for (DSCriterionEntry ce : aDSCriteria.getCriterionEntries())
 			{
-				if (ceDataItem.isValueTrue())
+				ceDataItem = ce.getItem();
+				itemName = ceDataItem.getName();
+				if (StringUtils.startsWith(itemName, Redis.RS_PREFIX))
+					continue;
+
+				if ((ce.getLogicalOperator() == Data.Operator.FACET) && (Data.isText(ceDataItem.getType())))
 				{
-					tagItemName = Redis.tagFieldName(itemName);
-					stringBuilder = new StringBuilder(aggregateCommand);
-					stringBuilder.append(StrUtl.CHAR_DBLQUOTE);
-					stringBuilder.append(queryString);
-					stringBuilder.append(StrUtl.CHAR_DBLQUOTE);
-					itemNameFC = String.format("%s_fc", itemName);
-					aggregationBuilder = new AggregationBuilder(queryString)
-											.groupBy(String.format("@%s", tagItemName), Reducers.count_distinctish(String.format("@%s", primaryItemName)).as(itemNameFC))
-											.sortBy(SortedField.desc(String.format("@%s", itemNameFC)))
-											.limit(queryOffset, queryLimit);
-					stringBuilder.append(String.format(" GROUPBY 1 @%s REDUCE COUNT_DISTINCT 1 @%s as %s SORTBY 2 @%s DESC LIMIT %d %d",
-													   tagItemName, primaryItemName, itemNameFC, itemNameFC, queryOffset, queryLimit));
-					aggregationResult = mCmdConnection.ftAggregate(indexKeyName, aggregationBuilder);
-					if (aFormatForUIPresentation)
-						addResultToUIDataGrid(facetGrid, aggregationResult, itemName, itemNameFC);
-					else
-						addResultToDataGrid(facetGrid, aggregationResult, itemName, itemNameFC);
-					if (mFacetId > 0)
-						mRedisDS.saveCommand(appLogger, stringBuilder.toString());
+					if (ceDataItem.isValueTrue())
+					{
+						tagItemName = Redis.tagFieldName(itemName);
+						stringBuilder = new StringBuilder(aggregateCommand);
+						stringBuilder.append(StrUtl.CHAR_DBLQUOTE);
+						stringBuilder.append(queryString);
+						stringBuilder.append(StrUtl.CHAR_DBLQUOTE);
+						itemNameFC = String.format("%s_fc", itemName);
+						aggregationBuilder = new AggregationBuilder(queryString)
+												.groupBy(String.format("@%s", tagItemName), Reducers.count_distinctish(String.format("@%s", primaryItemName)).as(itemNameFC))
+												.sortBy(SortedField.desc(String.format("@%s", itemNameFC)))
+												.limit(queryOffset, queryLimit);
+						stringBuilder.append(String.format(" GROUPBY 1 @%s REDUCE COUNT_DISTINCT 1 @%s as %s SORTBY 2 @%s DESC LIMIT %d %d",
+														   tagItemName, primaryItemName, itemNameFC, itemNameFC, queryOffset, queryLimit));
+						aggregationResult = mCmdConnection.ftAggregate(indexKeyName, aggregationBuilder);
+						if (aFormatForUIPresentation)
+							addResultToUIDataGrid(facetGrid, aggregationResult, itemName, itemNameFC);
+						else
+							addResultToDataGrid(facetGrid, aggregationResult, itemName, itemNameFC);
+						if (mFacetId > 0)
+							mRedisDS.saveCommand(appLogger, stringBuilder.toString());
+					}
 				}
 			}
+			if (resultCache != null)
+				resultCache.put(queryKey, cacheVersion, facetGrid);
 		}
 
 		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.ds.ds_redis.search;
+
+import com.redis.ds.ds_redis.RedisDS;
+import com.redis.foundation.app.AppCtx;
+import com.redis.foundation.data.DataGrid;
+import org.slf4j.Logger;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.search.aggr.AggregationResult;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The SearchCursor class iterates over the documents matching a
+ * RediSearch query one batch at a time.  It is backed by a server
+ * side cursor opened via <i>FT.AGGREGATE ... WITHCURSOR</i>, so each
+ * batch costs the same regardless of how deep into the result set
+ * it is and only a single batch is held in memory.
+ *
+ * Instances are created by {@link SearchCriteria} and should be
+ * closed once the caller is done with them, which releases the
+ * server cursor if it has not been exhausted.
+ */
+public class SearchCursor implements Iterator<DataGrid>, AutoCloseable
+{
+	private long mCursorId;
+	private DataGrid mNextGrid;
+	private final int mBatchCount;
+	private final AppCtx mAppCtx;
+	private final RedisDS mRedisDS;
+	private final String mIndexName;
+	private final SearchCriteria mSearchCriteria;
+	private final UnifiedJedis mCmdConnection;
+
+	/**
+	 * Constructor accepts the result of the aggregation that opened the
+	 * cursor along with the parameters needed to read the batches that
+	 * follow it.
+	 *
+	 * @param aSearchCriteria Search criteria instance
+	 * @param aRedisDS Redis data source instance
+	 * @param aCmdConnection Unified command connection instance
+	 * @param anIndexName Search index key name
+	 * @param aBatchCount Count of documents read per batch
+	 * @param aResult Aggregation result that opened the cursor
+	 */
+	SearchCursor(SearchCriteria aSearchCriteria, RedisDS aRedisDS, UnifiedJedis aCmdConnection, String anIndexName,
+				 int aBatchCount, AggregationResult aResult)
+	{
+		mRedisDS = aRedisDS;
+		mAppCtx = aRedisDS.getAppCtx();
+		mIndexName = anIndexName;
+		mBatchCount = aBatchCount;
+		mCmdConnection = aCmdConnection;
+		mSearchCriteria = aSearchCriteria;
+		accept(aResult);
+	}
+
+	private void accept(AggregationResult aResult)
+	{
+		mCursorId = aResult.getCursorId();
+		DataGrid dataGrid = mSearchCriteria.aggregationResultToDataGrid(aResult);
+		if (dataGrid.rowCount() > 0)
+			mNextGrid = dataGrid;
+	}
+
+// The final read of a cursor may come back empty, so batches are read ahead until
+// one holds rows or the server reports the cursor as exhausted.
+
+	@Override
+	public boolean hasNext()
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "hasNext");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		while ((mNextGrid == null) && (mCursorId != 0L))
+		{
+			long cursorId = mCursorId;
+			accept(mCmdConnection.ftCursorRead(mIndexName, cursorId, mBatchCount));
+			mRedisDS.saveCommand(appLogger, String.format("FT.CURSOR READ %s %d COUNT %d", mRedisDS.escapeKey(mIndexName), cursorId, mBatchCount));
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+
+		return mNextGrid != null;
+	}
+
+	/**
+	 * Returns the next batch of documents as a data grid instance.
+	 *
+	 * @return Data grid instance
+	 */
+	@Override
+	public DataGrid next()
+	{
+		if (! hasNext())
+			throw new NoSuchElementException("Search cursor has been exhausted.");
+		DataGrid dataGrid = mNextGrid;
+		mNextGrid = null;
+
+		return dataGrid;
+	}
+
+	/**
+	 * Releases the server cursor if it has not been exhausted.
+	 */
+	@Override
+	public void close()
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "close");
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_ENTER);
+
+		mNextGrid = null;
+		if (mCursorId != 0L)
+		{
+			mCmdConnection.ftCursorDel(mIndexName, mCursorId);
+			mRedisDS.saveCommand(appLogger, String.format("FT.CURSOR DEL %s %d", mRedisDS.escapeKey(mIndexName), mCursorId));
+			mCursorId = 0L;
+		}
+
+		appLogger.trace(mAppCtx.LOGMSG_TRACE_DEPART);
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.ds.ds_redis.search;
+
+import com.redis.ds.ds_redis.Redis;
+import com.redis.foundation.data.DataGrid;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The SearchResultCache class holds the most recently used query
+ * results of a search index in memory.  Each result is tagged with
+ * the index version at the time its query was issued, and writes
+ * through the RediSearch data source bump that version, so a cached
+ * result is only returned while no write has happened since.
+ *
+ * Caches are shared by all RedisSearch instances addressing the same
+ * search index within the process.  Writes made by other processes
+ * (or key expirations) are not detected, so each result is also
+ * bounded by a short time-to-live, and flushing the database discards
+ * the results of every index.
+ */
+class SearchResultCache
+{
+	private static final ConcurrentHashMap<String, SearchResultCache> mIndexCaches = new ConcurrentHashMap<>();
+
+	private volatile boolean mIsBackfilling;
+	private final long mTimeToLive;
+	private final AtomicLong mVersion = new AtomicLong();
+	private final LinkedHashMap<String, CacheEntry> mEntries;
+
+	private static final class CacheEntry
+	{
+		private final long mVersion;
+		private final long mCachedAt;
+		private final DataGrid mDataGrid;
+
+		private CacheEntry(long aVersion, long aCachedAt, DataGrid aDataGrid)
+		{
+			mVersion = aVersion;
+			mCachedAt = aCachedAt;
+			mDataGrid = aDataGrid;
+		}
+	}
+
+	private SearchResultCache(int anEntryLimit, long aTimeToLive)
+	{
+		mTimeToLive = aTimeToLive;
+		mEntries = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> anEldest)
+			{
+				return size() > anEntryLimit;
+			}
+		};
+	}
+
+	/**
+	 * Returns the result cache for the search index identified by the
+	 * scope name, creating it on first use.
+	 *
+	 * @param aScopeName Scope name (server and index key name)
+	 * @param anEntryLimit Maximum count of cached results
+	 * @param aTimeToLive Milliseconds a cached result remains valid
+	 *
+	 * @return Search result cache instance
+	 */
+	static SearchResultCache forScope(String aScopeName, int anEntryLimit, long aTimeToLive)
+	{
+		return mIndexCaches.computeIfAbsent(aScopeName, k -> new SearchResultCache(anEntryLimit, aTimeToLive));
+	}
+
+	/**
+	 * Bumps the version of every search index cache in the process and
+	 * discards their cached results.  This is used when the database
+	 * is flushed, since that removes all indexed documents at once.
+	 */
+	static void invalidateAll()
+	{
+		for (SearchResultCache resultCache : mIndexCaches.values())
+			resultCache.invalidate(false);
+	}
+
+	/**
+	 * Returns the current index version.  Callers capture it before
+	 * issuing a query and hand it back to <i>put()</i>.
+	 *
+	 * @return Index version
+	 */
+	long version()
+	{
+		return mVersion.get();
+	}
+
+	/**
+	 * Bumps the index version and discards the cached results.  If the
+	 * index is backfilling, then results are not cached until it has
+	 * been settled.
+	 *
+	 * @param anIsBackfilling <i>true</i> if the index was just created
+	 */
+	void invalidate(boolean anIsBackfilling)
+	{
+		if (anIsBackfilling)
+			mIsBackfilling = true;
+		mVersion.incrementAndGet();
+		synchronized (mEntries)
+		{
+			mEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns <i>true</i> if the index was created and has not yet been
+	 * reported as fully indexed.
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	boolean isBackfilling()
+	{
+		return mIsBackfilling;
+	}
+
+	/**
+	 * Records that the index has finished backfilling its documents.
+	 */
+	void settle()
+	{
+		mIsBackfilling = false;
+	}
+
+	/**
+	 * Returns a copy of the cached result for the query key if it was
+	 * stored under the current index version and its time-to-live has
+	 * not elapsed.
+	 *
+	 * @param aQueryKey Normalized query key
+	 *
+	 * @return Optional data grid instance
+	 */
+	Optional<DataGrid> get(String aQueryKey)
+	{
+		CacheEntry cacheEntry;
+
+		synchronized (mEntries)
+		{
+			cacheEntry = mEntries.get(aQueryKey);
+			if ((cacheEntry != null) && ((cacheEntry.mVersion != mVersion.get()) ||
+				(System.currentTimeMillis() - cacheEntry.mCachedAt > mTimeToLive)))
+			{
+				mEntries.remove(aQueryKey);
+				cacheEntry = null;
+			}
+		}
+		if (cacheEntry == null)
+			return Optional.empty();
+
+		return Optional.of(new DataGrid(cacheEntry.mDataGrid));
+	}
+
+// A result is dropped if a write happened while its query was in flight, since the
+// version captured beforehand would otherwise let it outlive the write.
+
+	/**
+	 * Stores a copy of the query result under the index version that was
+	 * captured before the query was issued.
+	 *
+	 * @param aQueryKey Normalized query key
+	 * @param aVersion Index version captured before the query
+	 * @param aDataGrid Data grid instance
+	 */
+	void put(String aQueryKey, long aVersion, DataGrid aDataGrid)
+	{
+		if (aDataGrid.rowCount() > Redis.RESULT_CACHE_ROW_LIMIT)
+			return;
+
+		DataGrid dataGrid = new DataGrid(aDataGrid);
+		synchronized (mEntries)
+		{
+			if (aVersion == mVersion.get())
+				mEntries.put(aQueryKey, new CacheEntry(aVersion, System.currentTimeMillis(), dataGrid));
+		}
+	}
+}
@@ -29,6 +29,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The RedisField class handles Redis hash field name generation
@@ -40,6 +41,11 @@ import java.util.Optional;
  *
  * Field Name Format - "ItemName:DataType:ValueType:ValueFormat"
  *
+ * Decoded field names are retained in a bounded cache that is shared
+ * across instances and threads, so loading many rows with the same
+ * fields parses each distinct field name once.  Every caller receives
+ * its own copy of the cached data item template.
+ *
  * @see <a href="https://redis.io/commands">OSS Redis Commands</a>
  * @see <a href="https://github.com/redis/jedis">Jedis GitHub site</a>
  * @see <a href="https://www.baeldung.com/jedis-java-redis-client-library">Intro to Jedis – the Java Redis Client Library</a>
@@ -53,6 +59,7 @@ public class RedisField
 	private DataItem mDataItem;
 	private final AppCtx mAppCtx;
 	protected final RedisDS mRedisDS;
+	private static final ConcurrentHashMap<String, DataItem> mDecodedItems = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor accepts a Redis data source parameter and initializes
@@ -168,6 +175,29 @@ public class RedisField
 	private void parseAssign(String aFieldName)
 	{
 		mFieldName = aFieldName;
+		if (aFieldName == null)
+			mDataItem = decode(aFieldName);
+		else
+		{
+
+// Templates are never handed out directly since callers assign values and features to their items.
+
+			DataItem templateItem = mDecodedItems.get(aFieldName);
+			if (templateItem == null)
+			{
+				templateItem = decode(aFieldName);
+				if (mDecodedItems.size() >= Redis.FIELD_DECODE_CACHE_LIMIT)
+					mDecodedItems.clear();
+				mDecodedItems.putIfAbsent(aFieldName, templateItem);
+			}
+			mDataItem = new DataItem(templateItem);
+		}
+	}
+
+	private DataItem decode(String aFieldName)
+	{
+		DataItem dataItem;
+
 		int separatorCount = StringUtils.countMatches(aFieldName, StrUtl.CHAR_COLON);
 		if (separatorCount > 2)
 		{
@@ -176,20 +206,41 @@ public class RedisField
 			String fieldName = fieldParameters[0].substring(0, offset);;
 			if (StringUtils.equals(fieldParameters[1], Redis.KEY_DATA_TYPE_KEY))
 			{
-				mDataItem = new DataItem.Builder().name(fieldName).title(Data.nameToTitle(aFieldName)).build();
-				mDataItem.enableFeature(Redis.FEATURE_IS_KEY);
+				dataItem = new DataItem.Builder().name(fieldName).title(Data.nameToTitle(aFieldName)).build();
+				dataItem.enableFeature(Redis.FEATURE_IS_KEY);
 			}
 			else
 			{
-				mDataItem = new DataItem.Builder().type(stringToDataType(fieldParameters[1])).name(fieldName).title(Data.nameToTitle(fieldName)).build();
+				dataItem = new DataItem.Builder().type(stringToDataType(fieldParameters[1])).name(fieldName).title(Data.nameToTitle(fieldName)).build();
 				if (StringUtils.equals(fieldParameters[2], Redis.KEY_VALUE_MULTI))
-					mDataItem.enableFeature(Data.FEATURE_IS_MULTIVALUE);
+					dataItem.enableFeature(Data.FEATURE_IS_MULTIVALUE);
 				if (StringUtils.equals(fieldParameters[3], Redis.KEY_VALUE_ENCRYPTED))
-					mDataItem.enableFeature(Data.FEATURE_IS_SECRET);
+					dataItem.enableFeature(Data.FEATURE_IS_SECRET);
 			}
 		}
 		else
-			mDataItem = new DataItem.Builder().name(aFieldName).title(Data.nameToTitle(aFieldName)).build();
+			dataItem = new DataItem.Builder().name(aFieldName).title(Data.nameToTitle(aFieldName)).build();
+
+		return dataItem;
+	}
+
+	/**
+	 * Removes all decoded field name templates from the shared cache.
+	 */
+	public static void clearDecodeCache()
+	{
+		mDecodedItems.clear();
+	}
+
+	/**
+	 * Returns the count of decoded field name templates held in the
+	 * shared cache.
+	 *
+	 * @return Count of cached templates
+	 */
+	public static int decodeCacheSize()
+	{
+		return mDecodedItems.size();
 	}
 
 	/**
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.ds.ds_redis;
+
+import com.redis.ds.ds_redis.core.RedisCore;
+import com.redis.foundation.app.AppCtx;
+import com.redis.foundation.data.DataItem;
+import com.redis.foundation.std.StrUtl;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import redis.clients.jedis.Jedis;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+
+/**
+ * The RedisCoreTest class will exercise classes and methods for
+ * the Redis data source library package.
+ */
+public class RedisCoreTest
+{
+    private final String APPLICATION_PREFIX_DEFAULT = "ASRC";
+    private final String LOCK_KEY_NAME = "LockTest";
+    private final long LOCK_RELEASE_MILLISECONDS = 2000L;
+    private final long LOCK_WAITFOR_MILLISECONDS = 250L;
+
+    private RedisDS mRedisDS;
+
+    @Before
+    public void setup()
+    {
+        HashMap<String,Object> hmProperties = new HashMap<>();
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".host_name", Redis.HOST_NAME_DEFAULT);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".port_number", Redis.PORT_NUMBER_DEFAULT);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".ssl_enabled", StrUtl.STRING_FALSE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".application_prefix", APPLICATION_PREFIX_DEFAULT);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".database_id", Redis.DBID_DEFAULT);
+//		hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".database_account", "redis-service-account");
+//		hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".database_password", "secret");
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_max_connections", Redis.POOL_MAX_TOTAL_CONNECTIONS);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_min_idle_connections", Redis.POOL_MIN_IDLE_CONNECTIONS);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_max_idle_connections", Redis.POOL_MAX_IDLE_CONNECTIONS);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_test_on_idle", StrUtl.STRING_TRUE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_test_on_borrow", StrUtl.STRING_TRUE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_test_on_return", StrUtl.STRING_TRUE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".pool_block_on_limit", StrUtl.STRING_TRUE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".operation_timeout", Redis.TIMEOUT_DEFAULT);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".cache_expiration_time", 0);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".stream_command_limit", Redis.STREAM_LIMIT_DEFAULT);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".encrypt_all_values", StrUtl.STRING_FALSE);
+        hmProperties.put(Redis.CFG_PROPERTY_PREFIX + ".encrypt_password", "1c518a1e-be3b-4ff0-8478-f319b887dca0");
+        AppCtx appCtx = new AppCtx(hmProperties);
+        mRedisDS = new RedisDS(appCtx);
+    }
+
+    public void exerciseLocks()
+        throws RedisDSException, IOException
+    {
+        RedisCore redisCore = mRedisDS.createCore();
+        Jedis jedisConnection = mRedisDS.getCmdConnection();
+        mRedisDS.openCaptureWithFile(String.format("log%credis_core_commands.txt", File.separatorChar));
+
+        mRedisDS.startMarker("Acquire while held");
+        DataItem ownerLock = redisCore.createLock(LOCK_KEY_NAME, LOCK_RELEASE_MILLISECONDS, LOCK_WAITFOR_MILLISECONDS);
+        DataItem otherLock = redisCore.createLock(LOCK_KEY_NAME, LOCK_RELEASE_MILLISECONDS, LOCK_WAITFOR_MILLISECONDS);
+        Assert.assertEquals(ownerLock.getName(), otherLock.getName());
+        Assert.assertNotEquals(ownerLock.getValue(), otherLock.getValue());
+        Assert.assertTrue(redisCore.acquireLock(ownerLock));
+        long startTime = System.currentTimeMillis();
+        Assert.assertFalse(redisCore.acquireLock(otherLock));
+        Assert.assertTrue(System.currentTimeMillis() - startTime >= LOCK_WAITFOR_MILLISECONDS);
+        Assert.assertEquals(ownerLock.getValue(), jedisConnection.get(ownerLock.getName()));
+        mRedisDS.finishMarker();
+
+        mRedisDS.startMarker("Renew by owner");
+        jedisConnection.pexpire(ownerLock.getName(), LOCK_WAITFOR_MILLISECONDS);
+        Assert.assertTrue(redisCore.renewLock(ownerLock));
+        Assert.assertTrue(jedisConnection.pttl(ownerLock.getName()) > LOCK_WAITFOR_MILLISECONDS);
+        mRedisDS.finishMarker();
+
+        mRedisDS.startMarker("Renew by non-owner");
+        long lockTTL = jedisConnection.pttl(ownerLock.getName());
+        Assert.assertFalse(redisCore.renewLock(otherLock));
+        Assert.assertTrue(jedisConnection.pttl(ownerLock.getName()) <= lockTTL);
+        Assert.assertEquals(ownerLock.getValue(), jedisConnection.get(ownerLock.getName()));
+        mRedisDS.finishMarker();
+
+        mRedisDS.startMarker("Release by non-owner and owner");
+        redisCore.releaseLock(otherLock);
+        Assert.assertTrue(jedisConnection.exists(ownerLock.getName()));
+        redisCore.releaseLock(ownerLock);
+        Assert.assertFalse(jedisConnection.exists(ownerLock.getName()));
+        Assert.assertFalse(redisCore.renewLock(ownerLock));
+        Assert.assertTrue(redisCore.acquireLock(otherLock));
+        redisCore.releaseLock(otherLock);
+        mRedisDS.finishMarker();
+    }
+
+    @Test
+    public void exercise()
+        throws RedisDSException, IOException
+    {
+        mRedisDS.open(APPLICATION_PREFIX_DEFAULT);
+        mRedisDS.openCaptureWithStream(mRedisDS.streamKeyName());
+        mRedisDS.createCore().flushDatabase();
+        exerciseLocks();
+    }
+
+    @After
+    public void cleanup()
+    {
+        Jedis jedisConnection = mRedisDS.getCmdConnection();
+        String streamKeyName = mRedisDS.streamKeyName();
+        if (jedisConnection.exists(streamKeyName))
+            jedisConnection.del(streamKeyName);
+        mRedisDS.shutdown();
+    }
+}
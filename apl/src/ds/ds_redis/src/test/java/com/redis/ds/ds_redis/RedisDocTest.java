@@ -159,6 +159,7 @@ public class RedisDocTest
         keyName = dataDoc1.getFeature(Redis.FEATURE_KEY_NAME);
         optDataDoc = redisDoc.getDoc(keyName);
         Assert.assertTrue(optDataDoc.isPresent());
+        Assert.assertTrue(optDataDoc.get().childrenCount() > 0);
         mRedisDS.finishMarker(redisDoc.memoryUsage(dataDoc1));
         redisDoc.delete(dataDoc1);
 
@@ -158,6 +158,9 @@ public class RedisGridTest
             redisGrid.update(dataGrid1, 5, dataDoc);
             redisGrid.delete(dataGrid1, 5);
             redisGrid.add(dataGrid1, dataDoc);
+            long primaryKey = redisGrid.nextPrimaryKey(dataGrid1, "employee_id");
+            Assert.assertTrue(primaryKey > dataGrid1.getDescriptiveStatistics("employee_id").getMax());
+            Assert.assertEquals(primaryKey + 1, redisGrid.nextPrimaryKey(dataGrid1, "employee_id"));
             redisCore.releaseLock(lockItem);
             mRedisDS.finishMarker();
         }
@@ -21,6 +21,7 @@ package com.redis.ds.ds_redis;
 
 import com.redis.ds.ds_redis.core.RedisCore;
 import com.redis.ds.ds_redis.core.RedisItem;
+import com.redis.ds.ds_redis.shared.RedisField;
 import com.redis.ds.ds_redis.shared.RedisKey;
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.Data;
@@ -117,6 +118,57 @@ public class RedisItemTest
         Assert.assertEquals(dataItem1.getName(), dataItem2.getName());
     }
 
+    public void exerciseFields()
+    {
+        RedisField.clearDecodeCache();
+        DataItem dataItem = new DataItem.Builder().type(Data.Type.Integer).name("count_field").title("Count").value(5).build();
+        dataItem.enableFeature(Data.FEATURE_IS_SECRET);
+        RedisField redisField = new RedisField(mRedisDS);
+        String fieldName = redisField.name(dataItem);
+
+        // Each lookup must hand out its own copy of the cached template
+        Optional<DataItem> optDataItem = new RedisField(mRedisDS, fieldName).toDataItem();
+        Assert.assertTrue(optDataItem.isPresent());
+        DataItem dataItem1 = optDataItem.get();
+        Assert.assertEquals(1, RedisField.decodeCacheSize());
+        optDataItem = new RedisField(mRedisDS, fieldName).toDataItem();
+        Assert.assertTrue(optDataItem.isPresent());
+        DataItem dataItem2 = optDataItem.get();
+        Assert.assertNotSame(dataItem1, dataItem2);
+        Assert.assertEquals(Data.Type.Integer, dataItem2.getType());
+        Assert.assertTrue(dataItem2.isFeatureTrue(Data.FEATURE_IS_SECRET));
+
+        // Changes made to one copy must not reach the template or later lookups
+        dataItem1.setValue(42);
+        dataItem1.setTitle("Changed");
+        dataItem1.disableFeature(Data.FEATURE_IS_SECRET);
+        optDataItem = redisField.toDataItem(fieldName);
+        Assert.assertTrue(optDataItem.isPresent());
+        DataItem dataItem3 = optDataItem.get();
+        Assert.assertNotSame(dataItem1, dataItem3);
+        Assert.assertFalse(dataItem2.isValueAssigned());
+        Assert.assertFalse(dataItem3.isValueAssigned());
+        Assert.assertEquals("Count Field", dataItem3.getTitle());
+        Assert.assertTrue(dataItem3.isFeatureTrue(Data.FEATURE_IS_SECRET));
+
+        // Reaching the limit clears the cache, after which lookups decode afresh
+        for (int offset = RedisField.decodeCacheSize(); offset < Redis.FIELD_DECODE_CACHE_LIMIT; offset++)
+            redisField.toDataItem(String.format("field_%d:%s:%s:%s", offset, Redis.KEY_DATA_TYPE_TEXT, Redis.KEY_VALUE_SINGLE, Redis.KEY_VALUE_PLAIN));
+        Assert.assertEquals(Redis.FIELD_DECODE_CACHE_LIMIT, RedisField.decodeCacheSize());
+        redisField.toDataItem(String.format("field_limit:%s:%s:%s", Redis.KEY_DATA_TYPE_TEXT, Redis.KEY_VALUE_SINGLE, Redis.KEY_VALUE_PLAIN));
+        Assert.assertEquals(1, RedisField.decodeCacheSize());
+        optDataItem = redisField.toDataItem(fieldName);
+        Assert.assertEquals(2, RedisField.decodeCacheSize());
+        Assert.assertTrue(optDataItem.isPresent());
+        DataItem dataItem4 = optDataItem.get();
+        Assert.assertNotSame(dataItem3, dataItem4);
+        Assert.assertEquals(Data.Type.Integer, dataItem4.getType());
+        Assert.assertFalse(dataItem4.isValueAssigned());
+        Assert.assertTrue(dataItem4.isFeatureTrue(Data.FEATURE_IS_SECRET));
+        RedisField.clearDecodeCache();
+        Assert.assertEquals(0, RedisField.decodeCacheSize());
+    }
+
     public void exerciseItems()
         throws RedisDSException, IOException
     {
@@ -216,6 +268,7 @@ public class RedisItemTest
         mRedisDS.openCaptureWithStream(mRedisDS.streamKeyName());
         mRedisDS.createCore().flushDatabase();
         exerciseKeys();
+        exerciseFields();
         exerciseItems();
     }
 
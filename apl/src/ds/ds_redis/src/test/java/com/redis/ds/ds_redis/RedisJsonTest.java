@@ -350,6 +350,12 @@ public class RedisJsonTest
                 int rowCount2 = jsonDataGrid2.rowCount();
                 Assert.assertEquals(rowCount1, rowCount2);
                 Assert.assertTrue(jsonDataGrid1.isGridRowValuesEqual(jsonDataGrid2));
+                redisJson.loadGridBulk(jsonDataGrid2, Redis.GRID_RANGE_START, Redis.GRID_RANGE_FINISH);
+                Assert.assertEquals(rowCount1, jsonDataGrid2.rowCount());
+                Assert.assertTrue(jsonDataGrid1.isGridRowValuesEqual(jsonDataGrid2));
+                redisJson.loadGridBulk(jsonDataGrid2, Redis.GRID_RANGE_START, Redis.GRID_RANGE_FINISH, true);
+                Assert.assertEquals(rowCount1, jsonDataGrid2.rowCount());
+                Assert.assertTrue(jsonDataGrid1.isGridRowValuesEqual(jsonDataGrid2));
                 mRedisDS.finishMarker();
 
                 redisJson.delete(dbDataGrid);
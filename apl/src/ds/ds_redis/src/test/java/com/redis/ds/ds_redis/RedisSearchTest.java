@@ -21,6 +21,7 @@ package com.redis.ds.ds_redis;
 
 import com.redis.ds.ds_json.JsonDS;
 import com.redis.ds.ds_redis.search.RedisSearch;
+import com.redis.ds.ds_redis.search.SearchCursor;
 import com.redis.foundation.app.AppCtx;
 import com.redis.foundation.data.*;
 import com.redis.foundation.ds.DSCriteria;
@@ -180,7 +181,6 @@ public class RedisSearchTest
         }
     }
 
-    // ToDo: Jedis 4.x does not support Suggestions - fix when available
     public void exerciseExtendedSuggestions(RedisSearch aRedisSearch)
     {
         DataDoc dataDoc;
@@ -230,6 +230,32 @@ public class RedisSearchTest
             gridTitle = String.format("%s - '%s'", dataGrid2.getName(), prefixString);
             dataGridConsole.write(dataGrid2, printWriter, gridTitle, 80, 1);
 
+            DataItem payloadItem = new DataItem.Builder().name("sku").value("SKU-SHINGLE-TEST").build();
+            DataItem oldNameItem = new DataItem.Builder().name("name").value("Cyberpower Quokkatron Velloquin").build();
+            DataItem newNameItem = new DataItem.Builder().name("name").value("Cyberpower Surge Protector").build();
+            Assert.assertTrue(aRedisSearch.addSuggestionWithShingles(oldNameItem, payloadItem) > 0);
+            Assert.assertEquals(0, aRedisSearch.updateSuggestionWithShingles(oldNameItem, oldNameItem, payloadItem));
+            Assert.assertEquals(6, aRedisSearch.updateSuggestionWithShingles(oldNameItem, newNameItem, payloadItem));
+            dataGrid2 = aRedisSearch.getSuggestions("surge", Redis.SUGGESTION_LIMIT_DEFAULT, true);
+            Assert.assertTrue(dataGrid2.rowCount() > 0);
+            Assert.assertTrue(aRedisSearch.deleteSuggestion(newNameItem));
+            Assert.assertTrue(aRedisSearch.addSuggestionWithShingles(oldNameItem, payloadItem) > 0);
+            Assert.assertTrue(aRedisSearch.addSuggestionWithShingles(oldNameItem, payloadItem) > 0);
+            Assert.assertTrue(aRedisSearch.deleteSuggestion(oldNameItem, payloadItem));
+
+            DataItem acmeNameItem = new DataItem.Builder().name("name").value("Acme Shingle Widget").build();
+            DataItem zenithNameItem = new DataItem.Builder().name("name").value("Zenith Shingle Widget").build();
+            DataItem gadgetNameItem = new DataItem.Builder().name("name").value("Acme Gadget").build();
+            Assert.assertTrue(aRedisSearch.addSuggestionWithShingles(acmeNameItem, payloadItem) > 0);
+            DataItem zenithPayloadItem = new DataItem.Builder().name("sku").value("SKU-SHINGLE-ZENITH").build();
+            Assert.assertTrue(aRedisSearch.addSuggestionWithShingles(zenithNameItem, zenithPayloadItem) > 0);
+            Assert.assertEquals(3, aRedisSearch.updateSuggestionWithShingles(acmeNameItem, gadgetNameItem, payloadItem));
+            dataGrid2 = aRedisSearch.getSuggestions("Shingle Wid", Redis.SUGGESTION_LIMIT_DEFAULT, false);
+            Assert.assertTrue(dataGrid2.rowCount() > 0);
+            Assert.assertEquals(5, aRedisSearch.updateSuggestionWithShingles(zenithNameItem, gadgetNameItem, zenithPayloadItem));
+            dataGrid2 = aRedisSearch.getSuggestions("Shingle Wid", Redis.SUGGESTION_LIMIT_DEFAULT, false);
+            Assert.assertEquals(0, dataGrid2.rowCount());
+
 // Unfortunately, dropping the search index does not remove the dictionary key.
 
         }
@@ -280,6 +306,23 @@ public class RedisSearchTest
             dsCriteria.add(Redis.RS_QUERY_STRING, Data.Operator.EQUAL, "office");
             dataGrid = aRedisSearch.query(dsCriteria);
             Assert.assertEquals(7, dataGrid.rowCount());
+            int cursorRowCount = 0;
+            try (SearchCursor searchCursor = aRedisSearch.queryCursor(dsCriteria, 0, 0, 3))
+            {
+                while (searchCursor.hasNext())
+                {
+                    DataGrid batchGrid = searchCursor.next();
+                    Assert.assertTrue(batchGrid.rowCount() <= 3);
+                    cursorRowCount += batchGrid.rowCount();
+                }
+            }
+            Assert.assertEquals(7, cursorRowCount);
+            Assert.assertEquals(7L, aRedisSearch.queryStream(dsCriteria, g -> Assert.assertTrue(g.rowCount() > 0)));
+            DataGrid cachedGrid = aRedisSearch.query(dsCriteria);
+            Assert.assertNotSame(dataGrid, cachedGrid);
+            Assert.assertTrue(dataGrid.isGridRowValuesEqual(cachedGrid));
+            aRedisSearch.invalidateResultCache();
+            Assert.assertEquals(7, aRedisSearch.query(dsCriteria).rowCount());
 
             dsCriteria.reset();
             dsCriteria.add("name", Data.Operator.EQUAL, "Walker");
@@ -441,6 +484,48 @@ public class RedisSearchTest
         }
     }
 
+    public void exerciseIngestModes()
+    {
+        for (Redis.IngestMode ingestMode : Redis.IngestMode.values())
+        {
+            DataDoc dataSchemaDoc = loadSchema("data/product_electronics_hash.xml");
+            DataDoc searchSchemaDoc = loadSchema("data/product_electronics_search_hash.xml");
+            searchSchemaDoc.addFeature(Redis.FEATURE_INDEX_NAME, "product_electronics_ingest");
+            RedisSearch redisSearch = mRedisDS.createSearch(Redis.Document.Hash, dataSchemaDoc, searchSchemaDoc);
+            try
+            {
+                DataGridCSV dataGridCSV = new DataGridCSV(dataSchemaDoc);
+                dataGridCSV.load("data/product_electronics.csv", false);
+                DataGrid dataGrid = dataGridCSV.getDataGrid();
+
+                mRedisDS.startMarker(String.format("Add Documents (%s)", ingestMode.name()));
+                if (ingestMode == Redis.IngestMode.IndexFirst)
+                {
+                    Assert.assertTrue(redisSearch.add(dataGrid, ingestMode, Redis.INDEX_WAITFOR_TIMEOUT_DEFAULT));
+                    Assert.assertTrue(redisSearch.isIndexingComplete());
+                }
+                else
+                {
+                    Assert.assertTrue(redisSearch.add(dataGrid, ingestMode, 0L));
+                    Assert.assertEquals(0L, redisSearch.getIndexMilliseconds());
+                    Assert.assertTrue(redisSearch.waitForIndexing(Redis.INDEX_WAITFOR_TIMEOUT_DEFAULT));
+                    Assert.assertTrue(redisSearch.isIndexingComplete());
+                }
+                mRedisDS.finishMarker();
+
+                DSCriteria dsCriteria = new DSCriteria("Product Criteria");
+                dsCriteria.add(Redis.RS_QUERY_STRING, Data.Operator.EQUAL, "office");
+                Assert.assertTrue(redisSearch.query(dsCriteria).rowCount() > 0);
+
+                redisSearch.dropIndex(dataGrid);
+            }
+            catch (Exception e)
+            {
+                System.err.printf("Exception: %s", e.getMessage());
+            }
+        }
+    }
+
     public void exerciseProductSearchAsJSON(boolean anIsFullJSONLoad)
     {
         try
@@ -707,6 +792,7 @@ public class RedisSearchTest
         exerciseProductSearchAsJSON(false);
 //        exerciseProductSearchAsJSON(true); - does not support shadow data fields in the search index
         exerciseProductSearchAsHashes();
+        exerciseIngestModes();
         exerciseRealEstateSearch();
     }
 
@@ -1352,23 +1352,24 @@ public class AppCtx
 	 */
 	public Logger getLogger(Class<?> aClass)
 	{
-		return LoggerFactory.getLogger(aClass.getClass().getName());
+		return LoggerCache.getLogger(aClass);
 	}
 
 	/**
 	 * Returns a logger instance matching the class parameter.  The
 	 * name associated with the class instance and the method name
-	 * are used for the logger identity.
+	 * are used for the logger identity.  Logger instances are cached.
 	 *
 	 * @param aClass Class instance to base identity on.
 	 * @param aMethod Method name to base identity on.
 	 *
 	 * @return An output logger instance.
+	 * @see LoggerCache
 	 * @see <a href="http://logback.qos.ch/">Logback Project</a>
 	 */
 	public Logger getLogger(Object aClass, String aMethod)
 	{
-		return LoggerFactory.getLogger(aClass.getClass().getName() + "." + aMethod);
+		return LoggerCache.getLogger(aClass.getClass(), aMethod);
 	}
 
 	/**
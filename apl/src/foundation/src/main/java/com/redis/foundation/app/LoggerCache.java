@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.app;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The LoggerCache class retains the logger instances handed out by the
+ * application context, so the hot paths that request a logger on every
+ * method call no longer build a category name and consult the logger
+ * factory each time.
+ * <p>
+ * Loggers are cached per class, and each class keeps its per-method
+ * categories (e.g. <i>com.redis.ds.ds_grid.GridCriteria.execute</i>)
+ * once they have been requested, so logging configurations that target
+ * individual methods keep working without any lookup cost after the
+ * first call.
+ * </p>
+ *
+ * @see TraceSpan
+ * @since 1.0
+ */
+public final class LoggerCache
+{
+	private static final ClassValue<ClassLoggers> mClassLoggers = new ClassValue<>()
+	{
+		@Override
+		protected ClassLoggers computeValue(Class<?> aClass)
+		{
+			return new ClassLoggers(aClass.getName());
+		}
+	};
+
+	private LoggerCache()
+	{
+	}
+
+	private static final class ClassLoggers
+	{
+		private final String mClassName;
+		private final Logger mClassLogger;
+		private final ConcurrentHashMap<String, Logger> mMethodLoggers = new ConcurrentHashMap<>();
+
+		ClassLoggers(String aClassName)
+		{
+			mClassName = aClassName;
+			mClassLogger = LoggerFactory.getLogger(aClassName);
+		}
+
+		Logger methodLogger(String aMethod)
+		{
+			Logger methodLogger = mMethodLoggers.get(aMethod);
+			if (methodLogger == null)
+				methodLogger = mMethodLoggers.computeIfAbsent(aMethod, m -> LoggerFactory.getLogger(mClassName + "." + m));
+
+			return methodLogger;
+		}
+	}
+
+	/**
+	 * Returns the cached logger instance for the class.
+	 *
+	 * @param aClass Class to base identity on
+	 *
+	 * @return Logger instance
+	 */
+	public static Logger getLogger(Class<?> aClass)
+	{
+		return mClassLoggers.get(aClass).mClassLogger;
+	}
+
+	/**
+	 * Returns the cached logger instance for the class method.  The
+	 * logger category is the class name followed by the method name.
+	 *
+	 * @param aClass Class to base identity on
+	 * @param aMethod Method name to base identity on
+	 *
+	 * @return Logger instance
+	 */
+	public static Logger getLogger(Class<?> aClass, String aMethod)
+	{
+		return mClassLoggers.get(aClass).methodLogger(aMethod);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.app;
+
+import org.slf4j.Logger;
+
+/**
+ * The TraceSpan class brackets a block of code with trace enter and
+ * depart messages and reports the time spent within it.  When trace
+ * logging is disabled for the logger, a single shared instance is
+ * returned, so a span costs one level check and allocates nothing.
+ * <p>
+ * Spans are meant to be used with a try-with-resources statement:
+ * </p>
+ * <pre>
+ * try (TraceSpan traceSpan = TraceSpan.enter(appLogger))
+ * {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @since 1.0
+ */
+public final class TraceSpan implements AutoCloseable
+{
+	private static final TraceSpan DISABLED = new TraceSpan(null, 0L);
+
+	private final Logger mLogger;
+	private final long mStartTime;
+
+	private TraceSpan(Logger aLogger, long aStartTime)
+	{
+		mLogger = aLogger;
+		mStartTime = aStartTime;
+	}
+
+	/**
+	 * Writes the trace enter message and starts the span if trace logging
+	 * is enabled for the logger.
+	 *
+	 * @param aLogger Logger instance
+	 *
+	 * @return Trace span instance
+	 */
+	public static TraceSpan enter(Logger aLogger)
+	{
+		TraceSpan traceSpan = DISABLED;
+
+		if (aLogger.isTraceEnabled())
+		{
+			aLogger.trace("Enter");
+			traceSpan = new TraceSpan(aLogger, System.nanoTime());
+		}
+
+		return traceSpan;
+	}
+
+	/**
+	 * Returns <i>true</i> if the span is recording or <i>false</i> if trace
+	 * logging was disabled when it was entered.
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isEnabled()
+	{
+		return mLogger != null;
+	}
+
+	/**
+	 * Returns the count of nanoseconds elapsed since the span was entered
+	 * or zero if the span is not recording.
+	 *
+	 * @return Elapsed nanoseconds
+	 */
+	public long elapsedNanos()
+	{
+		return isEnabled() ? System.nanoTime() - mStartTime : 0L;
+	}
+
+	/**
+	 * Writes the trace depart message along with the elapsed time.
+	 */
+	@Override
+	public void close()
+	{
+		if (isEnabled())
+			mLogger.trace("Depart ({} microseconds)", elapsedNanos() / 1000L);
+	}
+}
@@ -861,6 +861,14 @@ public class Data
 			return aValue;
 	}
 
+// A leading minus sign is accepted so negative values convert like their positive
+// counterparts rather than falling through to the MIN_VALUE sentinel.
+
+	private static boolean isSignedDigits(String aValue)
+	{
+		return NumberUtils.isDigits(StringUtils.removeStart(aValue, "-"));
+	}
+
 	/**
 	 * Returns an <i>int</i> representation of the data item
 	 * value string.
@@ -871,7 +879,7 @@ public class Data
 	 */
 	public static int createInt(String aValue)
 	{
-		if (NumberUtils.isDigits(aValue))
+		if (isSignedDigits(aValue))
 			return Integer.parseInt(aValue);
 		else
 			return Integer.MIN_VALUE;
@@ -887,7 +895,7 @@ public class Data
 	 */
 	public static Integer createIntegerObject(String aValue)
 	{
-		if (NumberUtils.isDigits(aValue))
+		if (isSignedDigits(aValue))
 			return Integer.valueOf(aValue);
 		else
 			return Integer.MIN_VALUE;
@@ -903,7 +911,7 @@ public class Data
 	 */
 	public static long createLong(String aValue)
 	{
-		if (NumberUtils.isDigits(aValue))
+		if (isSignedDigits(aValue))
 			return Long.parseLong(aValue);
 		else
 			return Long.MIN_VALUE;
@@ -919,7 +927,7 @@ public class Data
 	 */
 	public static Long createLongObject(String aValue)
 	{
-		if (NumberUtils.isDigits(aValue))
+		if (isSignedDigits(aValue))
 			return Long.valueOf(aValue);
 		else
 			return Long.MIN_VALUE;
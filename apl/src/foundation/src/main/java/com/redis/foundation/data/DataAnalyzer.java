@@ -19,12 +19,20 @@
 
 package com.redis.foundation.data;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
 
 /**
  * The Data Analyzer class will examine small-to-medium sized
  * data sets to determine their type and value composition.
+ * Data grids can be scanned in parallel and larger data sets
+ * can be analyzed in an approximate mode that relies on bounded
+ * memory sketches rather than exact value tracking.
  *
  * @author Al Cole
  * @since 1.0
@@ -32,10 +40,12 @@ import java.util.Optional;
 public class DataAnalyzer
 {
 	public final int SAMPLE_COUNT_DEFAULT = 10;
+	public static final int SHARD_ROWS_DEFAULT = 8192;
 
 	private DataDoc mDoc;
 	private DataGrid mGrid;
 	private int mSampleCount;
+	private boolean mIsApproximate;
 
 	/**
 	 * Constructor where the data document definition is used to identify
@@ -60,6 +70,23 @@ public class DataAnalyzer
 		initMembers(aSchemaDoc, aSampleCount);
 	}
 
+	/**
+	 * Constructor where the data document definition is used to identify
+	 * the items, the sample count is driven by the parameter and the
+	 * analysis can be approximate.  In approximate mode, the types, counts,
+	 * minimum, maximum, mean and deviation remain exact while the unique
+	 * count, top values and median are estimated in bounded memory.
+	 *
+	 * @param aSchemaDoc Data document instance.
+	 * @param aSampleCount Sample value count.
+	 * @param anIsApproximate If <i>true</i>, then sketches are used for the analysis.
+	 */
+	public DataAnalyzer(DataDoc aSchemaDoc, int aSampleCount, boolean anIsApproximate)
+	{
+		mIsApproximate = anIsApproximate;
+		initMembers(aSchemaDoc, aSampleCount);
+	}
+
 	private boolean isTypesDifferent(DataDoc aSchemaDoc)
 	{
 		for (DataItem dataItem : aSchemaDoc.getItems())
@@ -84,11 +111,16 @@ public class DataAnalyzer
 		for (DataItem dataItem : aSchemaDoc.getItems())
 		{
 			itemName = dataItem.getName();
-			if (isTypesDifferent)
-				dataItemAnalyzer = new DataItemAnalyzer(itemName, dataItem.getType());
+			if (mIsApproximate)
+				mGrid.addProperty(itemName, new DataItemSketch(itemName, isTypesDifferent ? dataItem.getType() : Data.Type.Undefined));
 			else
-				dataItemAnalyzer = new DataItemAnalyzer(itemName);
-			mGrid.addProperty(itemName, dataItemAnalyzer);
+			{
+				if (isTypesDifferent)
+					dataItemAnalyzer = new DataItemAnalyzer(itemName, dataItem.getType());
+				else
+					dataItemAnalyzer = new DataItemAnalyzer(itemName);
+				mGrid.addProperty(itemName, dataItemAnalyzer);
+			}
 		}
 	}
 
@@ -100,15 +132,15 @@ public class DataAnalyzer
 	 */
 	public void scan(DataDoc aDoc)
 	{
-		DataItemAnalyzer dataItemAnalyzer;
-
 		for (DataItem dataItem : aDoc.getItems())
 		{
 			Optional<Object> optObject = mGrid.getProperty(dataItem.getName());
 			if (optObject.isPresent())
 			{
-				dataItemAnalyzer = (DataItemAnalyzer) optObject.get();
-				dataItemAnalyzer.scan(dataItem.getValue());
+				if (optObject.get() instanceof DataItemSketch)
+					((DataItemSketch) optObject.get()).scan(dataItem.getValue());
+				else
+					((DataItemAnalyzer) optObject.get()).scan(dataItem.getValue());
 			}
 		}
 	}
@@ -137,6 +169,149 @@ public class DataAnalyzer
 			scan(aGrid.getRowAsDoc(row));
 	}
 
+	/**
+	 * Scans the data item values from within the data grid instance
+	 * in parallel using the common fork/join pool and the default
+	 * shard size.
+	 *
+	 * @param aGrid Data grid instance.
+	 */
+	public void scanParallel(DataGrid aGrid)
+	{
+		scanParallel(aGrid, ForkJoinPool.commonPool(), SHARD_ROWS_DEFAULT);
+	}
+
+	/**
+	 * Scans the data item values from within the data grid instance
+	 * in parallel.  The rows are split into shards that are analyzed
+	 * independently and merged in row order, so the details are the
+	 * same as the ones produced by a sequential scan.
+	 *
+	 * @param aGrid Data grid instance.
+	 * @param aPool Fork/join pool to execute the shards with.
+	 * @param aShardRows Maximum number of rows analyzed by a single shard.
+	 */
+	public void scanParallel(DataGrid aGrid, ForkJoinPool aPool, int aShardRows)
+	{
+		ArrayList<DataItem> columnList = new ArrayList<>();
+		ArrayList<Object> propertyList = new ArrayList<>();
+		for (DataItem dataItem : aGrid.getColumns().getItems())
+		{
+			Optional<Object> optObject = mGrid.getProperty(dataItem.getName());
+			if (optObject.isPresent())
+			{
+				columnList.add(dataItem);
+				propertyList.add(optObject.get());
+			}
+		}
+		int rowCount = aGrid.rowCount();
+		if ((columnList.isEmpty()) || (rowCount == 0))
+			return;
+
+		GridShard gridShard = new GridShard(aGrid, columnList, 0, rowCount, Math.max(1, aShardRows), mIsApproximate);
+		Object[] shardAnalyzers = aPool.invoke(gridShard);
+		for (int column = 0; column < columnList.size(); column++)
+		{
+			if (propertyList.get(column) instanceof DataItemSketch)
+				((DataItemSketch) propertyList.get(column)).merge((DataItemSketch) shardAnalyzers[column]);
+			else
+				((DataItemAnalyzer) propertyList.get(column)).merge((DataItemAnalyzer) shardAnalyzers[column],
+																	gridShard.valueIterator(column, 0, rowCount));
+		}
+	}
+
+// Analyzes a range of grid rows directly from the row storage.  Cells that are absent from
+// the row storage take on the column item value, matching DataGrid.getRowAsDoc().
+
+	private static class GridShard extends RecursiveTask<Object[]>
+	{
+		static final long serialVersionUID = 1L;
+
+		private final int mEnd;
+		private final int mStart;
+		private final int mShardRows;
+		private final DataGrid mDataGrid;
+		private final boolean mIsApproximate;
+		private final ArrayList<DataItem> mColumnList;
+
+		GridShard(DataGrid aGrid, ArrayList<DataItem> aColumnList, int aStart, int anEnd, int aShardRows,
+				  boolean anIsApproximate)
+		{
+			mDataGrid = aGrid;
+			mColumnList = aColumnList;
+			mStart = aStart;
+			mEnd = anEnd;
+			mShardRows = aShardRows;
+			mIsApproximate = anIsApproximate;
+		}
+
+		String cellValue(int aRow, int aColumn)
+		{
+			DataItem columnItem = mColumnList.get(aColumn);
+			ArrayList<String> cellValues = mDataGrid.getRows().get(aRow).get(columnItem.getName());
+			if (cellValues == null)
+				return columnItem.getValue();
+			else if (cellValues.isEmpty())
+				return "";
+			else
+				return cellValues.get(0);
+		}
+
+		Iterator<String> valueIterator(int aColumn, int aStart, int anEnd)
+		{
+			return IntStream.range(aStart, anEnd).mapToObj(row -> cellValue(row, aColumn)).iterator();
+		}
+
+		@Override
+		protected Object[] compute()
+		{
+			int columnCount = mColumnList.size();
+			Object[] shardAnalyzers = new Object[columnCount];
+			if (mEnd - mStart <= mShardRows)
+			{
+				for (int column = 0; column < columnCount; column++)
+				{
+					String itemName = mColumnList.get(column).getName();
+					if (mIsApproximate)
+						shardAnalyzers[column] = new DataItemSketch(itemName, Data.Type.Undefined, DataItemSketch.RESERVOIR_SIZE_DEFAULT,
+																	DataItemSketch.VALUE_COUNTERS_DEFAULT, 31L * itemName.hashCode() + mStart);
+					else
+						shardAnalyzers[column] = new DataItemAnalyzer(itemName, Data.Type.Undefined, true);
+				}
+				for (int row = mStart; row < mEnd; row++)
+				{
+					for (int column = 0; column < columnCount; column++)
+					{
+						if (mIsApproximate)
+							((DataItemSketch) shardAnalyzers[column]).scan(cellValue(row, column));
+						else
+							((DataItemAnalyzer) shardAnalyzers[column]).scan(cellValue(row, column));
+					}
+				}
+			}
+			else
+			{
+				int mid = (mStart + mEnd) >>> 1;
+				GridShard leftShard = new GridShard(mDataGrid, mColumnList, mStart, mid, mShardRows, mIsApproximate);
+				GridShard rightShard = new GridShard(mDataGrid, mColumnList, mid, mEnd, mShardRows, mIsApproximate);
+				leftShard.fork();
+				Object[] rightAnalyzers = rightShard.compute();
+				Object[] leftAnalyzers = leftShard.join();
+				for (int column = 0; column < columnCount; column++)
+				{
+					if (mIsApproximate)
+						((DataItemSketch) leftAnalyzers[column]).merge((DataItemSketch) rightAnalyzers[column]);
+					else
+						((DataItemAnalyzer) leftAnalyzers[column]).merge((DataItemAnalyzer) rightAnalyzers[column],
+																		 valueIterator(column, mid, mEnd));
+					shardAnalyzers[column] = leftAnalyzers[column];
+				}
+			}
+
+			return shardAnalyzers;
+		}
+	}
+
 	/**
 	 * Returns a data grid of items describing the scanned value data.
 	 * The table will contain the item name, derived type, populated
@@ -148,15 +323,16 @@ public class DataAnalyzer
 	public DataGrid getDetails()
 	{
 		DataDoc dfaDoc;
-		DataItemAnalyzer dataItemAnalyzer;
 
 		for (DataItem dataItem : mDoc.getItems())
 		{
 			Optional<Object> optObject = mGrid.getProperty(dataItem.getName());
 			if (optObject.isPresent())
 			{
-				dataItemAnalyzer = (DataItemAnalyzer) optObject.get();
-				dfaDoc = dataItemAnalyzer.getDetails(mSampleCount);
+				if (optObject.get() instanceof DataItemSketch)
+					dfaDoc = ((DataItemSketch) optObject.get()).getDetails(mSampleCount);
+				else
+					dfaDoc = ((DataItemAnalyzer) optObject.get()).getDetails(mSampleCount);
 				mGrid.addRow(dfaDoc);
 			}
 		}
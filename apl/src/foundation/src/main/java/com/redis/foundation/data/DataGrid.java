@@ -24,10 +24,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
-
-import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toList;
+import java.util.stream.StreamSupport;
 
 /**
  * A DataGrid manages a collection of columns and rows of data items.
@@ -39,7 +38,6 @@ import static java.util.stream.Collectors.toList;
 public class DataGrid
 {
 	private String mName;
-	private String mSortColumnName = StringUtils.EMPTY;
 	private transient HashMap<String, Object> mProperties;
 	private DataDoc mColumns = new DataDoc("Data Grid");
 	protected HashMap<String, String> mFeatures = new HashMap<String, String>();
@@ -91,7 +89,6 @@ public class DataGrid
 		if (aDataGrid != null)
 		{
 			setName(aDataGrid.getName());
-			mSortColumnName = aDataGrid.mSortColumnName;
 			setColumns(new DataDoc(aDataGrid.getColumns()));
 			aDataGrid.stream().forEach(dd -> {
 				DataDoc ndd = new DataDoc(dd);
@@ -363,6 +360,8 @@ public class DataGrid
 
 	/**
 	 * Updates the data document instance in the data grid as the row offset specified.
+	 * The row is replaced with an updated copy, so a row shared with a shallow copy
+	 * of this grid is left unchanged.
 	 *
 	 * @param aRow Row offset
 	 * @param aDataDoc Data document instance
@@ -373,11 +372,13 @@ public class DataGrid
 	{
 		if ((aDataDoc != null) && (aDataDoc.count() > 0) && (aRow >= 0) && (aRow < rowCount()))
 		{
-			HashMap<String, ArrayList<String>> rowMap = mRows.get(aRow);
-			if (rowMap != null)
+			HashMap<String, ArrayList<String>> curRowMap = mRows.get(aRow);
+			if (curRowMap != null)
 			{
+				LinkedHashMap<String, ArrayList<String>> rowMap = new LinkedHashMap<String, ArrayList<String>>(curRowMap);
 				for (DataItem dataItem : aDataDoc.getItems())
 					rowMap.put(dataItem.getName(), dataItem.getValues());
+				mRows.set(aRow, rowMap);
 				return true;
 			}
 		}
@@ -921,92 +922,236 @@ public class DataGrid
 		return isEqual;
 	}
 
+// Rows are turned into data documents only as the stream reaches them, so a stream that is
+// filtered or limited never holds more than the documents it passes along.  The row range
+// is bound when traversal starts and halves on each split for parallel streams.
+
+	private static final class RowSpliterator implements Spliterator<DataDoc>
+	{
+		private int mRow;
+		private int mFence;
+		private final DataGrid mDataGrid;
+
+		RowSpliterator(DataGrid aDataGrid, int anOrigin, int aFence)
+		{
+			mRow = anOrigin;
+			mFence = aFence;
+			mDataGrid = aDataGrid;
+		}
+
+		private int fence()
+		{
+			if (mFence < 0)
+				mFence = mDataGrid.rowCount();
+
+			return mFence;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super DataDoc> anAction)
+		{
+			boolean isAdvanced = false;
+
+			if (mRow < fence())
+			{
+				anAction.accept(mDataGrid.getRowAsDoc(mRow++));
+				isAdvanced = true;
+			}
+
+			return isAdvanced;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super DataDoc> anAction)
+		{
+			int rowFence = fence();
+			while (mRow < rowFence)
+				anAction.accept(mDataGrid.getRowAsDoc(mRow++));
+		}
+
+		@Override
+		public Spliterator<DataDoc> trySplit()
+		{
+			RowSpliterator rowSpliterator = null;
+
+			int rowFence = fence();
+			int rowMiddle = (mRow + rowFence) >>> 1;
+			if (mRow < rowMiddle)
+			{
+				rowSpliterator = new RowSpliterator(mDataGrid, mRow, rowMiddle);
+				mRow = rowMiddle;
+			}
+
+			return rowSpliterator;
+		}
+
+		@Override
+		public long estimateSize()
+		{
+			return fence() - mRow;
+		}
+
+		@Override
+		public int characteristics()
+		{
+			return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+		}
+	}
+
+	/**
+	 * Returns a spliterator over the rows of the data grid.  Each row is
+	 * represented as a data document that is created on demand.
+	 *
+	 * @return Spliterator of data documents
+	 */
+	public Spliterator<DataDoc> spliterator()
+	{
+		return new RowSpliterator(this, 0, -1);
+	}
+
 	/**
 	 * Returns a stream of data documents representing the data grid.
+	 * Documents are created lazily as the stream consumes the rows.
 	 *
 	 * @return Stream of data documents
 	 */
 	public Stream<DataDoc> stream()
 	{
-		return getRowsAsDocList().stream();
+		return StreamSupport.stream(spliterator(), false);
 	}
 
-	private String ddStringByName(DataDoc aDataDoc)
+	/**
+	 * Returns a parallel stream of data documents representing the data
+	 * grid.  Documents are created lazily as the stream consumes the rows.
+	 *
+	 * @return Stream of data documents
+	 */
+	public Stream<DataDoc> parallelStream()
 	{
-		return aDataDoc.getItemByName(mSortColumnName).getValue();
+		return StreamSupport.stream(spliterator(), true);
 	}
 
-	private Integer ddIntegerByName(DataDoc aDataDoc)
+	/**
+	 * Returns a cursor positioned before the first row of the data grid.
+	 * The cursor reads cell values without creating data documents.
+	 *
+	 * @return Data grid cursor instance
+	 */
+	public DataGridCursor cursor()
 	{
-		return aDataDoc.getItemByName(mSortColumnName).getValueAsInteger();
+		return new DataGridCursor(this);
 	}
 
-	private Long ddLongByName(DataDoc aDataDoc)
+	private LinkedHashMap<String, ArrayList<String>> copyRowMap(HashMap<String, ArrayList<String>> aRowMap)
 	{
-		return aDataDoc.getItemByName(mSortColumnName).getValueAsLong();
-	}
+		LinkedHashMap<String, ArrayList<String>> rowMap = new LinkedHashMap<String, ArrayList<String>>();
+		aRowMap.forEach((k, v) -> rowMap.put(k, new ArrayList<String>(v)));
 
-	private Float ddFloatByName(DataDoc aDataDoc)
-	{
-		return aDataDoc.getItemByName(mSortColumnName).getValueAsFloat();
+		return rowMap;
 	}
 
-	private Double ddDoubleByName(DataDoc aDataDoc)
+	/**
+	 * Creates a new DataGrid that shares the columns and row maps of this
+	 * grid but owns its row list, features and properties.  Rows can be added, deleted
+	 * or updated (via <i>updateRow()</i> or <i>update()</i>) on either grid
+	 * without being visible on the other, which makes this a cheap way to
+	 * derive a new version of a grid.  The columns and the cell values of
+	 * the shared rows should be treated as read only.
+	 *
+	 * @return DataGrid instance
+	 */
+	public DataGrid shallowCopy()
 	{
-		return aDataDoc.getItemByName(mSortColumnName).getValueAsDouble();
-	}
+		DataGrid dataGrid = new DataGrid(mName);
+		dataGrid.mColumns = mColumns;
+		dataGrid.mFeatures = new HashMap<String, String>(mFeatures);
+		dataGrid.mRows = new ArrayList<HashMap<String, ArrayList<String>>>(mRows);
+		if (mProperties != null)
+			dataGrid.mProperties = new HashMap<String, Object>(mProperties);
 
-	private Long ddDateByName(DataDoc aDataDoc)
-	{
-		return aDataDoc.getValueAsDate(mSortColumnName).getTime();
+		return dataGrid;
 	}
 
-	private List<DataDoc> sortStringByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
+	/**
+	 * Returns the row offsets of the data grid in the order described by
+	 * the sort specification.  The rows of the grid are left unchanged,
+	 * so the offsets can be used to visit the rows in sorted order.
+	 *
+	 * @param aDataGridSort Data grid sort instance
+	 *
+	 * @return Array of row offsets in sorted order
+	 */
+	public int[] sortOrder(DataGridSort aDataGridSort)
 	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddStringByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddStringByName)).collect(toList());
+		return aDataGridSort.sortOrder(mColumns, mRows);
 	}
 
-	private List<DataDoc> sortIntegerByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
+	/**
+	 * Returns a read-only view of the data grid rows in the order described
+	 * by the sort specification.  The rows are materialized as data documents
+	 * only when they are accessed and the view reflects the values in the
+	 * grid at that time.
+	 *
+	 * @param aDataGridSort Data grid sort instance
+	 *
+	 * @return List of data document instances
+	 */
+	public List<DataDoc> sortedView(DataGridSort aDataGridSort)
 	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddIntegerByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddIntegerByName)).collect(toList());
-	}
+		int[] rowOffsets = sortOrder(aDataGridSort);
 
-	private List<DataDoc> sortLongByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
-	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddLongByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddLongByName)).collect(toList());
-	}
+		return new AbstractList<DataDoc>()
+		{
+			@Override
+			public DataDoc get(int anIndex)
+			{
+				return getRowAsDoc(rowOffsets[anIndex]);
+			}
 
-	private List<DataDoc> sortFloatByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
-	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddFloatByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddFloatByName)).collect(toList());
+			@Override
+			public int size()
+			{
+				return rowOffsets.length;
+			}
+		};
 	}
 
-	private List<DataDoc> sortDoubleByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
+	/**
+	 * Creates a new DataGrid of rows and columns sorted as described by
+	 * the sort specification.  Rows that compare equal retain their
+	 * original order.
+	 *
+	 * @param aDataGridSort Data grid sort instance
+	 *
+	 * @return DataGrid instance (sorted as specified)
+	 */
+	public DataGrid sort(DataGridSort aDataGridSort)
 	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddDoubleByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddDoubleByName)).collect(toList());
+		DataGrid dataGrid = new DataGrid(mName);
+		dataGrid.setColumns(new DataDoc(getColumns()));
+		dataGrid.mFeatures = new HashMap<String, String>(mFeatures);
+		for (int rowOffset : sortOrder(aDataGridSort))
+			dataGrid.mRows.add(copyRowMap(mRows.get(rowOffset)));
+
+		return dataGrid;
 	}
 
-	private List<DataDoc> sortDateByNameOrder(Stream<DataDoc> aStream, Data.Order anOrder)
+	/**
+	 * Reorders the rows of this data grid as described by the sort
+	 * specification.  Rows that compare equal retain their original
+	 * order.  The rows are reordered within the existing row list,
+	 * so like the other row mutators this method is not thread-safe:
+	 * callers sharing the grid across threads must serialize it with
+	 * their writers or sort a copy of the grid instead.
+	 *
+	 * @param aDataGridSort Data grid sort instance
+	 */
+	public void sortInPlace(DataGridSort aDataGridSort)
 	{
-		if (anOrder == Data.Order.DESCENDING)
-			return aStream.sorted(comparing(this::ddDateByName).reversed()).collect(toList());
-		else
-			return aStream.sorted(comparing(this::ddDateByName)).collect(toList());
+		int[] rowOffsets = aDataGridSort.sortOrder(mColumns, mRows);
+		ArrayList<HashMap<String, ArrayList<String>>> curRows = new ArrayList<HashMap<String, ArrayList<String>>>(mRows);
+		for (int row = 0; row < rowOffsets.length; row++)
+			mRows.set(row, curRows.get(rowOffsets[row]));
 	}
 
 	/**
@@ -1020,43 +1165,15 @@ public class DataGrid
 	 */
 	public DataGrid sortByColumnName(String aColumnName, Data.Order anOrder)
 	{
-		DataDoc dataDoc = getColumns();
-		DataGrid dataGrid = new DataGrid(mName);
-		dataGrid.setColumns(new DataDoc(dataDoc));
-		dataGrid.mFeatures = new HashMap<String, String>(mFeatures);
+		DataGrid dataGrid;
 
-		Optional<DataItem> optDataItem = dataDoc.getItemByNameOptional(aColumnName);
-		if (optDataItem.isPresent())
+		if (mColumns.getItemByNameOptional(aColumnName).isPresent())
+			dataGrid = sort(DataGridSort.byColumn(aColumnName, anOrder));
+		else
 		{
-			List<DataDoc> sortedDocList;
-			mSortColumnName = aColumnName;
-			DataItem dataItem = optDataItem.get();
-			switch (dataItem.getType())
-			{
-				case Integer:
-					sortedDocList = sortIntegerByNameOrder(stream(), anOrder);
-					break;
-				case Long:
-					sortedDocList = sortLongByNameOrder(stream(), anOrder);
-					break;
-				case Float:
-					sortedDocList = sortFloatByNameOrder(stream(), anOrder);
-					break;
-				case Double:
-					sortedDocList = sortDoubleByNameOrder(stream(), anOrder);
-					break;
-				case Date:
-				case DateTime:
-					sortedDocList = sortDateByNameOrder(stream(), anOrder);
-					break;
-				default:
-					sortedDocList = sortStringByNameOrder(stream(), anOrder);
-					break;
-			}
-			sortedDocList.forEach(dd -> {
-				DataDoc ndd = new DataDoc(dd);
-				dataGrid.addRow(ndd);
-			});
+			dataGrid = new DataGrid(mName);
+			dataGrid.setColumns(new DataDoc(getColumns()));
+			dataGrid.mFeatures = new HashMap<String, String>(mFeatures);
 		}
 
 		return dataGrid;
@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.data;
+
+import com.redis.foundation.std.StrUtl;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * A DataGridCursor visits the rows of a {@link DataGrid} and reads the
+ * cell values of the current row straight from the row storage, so
+ * no data document is built for a row unless one is asked for.  A cell
+ * that is absent from a row takes on the value of its column item,
+ * which matches the documents returned by <i>DataGrid.getRowAsDoc()</i>.
+ * <p>
+ * A cursor is positioned before the first row when it is created and
+ * is moved forward via {@link #next()}.  Cursors are lightweight and
+ * are not meant to be shared across threads.
+ * </p>
+ *
+ * @author Al Cole
+ * @since 1.0
+ */
+public class DataGridCursor
+{
+	private int mRow = -1;
+	private final DataGrid mDataGrid;
+	private HashMap<String, ArrayList<String>> mRowMap;
+
+	/**
+	 * Constructor accepts the data grid whose rows will be visited.
+	 *
+	 * @param aDataGrid Data grid instance
+	 */
+	public DataGridCursor(DataGrid aDataGrid)
+	{
+		mDataGrid = aDataGrid;
+	}
+
+	/**
+	 * Advances the cursor to the next row of the data grid.
+	 *
+	 * @return <i>true</i> if the cursor is positioned on a row or
+	 * <i>false</i> if the rows have been exhausted
+	 */
+	public boolean next()
+	{
+		return moveTo(mRow + 1);
+	}
+
+	/**
+	 * Positions the cursor on the row offset specified.
+	 *
+	 * @param aRow Row offset in the data grid
+	 *
+	 * @return <i>true</i> if the cursor is positioned on a row or
+	 * <i>false</i> if the offset is out of range
+	 */
+	public boolean moveTo(int aRow)
+	{
+		ArrayList<HashMap<String, ArrayList<String>>> gridRows = mDataGrid.getRows();
+		if ((aRow >= 0) && (aRow < gridRows.size()))
+		{
+			mRow = aRow;
+			mRowMap = gridRows.get(aRow);
+		}
+		else
+		{
+			mRow = Math.max(-1, Math.min(aRow, gridRows.size()));
+			mRowMap = null;
+		}
+
+		return mRowMap != null;
+	}
+
+	/**
+	 * Returns the row offset the cursor is positioned on.
+	 *
+	 * @return Row offset in the data grid
+	 */
+	public int getRow()
+	{
+		return mRow;
+	}
+
+	private HashMap<String, ArrayList<String>> rowMap()
+	{
+		if (mRowMap == null)
+			throw new NoSuchElementException(String.format("Row offset %d is out of range.", mRow));
+
+		return mRowMap;
+	}
+
+	/**
+	 * Returns the list of values for the named cell of the current row.
+	 * The list should be treated as read only.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return List of cell values
+	 */
+	public List<String> getValues(String aName)
+	{
+		List<String> cellValues = rowMap().get(aName);
+		if (cellValues == null)
+		{
+			Optional<DataItem> optDataItem = mDataGrid.getColumns().getItemByNameOptional(aName);
+			if (optDataItem.isPresent())
+				cellValues = optDataItem.get().getValues();
+			else
+				cellValues = Collections.emptyList();
+		}
+
+		return cellValues;
+	}
+
+	/**
+	 * Returns the first value of the named cell of the current row.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return Cell value or an empty string
+	 */
+	public String getValue(String aName)
+	{
+		List<String> cellValues = getValues(aName);
+
+		return cellValues.isEmpty() ? StringUtils.EMPTY : StringUtils.defaultString(cellValues.get(0));
+	}
+
+	/**
+	 * Returns the values of the named cell of the current row as a
+	 * collapsed string with the separator character used as a delimiter.
+	 *
+	 * @param aName Column name
+	 * @param aSeparator Separator character
+	 *
+	 * @return String of collapsed values
+	 */
+	public String getValuesCollapsed(String aName, char aSeparator)
+	{
+		return StrUtl.collapseToSingle(new ArrayList<>(getValues(aName)), aSeparator);
+	}
+
+	/**
+	 * Returns <i>true</i> if the named cell of the current row is empty
+	 * or <i>false</i> otherwise.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isValueEmpty(String aName)
+	{
+		return StringUtils.isEmpty(getValue(aName));
+	}
+
+	/**
+	 * Returns the named cell of the current row as an <i>Integer</i>.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return Cell value
+	 */
+	public Integer getValueAsInteger(String aName)
+	{
+		return DataItem.parseInteger(getValue(aName));
+	}
+
+	/**
+	 * Returns the named cell of the current row as a <i>Long</i>.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return Cell value
+	 */
+	public Long getValueAsLong(String aName)
+	{
+		return DataItem.parseLong(getValue(aName));
+	}
+
+	/**
+	 * Returns the named cell of the current row as a <i>Double</i>.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return Cell value
+	 */
+	public Double getValueAsDouble(String aName)
+	{
+		return Data.createDoubleObject(getValue(aName));
+	}
+
+	/**
+	 * Returns <i>true</i> if the named cell of the current row evaluates
+	 * as true or <i>false</i> otherwise.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return <i>true</i> or <i>false</i>
+	 */
+	public boolean isValueTrue(String aName)
+	{
+		return Data.isValueTrue(getValue(aName));
+	}
+
+	/**
+	 * Returns the named cell of the current row as a <i>Date</i> based on
+	 * the data format of its column.
+	 *
+	 * @param aName Column name
+	 *
+	 * @return Cell value
+	 */
+	public Date getValueAsDate(String aName)
+	{
+		Optional<DataItem> optDataItem = mDataGrid.getColumns().getItemByNameOptional(aName);
+		String dataFormat = optDataItem.isPresent() ? optDataItem.get().getDataFormat() : StringUtils.EMPTY;
+
+		return Data.createDate(getValue(aName), dataFormat);
+	}
+
+	/**
+	 * Returns a data document representing the current row.
+	 *
+	 * @return Data document instance
+	 */
+	public DataDoc toDataDoc()
+	{
+		rowMap();
+
+		return mDataGrid.getRowAsDoc(mRow);
+	}
+}
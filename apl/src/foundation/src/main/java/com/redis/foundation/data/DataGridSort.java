@@ -0,0 +1,411 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.data;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * A DataGridSort describes how the rows of a {@link DataGrid} should be
+ * ordered.  It holds one or more sort keys, each naming a grid column
+ * along with its direction and where empty cells are placed.  Instances
+ * are immutable, so a single sort specification can be shared across
+ * threads and reused for any number of grids.
+ * <p>
+ * Sorting decorates each row once with keys extracted according to the
+ * column type (numbers and dates are parsed a single time) and then
+ * orders an array of row offsets with a stable merge sort.  No state is
+ * kept on the grid while a sort is running.
+ * </p>
+ *
+ * @author Al Cole
+ * @since 1.0
+ */
+public class DataGridSort
+{
+	private final List<Key> mKeys;
+
+	/**
+	 * Identifies where rows with an empty cell are placed.
+	 */
+	public static enum Nulls
+	{
+		FIRST, LAST
+	}
+
+	/**
+	 * A sort key identifies a column, its sort direction and the
+	 * placement of empty cells.
+	 */
+	public static final class Key
+	{
+		private final String mName;
+		private final Nulls mNulls;
+		private final Data.Order mOrder;
+
+		private Key(String aName, Data.Order anOrder, Nulls aNulls)
+		{
+			mName = aName;
+			mNulls = aNulls;
+			mOrder = anOrder;
+		}
+
+		/**
+		 * Returns the column name of the key.
+		 *
+		 * @return Column name
+		 */
+		public String getName()
+		{
+			return mName;
+		}
+
+		/**
+		 * Returns the sort order of the key.
+		 *
+		 * @return Sort order
+		 */
+		public Data.Order getOrder()
+		{
+			return mOrder;
+		}
+
+		/**
+		 * Returns the placement of empty cells for the key.
+		 *
+		 * @return Null placement
+		 */
+		public Nulls getNulls()
+		{
+			return mNulls;
+		}
+
+		@Override
+		public String toString()
+		{
+			return String.format("%s %s nulls %s", mName, mOrder, mNulls);
+		}
+	}
+
+	private DataGridSort(Builder aBuilder)
+	{
+		mKeys = Collections.unmodifiableList(new ArrayList<>(aBuilder.mKeys));
+	}
+
+	/**
+	 * Returns a sort specification for a single column.  Empty cells
+	 * sort low, which places them first in ascending order and last in
+	 * descending order.
+	 *
+	 * @param aName Column name
+	 * @param anOrder Sort order
+	 *
+	 * @return Data grid sort instance
+	 */
+	public static DataGridSort byColumn(String aName, Data.Order anOrder)
+	{
+		return new Builder().key(aName, anOrder).build();
+	}
+
+	/**
+	 * Returns the list of sort keys in priority order.
+	 *
+	 * @return Unmodifiable list of sort keys
+	 */
+	public List<Key> getKeys()
+	{
+		return mKeys;
+	}
+
+	/**
+	 * Returns a string representation of the sort specification.
+	 *
+	 * @return String summary representation
+	 */
+	@Override
+	public String toString()
+	{
+		return mKeys.toString();
+	}
+
+// Each key column is extracted once into a primitive array indexed by row offset, so
+// comparisons never touch the row maps or parse a cell value again.
+
+	private static final class KeyColumn
+	{
+		private final boolean mIsDescending;
+		private final boolean mIsNullFirst;
+		private final boolean[] mIsNull;
+		private long[] mLongs;
+		private double[] mDoubles;
+		private String[] mStrings;
+
+		private KeyColumn(Key aKey, int aRowCount)
+		{
+			mIsDescending = aKey.mOrder == Data.Order.DESCENDING;
+			mIsNullFirst = aKey.mNulls == Nulls.FIRST;
+			mIsNull = new boolean[aRowCount];
+		}
+
+		private int compare(int aRow1, int aRow2)
+		{
+			int compareValue;
+
+			if (mIsNull[aRow1] || mIsNull[aRow2])
+			{
+				if (mIsNull[aRow1] == mIsNull[aRow2])
+					compareValue = 0;
+				else
+					compareValue = (mIsNull[aRow1] == mIsNullFirst) ? -1 : 1;
+			}
+			else
+			{
+				if (mLongs != null)
+					compareValue = Long.compare(mLongs[aRow1], mLongs[aRow2]);
+				else if (mDoubles != null)
+					compareValue = Double.compare(mDoubles[aRow1], mDoubles[aRow2]);
+				else
+					compareValue = mStrings[aRow1].compareTo(mStrings[aRow2]);
+				if (mIsDescending)
+					compareValue = -compareValue;
+			}
+
+			return compareValue;
+		}
+	}
+
+	private static String cellValue(HashMap<String, ArrayList<String>> aRow, String aName)
+	{
+		String cellValue = null;
+
+		ArrayList<String> cellValues = aRow.get(aName);
+		if ((cellValues != null) && (! cellValues.isEmpty()) && (StringUtils.isNotEmpty(cellValues.get(0))))
+			cellValue = cellValues.get(0);
+
+		return cellValue;
+	}
+
+	private static KeyColumn extractColumn(Key aKey, DataItem aColumn, List<HashMap<String, ArrayList<String>>> aRows)
+	{
+		String cellValue;
+
+		int rowCount = aRows.size();
+		KeyColumn keyColumn = new KeyColumn(aKey, rowCount);
+		Data.Type dataType = (aColumn == null) ? Data.Type.Text : aColumn.getType();
+		switch (dataType)
+		{
+			case Integer:
+			case Long:
+			case Date:
+			case DateTime:
+				keyColumn.mLongs = new long[rowCount];
+				break;
+			case Float:
+			case Double:
+				keyColumn.mDoubles = new double[rowCount];
+				break;
+			default:
+				keyColumn.mStrings = new String[rowCount];
+				break;
+		}
+
+		for (int row = 0; row < rowCount; row++)
+		{
+			cellValue = cellValue(aRows.get(row), aKey.mName);
+			if (cellValue == null)
+				keyColumn.mIsNull[row] = true;
+			else if (keyColumn.mStrings != null)
+				keyColumn.mStrings[row] = cellValue;
+			else if (keyColumn.mDoubles != null)
+			{
+				try
+				{
+					keyColumn.mDoubles[row] = Double.parseDouble(cellValue);
+				}
+				catch (NumberFormatException e)
+				{
+					keyColumn.mIsNull[row] = true;
+				}
+			}
+			else if (Data.isDateOrTime(dataType))
+			{
+				Date dateValue = Data.createDate(cellValue, aColumn.getDataFormat());
+				if (dateValue == null)
+					keyColumn.mIsNull[row] = true;
+				else
+					keyColumn.mLongs[row] = dateValue.getTime();
+			}
+			else
+			{
+				try
+				{
+					keyColumn.mLongs[row] = DataItem.parseLong(cellValue);
+				}
+				catch (NumberFormatException e)
+				{
+					keyColumn.mIsNull[row] = true;
+				}
+			}
+		}
+
+		return keyColumn;
+	}
+
+	private static int compare(KeyColumn[] aKeyColumns, int aRow1, int aRow2)
+	{
+		int compareValue = 0;
+
+		for (KeyColumn keyColumn : aKeyColumns)
+		{
+			compareValue = keyColumn.compare(aRow1, aRow2);
+			if (compareValue != 0)
+				break;
+		}
+
+		return compareValue;
+	}
+
+// A top-down merge sort over the row offsets keeps equal rows in their original
+// order and, unlike sorting boxed offsets, allocates only a single scratch array.
+
+	private static void mergeSort(KeyColumn[] aKeyColumns, int[] anOffsets, int[] aScratch, int aStart, int anEnd)
+	{
+		if (anEnd - aStart > 1)
+		{
+			int middle = (aStart + anEnd) >>> 1;
+			mergeSort(aKeyColumns, anOffsets, aScratch, aStart, middle);
+			mergeSort(aKeyColumns, anOffsets, aScratch, middle, anEnd);
+			if (compare(aKeyColumns, anOffsets[middle - 1], anOffsets[middle]) > 0)
+			{
+				System.arraycopy(anOffsets, aStart, aScratch, aStart, anEnd - aStart);
+				int left = aStart;
+				int right = middle;
+				for (int offset = aStart; offset < anEnd; offset++)
+				{
+					if ((right >= anEnd) || ((left < middle) && (compare(aKeyColumns, aScratch[left], aScratch[right]) <= 0)))
+						anOffsets[offset] = aScratch[left++];
+					else
+						anOffsets[offset] = aScratch[right++];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the row offsets of the rows in sorted order.  The rows
+	 * themselves are neither copied nor reordered.
+	 *
+	 * @param aColumns Data document instance describing the grid columns
+	 * @param aRows List of row maps
+	 *
+	 * @return Array of row offsets in sorted order
+	 */
+	int[] sortOrder(DataDoc aColumns, List<HashMap<String, ArrayList<String>>> aRows)
+	{
+		int rowCount = aRows.size();
+		KeyColumn[] keyColumns = new KeyColumn[mKeys.size()];
+		for (int offset = 0; offset < keyColumns.length; offset++)
+		{
+			Key key = mKeys.get(offset);
+			keyColumns[offset] = extractColumn(key, aColumns.getItemByNameOptional(key.mName).orElse(null), aRows);
+		}
+
+		int[] rowOffsets = new int[rowCount];
+		for (int row = 0; row < rowCount; row++)
+			rowOffsets[row] = row;
+		mergeSort(keyColumns, rowOffsets, new int[rowCount], 0, rowCount);
+
+		return rowOffsets;
+	}
+
+	/***
+	 * The Builder class provides utility methods for constructing data grid sorts.
+	 */
+	public static class Builder
+	{
+		private final ArrayList<Key> mKeys = new ArrayList<>();
+
+		/**
+		 * Adds a sort key for the column.  Empty cells sort low, which
+		 * places them first in ascending order and last in descending
+		 * order.
+		 *
+		 * @param aName Column name
+		 * @param anOrder Sort order
+		 *
+		 * @return Builder instance
+		 */
+		public Builder key(String aName, Data.Order anOrder)
+		{
+			return key(aName, anOrder, (anOrder == Data.Order.DESCENDING) ? Nulls.LAST : Nulls.FIRST);
+		}
+
+		/**
+		 * Adds a sort key for the column with an explicit placement for
+		 * empty cells.
+		 *
+		 * @param aName Column name
+		 * @param anOrder Sort order
+		 * @param aNulls Placement of empty cells
+		 *
+		 * @return Builder instance
+		 */
+		public Builder key(String aName, Data.Order anOrder, Nulls aNulls)
+		{
+			mKeys.add(new Key(aName, anOrder, aNulls));
+			return this;
+		}
+
+		/**
+		 * Adds an ascending sort key for the column.
+		 *
+		 * @param aName Column name
+		 *
+		 * @return Builder instance
+		 */
+		public Builder ascending(String aName)
+		{
+			return key(aName, Data.Order.ASCENDING);
+		}
+
+		/**
+		 * Adds a descending sort key for the column.
+		 *
+		 * @param aName Column name
+		 *
+		 * @return Builder instance
+		 */
+		public Builder descending(String aName)
+		{
+			return key(aName, Data.Order.DESCENDING);
+		}
+
+		/**
+		 * Builds a data grid sort instance from the keys that were added.
+		 *
+		 * @return Data grid sort instance
+		 */
+		public DataGridSort build()
+		{
+			return new DataGridSort(this);
+		}
+	}
+}
@@ -28,6 +28,7 @@ import org.apache.commons.lang3.math.NumberUtils;
 import java.text.DecimalFormat;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * A data item captures a type, name, title, features, values and transient properties.
@@ -50,7 +51,9 @@ public class DataItem
     private String mDefaultValue = StringUtils.EMPTY;
     private Data.Order mSortOrder = Data.Order.UNDEFINED;
     private transient HashMap<String, Object> mProperties;
-    private ArrayList<String> mValues = new ArrayList<String>();
+    private String mValue;                                          // Single value (rendered from mTypedValue on demand)
+    private transient Object mTypedValue;                           // Parsed form of the single value
+    private ArrayList<String> mValues;                              // Only allocated for multi-values
     private HashMap<String, String> mFeatures = new HashMap<String, String>();
 
     /**
@@ -115,8 +118,6 @@ public class DataItem
      */
     public DataItem(final DataItem aDataItem)
     {
-        mValues = new ArrayList<String>();
-
         if (aDataItem != null)
         {
             setType(aDataItem.getType());
@@ -130,7 +131,12 @@ public class DataItem
             setDefaultValue(aDataItem.getDefaultValue());
             if (aDataItem.isRangeAssigned())
                 setRange(new DataRange(aDataItem.getRange()));
-            setValues(aDataItem.getValues());
+            mValue = aDataItem.mValue;
+            mTypedValue = aDataItem.mTypedValue;
+            if (aDataItem.mValues != null)
+                mValues = new ArrayList<String>(aDataItem.mValues);
+            if ((mType == Data.Type.Undefined) && (isValueAssigned()))
+                setType(Data.Type.Text);
 
             this.mFeatures = new HashMap<String, String>(aDataItem.getFeatures());
             if (aDataItem.mProperties != null)
@@ -192,7 +198,7 @@ public class DataItem
     {
         String diString = String.format("[%s] n = %s", Data.typeToString(mType), mName);
         if (isValueAssigned())
-            diString += String.format(", v = %s", StrUtl.collapseToSingle(mValues, StrUtl.CHAR_PIPE));
+            diString += String.format(", v = %s", getValuesCollapsed());
         if (StringUtils.isNotEmpty(mDefaultValue))
             diString += String.format(", dv = %s", mDefaultValue);
         if (StringUtils.isNotEmpty(mTitle))
@@ -409,6 +415,8 @@ public class DataItem
     public void setDataFormat(String aDataFormat)
     {
         mDataFormat = aDataFormat;
+        if (mTypedValue instanceof Date)
+            mTypedValue = null;
     }
 
     /**
@@ -566,7 +574,7 @@ public class DataItem
      */
     public boolean isMultiValue()
     {
-        return mValues.size() > 1;
+        return valueCount() > 1;
     }
 
     /**
@@ -597,13 +605,66 @@ public class DataItem
     public void setValue(String aValue)
     {
         if (StringUtils.isNotEmpty(aValue))
+            assignValue(aValue, null);
+    }
+
+// A single value is held without a list.  When it was assigned from a primitive, the
+// primitive is kept and its string is only rendered once something asks for it.
+
+    private void assignValue(String aValue, Object aTypedValue)
+    {
+        mValue = aValue;
+        mTypedValue = aTypedValue;
+        mValues = null;
+        if (mType == Data.Type.Undefined)
+            setType(Data.Type.Text);
+        enableFeature(Data.FEATURE_IS_UPDATED);
+    }
+
+    private void assignTypedValue(Object aValue)
+    {
+        if (aValue != null)
+            assignValue(null, aValue);
+    }
+
+    private void appendValue(String aValue)
+    {
+        if (isValueAssigned())
         {
-            mValues.clear();
+            if (mValues == null)
+            {
+                String firstValue = getValue();
+                mValues = new ArrayList<String>();
+                mValues.add(firstValue);
+                mValue = null;
+            }
             mValues.add(aValue);
-            if (mType == Data.Type.Undefined)
-                setType(Data.Type.Text);
-            enableFeature(Data.FEATURE_IS_UPDATED);
         }
+        else
+            mValue = aValue;
+        mTypedValue = null;
+    }
+
+// The parsed form of a single value is cached, so repeated conversions skip the parse.
+// Only one type is cached at a time and any change to the value discards it.  The cache
+// field is read once, so a concurrent reader caching a different type cannot change it
+// between the type check and the cast.
+
+    private <T> T getTypedValue(Class<T> aClass, Function<String, T> aParser)
+    {
+        T typedValue;
+
+        Object cachedValue = mTypedValue;
+        if (aClass.isInstance(cachedValue))
+            typedValue = aClass.cast(cachedValue);
+        else
+        {
+            typedValue = aParser.apply(getValue());
+            if ((mValue != null) && (typedValue != null))
+                mTypedValue = typedValue;
+        }
+
+        return typedValue;
     }
 
     /**
@@ -613,10 +674,24 @@ public class DataItem
      */
     public String getValue()
     {
-        if (isValueAssigned())
-            return mValues.get(0);
+        String value;
+
+        if (mValues != null)
+            value = mValues.get(0);
+        else
+        {
+            Object typedValue = mTypedValue;
+            if ((mValue == null) && (typedValue != null))
+            {
+                if (typedValue instanceof Boolean)
+                    mValue = StrUtl.booleanToString((Boolean) typedValue);
+                else
+                    mValue = typedValue.toString();
+            }
+            value = StringUtils.defaultString(mValue);
+        }
 
-        return StringUtils.EMPTY;
+        return value;
     }
 
     /**
@@ -686,7 +761,7 @@ public class DataItem
     {
         if (StringUtils.isNotEmpty(aValue))
         {
-            mValues.add(aValue);
+            appendValue(aValue);
             if (mType == Data.Type.Undefined)
                 setType(Data.Type.Text);
             enableFeature(Data.FEATURE_IS_UPDATED);
@@ -704,9 +779,10 @@ public class DataItem
     {
         if (StringUtils.isNotEmpty(aValue))
         {
-            if (! mValues.contains(aValue))
+            boolean isUnique = (mValues == null) ? (! aValue.equals(getValue())) : (! mValues.contains(aValue));
+            if (isUnique)
             {
-                mValues.add(aValue);
+                appendValue(aValue);
                 enableFeature(Data.FEATURE_IS_UPDATED);
             }
             if (mType == Data.Type.Undefined)
@@ -723,7 +799,7 @@ public class DataItem
     {
         if (mType == Data.Type.Undefined)
             setType(Data.Type.Boolean);
-        setValue(StrUtl.booleanToString(aValue));
+        assignTypedValue(aValue);
     }
 
     /**
@@ -741,7 +817,7 @@ public class DataItem
 
     public Boolean getValueAsBoolean()
     {
-        return StrUtl.stringToBoolean(getValue());
+        return getTypedValue(Boolean.class, StrUtl::stringToBoolean);
     }
 
     /**
@@ -788,7 +864,7 @@ public class DataItem
     {
         if (mType == Data.Type.Undefined)
             setType(Data.Type.Integer);
-        setValue(aValue.toString());
+        assignTypedValue(aValue);
     }
 
     /**
@@ -811,11 +887,15 @@ public class DataItem
      */
     public Integer getValueAsInteger()
     {
-        String strValue = getValue();
-        if (StringUtils.containsIgnoreCase(strValue, "E"))
-            return Double.valueOf(strValue).intValue();
+        return getTypedValue(Integer.class, DataItem::parseInteger);
+    }
+
+    static Integer parseInteger(String aValue)
+    {
+        if (StringUtils.containsIgnoreCase(aValue, "E"))
+            return Double.valueOf(aValue).intValue();
         else
-            return Data.createIntegerObject(getValue());
+            return Data.createIntegerObject(aValue);
     }
 
     /**
@@ -826,7 +906,7 @@ public class DataItem
     public ArrayList<Integer> getValuesAsInteger()
     {
         ArrayList<Integer> integerList = new ArrayList<>();
-        getValues().forEach(v -> integerList.add(Data.createIntegerObject(v)));
+        getValues().forEach(v -> integerList.add(parseInteger(v)));
 
         return integerList;
     }
@@ -840,7 +920,7 @@ public class DataItem
     {
         if (mType == Data.Type.Undefined)
             setType(Data.Type.Long);
-        setValue(aValue.toString());
+        assignTypedValue(aValue);
     }
 
     /**
@@ -863,11 +943,15 @@ public class DataItem
      */
     public Long getValueAsLong()
     {
-        String strValue = getValue();
-        if (StringUtils.containsIgnoreCase(strValue, "E"))
-            return Double.valueOf(strValue).longValue();
+        return getTypedValue(Long.class, DataItem::parseLong);
+    }
+
+    static Long parseLong(String aValue)
+    {
+        if (StringUtils.containsIgnoreCase(aValue, "E"))
+            return Double.valueOf(aValue).longValue();
         else
-            return Data.createLongObject(strValue);
+            return Data.createLongObject(aValue);
     }
 
     /**
@@ -878,7 +962,7 @@ public class DataItem
     public ArrayList<Long> getValuesAsLong()
     {
         ArrayList<Long> longList = new ArrayList<>();
-        getValues().forEach(v -> longList.add(Data.createLongObject(v)));
+        getValues().forEach(v -> longList.add(parseLong(v)));
 
         return longList;
     }
@@ -892,7 +976,7 @@ public class DataItem
     {
         if (mType == Data.Type.Undefined)
             setType(Data.Type.Double);
-        setValue(aValue.toString());
+        assignTypedValue(aValue);
     }
 
     /**
@@ -915,7 +999,7 @@ public class DataItem
      */
     public Double getValueAsDouble()
     {
-        return Data.createDoubleObject(getValue());
+        return getTypedValue(Double.class, Data::createDoubleObject);
     }
 
     /**
@@ -940,7 +1024,7 @@ public class DataItem
     {
         if (mType == Data.Type.Undefined)
             setType(Data.Type.Float);
-        setValue(aValue.toString());
+        assignTypedValue(aValue);
     }
 
     /**
@@ -962,7 +1046,7 @@ public class DataItem
      */
     public Float getValueAsFloat()
     {
-        return Data.createFloatObject(getValue());
+        return getTypedValue(Float.class, Data::createFloatObject);
     }
 
     /**
@@ -1004,7 +1088,9 @@ public class DataItem
      */
     public Date getValueAsDate()
     {
-        return Data.createDate(getValue(), mDataFormat);
+        Date dateValue = getTypedValue(Date.class, v -> Data.createDate(v, mDataFormat));
+
+        return (dateValue == null) ? null : new Date(dateValue.getTime());
     }
 
     /**
@@ -1041,7 +1127,13 @@ public class DataItem
     {
         if (aValues != null)
         {
-            mValues = new ArrayList<String>(aValues);
+            mValue = null;
+            mValues = null;
+            mTypedValue = null;
+            if ((aValues.size() == 1) && (aValues.get(0) != null))
+                mValue = aValues.get(0);
+            else if (aValues.size() > 0)
+                mValues = new ArrayList<String>(aValues);
             if (mType == Data.Type.Undefined)
                 setType(Data.Type.Text);
             enableFeature(Data.FEATURE_IS_UPDATED);
@@ -1049,13 +1141,26 @@ public class DataItem
     }
 
     /**
-     * Returns a list of data item values.
+     * Returns a list of data item values.  A single value is returned
+     * in a newly allocated list, so the list should be treated as read
+     * only and changes applied via the value assignment methods.
      *
      * @return List of data item values.
      */
     public ArrayList<String> getValues()
     {
-        return mValues;
+        ArrayList<String> values;
+
+        if (mValues != null)
+            values = mValues;
+        else
+        {
+            values = new ArrayList<String>(1);
+            if (isValueAssigned())
+                values.add(getValue());
+        }
+
+        return values;
     }
 
     /**
@@ -1065,8 +1170,9 @@ public class DataItem
      */
     public String[] getValuesArray()
     {
-        String[] strValues = new String[mValues.size()];
-        strValues = mValues.toArray(strValues);
+        ArrayList<String> values = getValues();
+        String[] strValues = new String[values.size()];
+        strValues = values.toArray(strValues);
 
         return strValues;
     }
@@ -1081,7 +1187,10 @@ public class DataItem
      */
     public String getValuesCollapsed(char aSeparator)
     {
-        return StrUtl.collapseToSingle(mValues, aSeparator);
+        if (mValues == null)
+            return StrUtl.escapeStringWithBackslash(getValue(), aSeparator);
+        else
+            return StrUtl.collapseToSingle(mValues, aSeparator);
     }
 
     /**
@@ -1127,7 +1236,7 @@ public class DataItem
      */
     public boolean isValueAssigned()
     {
-        return mValues.size() > 0;
+        return (mValues != null) || (mValue != null) || (mTypedValue != null);
     }
 
     /**
@@ -1142,18 +1251,18 @@ public class DataItem
         switch (mType)
         {
             case Integer:
-                return Data.createIntegerObject(getValue());
+                return getValueAsInteger();
             case Long:
-                return Data.createLongObject(getValue());
+                return getValueAsLong();
             case Float:
-                return Data.createFloatObject(getValue());
+                return getValueAsFloat();
             case Double:
-                return Data.createDoubleObject(getValue());
+                return getValueAsDouble();
             case Boolean:
-                return Data.isValueTrue(getValue());
+                return getValueAsBoolean();
             case Date:
             case DateTime:
-                return Data.createDate(getValue(), mDataFormat);
+                return getValueAsDate();
             default:
                 if (isMultiValue())
                     return getValuesCollapsed();
@@ -1176,18 +1285,18 @@ public class DataItem
         switch (mType)
         {
             case Integer:
-                return Data.createIntegerObject(getValue());
+                return getValueAsInteger();
             case Long:
-                return Data.createLongObject(getValue());
+                return getValueAsLong();
             case Float:
-                return Data.createFloatObject(getValue());
+                return getValueAsFloat();
             case Double:
-                return Data.createDoubleObject(getValue());
+                return getValueAsDouble();
             case Boolean:
-                return Data.isValueTrue(getValue());
+                return getValueAsBoolean();
             case Date:
             case DateTime:
-                return Data.createDate(getValue(), mDataFormat);
+                return getValueAsDate();
             default:
                 if (isMultiValue())
                     return getValuesCollapsed(aDelimiterChar);
@@ -1201,7 +1310,9 @@ public class DataItem
      */
     public void clearValues()
     {
-        mValues.clear();
+        mValue = null;
+        mValues = null;
+        mTypedValue = null;
         if (isFeatureTrue(Data.FEATURE_IS_UPDATED))
             disableFeature(Data.FEATURE_IS_UPDATED);
     }
@@ -1293,7 +1404,16 @@ public class DataItem
      */
     public int valueCount()
     {
-        return mValues.size();
+        int valueCount;
+
+        if (mValues != null)
+            valueCount = mValues.size();
+        else if (isValueAssigned())
+            valueCount = 1;
+        else
+            valueCount = 0;
+
+        return valueCount;
     }
 
     /**
@@ -1729,7 +1849,7 @@ public class DataItem
     public int hashCode()
     {
         return new HashCodeBuilder().append(mType).append(mName).append(mTitle)
-                                    .append(mValues).append(mFeatures).toHashCode();
+                                    .append(getValues()).append(mFeatures).toHashCode();
     }
 
     /***
@@ -19,16 +19,13 @@
 
 package com.redis.foundation.data;
 
-import com.redis.foundation.std.DatUtl;
+import com.redis.foundation.std.DateDetector;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 
 /**
  * The Data Item Analyzer class will examine small-to-medium sized
@@ -52,9 +49,25 @@ public class DataItemAnalyzer
 	private int mTotalValues;
 	private boolean mIsInteger;
 	private boolean mIsBoolean;
+	private int mDetectCount;
 	private final Data.Type mType;
+	private boolean mIsOrdered;
+	private DateDetector mDateDetector;
 	private Map<String,Integer> mValueCount;
 	private DescriptiveStatistics mStatistics;
+	private ArrayList<MaskChange> mMaskChanges;
+
+	private static final class MaskChange
+	{
+		private final int mOrdinal;
+		private final String mFormatMask;
+
+		MaskChange(int anOrdinal, String aFormatMask)
+		{
+			mOrdinal = anOrdinal;
+			mFormatMask = aFormatMask;
+		}
+	}
 
 	/**
 	 * Constructor with a unique field name.
@@ -79,6 +92,23 @@ public class DataItemAnalyzer
 		mType = aType;
 	}
 
+	/**
+	 * Constructor for analyzers of a shard of rows.  The values of an
+	 * ordered analyzer are tracked in the order they were first seen,
+	 * which allows it to be merged into the analyzer of the preceding
+	 * rows with the same outcome as a sequential scan.
+	 *
+	 * @param aName Field name.
+	 * @param aType Data type.
+	 * @param anIsOrdered If <i>true</i>, then value order is tracked.
+	 */
+	DataItemAnalyzer(String aName, Data.Type aType, boolean anIsOrdered)
+	{
+		mIsOrdered = anIsOrdered;
+		reset(aName);
+		mType = aType;
+	}
+
 	/**
 	 * Use this if you wish to reuse the object instance.
 	 *
@@ -93,7 +123,10 @@ public class DataItemAnalyzer
 		mTotalValues = 0;
 		mIsInteger = true;
 		mIsBoolean = true;
-		mValueCount = new HashMap<>();
+		mDetectCount = 0;
+		mMaskChanges = new ArrayList<>();
+		mValueCount = mIsOrdered ? new LinkedHashMap<>() : new HashMap<>();
+		mDateDetector = new DateDetector();
 		mStatistics = new DescriptiveStatistics();
 	}
 
@@ -162,7 +195,9 @@ public class DataItemAnalyzer
 		}
 		if (mIsDate)
 		{
-			Date fieldDate = DatUtl.detectCreateDate(aValue);
+			String formatMask = mDateDetector.getFormatMask();
+			Date fieldDate = mDateDetector.detect(aValue);
+			trackFormatMask(formatMask);
 			if (fieldDate == null)
 				mIsDate = false;
 		}
@@ -176,6 +211,17 @@ public class DataItemAnalyzer
 		}
 	}
 
+// The date detector tries the most recently matched format mask first, so the masks that
+// were matched along the way are recorded to allow shards to be merged deterministically.
+
+	private void trackFormatMask(String aPriorFormatMask)
+	{
+		String formatMask = mDateDetector.getFormatMask();
+		if (! StringUtils.equals(aPriorFormatMask, formatMask))
+			mMaskChanges.add(new MaskChange(mDetectCount, formatMask));
+		mDetectCount++;
+	}
+
 	/**
 	 * Scans the data value to determine its type and metric information.
 	 *
@@ -195,6 +241,73 @@ public class DataItemAnalyzer
 			mNullCount++;
 	}
 
+// Replays the date detection of the following analyzer's values starting from the state
+// this analyzer ended with, until both detectors agree on the format mask to try first.
+// From that point onward the following analyzer's detection outcome applies as is.
+
+	private void replayFormatMasks(DataItemAnalyzer aFollowing, Iterator<String> aFollowingValues)
+	{
+		String value;
+
+		int changeOffset = 0;
+		String followingMask = null;
+		int detectCountOffset = mDetectCount;
+		for (int ordinal = 0; ordinal < aFollowing.mDetectCount; ordinal++)
+		{
+			if (StringUtils.equals(mDateDetector.getFormatMask(), followingMask))
+			{
+				for (int offset = changeOffset; offset < aFollowing.mMaskChanges.size(); offset++)
+				{
+					MaskChange maskChange = aFollowing.mMaskChanges.get(offset);
+					mMaskChanges.add(new MaskChange(detectCountOffset + maskChange.mOrdinal, maskChange.mFormatMask));
+				}
+				mDateDetector.setFormatMask(aFollowing.mDateDetector.getFormatMask());
+				mDetectCount = detectCountOffset + aFollowing.mDetectCount;
+				return;
+			}
+			do
+			{
+				value = aFollowingValues.next();
+			}
+			while (StringUtils.isEmpty(value));
+			String formatMask = mDateDetector.getFormatMask();
+			Date fieldDate = mDateDetector.detect(value);
+			trackFormatMask(formatMask);
+			while ((changeOffset < aFollowing.mMaskChanges.size()) &&
+				   (aFollowing.mMaskChanges.get(changeOffset).mOrdinal <= ordinal))
+				followingMask = aFollowing.mMaskChanges.get(changeOffset++).mFormatMask;
+			if (fieldDate == null)
+				break;
+		}
+	}
+
+	/**
+	 * Merges the analysis of the rows that follow the ones scanned by this
+	 * analyzer.  The outcome is identical to scanning all the values with
+	 * this analyzer, provided the following analyzer is ordered and the
+	 * iterator returns the values it scanned in the same order.
+	 *
+	 * @param aFollowing Ordered analyzer of the following rows.
+	 * @param aFollowingValues Values scanned by the following analyzer.
+	 */
+	void merge(DataItemAnalyzer aFollowing, Iterator<String> aFollowingValues)
+	{
+		if (mIsDate)
+			replayFormatMasks(aFollowing, aFollowingValues);
+		if (isNumberType())
+		{
+			for (double statValue : aFollowing.mStatistics.getValues())
+				mStatistics.addValue(statValue);
+		}
+		mIsDate = mIsDate && aFollowing.mIsDate;
+		mIsFloat = mIsFloat && aFollowing.mIsFloat;
+		mIsInteger = mIsInteger && aFollowing.mIsInteger;
+		mIsBoolean = mIsBoolean && aFollowing.mIsBoolean;
+		mNullCount += aFollowing.mNullCount;
+		mTotalValues += aFollowing.mTotalValues;
+		aFollowing.mValueCount.forEach((k, v) -> mValueCount.merge(k, v, Integer::sum));
+	}
+
 	/**
 	 * Returns the derived type information once the scanning process
 	 * is complete.
@@ -284,8 +397,8 @@ public class DataItemAnalyzer
 // While we are decomposing the date to milliseconds of time, you can do a Date(milliseconds)
 // reconstruction.
 
-				dateValue = DatUtl.detectCreateDate(dataValue);
-				if (dataValue != null)
+				dateValue = mDateDetector.detect(dataValue);
+				if (dateValue != null)
 				{
 					minValue = Math.min(minValue, dateValue.getTime());
 					maxValue = Math.max(maxValue, dateValue.getTime());
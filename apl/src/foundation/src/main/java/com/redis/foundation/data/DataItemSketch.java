@@ -0,0 +1,464 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.data;
+
+import com.redis.foundation.std.DateDetector;
+import com.redis.foundation.std.StrUtl;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.*;
+
+/**
+ * The Data Item Sketch class is the bounded memory counterpart of the
+ * {@link DataItemAnalyzer} class.  Types, counts, minimum, maximum, mean
+ * and deviation are tracked exactly, while the unique count (k minimum
+ * values estimate), the most frequent values (pruned counters) and the
+ * median (reservoir sample) are approximations.  Sketches of different
+ * row ranges can be merged, which makes them suitable for parallel scans
+ * of very large data sets.
+ *
+ * @author Al Cole
+ * @since 1.0
+ */
+public class DataItemSketch
+{
+	public static final int DISTINCT_HASH_COUNT = 1024;
+	public static final int RESERVOIR_SIZE_DEFAULT = 10000;
+	public static final int VALUE_COUNTERS_DEFAULT = 1024;
+
+	private final String mName;
+	private final Data.Type mType;
+	private final Random mRandom;
+	private final int mReservoirSize;
+	private final int mValueCounters;
+	private int mNullCount;
+	private long mNumberCount;
+	private boolean mIsDate;
+	private boolean mIsFloat;
+	private int mTotalValues;
+	private boolean mIsInteger;
+	private boolean mIsBoolean;
+	private double mMinNumber = Double.MAX_VALUE;
+	private double mMaxNumber = -Double.MAX_VALUE;
+	private long mMinDate = Long.MAX_VALUE;
+	private long mMaxDate = Long.MIN_VALUE;
+	private int mMinLength = Integer.MAX_VALUE;
+	private int mMaxLength = Integer.MIN_VALUE;
+	private final DateDetector mDateDetector;
+	private final TreeSet<Long> mDistinctHashes;
+	private final HashMap<String,Long> mValueCount;
+	private final ArrayList<Double> mReservoir;
+	private long mStatCount;
+	private double mStatMean;
+	private double mStatSquares;
+
+	/**
+	 * Constructor with a unique field name and data type.
+	 *
+	 * @param aName Field name.
+	 * @param aType Data type (<i>Undefined</i> to derive it from the values).
+	 */
+	public DataItemSketch(String aName, Data.Type aType)
+	{
+		this(aName, aType, RESERVOIR_SIZE_DEFAULT, VALUE_COUNTERS_DEFAULT, aName.hashCode());
+	}
+
+	/**
+	 * Constructor with a unique field name, data type and memory bounds.
+	 *
+	 * @param aName Field name.
+	 * @param aType Data type (<i>Undefined</i> to derive it from the values).
+	 * @param aReservoirSize Maximum number of sampled numbers for the median.
+	 * @param aValueCounters Number of value counters retained for the top values.
+	 * @param aSeed Random seed for the reservoir sample.
+	 */
+	public DataItemSketch(String aName, Data.Type aType, int aReservoirSize, int aValueCounters, long aSeed)
+	{
+		mName = aName;
+		mType = aType;
+		mIsDate = true;
+		mIsFloat = true;
+		mIsInteger = true;
+		mIsBoolean = true;
+		mReservoirSize = aReservoirSize;
+		mValueCounters = aValueCounters;
+		mRandom = new Random(aSeed);
+		mDateDetector = new DateDetector();
+		mDistinctHashes = new TreeSet<>();
+		mValueCount = new HashMap<>();
+		mReservoir = new ArrayList<>();
+	}
+
+	private boolean isNumberType()
+	{
+		return mIsFloat || mIsInteger;
+	}
+
+	private static long valueHash(String aValue)
+	{
+		long hashValue = 0xcbf29ce484222325L;
+		for (int offset = 0; offset < aValue.length(); offset++)
+		{
+			hashValue ^= aValue.charAt(offset);
+			hashValue *= 0x100000001b3L;
+		}
+		hashValue ^= (hashValue >>> 33);
+		hashValue *= 0xff51afd7ed558ccdL;
+		hashValue ^= (hashValue >>> 33);
+
+		return hashValue;
+	}
+
+	private void addDistinctHash(long aHash)
+	{
+		if (mDistinctHashes.size() < DISTINCT_HASH_COUNT)
+			mDistinctHashes.add(aHash);
+		else if (aHash < mDistinctHashes.last())
+		{
+			if (mDistinctHashes.add(aHash))
+				mDistinctHashes.pollLast();
+		}
+	}
+
+// Once the counters reach twice their limit, only the most frequent half is retained.
+
+	private void pruneValueCount()
+	{
+		if (mValueCount.size() >= mValueCounters * 2)
+		{
+			ArrayList<Map.Entry<String,Long>> entryList = new ArrayList<>(mValueCount.entrySet());
+			entryList.sort((e1, e2) -> {
+				int compareResult = Long.compare(e2.getValue(), e1.getValue());
+				return (compareResult == 0) ? e1.getKey().compareTo(e2.getKey()) : compareResult;
+			});
+			for (int offset = mValueCounters; offset < entryList.size(); offset++)
+				mValueCount.remove(entryList.get(offset).getKey());
+		}
+	}
+
+	private void sampleNumber(double aNumber)
+	{
+		mNumberCount++;
+		if (mReservoir.size() < mReservoirSize)
+			mReservoir.add(aNumber);
+		else
+		{
+			long sampleOffset = (long) (mRandom.nextDouble() * mNumberCount);
+			if (sampleOffset < mReservoirSize)
+				mReservoir.set((int) sampleOffset, aNumber);
+		}
+	}
+
+// Running mean and sum of squared differences (Welford), which two sketches can combine exactly.
+
+	private void addStatistic(double aNumber)
+	{
+		mStatCount++;
+		double meanDelta = aNumber - mStatMean;
+		mStatMean += meanDelta / mStatCount;
+		mStatSquares += meanDelta * (aNumber - mStatMean);
+	}
+
+	private void mergeStatistics(DataItemSketch aFollowing)
+	{
+		if (aFollowing.mStatCount > 0)
+		{
+			long statCount = mStatCount + aFollowing.mStatCount;
+			double meanDelta = aFollowing.mStatMean - mStatMean;
+			mStatSquares += aFollowing.mStatSquares + meanDelta * meanDelta * mStatCount * aFollowing.mStatCount / statCount;
+			mStatMean += meanDelta * aFollowing.mStatCount / statCount;
+			mStatCount = statCount;
+		}
+	}
+
+	private void scanType(String aValue)
+	{
+		if (isNumberType())
+		{
+			if (NumberUtils.isParsable(aValue))
+			{
+				int offset = aValue.indexOf(StrUtl.CHAR_DOT);
+				if ((mIsInteger) && (offset != -1))
+					mIsInteger = false;
+			}
+			else
+			{
+				mIsInteger = false;
+				mIsFloat = false;
+			}
+		}
+		if (mIsDate)
+		{
+			Date fieldDate = mDateDetector.detect(aValue);
+			if (fieldDate == null)
+				mIsDate = false;
+			else
+			{
+				mMinDate = Math.min(mMinDate, fieldDate.getTime());
+				mMaxDate = Math.max(mMaxDate, fieldDate.getTime());
+			}
+		}
+		if (mIsBoolean)
+		{
+			if ((! aValue.equalsIgnoreCase(StrUtl.STRING_TRUE)) &&
+				(! aValue.equalsIgnoreCase(StrUtl.STRING_YES)) &&
+				(! aValue.equalsIgnoreCase(StrUtl.STRING_FALSE)) &&
+				(! aValue.equalsIgnoreCase(StrUtl.STRING_NO)))
+				mIsBoolean = false;
+		}
+	}
+
+	/**
+	 * Scans the data value to determine its type and metric information.
+	 *
+	 * @param aValue Data value.
+	 */
+	public void scan(String aValue)
+	{
+		mTotalValues++;
+		if (StringUtils.isNotEmpty(aValue))
+		{
+			scanType(aValue);
+			if (isNumberType())
+			{
+				double numberValue = Data.createDouble(aValue);
+				addStatistic(numberValue);
+				mMinNumber = Math.min(mMinNumber, numberValue);
+				mMaxNumber = Math.max(mMaxNumber, numberValue);
+				sampleNumber(numberValue);
+			}
+			mMinLength = Math.min(mMinLength, aValue.length());
+			mMaxLength = Math.max(mMaxLength, aValue.length());
+			addDistinctHash(valueHash(aValue));
+			mValueCount.merge(aValue, 1L, Long::sum);
+			pruneValueCount();
+		}
+		else
+			mNullCount++;
+	}
+
+// The reservoirs are combined by drawing from each in proportion to the count of numbers
+// it represents, which keeps the merged reservoir a uniform sample of both.
+
+	private void mergeReservoir(DataItemSketch aFollowing)
+	{
+		ArrayList<Double> reservoir1 = new ArrayList<>(mReservoir);
+		ArrayList<Double> reservoir2 = new ArrayList<>(aFollowing.mReservoir);
+		long numberCount1 = mNumberCount;
+		long numberCount2 = aFollowing.mNumberCount;
+		Collections.shuffle(reservoir1, mRandom);
+		Collections.shuffle(reservoir2, mRandom);
+		mReservoir.clear();
+		int sampleSize = Math.min(mReservoirSize, reservoir1.size() + reservoir2.size());
+		int offset1 = 0, offset2 = 0;
+		while (mReservoir.size() < sampleSize)
+		{
+			boolean isFirst;
+			if (offset1 >= reservoir1.size())
+				isFirst = false;
+			else if (offset2 >= reservoir2.size())
+				isFirst = true;
+			else
+				isFirst = mRandom.nextDouble() * (numberCount1 + numberCount2) < numberCount1;
+			if (isFirst)
+			{
+				mReservoir.add(reservoir1.get(offset1++));
+				numberCount1--;
+			}
+			else
+			{
+				mReservoir.add(reservoir2.get(offset2++));
+				numberCount2--;
+			}
+		}
+		mNumberCount += aFollowing.mNumberCount;
+	}
+
+	/**
+	 * Merges the sketch of the rows that follow the ones scanned by this
+	 * sketch.
+	 *
+	 * @param aFollowing Sketch of the following rows.
+	 */
+	public void merge(DataItemSketch aFollowing)
+	{
+		if (isNumberType())
+		{
+			mergeStatistics(aFollowing);
+			mMinNumber = Math.min(mMinNumber, aFollowing.mMinNumber);
+			mMaxNumber = Math.max(mMaxNumber, aFollowing.mMaxNumber);
+			mergeReservoir(aFollowing);
+		}
+		if (mIsDate)
+		{
+			mMinDate = Math.min(mMinDate, aFollowing.mMinDate);
+			mMaxDate = Math.max(mMaxDate, aFollowing.mMaxDate);
+		}
+		mIsDate = mIsDate && aFollowing.mIsDate;
+		mIsFloat = mIsFloat && aFollowing.mIsFloat;
+		mIsInteger = mIsInteger && aFollowing.mIsInteger;
+		mIsBoolean = mIsBoolean && aFollowing.mIsBoolean;
+		mNullCount += aFollowing.mNullCount;
+		mTotalValues += aFollowing.mTotalValues;
+		mMinLength = Math.min(mMinLength, aFollowing.mMinLength);
+		mMaxLength = Math.max(mMaxLength, aFollowing.mMaxLength);
+		aFollowing.mDistinctHashes.forEach(this::addDistinctHash);
+		aFollowing.mValueCount.forEach((k, v) -> mValueCount.merge(k, v, Long::sum));
+		pruneValueCount();
+	}
+
+	/**
+	 * Returns the derived type information once the scanning process
+	 * is complete.
+	 *
+	 * @return Field type.
+	 */
+	public Data.Type getType()
+	{
+		if (mType != Data.Type.Undefined)
+			return mType;
+		else if (mIsBoolean)
+			return Data.Type.Boolean;
+		else if (mIsInteger)
+			return Data.Type.Integer;
+		else if (mIsFloat)
+			return Data.Type.Float;
+		else if (mIsDate)
+			return Data.Type.DateTime;
+		else
+			return Data.Type.Text;
+	}
+
+	/**
+	 * Returns the estimated count of unique values.  The count is exact
+	 * while it remains below the number of retained hashes.
+	 *
+	 * @return Unique value count estimate.
+	 */
+	public long getUniqueCount()
+	{
+		if (mDistinctHashes.size() < DISTINCT_HASH_COUNT)
+			return mDistinctHashes.size();
+
+// Map the k-th smallest hash onto the unit interval to estimate the distinct count.
+
+		double kthFraction = ((double) mDistinctHashes.last() - (double) Long.MIN_VALUE) / Math.pow(2, 64);
+		return Math.round((DISTINCT_HASH_COUNT - 1) / kthFraction);
+	}
+
+	/**
+	 * Returns the median of the sampled numbers or <i>NaN</i> if no numbers
+	 * were sampled.
+	 *
+	 * @return Median estimate.
+	 */
+	public double getMedian()
+	{
+		if (mReservoir.isEmpty())
+			return Double.NaN;
+
+		double[] sampleValues = mReservoir.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+		int midOffset = sampleValues.length / 2;
+		if (sampleValues.length % 2 == 0)
+			return (sampleValues[midOffset-1] + sampleValues[midOffset]) / 2.0;
+		else
+			return sampleValues[midOffset];
+	}
+
+	/**
+	 * Returns a DataDoc of items describing the scanned value data using
+	 * the same layout as {@link DataItemAnalyzer#getDetails(int)}.  The
+	 * median is included for numeric types.
+	 *
+	 * @param aSampleCount Identifies the top count of values.
+	 *
+	 * @return DataDoc instance of analysis details.
+	 */
+	public DataDoc getDetails(int aSampleCount)
+	{
+		String itemName, itemTitle;
+
+		Data.Type dataType = getType();
+		DataDoc dataDoc = new DataDoc(mName);
+		dataDoc.add(new DataItem.Builder().name("name").title("Name").value(mName).build());
+		dataDoc.add(new DataItem.Builder().name("type").title("Type").value(Data.typeToString(dataType)).build());
+		dataDoc.add(new DataItem.Builder().name("total_count").title("Total Count").value(mTotalValues).build());
+		dataDoc.add(new DataItem.Builder().name("unique_count").title("Unique Count").value((int) Math.min(Integer.MAX_VALUE, getUniqueCount())).build());
+		dataDoc.add(new DataItem.Builder().name("null_count").title("Null Count").value(mNullCount).build());
+
+		boolean isScanned = (mTotalValues > mNullCount);
+		if (Data.isBoolean(dataType))
+		{
+			dataDoc.add(new DataItem.Builder().name("minimum").title("Minimum").value(StrUtl.STRING_FALSE).build());
+			dataDoc.add(new DataItem.Builder().name("maximum").title("Maximum").value(StrUtl.STRING_TRUE).build());
+		}
+		else if ((Data.isDateOrTime(dataType)) && (isScanned) && (mMinDate <= mMaxDate))
+		{
+			String formatMask = (dataType == Data.Type.Date) ? Data.FORMAT_DATE_DEFAULT : Data.FORMAT_DATETIME_DEFAULT;
+			dataDoc.add(new DataItem.Builder().name("minimum").title("Minimum").value(Data.dateValueFormatted(new Date(mMinDate), formatMask)).build());
+			dataDoc.add(new DataItem.Builder().name("maximum").title("Maximum").value(Data.dateValueFormatted(new Date(mMaxDate), formatMask)).build());
+		}
+		else if ((Data.isNumber(dataType)) && (isScanned) && (mMinNumber <= mMaxNumber))
+		{
+			dataDoc.add(new DataItem.Builder().name("minimum").title("Minimum").value(String.format("%.2f", mMinNumber)).build());
+			dataDoc.add(new DataItem.Builder().name("maximum").title("Maximum").value(String.format("%.2f", mMaxNumber)).build());
+			if (mStatCount > 0)
+			{
+				dataDoc.add(new DataItem.Builder().name("mean").title("Mean").value(String.format("%.2f", mStatMean)).build());
+				if (mStatCount > 1)
+					dataDoc.add(new DataItem.Builder().name("standard_deviation").title("Deviation").value(String.format("%.2f", Math.sqrt(mStatSquares / (mStatCount - 1)))).build());
+			}
+			double medianValue = getMedian();
+			if (! Double.isNaN(medianValue))
+				dataDoc.add(new DataItem.Builder().name("median").title("Median").value(String.format("%.2f", medianValue)).build());
+		}
+		else if ((isScanned) && (mMinLength <= mMaxLength))
+		{
+			dataDoc.add(new DataItem.Builder().name("minimum").title("Minimum").value(String.format("%.2f", (double) mMinLength)).build());
+			dataDoc.add(new DataItem.Builder().name("maximum").title("Maximum").value(String.format("%.2f", (double) mMaxLength)).build());
+		}
+
+// Create columns for the top sample sizes (value, matching count, matching percentage)
+
+		ArrayList<Map.Entry<String,Long>> entryList = new ArrayList<>(mValueCount.entrySet());
+		entryList.sort((e1, e2) -> {
+			int compareResult = Long.compare(e2.getValue(), e1.getValue());
+			return (compareResult == 0) ? e1.getKey().compareTo(e2.getKey()) : compareResult;
+		});
+		int adjCount = Math.min(aSampleCount, entryList.size());
+		for (int row = 0; row < adjCount; row++)
+		{
+			Map.Entry<String,Long> valueEntry = entryList.get(row);
+			double valuePercentage = (mTotalValues == 0) ? 0.0 : valueEntry.getValue().doubleValue() / mTotalValues * 100.0;
+			itemName = String.format("value_%02d", row+1);
+			itemTitle = String.format("Value %02d", row+1);
+			dataDoc.add(new DataItem.Builder().name(itemName).title(itemTitle).value(StringUtils.trim(valueEntry.getKey())).build());
+			itemName = String.format("count_%02d", row+1);
+			itemTitle = String.format("Count %02d", row+1);
+			dataDoc.add(new DataItem.Builder().type(Data.Type.Integer).name(itemName).title(itemTitle).value(valueEntry.getValue().toString()).build());
+			itemName = String.format("percent_%02d", row+1);
+			itemTitle = String.format("Percent %02d", row+1);
+			dataDoc.add(new DataItem.Builder().type(Data.Type.Double).name(itemName).title(itemTitle).value(String.format("%.2f", valuePercentage)).build());
+		}
+
+		return dataDoc;
+	}
+}
@@ -28,13 +28,15 @@ import com.redis.foundation.std.IOXML;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.*;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
@@ -123,9 +125,7 @@ public class DSCriteriaXML
 
 				dataItem = new DataItem(dsCriterion.getItem());
 				dataItem.addFeature("operator", Data.operatorToString(ce.getLogicalOperator()));
-				mDataItemXML.saveNode(aPW, anIndentAmount+1);
-				mDataItemXML.saveAttr(aPW, dataItem);
-				mDataItemXML.saveValue(aPW, dataItem, anIndentAmount+1);
+				mDataItemXML.saveElement(aPW, dataItem, anIndentAmount+1);
 			}
 		}
 
@@ -178,7 +178,7 @@ public class DSCriteriaXML
 		Attr nodeAttr;
 		DataItem dataItem;
 		Element nodeElement;
-		String nodeName, nodeValue, logicalOperator;
+		String nodeName, nodeValue;
 
 		String className = mDSCriteria.getClass().getName();
 		String attrValue = anElement.getAttribute("type");
@@ -222,18 +222,82 @@ public class DSCriteriaXML
 				nodeElement = (Element) nodeItem;
 				dataItem = mDataItemXML.load(nodeElement);
 				if (dataItem != null)
+					addCriterion(dataItem);
+			}
+		}
+	}
+
+	private void addCriterion(DataItem aDataItem)
+	{
+		String logicalOperator = aDataItem.getFeature("operator");
+		if (StringUtils.isEmpty(logicalOperator))
+			logicalOperator = Data.operatorToString(Data.Operator.EQUAL);
+		mDSCriteria.add(aDataItem, Data.stringToOperator(logicalOperator));
+	}
+
+	/**
+	 * Loads a criteria from the start element the stream reader is
+	 * positioned at.  The reader is left positioned at the matching
+	 * end element.
+	 *
+	 * @param aReader XML stream reader instance.
+	 *
+	 * @throws java.io.IOException I/O related exception.
+	 * @throws javax.xml.stream.XMLStreamException XML parser related exception.
+	 */
+	public void load(XMLStreamReader aReader)
+		throws IOException, XMLStreamException
+	{
+		DataItem dataItem;
+		String nodeName, nodeValue;
+
+		String className = mDSCriteria.getClass().getName();
+		String attrValue = IOXML.getAttrValue(aReader, "type");
+		if ((StringUtils.isNotEmpty(attrValue)) &&
+				(! IO.isTypesEqual(attrValue, className)))
+			throw new IOException("Unsupported type: " + attrValue);
+
+		attrValue = IOXML.getAttrValue(aReader, "name");
+		if (StringUtils.isNotEmpty(attrValue))
+			mDSCriteria.setName(attrValue);
+
+		int attrCount = aReader.getAttributeCount();
+		for (int attrOffset = 0; attrOffset < attrCount; attrOffset++)
+		{
+			nodeName = aReader.getAttributeLocalName(attrOffset);
+			nodeValue = aReader.getAttributeValue(attrOffset);
+
+			if (StringUtils.isNotEmpty(nodeValue))
+			{
+				if ((StringUtils.equalsIgnoreCase(nodeName, "name")) ||
+						(StringUtils.equalsIgnoreCase(nodeName, "type")))
+					continue;
+				else
+					mDSCriteria.addFeature(nodeName, nodeValue);
+			}
+		}
+
+		int eventType = aReader.next();
+		while (eventType != XMLStreamConstants.END_ELEMENT)
+		{
+			if (eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				if (aReader.getLocalName().equalsIgnoreCase(IO.XML_ITEM_NODE_NAME))
 				{
-					logicalOperator = dataItem.getFeature("operator");
-					if (StringUtils.isEmpty(logicalOperator))
-						logicalOperator = Data.operatorToString(Data.Operator.EQUAL);
-					mDSCriteria.add(dataItem, Data.stringToOperator(logicalOperator));
+					dataItem = mDataItemXML.load(aReader);
+					if (dataItem != null)
+						addCriterion(dataItem);
 				}
+				else
+					IOXML.skipElement(aReader);
 			}
+			eventType = aReader.next();
 		}
 	}
 
 	/**
-	 * Parses an XML DOM element and loads it into a bag/table.
+	 * Parses an XML input stream and loads it into a criteria.  The
+	 * stream is read with a StAX parser, so no DOM tree is built.
 	 *
 	 * @param anIS Input stream.
 	 *
@@ -244,13 +308,26 @@ public class DSCriteriaXML
 	public void load(InputStream anIS)
 		throws ParserConfigurationException, IOException, SAXException
 	{
-		DocumentBuilderFactory docBldFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder docBuilder = docBldFactory.newDocumentBuilder();
-		InputSource inputSource = new InputSource(anIS);
-		Document xmlDocument = docBuilder.parse(inputSource);
-		xmlDocument.getDocumentElement().normalize();
-
-		load(xmlDocument.getDocumentElement());
+		XMLStreamReader xmlStreamReader = IOXML.createStreamReader(anIS);
+		try
+		{
+			IOXML.nextRootElement(xmlStreamReader);
+			load(xmlStreamReader);
+		}
+		catch (XMLStreamException e)
+		{
+			throw new IOException(e.getMessage());
+		}
+		finally
+		{
+			try
+			{
+				xmlStreamReader.close();
+			}
+			catch (XMLStreamException ignored)
+			{
+			}
+		}
 	}
 
 	/**
@@ -270,11 +347,9 @@ public class DSCriteriaXML
 		if (! xmlFile.exists())
 			throw new IOException(aPathFileName + ": Does not exist.");
 
-		DocumentBuilderFactory docBldFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder docBuilder = docBldFactory.newDocumentBuilder();
-		Document xmlDocument = docBuilder.parse(new File(aPathFileName));
-		xmlDocument.getDocumentElement().normalize();
-
-		load(xmlDocument.getDocumentElement());
+		try (InputStream inputStream = new BufferedInputStream(new FileInputStream(xmlFile)))
+		{
+			load(inputStream);
+		}
 	}
 }
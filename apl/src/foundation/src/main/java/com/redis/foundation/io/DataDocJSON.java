@@ -24,6 +24,7 @@ import com.google.gson.stream.JsonToken;
 import com.google.gson.stream.JsonWriter;
 import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
+import com.redis.foundation.data.DataGrid;
 import com.redis.foundation.data.DataItem;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
@@ -46,6 +47,8 @@ import java.util.Optional;
  */
 public class DataDocJSON
 {
+	private JsonWriter mJsonWriter;
+
 	/**
 	 * Default constructor.
 	 */
@@ -161,6 +164,40 @@ public class DataDocJSON
 		aWriter.endObject();
 	}
 
+	/**
+	 * Writes the rows of a data grid as objects to a JsonWriter stream.
+	 * The caller is responsible for opening and closing the enclosing
+	 * array, which allows a large data set to be written one page of
+	 * rows at a time.
+	 *
+	 * @param aWriter Json writer stream instance
+	 * @param aDataGrid Data grid instance
+	 *
+	 * @return Count of rows written
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public int save(JsonWriter aWriter, DataGrid aDataGrid)
+		throws IOException
+	{
+		Optional<DataDoc> optDataDoc;
+
+		int rowsWritten = 0;
+		int rowCount = aDataGrid.rowCount();
+		for (int row = 0; row < rowCount; row++)
+		{
+			optDataDoc = aDataGrid.getRowAsDocOptional(row);
+			if (optDataDoc.isPresent())
+			{
+				save(aWriter, optDataDoc.get());
+				rowsWritten++;
+			}
+		}
+		aWriter.flush();
+
+		return rowsWritten;
+	}
+
 	/**
 	 * Writes a data document as an object to a JsonWriter stream.
 	 *
@@ -202,6 +239,68 @@ public class DataDocJSON
 		}
 	}
 
+	/**
+	 * Opens an incremental save operation that writes data documents as
+	 * an array of objects to the output stream.  The rows are then written
+	 * one page at a time via the {@link #saveRows(DataGrid)} method and the
+	 * array is completed with {@link #saveClose()}.
+	 *
+	 * @param anOS Output stream
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public void saveOpen(OutputStream anOS)
+		throws IOException
+	{
+		if (mJsonWriter != null)
+			throw new IOException("Save operation is already open - cannot process");
+
+		mJsonWriter = new JsonWriter(new OutputStreamWriter(anOS, StandardCharsets.UTF_8));
+		mJsonWriter.setIndent(" ");
+		mJsonWriter.beginArray();
+	}
+
+	/**
+	 * Writes the rows of the data grid to the output stream that was
+	 * opened via {@link #saveOpen(OutputStream)}.
+	 *
+	 * @param aDataGrid Data grid instance holding a page of rows
+	 *
+	 * @return Count of rows written
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public int saveRows(DataGrid aDataGrid)
+		throws IOException
+	{
+		if (mJsonWriter == null)
+			throw new IOException("Save operation has not been opened - cannot process");
+
+		return save(mJsonWriter, aDataGrid);
+	}
+
+	/**
+	 * Completes the array of objects and closes the underlying output stream.
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public void saveClose()
+		throws IOException
+	{
+		if (mJsonWriter != null)
+		{
+			try
+			{
+				mJsonWriter.endArray();
+				mJsonWriter.close();
+			}
+			finally
+			{
+				mJsonWriter = null;
+			}
+		}
+	}
+
 	/**
 	 * Writes a data document as an object to file identified by the parameter path file name.
 	 *
@@ -24,14 +24,15 @@ import com.redis.foundation.data.DataItem;
 import com.redis.foundation.std.IOXML;
 import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
-import org.w3c.dom.*;
-import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
@@ -120,7 +121,7 @@ public class DataDocXML
 			for (DataItem dataItem : aDataDoc.getItems())
 			{
 				if (dataItem.isValueAssigned())
-					mDataItemXML.saveValue(aPW, dataItem, anIndentAmount + 1);
+					mDataItemXML.saveElement(aPW, dataItem, anIndentAmount + 1);
 				else
 				{
 					mDataItemXML.saveNode(aPW, anIndentAmount + 1);
@@ -221,67 +222,70 @@ public class DataDocXML
 		}
 	}
 
-	private void loadChild(DataDoc aParentDoc, Element anElement)
-		throws IOException
+	private void loadChild(DataDoc aParentDoc, XMLStreamReader aReader)
+		throws IOException, XMLStreamException
 	{
-		Node nodeItem;
-		String nodeName;
 		DataDoc dataDoc;
-		Element nodeElement;
 
 		mChildNumber++;
-		String attrValue = anElement.getAttribute("name");
+		String attrValue = IOXML.getAttrValue(aReader, "name");
 		if (StringUtils.isEmpty(attrValue))
 			attrValue = String.format("Child %d", mChildNumber);
 
-		NodeList nodeList = anElement.getChildNodes();
-		for (int i = 0; i < nodeList.getLength(); i++)
+		int eventType = aReader.next();
+		while (eventType != XMLStreamConstants.END_ELEMENT)
 		{
-			nodeItem = nodeList.item(i);
-
-			if (nodeItem.getNodeType() != Node.ELEMENT_NODE)
-				continue;
-
-			nodeName = nodeItem.getNodeName();
-			if (nodeName.equalsIgnoreCase(XML_DATADOC_NODE_NAME))
+			if (eventType == XMLStreamConstants.START_ELEMENT)
 			{
-				nodeElement = (Element) nodeItem;
-				dataDoc = loadDataDoc(nodeElement);
-				if (dataDoc.count() > 0)
-					aParentDoc.addChild(attrValue, dataDoc);
+				if (aReader.getLocalName().equalsIgnoreCase(XML_DATADOC_NODE_NAME))
+				{
+					dataDoc = loadDataDoc(aReader);
+					if (dataDoc.count() > 0)
+						aParentDoc.addChild(attrValue, dataDoc);
+				}
+				else
+					IOXML.skipElement(aReader);
 			}
+			eventType = aReader.next();
 		}
 	}
 
-	private DataDoc loadDataDoc(Element anElement)
-		throws IOException
+	/**
+	 * Loads a data document, including its child documents, from the start
+	 * element the stream reader is positioned at.  The reader is left
+	 * positioned at the matching end element, so callers can read a
+	 * sequence of documents while holding only one of them in memory.
+	 *
+	 * @param aReader XML stream reader instance.
+	 *
+	 * @return Data document instance.
+	 *
+	 * @throws IOException I/O related exception.
+	 * @throws XMLStreamException XML parser related exception.
+	 */
+	public DataDoc loadDataDoc(XMLStreamReader aReader)
+		throws IOException, XMLStreamException
 	{
-		Node nodeItem;
-		Attr nodeAttr;
-		DataItem dataItem;
-		Element nodeElement;
 		String nodeName, nodeValue;
 
 		DataDoc dataDoc = new DataDoc("Data Document");
 		String className = dataDoc.getClass().getName();
-		String attrValue = anElement.getAttribute("type");
+		String attrValue = IOXML.getAttrValue(aReader, "type");
 		if ((StringUtils.isNotEmpty(attrValue)) && (! IO.isTypesEqual(attrValue, className)))
 			throw new IOException("Unsupported type: " + attrValue);
 
-		attrValue = anElement.getAttribute("name");
+		attrValue = IOXML.getAttrValue(aReader, "name");
 		if (StringUtils.isNotEmpty(attrValue))
 			dataDoc.setName(attrValue);
-		attrValue = anElement.getAttribute("title");
+		attrValue = IOXML.getAttrValue(aReader, "title");
 		if (StringUtils.isNotEmpty(attrValue))
 			dataDoc.setTitle(attrValue);
 
-		NamedNodeMap namedNodeMap = anElement.getAttributes();
-		int attrCount = namedNodeMap.getLength();
+		int attrCount = aReader.getAttributeCount();
 		for (int attrOffset = 0; attrOffset < attrCount; attrOffset++)
 		{
-			nodeAttr = (Attr) namedNodeMap.item(attrOffset);
-			nodeName = nodeAttr.getNodeName();
-			nodeValue = nodeAttr.getNodeValue();
+			nodeName = aReader.getAttributeLocalName(attrOffset);
+			nodeValue = aReader.getAttributeValue(attrOffset);
 
 			if (StringUtils.isNotEmpty(nodeValue))
 			{
@@ -296,34 +300,32 @@ public class DataDocXML
 			}
 		}
 
-		NodeList nodeList = anElement.getChildNodes();
-		for (int i = 0; i < nodeList.getLength(); i++)
+		int eventType = aReader.next();
+		while (eventType != XMLStreamConstants.END_ELEMENT)
 		{
-			nodeItem = nodeList.item(i);
-
-			if (nodeItem.getNodeType() != Node.ELEMENT_NODE)
-				continue;
-
-			nodeName = nodeItem.getNodeName();
-			if (nodeName.equalsIgnoreCase(IO.XML_ITEM_NODE_NAME))
-			{
-				nodeElement = (Element) nodeItem;
-				dataItem = mDataItemXML.load(nodeElement);
-				if (dataItem != null)
-					dataDoc.add(dataItem);
-			}
-			else if (nodeName.equalsIgnoreCase(IO.XML_CHILD_NODE_NAME))
+			if (eventType == XMLStreamConstants.START_ELEMENT)
 			{
-				nodeElement = (Element) nodeItem;
-				loadChild(dataDoc, nodeElement);
+				nodeName = aReader.getLocalName();
+				if (nodeName.equalsIgnoreCase(IO.XML_ITEM_NODE_NAME))
+				{
+					DataItem dataItem = mDataItemXML.load(aReader);
+					if (dataItem != null)
+						dataDoc.add(dataItem);
+				}
+				else if (nodeName.equalsIgnoreCase(IO.XML_CHILD_NODE_NAME))
+					loadChild(dataDoc, aReader);
+				else
+					IOXML.skipElement(aReader);
 			}
+			eventType = aReader.next();
 		}
 
 		return dataDoc;
 	}
 
 	/**
-	 * Parses an XML DOM element and loads it into a data document instance.
+	 * Parses an XML input stream and loads it into a data document instance.
+	 * The stream is read with a StAX parser, so no DOM tree is built.
 	 *
 	 * @param anIS Input stream.
 	 *
@@ -334,13 +336,26 @@ public class DataDocXML
 	public void load(InputStream anIS)
 		throws ParserConfigurationException, IOException, SAXException
 	{
-		DocumentBuilderFactory docBldFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder docBuilder = docBldFactory.newDocumentBuilder();
-		InputSource inputSource = new InputSource(anIS);
-		Document xmlDocument = docBuilder.parse(inputSource);
-		xmlDocument.getDocumentElement().normalize();
-
-		mDataDoc = loadDataDoc(xmlDocument.getDocumentElement());
+		XMLStreamReader xmlStreamReader = IOXML.createStreamReader(anIS);
+		try
+		{
+			IOXML.nextRootElement(xmlStreamReader);
+			mDataDoc = loadDataDoc(xmlStreamReader);
+		}
+		catch (XMLStreamException e)
+		{
+			throw new IOException(e.getMessage());
+		}
+		finally
+		{
+			try
+			{
+				xmlStreamReader.close();
+			}
+			catch (XMLStreamException ignored)
+			{
+			}
+		}
 	}
 
 	/**
@@ -360,11 +375,9 @@ public class DataDocXML
 		if (! xmlFile.exists())
 			throw new IOException(aPathFileName + ": Does not exist.");
 
-		DocumentBuilderFactory docBldFactory = DocumentBuilderFactory.newInstance();
-		DocumentBuilder docBuilder = docBldFactory.newDocumentBuilder();
-		Document xmlDocument = docBuilder.parse(new File(aPathFileName));
-		xmlDocument.getDocumentElement().normalize();
-
-		mDataDoc = loadDataDoc(xmlDocument.getDocumentElement());
+		try (InputStream inputStream = new BufferedInputStream(new FileInputStream(xmlFile)))
+		{
+			load(inputStream);
+		}
 	}
 }
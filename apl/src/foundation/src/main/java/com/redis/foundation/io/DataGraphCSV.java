@@ -26,8 +26,11 @@ import com.redis.foundation.data.*;
 import org.apache.commons.io.FilenameUtils;
 
 import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -256,36 +259,20 @@ public class DataGraphCSV
 							 graphStructure, graphData, Data.titleToName(aDataGraph.getName()));
 	}
 
-	private int createGraphSchemaDocs(DataGrid aDataGrid)
+	private void addGraphSchemaDoc(DataDoc aColumns, DataDoc aRowDoc)
 	{
-		DataDoc dataDoc;
 		Optional<DataItem> optDataItem;
 
-		int rowOffset = 0;	// skip the header row
-		DataDoc dgSchemaDoc = aDataGrid.getColumns();
-		int rowCount = aDataGrid.rowCount();
-		for (int row = 0; row < rowCount; row++)
+		DataDoc schemaDoc = new DataDoc(aRowDoc.getValueByName("label_name"));
+		for (String itemName : aRowDoc.getValuesByName("schema_items"))
 		{
-			dataDoc = aDataGrid.getRowAsDoc(row);
-			if (dataDoc.getValueByName("row_type").equals(ROW_TYPE_SCHEMA))
-			{
-				rowOffset = row;
-				DataDoc schemaDoc = new DataDoc(dataDoc.getValueByName("label_name"));
-				for (String itemName : dataDoc.getValuesByName("schema_items"))
-				{
-					optDataItem = dgSchemaDoc.getItemByNameOptional(itemName);
-					optDataItem.ifPresent(schemaDoc::add);
-				}
-				mSchemaMap.put(schemaDoc.getName(), schemaDoc);
-			}
-			else
-				break;
+			optDataItem = aColumns.getItemByNameOptional(itemName);
+			optDataItem.ifPresent(schemaDoc::add);
 		}
-
-		return rowOffset;
+		mSchemaMap.put(schemaDoc.getName(), schemaDoc);
 	}
 
-	private DataDoc createGraphDoc(DataGrid aDataGrid, DataDoc aRowDoc, int aColOffset)
+	private DataDoc createGraphDoc(DataDoc aColumns, DataDoc aRowDoc, int aColOffset)
 	{
 		DataDoc dataDoc = null;
 
@@ -299,7 +286,7 @@ public class DataGraphCSV
 
 		if (dataDoc == null)
 		{
-			dataDoc = new DataDoc(aDataGrid.getColumns());
+			dataDoc = new DataDoc(aColumns);
 			dataDoc.setName(labelName);
 		}
 
@@ -313,9 +300,126 @@ public class DataGraphCSV
 		return dataDoc;
 	}
 
+	private <T> T vertexByName(HashMap<String, T> aVertexMap, String aName)
+		throws FCException
+	{
+		T vertex = aVertexMap.get(aName);
+		if (vertex == null)
+			throw new FCException(String.format("Vertex not found: %s", aName));
+
+		return vertex;
+	}
+
+	private void loadVertexes(DataGraph aDataGraph, Reader aReader, HashMap<String, DataDoc> aVertexDocMap,
+							  HashMap<String, DataItem> aVertexItemMap)
+		throws FCException, IOException
+	{
+		DataDoc vertexDoc;
+		String labelName;
+		DataItem vertexItem;
+		Optional<DataDoc> optDataDoc;
+		Optional<DataItem> optDataItem;
+
+		DataGridCSV dataGridCSV = new DataGridCSV();
+		dataGridCSV.setMultiValueDelimiterChar(mDelimiterChar);
+		DataDoc dgColumns = dataGridCSV.loadOpen(aReader, true);
+		try
+		{
+			boolean isVertexDataDoc = aDataGraph.isVertexDataDoc();
+			mSchemaMap.clear();
+			optDataDoc = dataGridCSV.loadRow();
+			while (optDataDoc.isPresent())
+			{
+				DataDoc rowDoc = optDataDoc.get();
+				if (isVertexDataDoc)
+				{
+					if (rowDoc.getValueByName("row_type").equals(ROW_TYPE_SCHEMA))
+						addGraphSchemaDoc(dgColumns, rowDoc);
+					else
+					{
+						vertexDoc = createGraphDoc(dgColumns, rowDoc, 3);
+						aDataGraph.addVertex(vertexDoc);
+						aVertexDocMap.putIfAbsent(vertexDoc.getName(), vertexDoc);
+					}
+				}
+				else
+				{
+					labelName = rowDoc.getValueByName("label_name");
+					optDataItem = rowDoc.getItemByNameOptional(labelName);
+					if (optDataItem.isPresent())
+					{
+						vertexItem = optDataItem.get();
+						aDataGraph.addVertex(vertexItem);
+						aVertexItemMap.putIfAbsent(vertexItem.getName(), vertexItem);
+					}
+				}
+				optDataDoc = dataGridCSV.loadRow();
+			}
+		}
+		finally
+		{
+			dataGridCSV.loadClose();
+		}
+	}
+
+	private void loadEdges(DataGraph aDataGraph, Reader aReader, HashMap<String, DataDoc> aVertexDocMap,
+						   HashMap<String, DataItem> aVertexItemMap)
+		throws FCException, IOException
+	{
+		Optional<DataDoc> optDataDoc;
+		String srcVertexName, dstVertexName;
+
+		DataGridCSV dataGridCSV = new DataGridCSV();
+		dataGridCSV.setMultiValueDelimiterChar(mDelimiterChar);
+		DataDoc dgColumns = dataGridCSV.loadOpen(aReader, true);
+		try
+		{
+			Data.GraphData graphData = aDataGraph.getDataModel();
+			mSchemaMap.clear();
+			optDataDoc = dataGridCSV.loadRow();
+			while (optDataDoc.isPresent())
+			{
+				DataDoc rowDoc = optDataDoc.get();
+				srcVertexName = rowDoc.getValueByName("src_vertex_name");
+				dstVertexName = rowDoc.getValueByName("dst_vertex_name");
+				if (graphData == Data.GraphData.DocDoc)
+				{
+					if (rowDoc.getValueByName("row_type").equals(ROW_TYPE_SCHEMA))
+						addGraphSchemaDoc(dgColumns, rowDoc);
+					else
+						aDataGraph.addEdge(vertexByName(aVertexDocMap, srcVertexName), vertexByName(aVertexDocMap, dstVertexName),
+										   createGraphDoc(dgColumns, rowDoc, 6));
+				}
+				else if (graphData == Data.GraphData.DocItem)
+				{
+					if (rowDoc.count() > 3)
+						aDataGraph.addEdge(vertexByName(aVertexDocMap, srcVertexName), vertexByName(aVertexDocMap, dstVertexName),
+										   rowDoc.getItemByOffset(3));
+				}
+				else // Data.GraphData.ItemItem
+				{
+					if (rowDoc.count() > 3)
+						aDataGraph.addEdge(vertexByName(aVertexItemMap, srcVertexName), vertexByName(aVertexItemMap, dstVertexName),
+										   rowDoc.getItemByOffset(3));
+				}
+				optDataDoc = dataGridCSV.loadRow();
+			}
+		}
+		finally
+		{
+			dataGridCSV.loadClose();
+		}
+	}
+
 	/**
 	 * Loads an optional data graph instance from the specified file name using
 	 * the header row as a schema definition if set to <i>true</i>.
+	 * <p>
+	 * Both files are streamed one row at a time directly into the data graph.
+	 * Edge endpoints are resolved through a vertex name map that is built while
+	 * the vertexes are being added, so the load time is linear in the count of
+	 * vertexes and edges and the CSV rows are never materialized as data grids.
+	 * </p>
 	 *
 	 * @param aVertexesPathFileName Path file name identifying a graph vertexes CSV file
 	 * @param anEdgesPathFileName Path file name identifying a graph edges CSV file
@@ -328,115 +432,38 @@ public class DataGraphCSV
 	public Optional<DataGraph> load(String aVertexesPathFileName, String anEdgesPathFileName)
 		throws FCException, IOException
 	{
-		int rowCount;
-		DataGrid dgVertexes, dgEdges;
-		DataItem srcDataItem, dstDataItem;
-		String srcVertexName, dstVertexName;
-		DataDoc dataDoc, srcDataDoc, dstDataDoc;
-
 		if (! isPathFileNameValid(aVertexesPathFileName))
 			throw new FCException(String.format("Invalid graph vertexes file name: %s", aVertexesPathFileName));
 		if (! isPathFileNameValid(anEdgesPathFileName))
 			throw new FCException(String.format("Invalid graph edges file name: %s", anEdgesPathFileName));
 
-		DataGridCSV dataGridCSV = new DataGridCSV();
-		dataGridCSV.setMultiValueDelimiterChar(mDelimiterChar);
-		Optional<DataGrid> optDataGrid = dataGridCSV.load(aVertexesPathFileName, true);
-		if (optDataGrid.isPresent())
-		{
-			dgVertexes = optDataGrid.get();
-			dgVertexes.setName("Data Graph Vertexes");
-		}
-		else
-			throw new FCException(String.format("Unable to load graph vertexes CSV file name: %s", aVertexesPathFileName));
-
-		dataGridCSV = new DataGridCSV();
-		dataGridCSV.setMultiValueDelimiterChar(mDelimiterChar);
-		optDataGrid = dataGridCSV.load(anEdgesPathFileName, true);
-		if (optDataGrid.isPresent())
-		{
-			dgEdges = optDataGrid.get();
-			dgEdges.setName("Data Graph Edges");
-		}
-		else
-			throw new FCException(String.format("Unable to load graph edges CSV file name: %s", anEdgesPathFileName));
-
 		String graphName = graphNameFromFileName(aVertexesPathFileName);
 		Data.GraphData graphData = graphDataFromFileName(aVertexesPathFileName);
 		Data.GraphStructure graphStructure = graphStructureFromFileName(aVertexesPathFileName);
 		DataGraph dataGraph = new DataGraph(graphName, graphStructure, graphData);
+		HashMap<String, DataDoc> vertexDocMap = new HashMap<>();
+		HashMap<String, DataItem> vertexItemMap = new HashMap<>();
 
 // First, we will add the vertexes to the DataGraph.
 
-		if ((graphData == Data.GraphData.DocDoc) || (graphData == Data.GraphData.DocItem))
+		try (FileReader fileReader = new FileReader(aVertexesPathFileName, StandardCharsets.UTF_8))
 		{
-			mSchemaMap.clear();
-			int rowOffset = createGraphSchemaDocs(dgVertexes);
-			rowCount = dgVertexes.rowCount();
-			for (int row = rowOffset+1; row < rowCount; row++)
-			{
-				dataDoc = dgVertexes.getRowAsDoc(row);
-				dataGraph.addVertex(createGraphDoc(dgVertexes, dataDoc, 3));
-			}
+			loadVertexes(dataGraph, fileReader, vertexDocMap, vertexItemMap);
 		}
-		else
+		catch (FileNotFoundException e)
 		{
-			String labelName;
-			Optional<DataItem> optDataItem;
-
-			rowCount = dgVertexes.rowCount();
-			for (int row = 0; row < rowCount; row++)
-			{
-				dataDoc = dgVertexes.getRowAsDoc(row);
-				labelName = dataDoc.getValueByName("label_name");
-				optDataItem = dataDoc.getItemByNameOptional(labelName);
-				if (optDataItem.isPresent())
-					dataGraph.addVertex(optDataItem.get());
-			}
+			throw new FCException(String.format("Unable to load graph vertexes CSV file name: %s", aVertexesPathFileName));
 		}
 
 // Next, we will add the edges to the DataGraph.
 
-		rowCount = dgEdges.rowCount();
-		if (graphData == Data.GraphData.DocDoc)
+		try (FileReader fileReader = new FileReader(anEdgesPathFileName, StandardCharsets.UTF_8))
 		{
-			mSchemaMap.clear();
-			int rowOffset = createGraphSchemaDocs(dgEdges);
-			for (int row = rowOffset+1; row < rowCount; row++)
-			{
-				dataDoc = dgEdges.getRowAsDoc(row);
-				srcVertexName = dataDoc.getValueByName("src_vertex_name");
-				srcDataDoc = dataGraph.getVertexDocByName(srcVertexName);
-				dstVertexName = dataDoc.getValueByName("dst_vertex_name");
-				dstDataDoc = dataGraph.getVertexDocByName(dstVertexName);
-				dataGraph.addEdge(srcDataDoc, dstDataDoc, createGraphDoc(dgEdges, dataDoc, 6));
-			}
+			loadEdges(dataGraph, fileReader, vertexDocMap, vertexItemMap);
 		}
-		else if (graphData == Data.GraphData.DocItem)
+		catch (FileNotFoundException e)
 		{
-			for (int row = 0; row < rowCount; row++)
-			{
-				dataDoc = dgEdges.getRowAsDoc(row);
-				srcVertexName = dataDoc.getValueByName("src_vertex_name");
-				srcDataDoc = dataGraph.getVertexDocByName(srcVertexName);
-				dstVertexName = dataDoc.getValueByName("dst_vertex_name");
-				dstDataDoc = dataGraph.getVertexDocByName(dstVertexName);
-				if (dataDoc.count() > 3)
-					dataGraph.addEdge(srcDataDoc, dstDataDoc, dataDoc.getItemByOffset(3));
-			}
-		}
-		else // Data.GraphData.ItemItem
-		{
-			for (int row = 0; row < rowCount; row++)
-			{
-				dataDoc = dgEdges.getRowAsDoc(row);
-				srcVertexName = dataDoc.getValueByName("src_vertex_name");
-				srcDataItem = dataGraph.getVertexItemByName(srcVertexName);
-				dstVertexName = dataDoc.getValueByName("dst_vertex_name");
-				dstDataItem = dataGraph.getVertexItemByName(dstVertexName);
-				if (dataDoc.count() > 3)
-					dataGraph.addEdge(srcDataItem, dstDataItem, dataDoc.getItemByOffset(3));
-			}
+			throw new FCException(String.format("Unable to load graph edges CSV file name: %s", anEdgesPathFileName));
 		}
 
 		return Optional.of(dataGraph);
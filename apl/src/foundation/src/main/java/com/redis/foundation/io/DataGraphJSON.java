@@ -29,6 +29,7 @@ import org.apache.commons.lang.StringUtils;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.Optional;
 
 /**
@@ -42,11 +43,14 @@ import java.util.Optional;
  */
 public class DataGraphJSON
 {
+	private final DataDocJSON mDataDocJSON;
+
 	/**
 	 * Default constructor.
 	 */
 	public DataGraphJSON()
 	{
+		mDataDocJSON = new DataDocJSON();
 	}
 
 	/**
@@ -62,8 +66,6 @@ public class DataGraphJSON
 	public void save(JsonWriter aWriter, DataGraph aDataGraph, DataGraphEdge aDataGraphEdge)
 		throws IOException, FCException
 	{
-		DataDocJSON dataDocJSON = new DataDocJSON();
-
 		aWriter.beginObject();
 		JSONUtil.writeNameValue(aWriter, "edge_name", aDataGraphEdge.getName());
 		if (aDataGraph.isEdgeDataDoc())
@@ -73,7 +75,7 @@ public class DataGraphJSON
 			JSONUtil.writeNameValue(aWriter, "src_vertex_name", srcVertex.getName());
 			JSONUtil.writeNameValue(aWriter, "dst_vertex_name", dstVertex.getName());
 			aWriter.name("graph_document");
-			dataDocJSON.save(aWriter, aDataGraphEdge.getDoc());
+			mDataDocJSON.save(aWriter, aDataGraphEdge.getDoc());
 		}
 		else
 		{
@@ -81,13 +83,15 @@ public class DataGraphJSON
 			DataItem dstVertex = aDataGraph.getEdgeItemDestination(aDataGraphEdge);
 			JSONUtil.writeNameValue(aWriter, "src_vertex_name", srcVertex.getName());
 			JSONUtil.writeNameValue(aWriter, "dst_vertex_name", dstVertex.getName());
-			dataDocJSON.save(aWriter, aDataGraphEdge.getItem());
+			mDataDocJSON.save(aWriter, aDataGraphEdge.getItem());
 		}
 		aWriter.endObject();
 	}
 
 	/**
-	 * Writes a data graph as an object to a JsonWriter stream.
+	 * Writes a data graph as an object to a JsonWriter stream.  The vertexes
+	 * and edges are written while iterating the graph's own vertex and edge
+	 * sets, so no intermediate copies of them are made.
 	 *
 	 * @param aWriter Json write stream
 	 * @param aDataGraph Data graph instance
@@ -98,8 +102,6 @@ public class DataGraphJSON
 	public void save(JsonWriter aWriter, DataGraph aDataGraph)
 		throws IOException, FCException
 	{
-		DataDocJSON dataDocJSON = new DataDocJSON();
-
 		aWriter.beginObject();
 
 		JSONUtil.writeNameValue(aWriter, "graph_name", aDataGraph.getName());
@@ -111,13 +113,13 @@ public class DataGraphJSON
 		if (aDataGraph.isVertexDataDoc())
 		{
 			for (DataDoc dataDoc : aDataGraph.getVertexDocSet())
-				dataDocJSON.save(aWriter, dataDoc);
+				mDataDocJSON.save(aWriter, dataDoc);
 		}
 		else
 		{
 			aWriter.beginObject();
 			for (DataItem dataItem : aDataGraph.getVertexItemSet())
-				dataDocJSON.save(aWriter, dataItem);
+				mDataDocJSON.save(aWriter, dataItem);
 			aWriter.endObject();
 		}
 		aWriter.endArray();
@@ -143,8 +145,8 @@ public class DataGraphJSON
 	public void save(OutputStream anOS, DataGraph aDataGraph)
 		throws IOException, FCException
 	{
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(anOS, StandardCharsets.UTF_8);
-		try (JsonWriter jsonWriter = new JsonWriter(outputStreamWriter))
+		Writer streamWriter = new BufferedWriter(new OutputStreamWriter(anOS, StandardCharsets.UTF_8));
+		try (JsonWriter jsonWriter = new JsonWriter(streamWriter))
 		{
 			jsonWriter.setIndent(" ");
 			save(jsonWriter, aDataGraph);
@@ -178,24 +180,42 @@ public class DataGraphJSON
 			return null;
 	}
 
-	private void loadVertexes(JsonReader aReader, DataGraph aDataGraph)
+	private <T> T vertexByName(HashMap<String, T> aVertexMap, String aName)
+		throws FCException
+	{
+		T vertex = aVertexMap.get(aName);
+		if (vertex == null)
+			throw new FCException(String.format("Vertex not found: %s", aName));
+
+		return vertex;
+	}
+
+	private void addVertex(DataGraph aDataGraph, DataItem aDataItem, HashMap<String, DataItem> aVertexItemMap)
+		throws FCException
+	{
+		aDataGraph.addVertex(aDataItem);
+		aVertexItemMap.putIfAbsent(aDataItem.getName(), aDataItem);
+	}
+
+	private void loadVertexes(JsonReader aReader, DataGraph aDataGraph, HashMap<String, DataDoc> aVertexDocMap,
+							  HashMap<String, DataItem> aVertexItemMap)
 		throws IOException, FCException
 	{
 		if (aDataGraph == null)
 			throw new FCException("JSON parser: cannot load vertexes - data graph is null");
 
-		DataDocJSON dataDocJSON = new DataDocJSON();
 		aReader.beginArray();
 		if (aDataGraph.isVertexDataDoc())
 		{
 			DataDoc dataDoc;
 
 			int vertexId = 1;
-			while (dataDocJSON.isNextTokenAnObject(aReader))
+			while (mDataDocJSON.isNextTokenAnObject(aReader))
 			{
 				dataDoc = new DataDoc(String.format("Vertex %d", vertexId++));
-				dataDocJSON.load(aReader, dataDoc);
+				mDataDocJSON.load(aReader, dataDoc);
 				aDataGraph.addVertex(dataDoc);
+				aVertexDocMap.putIfAbsent(dataDoc.getName(), dataDoc);
 			}
 		}
 		else
@@ -213,16 +233,16 @@ public class DataGraphJSON
 				switch (jsonToken)
 				{
 					case BOOLEAN:
-						dataItem = dataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
-						aDataGraph.addVertex(dataItem);
+						dataItem = mDataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
+						addVertex(aDataGraph, dataItem, aVertexItemMap);
 						break;
 					case NUMBER:
-						dataItem = dataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
-						aDataGraph.addVertex(dataItem);
+						dataItem = mDataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
+						addVertex(aDataGraph, dataItem, aVertexItemMap);
 						break;
 					case STRING:
-						dataItem = dataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
-						aDataGraph.addVertex(dataItem);
+						dataItem = mDataDocJSON.createByTokenType(aReader, jsonToken, jsonName, jsonTitle);
+						addVertex(aDataGraph, dataItem, aVertexItemMap);
 						break;
 					case NULL:
 						aReader.nextNull();
@@ -233,11 +253,11 @@ public class DataGraphJSON
 						jsonToken = aReader.peek();
 						while (jsonToken != JsonToken.END_ARRAY)
 						{
-							dataDocJSON.assignValueByTokenType(aReader, jsonToken, dataItem);
+							mDataDocJSON.assignValueByTokenType(aReader, jsonToken, dataItem);
 							jsonToken = aReader.peek();
 						}
 						aReader.endArray();
-						aDataGraph.addVertex(dataItem);
+						addVertex(aDataGraph, dataItem, aVertexItemMap);
 						break;
 					default:
 						aReader.skipValue();
@@ -250,7 +270,8 @@ public class DataGraphJSON
 		aReader.endArray();
 	}
 
-	private void loadEdges(JsonReader aReader, DataGraph aDataGraph)
+	private void loadEdges(JsonReader aReader, DataGraph aDataGraph, HashMap<String, DataDoc> aVertexDocMap,
+						   HashMap<String, DataItem> aVertexItemMap)
 		throws IOException, FCException
 	{
 		DataDoc dataDoc;
@@ -258,20 +279,19 @@ public class DataGraphJSON
 		if (aDataGraph == null)
 			throw new FCException("JSON parser: cannot load edges - data graph is null");
 
-		DataDocJSON dataDocJSON = new DataDocJSON();
 		aReader.beginArray();
 
 		int edgeId = 1;
-		while (dataDocJSON.isNextTokenAnObject(aReader))
+		while (mDataDocJSON.isNextTokenAnObject(aReader))
 		{
 			dataDoc = new DataDoc(String.format("Edge %d", edgeId++));
-			dataDocJSON.load(aReader, dataDoc);
+			mDataDocJSON.load(aReader, dataDoc);
 			if ((aDataGraph.isEdgeDataDoc()) && (dataDoc.childrenCount() ==1))
 			{
 				DataDoc srcDataDoc, dstDataDoc, edgeDataDoc;
 
-				srcDataDoc = aDataGraph.getVertexDocByName(dataDoc.getValueByName("src_vertex_name"));
-				dstDataDoc = aDataGraph.getVertexDocByName(dataDoc.getValueByName("dst_vertex_name"));
+				srcDataDoc = vertexByName(aVertexDocMap, dataDoc.getValueByName("src_vertex_name"));
+				dstDataDoc = vertexByName(aVertexDocMap, dataDoc.getValueByName("dst_vertex_name"));
 				edgeDataDoc = dataDoc.getChildDocsAsList().get(0);
 				aDataGraph.addEdge(srcDataDoc, dstDataDoc, edgeDataDoc);
 			}
@@ -280,8 +300,8 @@ public class DataGraphJSON
 				DataItem edgeDataItem;
 				DataItem srcDataItem, dstDataItem;
 
-				srcDataItem = aDataGraph.getVertexItemByName(dataDoc.getValueByName("src_vertex_name"));
-				dstDataItem = aDataGraph.getVertexItemByName(dataDoc.getValueByName("dst_vertex_name"));
+				srcDataItem = vertexByName(aVertexItemMap, dataDoc.getValueByName("src_vertex_name"));
+				dstDataItem = vertexByName(aVertexItemMap, dataDoc.getValueByName("dst_vertex_name"));
 				edgeDataItem = dataDoc.getItemByOffset(3);
 				aDataGraph.addEdge(srcDataItem, dstDataItem, edgeDataItem);
 			}
@@ -294,6 +314,9 @@ public class DataGraphJSON
 
 	/**
 	 * Loads a JSON object from the JsonReader stream into an optional data graph instance.
+	 * Vertexes are added to the graph as they are parsed and edge endpoints are
+	 * resolved through a vertex name map, so the load time is linear in the count
+	 * of vertexes and edges.
 	 *
 	 * @param anIS Input stream
 	 *
@@ -309,7 +332,9 @@ public class DataGraphJSON
 		String graphName = StringUtils.EMPTY;
 		Data.GraphData graphData = Data.GraphData.Undefined;
 		Data.GraphStructure graphStructure = Data.GraphStructure.Undefined;
-		InputStreamReader inputStreamReader = new InputStreamReader(anIS);
+		HashMap<String, DataDoc> vertexDocMap = new HashMap<>();
+		HashMap<String, DataItem> vertexItemMap = new HashMap<>();
+		InputStreamReader inputStreamReader = new InputStreamReader(anIS, StandardCharsets.UTF_8);
 		JsonReader jsonReader = new JsonReader(inputStreamReader);
 
 		DataGraph dataGraph = null;
@@ -333,10 +358,10 @@ public class DataGraphJSON
 					dataGraph = createGraph(graphName, graphStructure, graphData);
 					break;
 				case "graph_vertexes":
-					loadVertexes(jsonReader, dataGraph);
+					loadVertexes(jsonReader, dataGraph, vertexDocMap, vertexItemMap);
 					break;
 				case "graph_edges":
-					loadEdges(jsonReader, dataGraph);
+					loadEdges(jsonReader, dataGraph, vertexDocMap, vertexItemMap);
 					break;
 				default:
 					jsonReader.skipValue();
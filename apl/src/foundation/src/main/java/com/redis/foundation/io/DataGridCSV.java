@@ -20,6 +20,7 @@
 package com.redis.foundation.io;
 
 import com.redis.foundation.data.*;
+import com.redis.foundation.std.DateDetector;
 import com.redis.foundation.std.StrUtl;
 import com.redis.foundation.data.*;
 import org.apache.commons.lang3.StringUtils;
@@ -31,6 +32,8 @@ import org.xml.sax.SAXException;
 import javax.xml.parsers.ParserConfigurationException;
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -58,6 +61,10 @@ public class DataGridCSV
 	private boolean mIsRowNumberPrimaryKey;
 	private char mDelimiterChar = StrUtl.CHAR_NULL;
 	private FileFormat mInputFormat = FileFormat.MSExcel;
+	private CsvListReader mCsvListReader;
+	private CsvListWriter mCsvListWriter;
+	private HashMap<String, DateDetector> mDateDetectorMap;
+	private String[] mRowCells;
 
 	/**
 	 * Default constructor
@@ -258,6 +265,59 @@ public class DataGridCSV
 		return dataDoc;
 	}
 
+	private void addColumns(String[] aColumnHeaders)
+	{
+		if ((aColumnHeaders != null) && (mDataGrid.colCount() == 0))
+		{
+			int colCount = 0;
+			for (String columnName : aColumnHeaders)
+			{
+				colCount++;
+				mDataGrid.addCol(dataTypeLabelToDataItem(columnName, colCount));
+			}
+		}
+	}
+
+	private void addRowCells(List<String> aRowCells, HashMap<String, DateDetector> aDateDetectorMap)
+	{
+		Date cellDate;
+		String cellValue;
+		ArrayList<String> valueList;
+
+		int colOffset = 0;
+		int adjColCount = Math.min(aRowCells.size(), mDataGrid.colCount());
+		mDataGrid.newRow();
+		for (DataItem di : mDataGrid.getColumns().getItems())
+		{
+			if (colOffset < adjColCount)
+			{
+				cellValue = aRowCells.get(colOffset++);
+				if ((mDelimiterChar != StrUtl.CHAR_NULL) &&
+					(StrUtl.isMultiValue(cellValue, mDelimiterChar)))
+				{
+					valueList = StrUtl.expandToList(cellValue, mDelimiterChar);
+					mDataGrid.setValuesByName(di.getName(), valueList);
+				}
+				else
+				{
+					if ((Data.isDateOrTime(di.getType())) && (StringUtils.isNotEmpty(mDateTimeFormat)))
+					{
+						cellDate = aDateDetectorMap.computeIfAbsent(di.getName(), n -> new DateDetector(mDateTimeFormat)).detect(cellValue);
+						if (cellDate == null)
+							mDataGrid.setValueByName(di.getName(), cellValue);
+						else
+							mDataGrid.setValueByName(di.getName(), cellDate);
+					}
+					else
+						mDataGrid.setValueByName(di.getName(), cellValue);
+				}
+			}
+			else
+				break;
+		}
+		mDataGrid.addRow();
+	}
+
 	/**
 	 * Loads an optional data grid instance from an input reader stream.
 	 *
@@ -273,59 +333,17 @@ public class DataGridCSV
 	{
 		try (CsvListReader csvListReader = new CsvListReader(aReader, fileFormatToCsvPreference()))
 		{
-			int colOffset;
-			String cellValue;
-			DataItem dataItem;
 			List<String> rowCells;
-			int colCount, adjColCount;
-			ArrayList<String> valueList;
-			String[] columnHeaders = null;
+			HashMap<String, DateDetector> dateDetectorMap = new HashMap<>();
 
 			if (aWithHeaders)
-				columnHeaders = csvListReader.getHeader(aWithHeaders);
-			colCount = mDataGrid.colCount();
-			if ((columnHeaders != null) && (colCount == 0))
-			{
-				for (String columnName : columnHeaders)
-				{
-					colCount++;
-					dataItem = dataTypeLabelToDataItem(columnName, colCount);
-					mDataGrid.addCol(dataItem);
-				}
-			}
+				addColumns(csvListReader.getHeader(aWithHeaders));
 
 			do
 			{
 				rowCells = csvListReader.read();
 				if (rowCells != null)
-				{
-					colOffset = 0;
-					adjColCount = Math.min(rowCells.size(), colCount);
-					mDataGrid.newRow();
-					for (DataItem di : mDataGrid.getColumns().getItems())
-					{
-						if (colOffset < adjColCount)
-						{
-							cellValue = rowCells.get(colOffset++);
-							if ((mDelimiterChar != StrUtl.CHAR_NULL) &&
-								(StrUtl.isMultiValue(cellValue, mDelimiterChar)))
-							{
-								valueList = StrUtl.expandToList(cellValue, mDelimiterChar);
-								mDataGrid.setValuesByName(di.getName(), valueList);
-							}
-							else
-							{
-								if ((Data.isDateOrTime(di.getType())) && (StringUtils.isNotEmpty(mDateTimeFormat)))
-									mDataGrid.setValueByName(di.getName(), Data.createDate(cellValue, mDateTimeFormat));
-								else
-									mDataGrid.setValueByName(di.getName(), cellValue);
-							}
-						}
-						else
-							break;
-					}
-					mDataGrid.addRow();
-				}
+					addRowCells(rowCells, dateDetectorMap);
 			}
 			while (rowCells != null);
 		}
@@ -337,6 +355,102 @@ public class DataGridCSV
 		return Optional.ofNullable(mDataGrid);
 	}
 
+	/**
+	 * Opens an incremental load operation against the <i>Reader</i> input
+	 * stream.  The rows are then read one at a time via the
+	 * {@link #loadRow()} method and the operation is completed with
+	 * {@link #loadClose()}.  Only the current row is held in memory, so
+	 * callers can consume large CSV files without materializing them
+	 * as a data grid.
+	 *
+	 * @param aReader Input reader stream
+	 * @param aWithHeaders If <i>true</i>, then the first row will be read to identify the column headers
+	 *
+	 * @return Data document representing the grid columns
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public DataDoc loadOpen(Reader aReader, boolean aWithHeaders)
+		throws IOException
+	{
+		if (mCsvListReader != null)
+			throw new IOException("Load operation is already open - cannot process");
+
+		mCsvListReader = new CsvListReader(aReader, fileFormatToCsvPreference());
+		mDateDetectorMap = new HashMap<>();
+		try
+		{
+			if (aWithHeaders)
+				addColumns(mCsvListReader.getHeader(aWithHeaders));
+			mDataGrid.emptyRows();
+		}
+		catch (Exception e)
+		{
+			loadClose();
+			throw new IOException(e.getMessage());
+		}
+
+		return mDataGrid.getColumns();
+	}
+
+	/**
+	 * Reads the next row from the input stream that was opened via
+	 * {@link #loadOpen(Reader, boolean)}.  The row is returned as a
+	 * data document populated with the grid columns.
+	 *
+	 * @return Optional data document instance (empty once the stream is exhausted)
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public Optional<DataDoc> loadRow()
+		throws IOException
+	{
+		DataDoc dataDoc = null;
+
+		if (mCsvListReader == null)
+			throw new IOException("Load operation has not been opened - cannot process");
+
+		try
+		{
+			List<String> rowCells = mCsvListReader.read();
+			if (rowCells != null)
+			{
+				addRowCells(rowCells, mDateDetectorMap);
+				dataDoc = mDataGrid.getRowAsDoc(0);
+				mDataGrid.deleteRow(0);
+			}
+		}
+		catch (Exception e)
+		{
+			throw new IOException(e.getMessage());
+		}
+
+		return Optional.ofNullable(dataDoc);
+	}
+
+	/**
+	 * Completes the incremental load operation and closes the underlying
+	 * input stream.
+	 *
+	 * @throws IOException I/O exception
+	 */
+	public void loadClose()
+		throws IOException
+	{
+		if (mCsvListReader != null)
+		{
+			try
+			{
+				mCsvListReader.close();
+			}
+			finally
+			{
+				mCsvListReader = null;
+				mDateDetectorMap = null;
+			}
+		}
+	}
+
 	/**
 	 * Loads an optional data grid instance from the specified file name using
 	 * the header row as a schema definition if set to <i>true</i>.
@@ -458,7 +572,7 @@ public class DataGridCSV
 		}
 
 		DataAnalyzer dataAnalyzer = new DataAnalyzer(mDataGrid.getColumns());
-		dataAnalyzer.scan(mDataGrid);
+		dataAnalyzer.scanParallel(mDataGrid);
 
 		return Optional.ofNullable(dataAnalyzer.getDetails());
 	}
@@ -521,6 +635,85 @@ public class DataGridCSV
 		return stringBuilder.toString();
 	}
 
+	private String[] columnsToHeaderNames(DataDoc aColumns, boolean anIsTitleOnly)
+	{
+		int colOffset = 0;
+
+		String[] headerColumns = new String[aColumns.count()];
+		for (DataItem dataItem : aColumns.getItems())
+		{
+			if (mIsFieldNamePreferred)
+				headerColumns[colOffset++] = dataItem.getName();
+			else
+				headerColumns[colOffset++] = dataItemToColumnName(dataItem, anIsTitleOnly);
+		}
+
+		return headerColumns;
+	}
+
+	private void writeRow(CsvListWriter aCsvListWriter, DataDoc aDataDoc, String[] aRowCells)
+		throws IOException
+	{
+		int colOffset = 0;
+
+		for (DataItem dataItem : aDataDoc.getItems())
+		{
+			if (colOffset == aRowCells.length)
+				break;
+			if (dataItem.isValueAssigned())
+			{
+				if (dataItem.isMultiValue())
+				{
+					if (mDelimiterChar == StrUtl.CHAR_NULL)
+						aRowCells[colOffset++] = dataItem.getValuesCollapsed();
+					else
+						aRowCells[colOffset++] = dataItem.getValuesCollapsed(mDelimiterChar);
+				}
+				else if (mIsFormatted)
+					aRowCells[colOffset++] = dataItem.getValueFormatted();
+				else
+					aRowCells[colOffset++] = dataItem.getValue();
+			}
+			else
+				aRowCells[colOffset++] = StringUtils.EMPTY;
+		}
+		while (colOffset < aRowCells.length)
+			aRowCells[colOffset++] = StringUtils.EMPTY;
+		aCsvListWriter.write(aRowCells);
+	}
+
+// Unformatted rows are written straight from the row storage via a cursor, so no data
+// document is built per row.  Formatting relies on the column items and still needs one.
+
+	private void writeRow(CsvListWriter aCsvListWriter, DataGridCursor aCursor, DataDoc aColumns, String[] aRowCells)
+		throws IOException
+	{
+		List<String> cellValues;
+
+		if (mIsFormatted)
+			writeRow(aCsvListWriter, aCursor.toDataDoc(), aRowCells);
+		else
+		{
+			int colOffset = 0;
+			char delimiterChar = (mDelimiterChar == StrUtl.CHAR_NULL) ? StrUtl.CHAR_PIPE : mDelimiterChar;
+			for (DataItem columnItem : aColumns.getItems())
+			{
+				if (colOffset == aRowCells.length)
+					break;
+				cellValues = aCursor.getValues(columnItem.getName());
+				if (cellValues.isEmpty())
+					aRowCells[colOffset++] = StringUtils.EMPTY;
+				else if (cellValues.size() > 1)
+					aRowCells[colOffset++] = aCursor.getValuesCollapsed(columnItem.getName(), delimiterChar);
+				else
+					aRowCells[colOffset++] = StringUtils.defaultString(cellValues.get(0));
+			}
+			while (colOffset < aRowCells.length)
+				aRowCells[colOffset++] = StringUtils.EMPTY;
+			aCsvListWriter.write(aRowCells);
+		}
+	}
+
 	/**
 	 * Saves the previous assigned data grid (e.g. via constructor or set method)
 	 * to the <i>PrintWriter</i> output stream.
@@ -543,58 +736,14 @@ public class DataGridCSV
 		int rowCount = aDataGrid.rowCount();
 		if ((rowCount > 0) && (colCount > 0))
 		{
-			DataDoc dataDoc;
-			Optional<DataDoc> optDataDoc;
-
 			try (CsvListWriter csvListWriter = new CsvListWriter(aWriter, fileFormatToCsvPreference()))
 			{
 				if (aWithHeaders)
-				{
-					int colOffset = 0;
-					String headerName;
-
-					String[] headerColumns = new String[colCount];
-					for (DataItem dataItem : aDataGrid.getColumns().getItems())
-					{
-						if (mIsFieldNamePreferred)
-							headerName = dataItem.getName();
-						else
-							headerName = dataItemToColumnName(dataItem, anIsTitleOnly);
-						headerColumns[colOffset++] = headerName;
-					}
-					csvListWriter.writeHeader(headerColumns);
-				}
+					csvListWriter.writeHeader(columnsToHeaderNames(aDataGrid.getColumns(), anIsTitleOnly));
 				String[] rowCells = new String[colCount];
-				for (int row = 0; row < rowCount; row++)
-				{
-					optDataDoc = aDataGrid.getRowAsDocOptional(row);
-					if (optDataDoc.isPresent())
-					{
-						int colOffset = 0;
-						dataDoc = optDataDoc.get();
-
-						for (DataItem dataItem : dataDoc.getItems())
-						{
-							if (dataItem.isValueAssigned())
-							{
-								if (dataItem.isMultiValue())
-								{
-									if (mDelimiterChar == StrUtl.CHAR_NULL)
-										rowCells[colOffset++] = dataItem.getValuesCollapsed();
-									else
-										rowCells[colOffset++] = dataItem.getValuesCollapsed(mDelimiterChar);
-								}
-								else if (mIsFormatted)
-									rowCells[colOffset++] = dataItem.getValueFormatted();
-								else
-									rowCells[colOffset++] = dataItem.getValue();
-							}
-							else
-								rowCells[colOffset++] = StringUtils.EMPTY;
-						}
-						csvListWriter.write(rowCells);
-					}
-				}
+				DataGridCursor dataGridCursor = aDataGrid.cursor();
+				while (dataGridCursor.next())
+					writeRow(csvListWriter, dataGridCursor, aDataGrid.getColumns(), rowCells);
 			}
 			catch (Exception e)
 			{
@@ -603,6 +752,88 @@ public class DataGridCSV
 		}
 	}
 
+	/**
+	 * Opens an incremental save operation against the <i>Writer</i> output
+	 * stream.  The rows are then written one page at a time via the
+	 * {@link #saveRows(DataGrid)} method and the operation is completed
+	 * with {@link #saveClose()}.  This allows large data sets to be
+	 * exported without materializing all the rows in memory.
+	 *
+	 * @param aColumns Data document representing the grid columns.
+	 * @param aWriter Writer output stream.
+	 * @param aWithHeaders If <i>true</i>, then column headers will be stored
+	 *                     in the CSV file.
+	 * @param anIsTitleOnly Limit the column headers to just title strings.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void saveOpen(DataDoc aColumns, Writer aWriter, boolean aWithHeaders, boolean anIsTitleOnly)
+		throws IOException
+	{
+		if ((aColumns == null) || (aColumns.count() == 0))
+			throw new IOException("Data Grid columns are undefined - cannot process");
+		if (mCsvListWriter != null)
+			throw new IOException("Save operation is already open - cannot process");
+
+		mCsvListWriter = new CsvListWriter(aWriter, fileFormatToCsvPreference());
+		mRowCells = new String[aColumns.count()];
+		if (aWithHeaders)
+			mCsvListWriter.writeHeader(columnsToHeaderNames(aColumns, anIsTitleOnly));
+	}
+
+	/**
+	 * Writes the rows of the data grid to the output stream that was
+	 * opened via {@link #saveOpen(DataDoc, Writer, boolean, boolean)}.
+	 * The output stream is flushed once the rows have been written, so
+	 * the data grid can be emptied and reused for the next page of rows.
+	 *
+	 * @param aDataGrid Data grid instance holding a page of rows.
+	 *
+	 * @return Count of rows written.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public int saveRows(DataGrid aDataGrid)
+		throws IOException
+	{
+		if (mCsvListWriter == null)
+			throw new IOException("Save operation has not been opened - cannot process");
+
+		int rowsWritten = 0;
+		DataGridCursor dataGridCursor = aDataGrid.cursor();
+		while (dataGridCursor.next())
+		{
+			writeRow(mCsvListWriter, dataGridCursor, aDataGrid.getColumns(), mRowCells);
+			rowsWritten++;
+		}
+		mCsvListWriter.flush();
+
+		return rowsWritten;
+	}
+
+	/**
+	 * Completes the incremental save operation and closes the underlying
+	 * output stream.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void saveClose()
+		throws IOException
+	{
+		if (mCsvListWriter != null)
+		{
+			try
+			{
+				mCsvListWriter.close();
+			}
+			finally
+			{
+				mCsvListWriter = null;
+				mRowCells = null;
+			}
+		}
+	}
+
 	/**
 	 * Saves the previous assigned table (e.g. via constructor or set method)
 	 * to the <i>PrintWriter</i> output stream.
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.io;
+
+import com.redis.foundation.data.DataDoc;
+import com.redis.foundation.data.DataGrid;
+import com.redis.foundation.data.DataItem;
+import com.redis.foundation.std.IOXML;
+import com.redis.foundation.std.StrUtl;
+import org.apache.commons.lang3.StringUtils;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * The DataGridXML provides a collection of methods that can generate/load
+ * an XML representation of a <i>DataGrid</i> object.  The grid columns are
+ * stored once as a data document schema and each row follows it as a list
+ * of name/value items.
+ * <p>
+ * Rows are written straight to the output stream and read back with a
+ * StAX parser, so a grid can be streamed through a consumer while only
+ * a single row is held in memory.
+ * </p>
+ *
+ * @author Al Cole
+ * @since 1.0
+ */
+public class DataGridXML
+{
+	private final String XML_DATAGRID_NODE_NAME = "DataGrid";
+	private final String XML_DATADOC_NODE_NAME = "DataDoc";
+	private final String XML_ROW_NODE_NAME = "Row";
+
+	private DataGrid mDataGrid;
+	private final DataItemXML mDataItemXML;
+
+	/**
+	 * Default constructor.
+	 */
+	public DataGridXML()
+	{
+		mDataGrid = new DataGrid("Data Grid");
+		mDataItemXML = new DataItemXML();
+	}
+
+	/**
+	 * Constructor accepts a data grid instance as a parameter.
+	 *
+	 * @param aDataGrid Data grid instance.
+	 */
+	public DataGridXML(DataGrid aDataGrid)
+	{
+		mDataGrid = aDataGrid;
+		mDataItemXML = new DataItemXML();
+	}
+
+	/**
+	 * Returns a reference to the internally managed data grid instance.
+	 *
+	 * @return Data grid instance.
+	 */
+	public DataGrid getDataGrid()
+	{
+		return mDataGrid;
+	}
+
+	/**
+	 * Saves the previous assigned data grid (e.g. via constructor) to the
+	 * print writer stream wrapped in a tag name specified in the parameter.
+	 *
+	 * @param aPW PrintWriter stream instance.
+	 * @param aTagName Tag name.
+	 * @param anIndentAmount Indentation count.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void save(PrintWriter aPW, String aTagName, int anIndentAmount)
+		throws IOException
+	{
+		Optional<DataDoc> optDataDoc;
+
+		String tagName = StringUtils.remove(aTagName, StrUtl.CHAR_SPACE);
+		int rowCount = mDataGrid.rowCount();
+		IOXML.indentLine(aPW, anIndentAmount);
+		aPW.printf("<%s", tagName);
+		IOXML.writeAttrNameValue(aPW, "type", IO.extractType(mDataGrid.getClass().getName()));
+		IOXML.writeAttrNameValue(aPW, "name", mDataGrid.getName());
+		IOXML.writeAttrNameValue(aPW, "count", rowCount);
+		IOXML.writeAttrNameValue(aPW, "version", IO.DATAGRID_XML_FORMAT_VERSION);
+		aPW.printf(">%n");
+
+		DataDocXML dataDocXML = new DataDocXML(mDataGrid.getColumns());
+		dataDocXML.setHeaderSaveFlag(true);
+		dataDocXML.save(aPW, XML_DATADOC_NODE_NAME, anIndentAmount + 1);
+
+		for (int row = 0; row < rowCount; row++)
+		{
+			optDataDoc = mDataGrid.getRowAsDocOptional(row);
+			if (optDataDoc.isPresent())
+			{
+				IOXML.indentLine(aPW, anIndentAmount + 1);
+				aPW.printf("<%s>%n", XML_ROW_NODE_NAME);
+				for (DataItem dataItem : optDataDoc.get().getItems())
+				{
+					if (dataItem.isValueAssigned())
+						mDataItemXML.saveNameValue(aPW, dataItem, anIndentAmount + 2);
+				}
+				IOXML.indentLine(aPW, anIndentAmount + 1);
+				aPW.printf("</%s>%n", XML_ROW_NODE_NAME);
+			}
+		}
+
+		IOXML.indentLine(aPW, anIndentAmount);
+		aPW.printf("</%s>%n", tagName);
+	}
+
+	/**
+	 * Saves the previous assigned data grid (e.g. via constructor) to the
+	 * print writer stream specified as a parameter.
+	 *
+	 * @param aPW PrintWriter stream instance.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void save(PrintWriter aPW)
+		throws IOException
+	{
+		save(aPW, XML_DATAGRID_NODE_NAME, 0);
+	}
+
+	/**
+	 * Saves the previous assigned data grid (e.g. via constructor) to the
+	 * path/file name specified as a parameter.
+	 *
+	 * @param aPathFileName Absolute file name.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void save(String aPathFileName)
+		throws IOException
+	{
+		try (PrintWriter printWriter = new PrintWriter(aPathFileName, StandardCharsets.UTF_8))
+		{
+			save(printWriter);
+		}
+	}
+
+	private DataDoc loadRow(XMLStreamReader aReader, DataDoc aColumns)
+		throws XMLStreamException
+	{
+		DataDoc dataDoc = new DataDoc(aColumns);
+		int eventType = aReader.next();
+		while (eventType != XMLStreamConstants.END_ELEMENT)
+		{
+			if (eventType == XMLStreamConstants.START_ELEMENT)
+			{
+				if (aReader.getLocalName().equalsIgnoreCase(IO.XML_ITEM_NODE_NAME))
+					mDataItemXML.loadValue(aReader, dataDoc);
+				else
+					IOXML.skipElement(aReader);
+			}
+			eventType = aReader.next();
+		}
+
+		return dataDoc;
+	}
+
+	/**
+	 * Parses an XML input stream and hands each grid row to the consumer
+	 * as a data document instance populated with the grid columns.  The
+	 * rows are not retained, so memory use is bounded by a single row
+	 * regardless of the size of the stream.
+	 *
+	 * @param anIS Input stream.
+	 * @param aRowConsumer Consumer that accepts each row data document.
+	 *
+	 * @return Data document representing the grid columns.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public DataDoc load(InputStream anIS, Consumer<DataDoc> aRowConsumer)
+		throws IOException
+	{
+		String nodeName;
+
+		DataDoc dgColumns = new DataDoc("Data Grid Columns");
+		XMLStreamReader xmlStreamReader = IOXML.createStreamReader(anIS);
+		try
+		{
+			IOXML.nextRootElement(xmlStreamReader);
+			String className = mDataGrid.getClass().getName();
+			String attrValue = IOXML.getAttrValue(xmlStreamReader, "type");
+			if ((StringUtils.isNotEmpty(attrValue)) && (! IO.isTypesEqual(attrValue, className)))
+				throw new IOException("Unsupported type: " + attrValue);
+			attrValue = IOXML.getAttrValue(xmlStreamReader, "name");
+			if (StringUtils.isNotEmpty(attrValue))
+				mDataGrid.setName(attrValue);
+
+			DataDocXML dataDocXML = new DataDocXML();
+			int eventType = xmlStreamReader.next();
+			while (eventType != XMLStreamConstants.END_ELEMENT)
+			{
+				if (eventType == XMLStreamConstants.START_ELEMENT)
+				{
+					nodeName = xmlStreamReader.getLocalName();
+					if (nodeName.equalsIgnoreCase(XML_DATADOC_NODE_NAME))
+						dgColumns = dataDocXML.loadDataDoc(xmlStreamReader);
+					else if (nodeName.equalsIgnoreCase(XML_ROW_NODE_NAME))
+						aRowConsumer.accept(loadRow(xmlStreamReader, dgColumns));
+					else
+						IOXML.skipElement(xmlStreamReader);
+				}
+				eventType = xmlStreamReader.next();
+			}
+		}
+		catch (XMLStreamException e)
+		{
+			throw new IOException(e.getMessage());
+		}
+		finally
+		{
+			try
+			{
+				xmlStreamReader.close();
+			}
+			catch (XMLStreamException ignored)
+			{
+			}
+		}
+
+		return dgColumns;
+	}
+
+	/**
+	 * Parses an XML input stream and loads it into a data grid instance.
+	 *
+	 * @param anIS Input stream.
+	 *
+	 * @return Optional data grid instance.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public Optional<DataGrid> load(InputStream anIS)
+		throws IOException
+	{
+		DataGrid dataGrid = new DataGrid("Data Grid");
+		mDataGrid = dataGrid;
+		DataDoc dgColumns = load(anIS, dataGrid::addRow);
+		if (dataGrid.colCount() == 0)
+			dataGrid.setColumns(dgColumns);
+
+		return Optional.of(mDataGrid);
+	}
+
+	/**
+	 * Parses an XML file identified by the path/file name parameter
+	 * and loads it into a data grid instance.
+	 *
+	 * @param aPathFileName Absolute file name.
+	 *
+	 * @return Optional data grid instance.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public Optional<DataGrid> load(String aPathFileName)
+		throws IOException
+	{
+		File xmlFile = new File(aPathFileName);
+		if (! xmlFile.exists())
+			throw new IOException(aPathFileName + ": Does not exist.");
+
+		Optional<DataGrid> optDataGrid;
+		try (InputStream inputStream = new BufferedInputStream(new FileInputStream(xmlFile)))
+		{
+			optDataGrid = load(inputStream);
+		}
+
+		return optDataGrid;
+	}
+}
@@ -20,6 +20,7 @@
 package com.redis.foundation.io;
 
 import com.redis.foundation.data.Data;
+import com.redis.foundation.data.DataDoc;
 import com.redis.foundation.data.DataItem;
 import com.redis.foundation.data.DataRange;
 import com.redis.foundation.ds.DS;
@@ -29,9 +30,13 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 import org.w3c.dom.*;
 
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Parses and saves a DataItem as an collection of XML entities.
@@ -78,11 +83,10 @@ public class DataItemXML
 			mDataRangeXML.saveAttr(aPW, aDataItem.getRange());
 	}
 
-	public void saveValue(PrintWriter aPW, DataItem aDataItem, int anIndentAmount)
+	private void writeValue(PrintWriter aPW, DataItem aDataItem)
 	{
 		if (aDataItem.isMultiValue())
 		{
-			IOXML.indentLine(aPW, anIndentAmount);
 			String mvDelimiter = aDataItem.getFeature(Data.FEATURE_MV_DELIMITER);
 			if (StringUtils.isNotEmpty(mvDelimiter))
 				aPW.printf("%s</%s>%n", StringEscapeUtils.escapeXml10(aDataItem.getValuesCollapsed(mvDelimiter.charAt(0))),
@@ -93,7 +97,6 @@ public class DataItemXML
 		}
 		else
 		{
-			IOXML.indentLine(aPW, anIndentAmount);
 			if (aDataItem.isFeatureTrue(DS.FEATURE_IS_CONTENT))
 				aPW.printf("%s</%s>%n", XMLUtl.escapeElemStrValue(aDataItem.getValue()),
 						   IO.XML_ITEM_NODE_NAME);
@@ -103,60 +106,128 @@ public class DataItemXML
 		}
 	}
 
+	public void saveValue(PrintWriter aPW, DataItem aDataItem, int anIndentAmount)
+	{
+		IOXML.indentLine(aPW, anIndentAmount);
+		writeValue(aPW, aDataItem);
+	}
+
+	/**
+	 * Writes the data item as a complete element, with its attributes
+	 * in the start tag and its value as the element content.
+	 *
+	 * @param aPW Print writer output stream.
+	 * @param aDataItem Data item instance.
+	 * @param anIndentAmount Indentation count.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void saveElement(PrintWriter aPW, DataItem aDataItem, int anIndentAmount)
+		throws IOException
+	{
+		saveNode(aPW, anIndentAmount);
+		saveAttr(aPW, aDataItem);
+		aPW.printf(">");
+		writeValue(aPW, aDataItem);
+	}
+
+	/**
+	 * Writes the data item as an element holding just its name and value.
+	 * The remaining item details are expected to be captured by a schema
+	 * stored elsewhere in the stream.
+	 *
+	 * @param aPW Print writer output stream.
+	 * @param aDataItem Data item instance.
+	 * @param anIndentAmount Indentation count.
+	 *
+	 * @throws IOException I/O related exception.
+	 */
+	public void saveNameValue(PrintWriter aPW, DataItem aDataItem, int anIndentAmount)
+		throws IOException
+	{
+		saveNode(aPW, anIndentAmount);
+		IOXML.writeAttrNameValue(aPW, "name", aDataItem.getName());
+		aPW.printf(">");
+		writeValue(aPW, aDataItem);
+	}
+
+	private void assignAttr(DataItem aDataItem, String aName, String aValue, DataRange aDataRange)
+	{
+		if ((StringUtils.isNotEmpty(aValue)) &&
+			(! StringUtils.equalsIgnoreCase(aName, "name")) &&
+			(! StringUtils.equalsIgnoreCase(aName, "type")))
+		{
+			if (StringUtils.equalsIgnoreCase(aName, "rangeType"))
+			{
+				if (aDataRange != null)
+					aDataItem.setRange(aDataRange);
+			}
+			else if (StringUtils.equalsIgnoreCase(aName, "title"))
+				aDataItem.setTitle(aValue);
+			else if (StringUtils.equalsIgnoreCase(aName, "displaySize"))
+				aDataItem.setDisplaySize(Data.createInt(aValue));
+			else if (StringUtils.equalsIgnoreCase(aName, "sortOrder"))
+				aDataItem.setSortOrder(Data.Order.valueOf(aValue));
+			else if (StringUtils.equalsIgnoreCase(aName, "defaultValue"))
+				aDataItem.setDefaultValue(aValue);
+			else if (StringUtils.equalsIgnoreCase(aName, "uiFormat"))
+				aDataItem.setUIFormat(aValue);
+			else if (StringUtils.equalsIgnoreCase(aName, "dataFormat"))
+				aDataItem.setDataFormat(aValue);
+			else
+				aDataItem.addFeature(aName, aValue);
+		}
+	}
+
+	private void assignValue(DataItem aDataItem, String aValue)
+	{
+		if (StringUtils.isNotEmpty(aValue))
+		{
+			if (aDataItem.isMultiValue())
+			{
+				String mvDelimiter = aDataItem.getFeature(Data.FEATURE_MV_DELIMITER);
+				if (StringUtils.isNotEmpty(mvDelimiter))
+					aDataItem.expandAndSetValues(aValue, mvDelimiter.charAt(0));
+				else
+					aDataItem.expandAndSetValues(aValue);
+			}
+			else
+				aDataItem.setValue(aValue);
+		}
+	}
+
+	private DataItem createItem(String aName, String aType)
+	{
+		Data.Type fieldType;
+
+		if (StringUtils.isNotEmpty(aType))
+			fieldType = Data.stringToType(aType);
+		else
+			fieldType = Data.Type.Text;
+
+		return new DataItem.Builder().type(fieldType).name(aName).build();
+	}
+
 	public DataItem load(Element anElement)
 		throws IOException
 	{
 		Attr nodeAttr;
 		Node nodeItem;
 		DataItem dataItem;
-		Data.Type fieldType;
-		String nodeName, nodeValue;
+		String nodeValue;
 
 		String attrValue = anElement.getAttribute("name");
 		if (StringUtils.isNotEmpty(attrValue))
 		{
-			String fieldName = attrValue;
-			attrValue = anElement.getAttribute("type");
-			if (StringUtils.isNotEmpty(attrValue))
-				fieldType = Data.stringToType(attrValue);
-			else
-				fieldType = Data.Type.Text;
-			dataItem = new DataItem.Builder().type(fieldType).name(fieldName).build();
+			dataItem = createItem(attrValue, anElement.getAttribute("type"));
+			DataRange dataRange = mDataRangeXML.load(anElement);
 
 			NamedNodeMap namedNodeMap = anElement.getAttributes();
 			int attrCount = namedNodeMap.getLength();
 			for (int attrOffset = 0; attrOffset < attrCount; attrOffset++)
 			{
 				nodeAttr = (Attr) namedNodeMap.item(attrOffset);
-				nodeName = nodeAttr.getNodeName();
-				nodeValue = nodeAttr.getNodeValue();
-
-				if (StringUtils.isNotEmpty(nodeValue))
-				{
-					if ((StringUtils.equalsIgnoreCase(nodeName, "name")) ||
-						(StringUtils.equalsIgnoreCase(nodeName, "type")))
-						continue;
-					else if (StringUtils.equalsIgnoreCase(nodeName, "rangeType"))
-					{
-						DataRange dataRange = mDataRangeXML.load(anElement);
-						if (dataRange != null)
-							dataItem.setRange(dataRange);
-					}
-					else if (StringUtils.equalsIgnoreCase(nodeName, "title"))
-						dataItem.setTitle(nodeValue);
-					else if (StringUtils.equalsIgnoreCase(nodeName, "displaySize"))
-						dataItem.setDisplaySize(Data.createInt(nodeValue));
-					else if (StringUtils.equalsIgnoreCase(nodeName, "sortOrder"))
-						dataItem.setSortOrder(Data.Order.valueOf(nodeValue));
-					else if (StringUtils.equalsIgnoreCase(nodeName, "defaultValue"))
-						dataItem.setDefaultValue(nodeValue);
-					else if (StringUtils.equalsIgnoreCase(nodeName, "uiFormat"))
-						dataItem.setUIFormat(nodeValue);
-					else if (StringUtils.equalsIgnoreCase(nodeName, "dataFormat"))
-						dataItem.setDataFormat(nodeValue);
-					else
-						dataItem.addFeature(nodeName, nodeValue);
-				}
+				assignAttr(dataItem, nodeAttr.getNodeName(), nodeAttr.getNodeValue(), dataRange);
 			}
 
 // Process value content for the item - if it was defined.
@@ -166,23 +237,97 @@ public class DataItemXML
 				nodeValue = XMLUtl.getNodeCDATAValue(nodeItem);
 			else
 				nodeValue = XMLUtl.getNodeStrValue(nodeItem);
-			if (StringUtils.isNotEmpty(nodeValue))
-			{
-				if (dataItem.isMultiValue())
-				{
-					String mvDelimiter = dataItem.getFeature(Data.FEATURE_MV_DELIMITER);
-					if (StringUtils.isNotEmpty(mvDelimiter))
-						dataItem.expandAndSetValues(nodeValue, mvDelimiter.charAt(0));
-					else
-						dataItem.expandAndSetValues(nodeValue);
-				}
-				else
-					dataItem.setValue(nodeValue);
-			}
+			assignValue(dataItem, nodeValue);
 		}
 		else
 			dataItem = null;
 
 		return dataItem;
 	}
+
+// Content items carry their value in a CDATA section while all other items use plain
+// text, which mirrors the node types the DOM loader selects above.
+
+	private String readValue(XMLStreamReader aReader, boolean anIsContent)
+		throws XMLStreamException
+	{
+		int depth = 1;
+		StringBuilder stringBuilder = new StringBuilder();
+		int textEventType = anIsContent ? XMLStreamConstants.CDATA : XMLStreamConstants.CHARACTERS;
+
+		while (depth > 0)
+		{
+			int eventType = aReader.next();
+			if (eventType == XMLStreamConstants.START_ELEMENT)
+				depth++;
+			else if (eventType == XMLStreamConstants.END_ELEMENT)
+				depth--;
+			else if ((depth == 1) && (eventType == textEventType))
+				stringBuilder.append(aReader.getText());
+		}
+
+		return stringBuilder.toString();
+	}
+
+	/**
+	 * Loads a data item from the start element the stream reader is
+	 * positioned at.  The reader is left positioned at the matching
+	 * end element.
+	 *
+	 * @param aReader XML stream reader instance.
+	 *
+	 * @return Data item instance or <i>null</i> if the element is not named.
+	 *
+	 * @throws IOException I/O related exception.
+	 * @throws XMLStreamException XML parser related exception.
+	 */
+	public DataItem load(XMLStreamReader aReader)
+		throws IOException, XMLStreamException
+	{
+		DataItem dataItem;
+
+		String attrValue = IOXML.getAttrValue(aReader, "name");
+		if (StringUtils.isNotEmpty(attrValue))
+		{
+			dataItem = createItem(attrValue, IOXML.getAttrValue(aReader, "type"));
+			DataRange dataRange = mDataRangeXML.load(aReader);
+
+			int attrCount = aReader.getAttributeCount();
+			for (int attrOffset = 0; attrOffset < attrCount; attrOffset++)
+				assignAttr(dataItem, aReader.getAttributeLocalName(attrOffset), aReader.getAttributeValue(attrOffset), dataRange);
+
+			assignValue(dataItem, readValue(aReader, dataItem.isFeatureTrue(DS.FEATURE_IS_CONTENT)));
+		}
+		else
+		{
+			IOXML.skipElement(aReader);
+			dataItem = null;
+		}
+
+		return dataItem;
+	}
+
+	/**
+	 * Assigns the value of the item element the stream reader is positioned
+	 * at to the matching item of the data document.  The element is skipped
+	 * if the document does not have an item with its name.  The reader is
+	 * left positioned at the matching end element.
+	 *
+	 * @param aReader XML stream reader instance.
+	 * @param aDataDoc Data document instance.
+	 *
+	 * @throws XMLStreamException XML parser related exception.
+	 */
+	public void loadValue(XMLStreamReader aReader, DataDoc aDataDoc)
+		throws XMLStreamException
+	{
+		Optional<DataItem> optDataItem = aDataDoc.getItemByNameOptional(IOXML.getAttrValue(aReader, "name"));
+		if (optDataItem.isPresent())
+		{
+			DataItem dataItem = optDataItem.get();
+			assignValue(dataItem, readValue(aReader, dataItem.isFeatureTrue(DS.FEATURE_IS_CONTENT)));
+		}
+		else
+			IOXML.skipElement(aReader);
+	}
 }
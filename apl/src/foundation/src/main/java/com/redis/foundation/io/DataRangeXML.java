@@ -26,8 +26,10 @@ import com.redis.foundation.std.StrUtl;
 import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Element;
 
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.function.Function;
 
 /**
  * The DataRangeXML class provides XML helper methods.
@@ -65,29 +67,29 @@ public class DataRangeXML
 		}
 	}
 
-	public DataRange load(Element anElement)
+	private DataRange load(Function<String, String> anAttrLookup)
 		throws IOException
 	{
 		DataRange dataRange;
 
-		String attrValue = anElement.getAttribute("rangeType");
+		String attrValue = anAttrLookup.apply("rangeType");
 		if (StringUtils.isNotEmpty(attrValue))
 		{
 			Data.Type rangeType = Data.stringToType(attrValue);
 			if (rangeType == Data.Type.Text)
 			{
 				dataRange = new DataRange();
-				String delimiterString = anElement.getAttribute("rangeDelimiterChar");
+				String delimiterString = anAttrLookup.apply("rangeDelimiterChar");
 				if (StringUtils.isNotEmpty(delimiterString))
 					dataRange.setDelimiterChar(delimiterString);
-				String rangeValues = anElement.getAttribute("rangeValues");
+				String rangeValues = anAttrLookup.apply("rangeValues");
 				if (StringUtils.isNotEmpty(rangeValues))
 					dataRange.setItems(StrUtl.expandToList(rangeValues, dataRange.getDelimiterChar()));
 			}
 			else
 			{
-				String minValue = anElement.getAttribute("rangeMin");
-				String maxValue = anElement.getAttribute("rangeMax");
+				String minValue = anAttrLookup.apply("rangeMin");
+				String maxValue = anAttrLookup.apply("rangeMax");
 				switch (rangeType)
 				{
 					case Long:
@@ -114,4 +116,16 @@ public class DataRangeXML
 
 		return dataRange;
 	}
+
+	public DataRange load(Element anElement)
+		throws IOException
+	{
+		return load(anElement::getAttribute);
+	}
+
+	public DataRange load(XMLStreamReader aReader)
+		throws IOException
+	{
+		return load(n -> IOXML.getAttrValue(aReader, n));
+	}
 }
@@ -19,11 +19,6 @@
 
 package com.redis.foundation.std;
 
-import com.redis.foundation.data.Data;
-import org.apache.commons.lang3.StringUtils;
-
-import java.text.ParsePosition;
-import java.text.SimpleDateFormat;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -49,7 +44,6 @@ public class DatUtl
 // Gregorian Calendar adopted Oct. 15, 1582 (2299161)
 
     public static double HALFSECOND = 0.5;
-    public static List<SimpleDateFormat> mDateFormatList = null;
     public static int GREGORIANSTARTDATE = 15 + 31 * (10 + 12 * 1582);
 
     private DatUtl()
@@ -159,46 +153,16 @@ public class DatUtl
 
     /**
      * Attempts to detect the date/time format of the value and create
-     * a 'Date' object.
+     * a 'Date' object.  This method is safe to call from multiple threads.
+     * Use a {@link DateDetector} instance when a column of values will be
+     * examined, so the matching format can be remembered between values.
      *
      * @param aDateTimeValue String value.
      * @return Date object if the format is recognized or <i>null</i>.
      */
     public static Date detectCreateDate(String aDateTimeValue)
     {
-        Date createDate = null;
-
-        if (StringUtils.isNotEmpty(aDateTimeValue))
-        {
-            if (mDateFormatList == null)
-            {
-                mDateFormatList = new ArrayList<SimpleDateFormat>();
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_ISO8601DATETIME_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_ISO8601DATETIME_NOMILLI));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_ISO8601DATETIME_MILLI2D));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_ISO8601DATETIME_MILLI3D));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_RFC1123_DATE_TIME));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_SQLORACLEDATE_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_MM_DD_YY_SLASH_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_SQLISODATE_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_SQLISOTIME_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_SQLISODATETIME_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_DATE_DEFAULT));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_TIME_AMPM));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_TIME_PLAIN));
-                mDateFormatList.add(new SimpleDateFormat(Data.FORMAT_TIMESTAMP_PACKED));
-            }
-
-            ParsePosition parsePosition = new ParsePosition(0);
-            for (SimpleDateFormat sdf : mDateFormatList)
-            {
-                sdf.setLenient(false);
-                createDate = sdf.parse(aDateTimeValue, parsePosition);
-                if (createDate != null)
-                    break;
-            }
-        }
-        return createDate;
+        return DateDetector.detectDate(aDateTimeValue);
     }
 
     /**
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.std;
+
+import com.redis.foundation.data.Data;
+import org.apache.commons.lang3.StringUtils;
+
+import java.text.ParsePosition;
+import java.time.*;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The DateDetector class recognizes date/time values that are formatted
+ * using one of the standard format masks defined in the {@link Data} class.
+ * <p>
+ * An instance is intended to be assigned to a single column of values
+ * (e.g. a CSV column or a data item analyzer).  Once a value has been
+ * recognized, the winning format is remembered and tried first for the
+ * values that follow, so a column of consistently formatted values is
+ * parsed in a single attempt per value.  The format masks are compiled
+ * into immutable <i>java.time</i> formatters, so instances can be shared
+ * across threads.
+ * </p>
+ * <p>
+ * The format masks use the <i>SimpleDateFormat</i> pattern syntax and
+ * values are resolved in the default time zone, which matches the prior
+ * <i>SimpleDateFormat</i> based detection logic.
+ * </p>
+ *
+ * @since 1.0
+ */
+public class DateDetector
+{
+    private static final List<String> DETECT_FORMAT_MASKS = List.of(Data.FORMAT_ISO8601DATETIME_DEFAULT,
+                                                                   Data.FORMAT_ISO8601DATETIME_NOMILLI,
+                                                                   Data.FORMAT_ISO8601DATETIME_MILLI2D,
+                                                                   Data.FORMAT_ISO8601DATETIME_MILLI3D,
+                                                                   Data.FORMAT_RFC1123_DATE_TIME,
+                                                                   Data.FORMAT_SQLORACLEDATE_DEFAULT,
+                                                                   Data.FORMAT_MM_DD_YY_SLASH_DEFAULT,
+                                                                   Data.FORMAT_SQLISODATE_DEFAULT,
+                                                                   Data.FORMAT_SQLISOTIME_DEFAULT,
+                                                                   Data.FORMAT_SQLISODATETIME_DEFAULT,
+                                                                   Data.FORMAT_DATE_DEFAULT,
+                                                                   Data.FORMAT_TIME_AMPM,
+                                                                   Data.FORMAT_TIME_PLAIN,
+                                                                   Data.FORMAT_TIMESTAMP_PACKED);
+    private static final Map<String, DateTimeFormatter> mFormatterCache = new ConcurrentHashMap<>();
+    private static final LocalDate EPOCH_DATE = LocalDate.of(1970, 1, 1);
+
+    private final List<String> mFormatMasks;
+    private volatile String mMatchedFormatMask;
+
+    /**
+     * Default constructor that will detect values using the standard
+     * format masks.
+     */
+    public DateDetector()
+    {
+        mFormatMasks = DETECT_FORMAT_MASKS;
+    }
+
+    /**
+     * Constructor that accepts a preferred format mask that will be tried
+     * ahead of the standard format masks.
+     *
+     * @param aFormatMask Preferred format mask (may be <i>null</i>)
+     */
+    public DateDetector(String aFormatMask)
+    {
+        if ((StringUtils.isEmpty(aFormatMask)) || (DETECT_FORMAT_MASKS.contains(aFormatMask)))
+            mFormatMasks = DETECT_FORMAT_MASKS;
+        else
+        {
+            ArrayList<String> formatMasks = new ArrayList<>(DETECT_FORMAT_MASKS.size() + 1);
+            formatMasks.add(aFormatMask);
+            formatMasks.addAll(DETECT_FORMAT_MASKS);
+            mFormatMasks = Collections.unmodifiableList(formatMasks);
+        }
+        if (StringUtils.isNotEmpty(aFormatMask))
+            mMatchedFormatMask = aFormatMask;
+    }
+
+    /**
+     * Returns the format mask that matched the most recently recognized
+     * value or <i>null</i> if no value has been recognized yet.
+     *
+     * @return Format mask or <i>null</i>
+     */
+    public String getFormatMask()
+    {
+        return mMatchedFormatMask;
+    }
+
+    /**
+     * Assigns the format mask that will be tried first when the next value
+     * is detected.  This is useful when restoring the state of a detector
+     * that examined an earlier portion of a data set.
+     *
+     * @param aFormatMask Format mask (may be <i>null</i>)
+     */
+    public void setFormatMask(String aFormatMask)
+    {
+        mMatchedFormatMask = aFormatMask;
+    }
+
+    /**
+     * Attempts to detect the date/time format of the value and create
+     * a 'Date' object.  The format that matched the previous value is
+     * tried first.
+     *
+     * @param aDateTimeValue String value.
+     *
+     * @return Date object if the format is recognized or <i>null</i>.
+     */
+    public Date detect(String aDateTimeValue)
+    {
+        if (StringUtils.isEmpty(aDateTimeValue))
+            return null;
+
+        String matchedFormatMask = mMatchedFormatMask;
+        if (matchedFormatMask != null)
+        {
+            Date createDate = parse(aDateTimeValue, matchedFormatMask);
+            if (createDate != null)
+                return createDate;
+        }
+        for (String formatMask : mFormatMasks)
+        {
+            if (! formatMask.equals(matchedFormatMask))
+            {
+                Date createDate = parse(aDateTimeValue, formatMask);
+                if (createDate != null)
+                {
+                    mMatchedFormatMask = formatMask;
+                    return createDate;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Attempts to detect the date/time format of the value using the
+     * standard format masks without remembering the outcome.
+     *
+     * @param aDateTimeValue String value.
+     *
+     * @return Date object if the format is recognized or <i>null</i>.
+     */
+    public static Date detectDate(String aDateTimeValue)
+    {
+        if (StringUtils.isNotEmpty(aDateTimeValue))
+        {
+            for (String formatMask : DETECT_FORMAT_MASKS)
+            {
+                Date createDate = parse(aDateTimeValue, formatMask);
+                if (createDate != null)
+                    return createDate;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Parses the date/time value using the format mask.  The complete
+     * value must match the format mask.
+     *
+     * @param aDateTimeValue String value.
+     * @param aFormatMask SimpleDateFormat mask.
+     *
+     * @return Date object if the value matches the format or <i>null</i>.
+     */
+    public static Date parse(String aDateTimeValue, String aFormatMask)
+    {
+        if ((StringUtils.isEmpty(aDateTimeValue)) || (StringUtils.isEmpty(aFormatMask)))
+            return null;
+
+        DateTimeFormatter dateTimeFormatter;
+        try
+        {
+            dateTimeFormatter = mFormatterCache.computeIfAbsent(aFormatMask, DateDetector::compileFormatMask);
+        }
+        catch (IllegalArgumentException e)
+        {
+            return null;
+        }
+
+        ParsePosition parsePosition = new ParsePosition(0);
+        TemporalAccessor temporalAccessor;
+        try
+        {
+            temporalAccessor = dateTimeFormatter.parse(aDateTimeValue, parsePosition);
+        }
+        catch (DateTimeException e)
+        {
+            return null;
+        }
+        if (parsePosition.getIndex() != aDateTimeValue.length())
+            return null;
+
+        LocalDate localDate = temporalAccessor.query(TemporalQueries.localDate());
+        LocalTime localTime = temporalAccessor.query(TemporalQueries.localTime());
+        if ((localDate == null) && (localTime == null))
+            return null;
+        if (localDate == null)
+            localDate = EPOCH_DATE;
+        if (localTime == null)
+            localTime = LocalTime.MIDNIGHT;
+
+        return Date.from(LocalDateTime.of(localDate, localTime).atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static void appendPattern(DateTimeFormatterBuilder aBuilder, StringBuilder aPattern)
+    {
+        if (aPattern.length() > 0)
+        {
+            aBuilder.appendPattern(aPattern.toString());
+            aPattern.setLength(0);
+        }
+    }
+
+// The SimpleDateFormat year and millisecond letters are not interpreted the same way by
+// java.time, so those are translated into explicit fields while the rest of the mask is
+// handed to the builder as is.
+
+    private static DateTimeFormatter compileFormatMask(String aFormatMask)
+    {
+        char ch;
+        int runLength;
+        boolean isQuoted = false;
+        StringBuilder patternBuilder = new StringBuilder();
+        DateTimeFormatterBuilder formatterBuilder = new DateTimeFormatterBuilder().parseCaseInsensitive();
+
+        int maskLength = aFormatMask.length();
+        for (int offset = 0; offset < maskLength; offset++)
+        {
+            ch = aFormatMask.charAt(offset);
+            if (ch == '\'')
+            {
+                isQuoted = ! isQuoted;
+                patternBuilder.append(ch);
+            }
+            else if ((! isQuoted) && ((ch == 'y') || (ch == 'S')))
+            {
+                runLength = 1;
+                while ((offset + 1 < maskLength) && (aFormatMask.charAt(offset + 1) == ch))
+                {
+                    runLength++;
+                    offset++;
+                }
+                appendPattern(formatterBuilder, patternBuilder);
+                if (ch == 'S')
+                    formatterBuilder.appendValue(ChronoField.MILLI_OF_SECOND, runLength);
+                else if (runLength == 2)
+                    formatterBuilder.appendValueReduced(ChronoField.YEAR, 2, 2, LocalDate.now().minusYears(80));
+                else
+                    formatterBuilder.appendValue(ChronoField.YEAR, runLength);
+            }
+            else
+                patternBuilder.append(ch);
+        }
+        appendPattern(formatterBuilder, patternBuilder);
+
+        return formatterBuilder.toFormatter(Locale.getDefault(Locale.Category.FORMAT)).withResolverStyle(ResolverStyle.STRICT);
+    }
+}
@@ -22,7 +22,12 @@ package com.redis.foundation.std;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.text.StringEscapeUtils;
 
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
 
 /**
@@ -34,6 +39,8 @@ import java.io.PrintWriter;
  */
 public class IOXML
 {
+    private static final String XML_REPORT_CDATA_PROPERTY = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
     /**
      * Generates one or more space characters for indentation.
      *
@@ -205,4 +212,86 @@ public class IOXML
         indentLine(aPW, anIndentAmount);
         aPW.printf("<%s>%s</%s>%n", aName, StrUtl.booleanToString(aValue), aName);
     }
+
+    /**
+     * Creates a StAX stream reader over the input stream.  Unlike a DOM
+     * parser, the reader only holds the current element in memory, so
+     * large XML files can be consumed one node at a time.  External
+     * entities are not resolved.
+     *
+     * @param anIS Input stream.
+     *
+     * @return XML stream reader instance.
+     *
+     * @throws IOException I/O related exception.
+     */
+    public static XMLStreamReader createStreamReader(InputStream anIS)
+        throws IOException
+    {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        if (xmlInputFactory.isPropertySupported(XML_REPORT_CDATA_PROPERTY))
+            xmlInputFactory.setProperty(XML_REPORT_CDATA_PROPERTY, Boolean.TRUE);
+        try
+        {
+            return xmlInputFactory.createXMLStreamReader(anIS);
+        }
+        catch (XMLStreamException e)
+        {
+            throw new IOException(e.getMessage());
+        }
+    }
+
+    /**
+     * Advances the stream reader to the first element of the document.
+     *
+     * @param aReader XML stream reader positioned at the start of the document.
+     *
+     * @throws XMLStreamException XML parser related exception.
+     */
+    public static void nextRootElement(XMLStreamReader aReader)
+        throws XMLStreamException
+    {
+        while ((aReader.getEventType() != XMLStreamConstants.START_ELEMENT) && (aReader.hasNext()))
+            aReader.next();
+        if (aReader.getEventType() != XMLStreamConstants.START_ELEMENT)
+            throw new XMLStreamException("XML document does not have a root element.");
+    }
+
+    /**
+     * Returns the value of the named attribute of the current start
+     * element or an empty string if it is not defined.
+     *
+     * @param aReader XML stream reader positioned at a start element.
+     * @param aName Attribute name.
+     *
+     * @return Attribute value.
+     */
+    public static String getAttrValue(XMLStreamReader aReader, String aName)
+    {
+        return StringUtils.defaultString(aReader.getAttributeValue(null, aName));
+    }
+
+    /**
+     * Consumes the current element along with all of its descendants,
+     * leaving the stream reader positioned at its end element.
+     *
+     * @param aReader XML stream reader positioned at a start element.
+     *
+     * @throws XMLStreamException XML parser related exception.
+     */
+    public static void skipElement(XMLStreamReader aReader)
+        throws XMLStreamException
+    {
+        int depth = 1;
+        while (depth > 0)
+        {
+            int eventType = aReader.next();
+            if (eventType == XMLStreamConstants.START_ELEMENT)
+                depth++;
+            else if (eventType == XMLStreamConstants.END_ELEMENT)
+                depth--;
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.app;
+
+import ch.qos.logback.classic.Level;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+
+import static org.junit.Assert.*;
+
+public class LoggerCacheTest
+{
+	private AppCtx mAppCtx;
+	private Level mSavedLevel;
+	private ch.qos.logback.classic.Logger mClassLogger;
+
+	@Before
+	public void setup()
+	{
+		mAppCtx = new AppCtx(new HashMap<>());
+		mClassLogger = (ch.qos.logback.classic.Logger) org.slf4j.LoggerFactory.getLogger(LoggerCacheTest.class.getName());
+		mSavedLevel = mClassLogger.getLevel();
+		mClassLogger.setLevel(Level.INFO);
+	}
+
+	@Test
+	public void classAndMethodCategories()
+	{
+		Logger appLogger = mAppCtx.getLogger(this, "classAndMethodCategories");
+		assertEquals(LoggerCacheTest.class.getName() + ".classAndMethodCategories", appLogger.getName());
+		assertSame(appLogger, mAppCtx.getLogger(this, "classAndMethodCategories"));
+		assertNotSame(appLogger, mAppCtx.getLogger(this, "setup"));
+		assertEquals(LoggerCacheTest.class.getName(), mAppCtx.getLogger(LoggerCacheTest.class).getName());
+		assertSame(mAppCtx.getLogger(LoggerCacheTest.class), mAppCtx.getLogger(LoggerCacheTest.class));
+	}
+
+	@Test
+	public void traceSpanCostsNothingWhenDisabled()
+	{
+		Logger appLogger = mAppCtx.getLogger(LoggerCacheTest.class);
+		TraceSpan disabledSpan;
+		try (TraceSpan traceSpan = TraceSpan.enter(appLogger))
+		{
+			disabledSpan = traceSpan;
+			assertFalse(traceSpan.isEnabled());
+			assertEquals(0L, traceSpan.elapsedNanos());
+		}
+		assertSame(disabledSpan, TraceSpan.enter(appLogger));
+
+		mClassLogger.setLevel(Level.TRACE);
+		try (TraceSpan traceSpan = TraceSpan.enter(appLogger))
+		{
+			assertTrue(traceSpan.isEnabled());
+			assertNotSame(disabledSpan, traceSpan);
+			assertTrue(traceSpan.elapsedNanos() >= 0L);
+		}
+	}
+
+	@After
+	public void cleanup()
+	{
+		mClassLogger.setLevel(mSavedLevel);
+	}
+}
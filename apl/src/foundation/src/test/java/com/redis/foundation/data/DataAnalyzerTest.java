@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class DataAnalyzerTest
+{
+	private static final String[] DATE_VALUES = {"2021-03-04", "03/04/2021", "2021-03-04 10:11:12", "Mar 4, 2021"};
+
+	private DataGrid createDataGrid(int aRowCount)
+	{
+		DataDoc dataSchema = new DataDoc("Analyzer Schema");
+		dataSchema.add(new DataItem.Builder().name("id").title("Id").build());
+		dataSchema.add(new DataItem.Builder().name("amount").title("Amount").build());
+		dataSchema.add(new DataItem.Builder().name("name").title("Name").build());
+		dataSchema.add(new DataItem.Builder().name("flag").title("Flag").build());
+		dataSchema.add(new DataItem.Builder().name("when").title("When").build());
+		dataSchema.add(new DataItem.Builder().name("mixed").title("Mixed").build());
+		dataSchema.add(new DataItem.Builder().name("sparse").title("Sparse").build());
+
+		Random random = new Random(38);
+		DataGrid dataGrid = new DataGrid("Analyzer Grid", dataSchema);
+		for (int row = 0; row < aRowCount; row++)
+		{
+			dataGrid.newRow();
+			dataGrid.setValueByName("id", row + 1);
+			dataGrid.setValueByName("amount", String.format("%.2f", random.nextDouble() * 1000.0));
+			dataGrid.setValueByName("name", "name_" + random.nextInt(50));
+			dataGrid.setValueByName("flag", random.nextBoolean() ? "yes" : "no");
+			dataGrid.setValueByName("when", DATE_VALUES[random.nextInt(DATE_VALUES.length)]);
+			dataGrid.setValueByName("mixed", (row == aRowCount - 7) ? "n/a" : Integer.toString(random.nextInt(100)));
+			if (random.nextInt(4) == 0)
+				dataGrid.setValueByName("sparse", random.nextInt(10));
+			dataGrid.addRow();
+		}
+
+		return dataGrid;
+	}
+
+	private void assertDetailsEqual(DataGrid aExpected, DataGrid anActual)
+	{
+		Assert.assertEquals(aExpected.rowCount(), anActual.rowCount());
+		for (int row = 0; row < aExpected.rowCount(); row++)
+		{
+			DataDoc expectedDoc = aExpected.getRowAsDoc(row);
+			DataDoc actualDoc = anActual.getRowAsDoc(row);
+			for (DataItem dataItem : expectedDoc.getItems())
+				Assert.assertEquals(expectedDoc.getName() + " " + dataItem.getName(), dataItem.getValuesCollapsed(),
+									actualDoc.getItemByName(dataItem.getName()).getValuesCollapsed());
+		}
+	}
+
+	@Test
+	public void exerciseParallelScan()
+	{
+		DataGrid dataGrid = createDataGrid(2000);
+
+		DataAnalyzer sequentialAnalyzer = new DataAnalyzer(dataGrid.getColumns());
+		sequentialAnalyzer.scan(dataGrid);
+		DataGrid sequentialDetails = sequentialAnalyzer.getDetails();
+
+		ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+		try
+		{
+			for (int shardRows : new int[] {1, 7, 64, 5000})
+			{
+				DataAnalyzer parallelAnalyzer = new DataAnalyzer(dataGrid.getColumns());
+				parallelAnalyzer.scanParallel(dataGrid, forkJoinPool, shardRows);
+				assertDetailsEqual(sequentialDetails, parallelAnalyzer.getDetails());
+			}
+		}
+		finally
+		{
+			forkJoinPool.shutdown();
+		}
+	}
+
+	@Test
+	public void exerciseApproximateScan()
+	{
+		DataGrid dataGrid = createDataGrid(5000);
+
+		DataAnalyzer exactAnalyzer = new DataAnalyzer(dataGrid.getColumns());
+		exactAnalyzer.scan(dataGrid);
+		DataGrid exactDetails = exactAnalyzer.getDetails();
+
+		DataAnalyzer approximateAnalyzer = new DataAnalyzer(dataGrid.getColumns(), 10, true);
+		approximateAnalyzer.scanParallel(dataGrid, ForkJoinPool.commonPool(), 500);
+		DataGrid approximateDetails = approximateAnalyzer.getDetails();
+
+		Assert.assertEquals(exactDetails.rowCount(), approximateDetails.rowCount());
+		for (int row = 0; row < exactDetails.rowCount(); row++)
+		{
+			DataDoc exactDoc = exactDetails.getRowAsDoc(row);
+			DataDoc approximateDoc = approximateDetails.getRowAsDoc(row);
+			for (String itemName : new String[] {"name", "type", "total_count", "null_count", "minimum", "maximum", "mean"})
+				Assert.assertEquals(exactDoc.getName() + " " + itemName, exactDoc.getValueByName(itemName), approximateDoc.getValueByName(itemName));
+			int exactUnique = exactDoc.getValueAsInteger("unique_count");
+			int approximateUnique = approximateDoc.getValueAsInteger("unique_count");
+			Assert.assertTrue(exactDoc.getName(), Math.abs(exactUnique - approximateUnique) <= Math.max(1, exactUnique / 10));
+		}
+	}
+}
@@ -23,6 +23,7 @@ import com.redis.foundation.io.DataGraphJSON;
 import com.redis.foundation.std.StrUtl;
 import com.redis.foundation.io.DataGraphCSV;
 import org.junit.After;
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -138,6 +139,8 @@ public class DataGraphTest
 			Optional<DataGraph> optDataGraph = dataGraphCSV.load("data/graph_ver_sigr_ii_site_graph.csv", "data/graph_edg_sigr_ii_site_graph.csv");
 			if (optDataGraph.isPresent())
 			{
+				Assert.assertEquals(dataGraph.getVertexItemSet().size(), optDataGraph.get().getVertexItemSet().size());
+				Assert.assertEquals(dataGraph.getEdgeSet().size(), optDataGraph.get().getEdgeSet().size());
 				System.out.printf("List of Vertexes%n");
 				dataItem = dataGraph.getVertexItemByName("Google");
 				diIterator = dataGraph.depthFirstIterator(dataItem);
@@ -164,6 +167,8 @@ public class DataGraphTest
 			optDataGraph = dataGraphJSON.load("data/graph_movie.json");
 			if (optDataGraph.isPresent())
 			{
+				Assert.assertEquals(dataGraph.getVertexItemSet().size(), optDataGraph.get().getVertexItemSet().size());
+				Assert.assertEquals(dataGraph.getEdgeSet().size(), optDataGraph.get().getEdgeSet().size());
 				System.out.printf("List of Vertexes%n");
 				dataItem = dataGraph.getVertexItemByName("Google");
 				diIterator = dataGraph.depthFirstIterator(dataItem);
@@ -294,6 +299,7 @@ public class DataGraphTest
 			Optional<DataGraph> optDataGraph = dataGraphCSV.load("data/graph_ver_sigr_dd_movie_graph.csv", "data/graph_edg_sigr_dd_movie_graph.csv");
 			if (optDataGraph.isPresent())
 			{
+				Assert.assertEquals(dataGraph.getVertexDocSet().size(), optDataGraph.get().getVertexDocSet().size());
 				System.out.printf("List of Vertexes%n");
 				for (DataDoc dataDoc : dataGraph.getVertexDocSet())
 				{
@@ -327,6 +333,7 @@ public class DataGraphTest
 			optDataGraph = dataGraphJSON.load("data/graph_movie.json");
 			if (optDataGraph.isPresent())
 			{
+				Assert.assertEquals(dataGraph.getVertexDocSet().size(), optDataGraph.get().getVertexDocSet().size());
 				System.out.printf("List of Vertexes%n");
 				for (DataDoc dataDoc : dataGraph.getVertexDocSet())
 				{
@@ -182,6 +182,64 @@ public class DataGridTest
 		System.out.printf("min = %.2f, max = %.2f, mean = %.2f, median = %.2f, std = %.2f%n", min, max, mean, median, standardDeviation);
 	}
 
+	public void dataGridSortValidation()
+	{
+		DataGrid dataGrid = createDataGrid();
+		addMenuItem(dataGrid, "water", true, 0, "");
+		dataGrid.setValueByRowName(dataGrid.rowCount() - 1, "calories", "");
+
+		List<String> expectedNames = dataGrid.stream()
+				.filter(dd -> dd.getItemByName("type").isValueNotEmpty())
+				.sorted(comparing(this::getType).thenComparing(comparing(this::getCalories).reversed()))
+				.map(this::getValueByName)
+				.collect(toList());
+		expectedNames.add(0, "water");
+
+		DataGridSort dataGridSort = new DataGridSort.Builder().ascending("type").descending("calories").build();
+		DataGrid sortedDataGrid = dataGrid.sort(dataGridSort);
+		Assert.assertEquals(expectedNames, sortedDataGrid.stream().map(this::getValueByName).collect(toList()));
+		Assert.assertEquals(expectedNames, dataGrid.sortedView(dataGridSort).stream().map(this::getValueByName).collect(toList()));
+
+		DataGridSort nullsSort = new DataGridSort.Builder().key("calories", Data.Order.ASCENDING, DataGridSort.Nulls.LAST).build();
+		List<DataDoc> caloriesView = dataGrid.sortedView(nullsSort);
+		Assert.assertEquals("season fruit", getValueByName(caloriesView.get(0)));
+		Assert.assertEquals("water", getValueByName(caloriesView.get(caloriesView.size() - 1)));
+
+		List<List<String>> parallelNames = Collections.nCopies(16, dataGridSort).parallelStream()
+				.map(gs -> dataGrid.sortedView(gs).stream().map(this::getValueByName).collect(toList()))
+				.collect(toList());
+		parallelNames.forEach(names -> Assert.assertEquals(expectedNames, names));
+
+		dataGrid.sortInPlace(dataGridSort);
+		Assert.assertEquals(expectedNames, dataGrid.stream().map(this::getValueByName).collect(toList()));
+		DataGrid caloriesGrid = dataGrid.sortByColumnName("calories", Data.Order.DESCENDING);
+		Assert.assertEquals("pork", getValueByName(caloriesGrid.getRowAsDoc(0)));
+		Assert.assertEquals("water", getValueByName(caloriesGrid.getRowAsDoc(caloriesGrid.rowCount() - 1)));
+	}
+
+	public void dataGridLazyStreamValidation()
+	{
+		DataGrid dataGrid = createDataGrid();
+		List<String> expectedNames = dataGrid.getRowsAsDocList().stream().map(this::getValueByName).collect(toList());
+		Assert.assertEquals(expectedNames, dataGrid.stream().map(this::getValueByName).collect(toList()));
+		Assert.assertEquals(expectedNames, dataGrid.parallelStream().map(this::getValueByName).collect(toList()));
+		Assert.assertEquals(expectedNames.subList(2, 5), dataGrid.stream().skip(2).limit(3).map(this::getValueByName).collect(toList()));
+		Assert.assertEquals(dataGrid.rowCount(), dataGrid.spliterator().estimateSize());
+
+		int rowCount = 0;
+		DataGridCursor dataGridCursor = dataGrid.cursor();
+		while (dataGridCursor.next())
+		{
+			DataDoc dataDoc = dataGridCursor.toDataDoc();
+			Assert.assertEquals(getValueByName(dataDoc), dataGridCursor.getValue("name"));
+			Assert.assertEquals(getCalories(dataDoc), dataGridCursor.getValueAsInteger("calories"));
+			Assert.assertEquals(dataDoc.getItemByName("vegetarian").isValueTrue(), dataGridCursor.isValueTrue("vegetarian"));
+			rowCount++;
+		}
+		Assert.assertEquals(dataGrid.rowCount(), rowCount);
+		Assert.assertFalse(dataGridCursor.next());
+	}
+
 	@FunctionalInterface
 	interface Criterion
 	{
@@ -272,6 +330,8 @@ public class DataGridTest
 	public void exerciseFeatures()
 	{
 		dataGridStreamValidation();
+		dataGridSortValidation();
+		dataGridLazyStreamValidation();
 //		dataGridStreamDynamicCriteria();
 	}
 
@@ -19,11 +19,14 @@
 
 package com.redis.foundation.data;
 
+import com.redis.foundation.std.StrUtl;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
+import java.util.Date;
+
 public class DataItemTest
 {
     @Before
@@ -88,6 +91,68 @@ public class DataItemTest
         dataItem1.featureCount();
     }
 
+    @Test
+    public void typedValuesShouldMatchStrings()
+    {
+        DataItem dataItem = new DataItem(Data.Type.Integer, "int_field");
+        dataItem.setValue(-42);
+        assertTrue(dataItem.isValueAssigned());
+        assertFalse(dataItem.isMultiValue());
+        assertEquals(-42, dataItem.getValueAsInteger().intValue());
+        assertEquals("-42", dataItem.getValue());
+        assertEquals(-42.0, dataItem.getValueAsDouble(), 0.0);
+        assertEquals(-42, dataItem.getValueAsInteger().intValue());
+        dataItem.setValue("17");
+        assertEquals(17, dataItem.getValueAsInteger().intValue());
+        dataItem.addValue(18);
+        assertTrue(dataItem.isMultiValue());
+        assertEquals(2, dataItem.valueCount());
+        assertEquals("17|18", dataItem.getValuesCollapsed());
+        assertEquals(17, dataItem.getValueAsInteger().intValue());
+        dataItem.clearValues();
+        assertFalse(dataItem.isValueAssigned());
+        assertEquals(0, dataItem.getValues().size());
+
+        DataItem boolItem = new DataItem(Data.Type.Boolean, "bool_field");
+        boolItem.setValue(true);
+        assertEquals(StrUtl.booleanToString(true), boolItem.getValue());
+        assertTrue(boolItem.getValueAsBoolean());
+
+        DataItem dateItem = new DataItem(Data.Type.Date, "date_field");
+        dateItem.setDataFormat(Data.FORMAT_DATE_DEFAULT);
+        dateItem.setValue("Mar-04-2021");
+        Date dateValue = dateItem.getValueAsDate();
+        dateValue.setTime(0L);
+        assertEquals(Data.createDate("Mar-04-2021", Data.FORMAT_DATE_DEFAULT), dateItem.getValueAsDate());
+
+        DataItem cloneItem = new DataItem(dataItem);
+        cloneItem.setValue(5L);
+        DataItem copyItem = new DataItem(cloneItem);
+        assertEquals("5", copyItem.getValue());
+        assertEquals(5L, copyItem.getValueAsLong().longValue());
+    }
+
+    @Test
+    public void negativeValuesShouldConvert()
+    {
+        assertEquals(-5, Data.createInt("-5"));
+        assertEquals(Integer.valueOf(-5), Data.createIntegerObject("-5"));
+        assertEquals(-5L, Data.createLong("-5"));
+        assertEquals(Long.valueOf(-5L), Data.createLongObject("-5"));
+        assertEquals(Integer.MIN_VALUE, Data.createInt("-"));
+        assertEquals(Long.MIN_VALUE, Data.createLong("5-"));
+
+        DataItem intItem = new DataItem(Data.Type.Integer, "int_field");
+        intItem.setValue("-5");
+        assertEquals(-5, intItem.getValueAsInteger().intValue());
+        intItem.addValue("-6");
+        assertEquals(-6, intItem.getValuesAsInteger().get(1).intValue());
+
+        DataItem longItem = new DataItem(Data.Type.Long, "long_field");
+        longItem.setValue("-5");
+        assertEquals(-5L, longItem.getValueAsLong().longValue());
+    }
+
     @After
     public void cleanup()
     {
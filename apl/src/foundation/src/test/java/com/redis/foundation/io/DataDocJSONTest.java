@@ -27,10 +27,14 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
+import static org.junit.Assert.assertEquals;
+
 public class DataDocJSONTest
 {
 	@Before
@@ -86,6 +90,23 @@ public class DataDocJSONTest
 		dataDocJSON.save(pathFileName, dataDoc);
 	}
 
+	@Test
+	public void saveGridRowsAsJSON()
+		throws IOException
+	{
+		DataGrid dataGrid = createDataGrid();
+		DataDocJSON dataDocJSON = new DataDocJSON();
+		ByteArrayOutputStream listOS = new ByteArrayOutputStream();
+		dataDocJSON.save(listOS, dataGrid.getRowsAsDocList());
+
+		ByteArrayOutputStream rowsOS = new ByteArrayOutputStream();
+		dataDocJSON.saveOpen(rowsOS);
+		int rowsWritten = dataDocJSON.saveRows(dataGrid);
+		dataDocJSON.saveClose();
+		assertEquals(dataGrid.rowCount(), rowsWritten);
+		assertEquals(listOS.toString(StandardCharsets.UTF_8), rowsOS.toString(StandardCharsets.UTF_8));
+	}
+
 	@Test
 	public void loadProductJSON()
 		throws IOException
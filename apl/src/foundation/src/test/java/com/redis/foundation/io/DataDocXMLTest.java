@@ -23,6 +23,8 @@ import com.redis.foundation.data.Data;
 import com.redis.foundation.data.DataDoc;
 import com.redis.foundation.data.DataGrid;
 import com.redis.foundation.data.DataItem;
+import com.redis.foundation.ds.DSCriteria;
+import com.redis.foundation.ds.DSCriterionEntry;
 import com.redis.foundation.std.StrUtl;
 import org.junit.After;
 import org.junit.Assert;
@@ -175,11 +177,72 @@ public class DataDocXMLTest
 		Assert.assertEquals("HR Employee Records", dataDoc.getName());
 	}
 
+	public void saveAndLoadDataGridAsXML()
+		throws Exception
+	{
+		DataGrid dataGrid1 = createDataGrid();
+		DataGridXML dataGridXML = new DataGridXML(dataGrid1);
+		StringWriter stringWriter = new StringWriter();
+		try (PrintWriter printWriter = new PrintWriter(stringWriter))
+		{
+			dataGridXML.save(printWriter);
+		}
+		byte[] xmlBytes = stringWriter.toString().getBytes(StandardCharsets.UTF_8);
+
+		dataGridXML = new DataGridXML();
+		Optional<DataGrid> optDataGrid = dataGridXML.load(new ByteArrayInputStream(xmlBytes));
+		Assert.assertTrue(optDataGrid.isPresent());
+		DataGrid dataGrid2 = optDataGrid.get();
+		Assert.assertEquals(dataGrid1.getName(), dataGrid2.getName());
+		Assert.assertEquals(dataGrid1.colCount(), dataGrid2.colCount());
+		Assert.assertEquals(dataGrid1.rowCount(), dataGrid2.rowCount());
+		for (int row = 0; row < dataGrid1.rowCount(); row++)
+			Assert.assertTrue(dataGrid1.getRowAsDoc(row).isItemValuesEqual(dataGrid2.getRowAsDoc(row)));
+
+		int[] rowCount = new int[1];
+		DataDoc dgColumns = new DataGridXML().load(new ByteArrayInputStream(xmlBytes), dd -> {
+			Assert.assertEquals(dataGrid1.getRowAsDoc(rowCount[0]).getValueByName("name"), dd.getValueByName("name"));
+			rowCount[0]++;
+		});
+		Assert.assertEquals(dataGrid1.colCount(), dgColumns.count());
+		Assert.assertEquals(dataGrid1.rowCount(), rowCount[0]);
+	}
+
+	public void saveAndLoadCriteriaAsXML()
+		throws Exception
+	{
+		DSCriteria dsCriteria1 = new DSCriteria("Menu Criteria");
+		dsCriteria1.add("type", Data.Operator.EQUAL, "MEAT");
+		dsCriteria1.add("calories", Data.Operator.GREATER_THAN, 400);
+
+		StringWriter stringWriter = new StringWriter();
+		try (PrintWriter printWriter = new PrintWriter(stringWriter))
+		{
+			new DSCriteriaXML(dsCriteria1).save(printWriter);
+		}
+
+		DSCriteriaXML dsCriteriaXML = new DSCriteriaXML();
+		dsCriteriaXML.load(new ByteArrayInputStream(stringWriter.toString().getBytes(StandardCharsets.UTF_8)));
+		DSCriteria dsCriteria2 = dsCriteriaXML.getCriteria();
+		Assert.assertEquals(dsCriteria1.getName(), dsCriteria2.getName());
+		Assert.assertEquals(dsCriteria1.count(), dsCriteria2.count());
+		for (int offset = 0; offset < dsCriteria1.count(); offset++)
+		{
+			DSCriterionEntry ce1 = dsCriteria1.getCriterionEntries().get(offset);
+			DSCriterionEntry ce2 = dsCriteria2.getCriterionEntries().get(offset);
+			Assert.assertEquals(ce1.getName(), ce2.getName());
+			Assert.assertEquals(ce1.getLogicalOperator(), ce2.getLogicalOperator());
+			Assert.assertEquals(ce1.getValue(), ce2.getValue());
+		}
+	}
+
 	@Test
 	public void exerciseXMLOperations()
 		throws Exception
 	{
 		loadAndValidateHeaderInfo();
+		saveAndLoadDataGridAsXML();
+		saveAndLoadCriteriaAsXML();
 //		saveAndLoadDataDocAsXML();
 //		saveAndLoadDataDocAsXMLUsingString();
 //		saveAndLoadProductXML();
@@ -29,6 +29,7 @@ import org.junit.Test;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
@@ -94,6 +95,32 @@ public class DataGridCSVTest
 		dataGridConsole.write(loadDataGrid, printWriter, "Menu Dishes");
 	}
 
+	@Test
+	public void savePagedDataGridCSV()
+		throws IOException
+	{
+		DataGrid saveDataGrid = createDataGrid();
+		DataGridCSV dataGridCSV = new DataGridCSV();
+		StringWriter fullWriter = new StringWriter();
+		dataGridCSV.save(saveDataGrid, fullWriter, true, false);
+
+		int rowsWritten = 0;
+		int pageSize = 4;
+		StringWriter pageWriter = new StringWriter();
+		DataGrid pageDataGrid = new DataGrid(saveDataGrid.getName(), saveDataGrid.getColumns());
+		dataGridCSV.saveOpen(saveDataGrid.getColumns(), pageWriter, true, false);
+		for (int row = 0; row < saveDataGrid.rowCount(); row += pageSize)
+		{
+			pageDataGrid.emptyRows();
+			for (int offset = row; offset < Math.min(row + pageSize, saveDataGrid.rowCount()); offset++)
+				pageDataGrid.addRow(saveDataGrid.getRowAsDoc(offset));
+			rowsWritten += dataGridCSV.saveRows(pageDataGrid);
+		}
+		dataGridCSV.saveClose();
+		assertEquals("Rows Written", saveDataGrid.rowCount(), rowsWritten);
+		assertEquals("CSV Content", fullWriter.toString(), pageWriter.toString());
+	}
+
 	@Test
 	public void loadHRRecords()
 		throws IOException
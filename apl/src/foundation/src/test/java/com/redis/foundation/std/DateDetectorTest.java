@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package com.redis.foundation.std;
+
+import com.redis.foundation.data.Data;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+import static org.junit.Assert.*;
+
+public class DateDetectorTest
+{
+	@Before
+	public void setup()
+	{
+	}
+
+	@Test
+	public void detectStandardFormats()
+		throws Exception
+	{
+		String[] formatMasks = {Data.FORMAT_ISO8601DATETIME_DEFAULT, Data.FORMAT_ISO8601DATETIME_MILLI3D,
+								Data.FORMAT_DATETIME_DEFAULT, Data.FORMAT_SQLISODATE_DEFAULT,
+								Data.FORMAT_SQLISODATETIME_DEFAULT, Data.FORMAT_MM_DD_YY_SLASH_DEFAULT,
+								Data.FORMAT_TIMESTAMP_PACKED};
+
+		Date dateValue = new SimpleDateFormat(Data.FORMAT_SQLISODATETIME_DEFAULT).parse("2021-03-14 15:09:26");
+		for (String formatMask : formatMasks)
+		{
+			SimpleDateFormat simpleDateFormat = new SimpleDateFormat(formatMask);
+			String formattedValue = simpleDateFormat.format(dateValue);
+			Date detectedDate = DatUtl.detectCreateDate(formattedValue);
+			assertNotNull(formattedValue, detectedDate);
+			assertEquals(formattedValue, simpleDateFormat.parse(formattedValue), detectedDate);
+		}
+		assertNull(DatUtl.detectCreateDate("800"));
+		assertNull(DatUtl.detectCreateDate("Hello World!"));
+		assertNull(DatUtl.detectCreateDate("2021-02-30"));
+	}
+
+	@Test
+	public void rememberColumnFormat()
+	{
+		DateDetector dateDetector = new DateDetector();
+		assertNull(dateDetector.getFormatMask());
+		assertNotNull(dateDetector.detect("Mar-14-2021"));
+		assertEquals(Data.FORMAT_DATE_DEFAULT, dateDetector.getFormatMask());
+		assertNotNull(dateDetector.detect("Dec-25-2020"));
+		assertNotNull(dateDetector.detect("2021-03-14"));
+		assertEquals(Data.FORMAT_SQLISODATE_DEFAULT, dateDetector.getFormatMask());
+
+		dateDetector = new DateDetector("dd.MM.yyyy");
+		assertEquals(DateDetector.parse("14.03.2021", "dd.MM.yyyy"), dateDetector.detect("14.03.2021"));
+		assertNull(dateDetector.detect("14.03"));
+	}
+
+	@After
+	public void cleanup()
+	{
+	}
+}